@@ -0,0 +1,33 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-002                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.event;
+
+import java.util.EventListener;
+
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLTransaction;
+
+/**
+ * <code>IGSXMLTransactionListener</code> is the listener interface for
+ * receiving notification that an <code>IGSXMLTransaction</code> submitted to
+ * an <code>IGSXMLTransactionExecutor</code> has finished executing.
+ * @author The Process Profile Client Development Team
+ */
+public interface IGSXMLTransactionListener
+	extends EventListener
+{
+	/**
+	 * Invoked when a transaction has finished executing. The transaction's
+	 * output, return code, and error message are available. A transaction that
+	 * was cancelled or timed out has a return code of
+	 * {@link IGSXMLTransaction#CANCELLED}.
+	 * @param transaction the <code>IGSXMLTransaction</code>
+	 */
+	public void transactionCompleted(IGSXMLTransaction transaction);
+}
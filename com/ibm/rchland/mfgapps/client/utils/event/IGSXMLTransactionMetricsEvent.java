@@ -0,0 +1,161 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-008                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.event;
+
+import java.util.EventObject;
+
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLTransaction;
+
+/**
+ * <code>IGSXMLTransactionMetricsEvent</code> is an <code>EventObject</code>
+ * containing the measurements of one execution of an
+ * <code>IGSXMLTransaction</code>. Times are in nanoseconds; a time of -1
+ * indicates the phase did not occur (for example, no connection was opened
+ * because the output was cached).
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLTransactionMetricsEvent
+	extends EventObject
+{
+	private static final long serialVersionUID = 1L;
+
+	/** The name of the transaction. */
+	private final String transactionName;
+
+	/** The return code of the transaction. */
+	private final int returnCode;
+
+	/** The time taken to open or lease the connection. */
+	private final long connectTime;
+
+	/** The time from the start of the execution to the first buffer of data. */
+	private final long firstFrameTime;
+
+	/** The time taken by the execution. */
+	private final long totalTime;
+
+	/** The number of bytes sent to the server. */
+	private final long bytesSent;
+
+	/** The number of bytes received from the server. */
+	private final long bytesReceived;
+
+	/** The number of buffers of data received from the server. */
+	private final int framesReceived;
+
+	/**
+	 * Constructs a new <code>IGSXMLTransactionMetricsEvent</code>.
+	 * @param source the executed <code>IGSXMLTransaction</code>
+	 * @param returnCode the return code of the transaction
+	 * @param connectTime the time taken to open or lease the connection
+	 * @param firstFrameTime the time from the start of the execution to the
+	 *        first buffer of data
+	 * @param totalTime the time taken by the execution
+	 * @param bytesSent the number of bytes sent to the server
+	 * @param bytesReceived the number of bytes received from the server
+	 * @param framesReceived the number of buffers of data received
+	 */
+	public IGSXMLTransactionMetricsEvent(IGSXMLTransaction source, int returnCode,
+			long connectTime, long firstFrameTime, long totalTime, long bytesSent,
+			long bytesReceived, int framesReceived)
+	{
+		super(source);
+		this.transactionName = source.getTransactionName();
+		this.returnCode = returnCode;
+		this.connectTime = connectTime;
+		this.firstFrameTime = firstFrameTime;
+		this.totalTime = totalTime;
+		this.bytesSent = bytesSent;
+		this.bytesReceived = bytesReceived;
+		this.framesReceived = framesReceived;
+	}
+
+	/**
+	 * Returns the executed transaction.
+	 * @return the <code>IGSXMLTransaction</code>
+	 */
+	public IGSXMLTransaction getTransaction()
+	{
+		return (IGSXMLTransaction) getSource();
+	}
+
+	/**
+	 * Returns the name of the transaction.
+	 * @return the name of the transaction
+	 */
+	public String getTransactionName()
+	{
+		return this.transactionName;
+	}
+
+	/**
+	 * Returns the return code of the transaction.
+	 * @return the return code
+	 */
+	public int getReturnCode()
+	{
+		return this.returnCode;
+	}
+
+	/**
+	 * Returns the time taken to open or lease the connection.
+	 * @return the time in nanoseconds or -1
+	 */
+	public long getConnectTime()
+	{
+		return this.connectTime;
+	}
+
+	/**
+	 * Returns the time from the start of the execution until the first buffer
+	 * of data was received.
+	 * @return the time in nanoseconds or -1
+	 */
+	public long getFirstFrameTime()
+	{
+		return this.firstFrameTime;
+	}
+
+	/**
+	 * Returns the time taken by the execution.
+	 * @return the time in nanoseconds
+	 */
+	public long getTotalTime()
+	{
+		return this.totalTime;
+	}
+
+	/**
+	 * Returns the number of bytes sent to the server.
+	 * @return the number of bytes sent
+	 */
+	public long getBytesSent()
+	{
+		return this.bytesSent;
+	}
+
+	/**
+	 * Returns the number of bytes received from the server.
+	 * @return the number of bytes received
+	 */
+	public long getBytesReceived()
+	{
+		return this.bytesReceived;
+	}
+
+	/**
+	 * Returns the number of buffers of data received from the server.
+	 * @return the number of buffers of data received
+	 */
+	public int getFramesReceived()
+	{
+		return this.framesReceived;
+	}
+}
@@ -0,0 +1,29 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-008                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.event;
+
+import java.util.EventListener;
+
+/**
+ * <code>IGSXMLTransactionMetricsListener</code> is the listener interface for
+ * receiving <code>IGSXMLTransactionMetricsEvent</code>s. Listeners are
+ * registered with <code>IGSXMLTransactionMetrics</code> and are invoked by
+ * the thread that executed the transaction, so they must return quickly.
+ * @author The Process Profile Client Development Team
+ */
+public interface IGSXMLTransactionMetricsListener
+	extends EventListener
+{
+	/**
+	 * Invoked after a transaction has finished executing.
+	 * @param e the <code>IGSXMLTransactionMetricsEvent</code>
+	 */
+	public void transactionMeasured(IGSXMLTransactionMetricsEvent e);
+}
@@ -0,0 +1,374 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-006                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <code>IGSRingBuffer</code> is a fixed size circular buffer of bytes that
+ * connects an <code>OutputStream</code> written by one thread to an
+ * <code>InputStream</code> read by another thread. It is a replacement for
+ * <code>PipedOutputStream</code> and <code>PipedInputStream</code> with a
+ * configurable capacity.
+ * <p>
+ * Exactly one thread may write to the output stream and exactly one thread
+ * may read from the input stream. The positions of the writer and the reader
+ * are published using <code>AtomicLong</code>s, so no lock is acquired to
+ * transfer data. A thread only blocks (using <code>LockSupport.park</code>)
+ * when the buffer is full or empty.
+ * @author The MFS Client Development Team
+ */
+public class IGSRingBuffer
+{
+	/** The default capacity of the buffer. */
+	public static final int DEFAULT_CAPACITY = 65536;
+
+	/** The maximum time in nanoseconds a thread parks before checking again. */
+	private static final long PARK_NANOS = 1000000L;
+
+	/** The bytes of the buffer. */
+	private final byte[] buffer;
+
+	/** The mask used to convert a position into an index of {@link #buffer}. */
+	private final int mask;
+
+	/** The total number of bytes read. Only changed by the reader. */
+	private final AtomicLong readPosition = new AtomicLong();
+
+	/** The total number of bytes written. Only changed by the writer. */
+	private final AtomicLong writePosition = new AtomicLong();
+
+	/** Set <code>true</code> when the output stream is closed. */
+	private volatile boolean writerClosed;
+
+	/** Set <code>true</code> when the input stream is closed. */
+	private volatile boolean readerClosed;
+
+	/** The reader if it is waiting for data or <code>null</code>. */
+	private volatile Thread waitingReader;
+
+	/** The writer if it is waiting for space or <code>null</code>. */
+	private volatile Thread waitingWriter;
+
+	/** The <code>InputStream</code> used to read from the buffer. */
+	private final InputStream inputStream = new RingBufferInputStream();
+
+	/** The <code>OutputStream</code> used to write to the buffer. */
+	private final OutputStream outputStream = new RingBufferOutputStream();
+
+	/**
+	 * Constructs a new <code>IGSRingBuffer</code> with a capacity of
+	 * {@link #DEFAULT_CAPACITY}.
+	 */
+	public IGSRingBuffer()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new <code>IGSRingBuffer</code>.
+	 * @param capacity the minimum capacity of the buffer. The capacity is
+	 *        rounded up to a power of two.
+	 */
+	public IGSRingBuffer(int capacity)
+	{
+		super();
+		if (capacity <= 0 || capacity > (1 << 30))
+		{
+			throw new IllegalArgumentException("capacity: " + capacity); //$NON-NLS-1$
+		}
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity)
+		{
+			size <<= 1;
+		}
+		this.buffer = new byte[size];
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Returns the capacity of the buffer.
+	 * @return the capacity of the buffer
+	 */
+	public int getCapacity()
+	{
+		return this.buffer.length;
+	}
+
+	/**
+	 * Returns the <code>InputStream</code> used to read from the buffer.
+	 * @return the <code>InputStream</code>
+	 */
+	public InputStream getInputStream()
+	{
+		return this.inputStream;
+	}
+
+	/**
+	 * Returns the <code>OutputStream</code> used to write to the buffer.
+	 * @return the <code>OutputStream</code>
+	 */
+	public OutputStream getOutputStream()
+	{
+		return this.outputStream;
+	}
+
+	/**
+	 * Parks the current thread until it is unparked or a short time elapses.
+	 * @throws InterruptedIOException if the thread is interrupted
+	 */
+	private void park()
+		throws InterruptedIOException
+	{
+		LockSupport.parkNanos(this, PARK_NANOS);
+		if (Thread.interrupted())
+		{
+			throw new InterruptedIOException();
+		}
+	}
+
+	/**
+	 * Unparks the specified thread if it is not <code>null</code>.
+	 * @param thread the <code>Thread</code> or <code>null</code>
+	 */
+	private static void unpark(Thread thread)
+	{
+		if (thread != null)
+		{
+			LockSupport.unpark(thread);
+		}
+	}
+
+	/**
+	 * <code>RingBufferInputStream</code> is the <code>InputStream</code>
+	 * used to read from the buffer.
+	 * @author The MFS Client Development Team
+	 */
+	private class RingBufferInputStream
+		extends InputStream
+	{
+		/** Constructs a new <code>RingBufferInputStream</code>. */
+		public RingBufferInputStream()
+		{
+			super();
+		}
+
+		/**
+		 * Returns the number of bytes that can be read without blocking.
+		 * @return the number of bytes in the buffer
+		 * @throws IOException if the stream is closed
+		 */
+		public int available()
+			throws IOException
+		{
+			if (IGSRingBuffer.this.readerClosed)
+			{
+				throw new IOException("Stream closed"); //$NON-NLS-1$
+			}
+			return (int) (IGSRingBuffer.this.writePosition.get() - IGSRingBuffer.this.readPosition
+					.get());
+		}
+
+		/**
+		 * Closes the stream. The writer receives an <code>IOException</code>
+		 * the next time it writes.
+		 */
+		public void close()
+		{
+			IGSRingBuffer.this.readerClosed = true;
+			unpark(IGSRingBuffer.this.waitingWriter);
+		}
+
+		/**
+		 * Reads the next byte from the buffer.
+		 * @return the next byte or -1 if the end of the stream was reached
+		 * @throws IOException if the stream is closed or the thread is
+		 *         interrupted
+		 */
+		public int read()
+			throws IOException
+		{
+			byte[] b = new byte[1];
+			return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+		}
+
+		/**
+		 * Reads up to <code>len</code> bytes from the buffer, blocking until
+		 * at least one byte is available.
+		 * @param b the array into which bytes are read
+		 * @param off the offset of the first byte
+		 * @param len the maximum number of bytes to read
+		 * @return the number of bytes read or -1 if the end of the stream was
+		 *         reached
+		 * @throws IOException if the stream is closed or the thread is
+		 *         interrupted
+		 */
+		public int read(byte[] b, int off, int len)
+			throws IOException
+		{
+			if (off < 0 || len < 0 || len > b.length - off)
+			{
+				throw new IndexOutOfBoundsException();
+			}
+			if (len == 0)
+			{
+				return 0;
+			}
+
+			final IGSRingBuffer ring = IGSRingBuffer.this;
+			long read = ring.readPosition.get();
+			long available = ring.writePosition.get() - read;
+			while (available == 0)
+			{
+				if (ring.readerClosed)
+				{
+					throw new IOException("Stream closed"); //$NON-NLS-1$
+				}
+				if (ring.writerClosed)
+				{
+					// Check again since the writer may have written before closing
+					available = ring.writePosition.get() - read;
+					if (available == 0)
+					{
+						return -1;
+					}
+					break;
+				}
+
+				ring.waitingReader = Thread.currentThread();
+				try
+				{
+					available = ring.writePosition.get() - read;
+					if (available == 0 && !ring.writerClosed)
+					{
+						park();
+						available = ring.writePosition.get() - read;
+					}
+				}
+				finally
+				{
+					ring.waitingReader = null;
+				}
+			}
+
+			int count = (int) Math.min(available, len);
+			int index = (int) read & ring.mask;
+			int first = Math.min(count, ring.buffer.length - index);
+			System.arraycopy(ring.buffer, index, b, off, first);
+			System.arraycopy(ring.buffer, 0, b, off + first, count - first);
+			ring.readPosition.set(read + count);
+			unpark(ring.waitingWriter);
+			return count;
+		}
+	}
+
+	/**
+	 * <code>RingBufferOutputStream</code> is the <code>OutputStream</code>
+	 * used to write to the buffer.
+	 * @author The MFS Client Development Team
+	 */
+	private class RingBufferOutputStream
+		extends OutputStream
+	{
+		/** Constructs a new <code>RingBufferOutputStream</code>. */
+		public RingBufferOutputStream()
+		{
+			super();
+		}
+
+		/**
+		 * Closes the stream. The reader reaches the end of the stream after it
+		 * reads the bytes remaining in the buffer.
+		 */
+		public void close()
+		{
+			IGSRingBuffer.this.writerClosed = true;
+			unpark(IGSRingBuffer.this.waitingReader);
+		}
+
+		/**
+		 * Writes a byte to the buffer.
+		 * @param b the byte to write
+		 * @throws IOException if either stream is closed or the thread is
+		 *         interrupted
+		 */
+		public void write(int b)
+			throws IOException
+		{
+			write(new byte[] {(byte) b}, 0, 1);
+		}
+
+		/**
+		 * Writes <code>len</code> bytes to the buffer, blocking while the
+		 * buffer is full.
+		 * @param b the array containing the bytes to write
+		 * @param off the offset of the first byte
+		 * @param len the number of bytes to write
+		 * @throws IOException if either stream is closed or the thread is
+		 *         interrupted
+		 */
+		public void write(byte[] b, int off, int len)
+			throws IOException
+		{
+			if (off < 0 || len < 0 || len > b.length - off)
+			{
+				throw new IndexOutOfBoundsException();
+			}
+
+			final IGSRingBuffer ring = IGSRingBuffer.this;
+			final int capacity = ring.buffer.length;
+			while (len > 0)
+			{
+				if (ring.writerClosed)
+				{
+					throw new IOException("Stream closed"); //$NON-NLS-1$
+				}
+				if (ring.readerClosed)
+				{
+					throw new IOException("Read end closed"); //$NON-NLS-1$
+				}
+
+				long written = ring.writePosition.get();
+				long free = capacity - (written - ring.readPosition.get());
+				if (free == 0)
+				{
+					ring.waitingWriter = Thread.currentThread();
+					try
+					{
+						if (capacity == written - ring.readPosition.get() && !ring.readerClosed)
+						{
+							park();
+						}
+					}
+					finally
+					{
+						ring.waitingWriter = null;
+					}
+					continue;
+				}
+
+				int count = (int) Math.min(free, len);
+				int index = (int) written & ring.mask;
+				int first = Math.min(count, capacity - index);
+				System.arraycopy(b, off, ring.buffer, index, first);
+				System.arraycopy(b, off + first, ring.buffer, 0, count - first);
+				ring.writePosition.set(written + count);
+				unpark(ring.waitingReader);
+				off += count;
+				len -= count;
+			}
+		}
+	}
+}
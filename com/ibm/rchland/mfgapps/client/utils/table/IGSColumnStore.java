@@ -0,0 +1,836 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-024                  -Initial version
+ * 2026-10-18   ~1 user-025                  -Remove ranges of rows
+ * 2026-10-18   ~2 user-024                  -Remove unused values from the
+ *                                            dictionary of a String column
+ * 2026-10-18   ~3 user-025                  -Remove several ranges of rows in
+ *                                            one pass over each column
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <code>IGSColumnStore</code> stores the rows of a table by column. The
+ * values of <code>Integer</code>, <code>Long</code>, <code>Double</code>
+ * and <code>Boolean</code> columns are stored in primitive arrays, and each
+ * distinct value of a <code>String</code> column is stored once and
+ * referenced by a number. Values of other columns are stored as
+ * <code>Object</code>s.
+ * <p>
+ * If a value does not have the class of its column, the column is converted
+ * to store its values as <code>Object</code>s, so any value can be stored in
+ * any column. The dictionary of a <code>String</code> column holds at most
+ * {@link #MAX_DICTIONARY_SIZE} values; when it is full, the values no row
+ * uses any more are removed from it, and the column is converted if that
+ * frees less than a quarter of the dictionary.
+ * <p>
+ * An <code>IGSColumnStore</code> is not synchronized.
+ * @author The External Fulfillment Client Development Team
+ */
+public class IGSColumnStore
+{
+	/** The maximum number of distinct values of a <code>String</code> column. */
+	public static final int MAX_DICTIONARY_SIZE = 4096;
+
+	/** The number of rows the columns can hold when created. */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** The class of each column. */
+	private final Class<?>[] types;
+
+	/** The columns. */
+	private Column[] columns;
+
+	/** The number of rows. */
+	private int rowCount;
+
+	/** The number of rows the columns can hold. */
+	private int capacity;
+
+	/**
+	 * Constructs a new <code>IGSColumnStore</code>.
+	 * @param types the class of each column
+	 */
+	public IGSColumnStore(Class<?>[] types)
+	{
+		super();
+		this.types = new Class<?>[types.length];
+		System.arraycopy(types, 0, this.types, 0, types.length);
+		clear();
+	}
+
+	/** Removes all rows. */
+	public void clear()
+	{
+		this.columns = new Column[this.types.length];
+		for (int i = 0; i < this.columns.length; i++)
+		{
+			this.columns[i] = createColumn(this.types[i]);
+			this.columns[i].resize(INITIAL_CAPACITY);
+		}
+		this.rowCount = 0;
+		this.capacity = INITIAL_CAPACITY;
+	}
+
+	/**
+	 * Returns a new empty column that stores values of a class.
+	 * @param type the class of the values
+	 * @return the <code>Column</code>
+	 */
+	private static Column createColumn(Class<?> type)
+	{
+		if (type == Integer.class)
+		{
+			return new IntColumn();
+		}
+		if (type == Long.class)
+		{
+			return new LongColumn();
+		}
+		if (type == Double.class)
+		{
+			return new DoubleColumn();
+		}
+		if (type == Boolean.class)
+		{
+			return new BooleanColumn();
+		}
+		if (type == String.class)
+		{
+			return new StringColumn();
+		}
+		return new ObjectColumn();
+	}
+
+	/**
+	 * Returns the number of rows.
+	 * @return the number of rows
+	 */
+	public int getRowCount()
+	{
+		return this.rowCount;
+	}
+
+	/**
+	 * Returns the number of columns.
+	 * @return the number of columns
+	 */
+	public int getColumnCount()
+	{
+		return this.columns.length;
+	}
+
+	/**
+	 * Returns the value of a cell.
+	 * @param rowIndex the index of the row
+	 * @param columnIndex the index of the column
+	 * @return the value of the cell
+	 * @throws ArrayIndexOutOfBoundsException if an invalid row or column index
+	 *         is specified
+	 */
+	public Object getValueAt(int rowIndex, int columnIndex)
+	{
+		checkRowIndex(rowIndex);
+		return this.columns[columnIndex].get(rowIndex);
+	}
+
+	/**
+	 * Sets the value of a cell.
+	 * @param value the new value of the cell
+	 * @param rowIndex the index of the row
+	 * @param columnIndex the index of the column
+	 * @throws ArrayIndexOutOfBoundsException if an invalid row or column index
+	 *         is specified
+	 */
+	public void setValueAt(Object value, int rowIndex, int columnIndex)
+	{
+		checkRowIndex(rowIndex);
+		set(value, rowIndex, columnIndex);
+	}
+
+	/**
+	 * Returns the values of a row.
+	 * @param rowIndex the index of the row
+	 * @return a new array containing the values of the row
+	 * @throws ArrayIndexOutOfBoundsException if an invalid row index is
+	 *         specified
+	 */
+	public Object[] getRow(int rowIndex)
+	{
+		checkRowIndex(rowIndex);
+		Object[] row = new Object[this.columns.length];
+		for (int i = 0; i < row.length; i++)
+		{
+			row[i] = this.columns[i].get(rowIndex);
+		}
+		return row;
+	}
+
+	/**
+	 * Sets the values of a row.
+	 * @param row the array containing the values of the row. Columns without
+	 *        a value in the array are set to <code>null</code>.
+	 * @param rowIndex the index of the row
+	 * @throws ArrayIndexOutOfBoundsException if an invalid row index is
+	 *         specified
+	 */
+	public void setRow(Object[] row, int rowIndex)
+	{
+		checkRowIndex(rowIndex);
+		for (int i = 0; i < this.columns.length; i++)
+		{
+			set(i < row.length ? row[i] : null, rowIndex, i);
+		}
+	}
+
+	/**
+	 * Adds a row after the last row.
+	 * @param row the array containing the values of the row. Columns without
+	 *        a value in the array are set to <code>null</code>.
+	 */
+	public void addRow(Object[] row)
+	{
+		if (this.rowCount == this.capacity)
+		{
+			this.capacity = this.capacity * 3 / 2 + 1;
+			for (int i = 0; i < this.columns.length; i++)
+			{
+				this.columns[i].resize(this.capacity);
+			}
+		}
+		this.rowCount++;
+		setRow(row, this.rowCount - 1);
+	}
+
+	/**
+	 * Removes a row.
+	 * @param rowIndex the index of the row
+	 * @throws ArrayIndexOutOfBoundsException if an invalid row index is
+	 *         specified
+	 */
+	public void removeRow(int rowIndex)
+	{
+		removeRows(rowIndex, rowIndex + 1); //~1C
+	}
+
+	//~1A New method
+	/**
+	 * Removes a range of rows.
+	 * @param fromIndex the index of the first row to remove
+	 * @param toIndex the index after the last row to remove
+	 * @throws ArrayIndexOutOfBoundsException if an invalid row index is
+	 *         specified
+	 */
+	public void removeRows(int fromIndex, int toIndex)
+	{
+		if (fromIndex >= toIndex)
+		{
+			return;
+		}
+		checkRowIndex(fromIndex);
+		checkRowIndex(toIndex - 1);
+		removeRanges(new int[] {fromIndex}, new int[] {toIndex}); //~3C
+	}
+
+	//~3A New method
+	/**
+	 * Removes rows, moving the values of each column once.
+	 * @param rowIndexes the indexes of the rows to remove in ascending order
+	 * @throws IllegalArgumentException if the row indexes are not in
+	 *         ascending order or contain duplicates
+	 * @throws ArrayIndexOutOfBoundsException if an invalid row index is
+	 *         specified
+	 */
+	public void removeRows(int[] rowIndexes)
+	{
+		if (rowIndexes.length == 0)
+		{
+			return;
+		}
+		int ranges = 1;
+		for (int i = 1; i < rowIndexes.length; i++)
+		{
+			if (rowIndexes[i] <= rowIndexes[i - 1])
+			{
+				String msg = "Row indexes must be in ascending order without duplicates."; //$NON-NLS-1$
+				throw new IllegalArgumentException(msg);
+			}
+			if (rowIndexes[i] != rowIndexes[i - 1] + 1)
+			{
+				ranges++;
+			}
+		}
+		checkRowIndex(rowIndexes[0]);
+		checkRowIndex(rowIndexes[rowIndexes.length - 1]);
+
+		int[] from = new int[ranges];
+		int[] to = new int[ranges];
+		int range = 0;
+		from[0] = rowIndexes[0];
+		for (int i = 1; i < rowIndexes.length; i++)
+		{
+			if (rowIndexes[i] != rowIndexes[i - 1] + 1)
+			{
+				to[range++] = rowIndexes[i - 1] + 1;
+				from[range] = rowIndexes[i];
+			}
+		}
+		to[range] = rowIndexes[rowIndexes.length - 1] + 1;
+		removeRanges(from, to);
+	}
+
+	//~3A New method
+	/**
+	 * Removes valid ranges of rows from each column.
+	 * @param from the index of the first row of each range in ascending order
+	 * @param to the index after the last row of each range
+	 */
+	private void removeRanges(int[] from, int[] to)
+	{
+		for (int i = 0; i < this.columns.length; i++)
+		{
+			this.columns[i].remove(from, to, this.rowCount);
+		}
+		for (int i = 0; i < from.length; i++)
+		{
+			this.rowCount -= to[i] - from[i];
+		}
+	}
+
+	/**
+	 * Sets the value of a cell, converting the column to an
+	 * <code>ObjectColumn</code> if it cannot store the value.
+	 * @param value the new value of the cell
+	 * @param rowIndex the index of the row
+	 * @param columnIndex the index of the column
+	 */
+	private void set(Object value, int rowIndex, int columnIndex)
+	{
+		Column column = this.columns[columnIndex];
+		//~2C Free unused storage of the column before converting it
+		if (!column.set(rowIndex, value)
+				&& !(column.compact(this.rowCount, rowIndex) && column.set(rowIndex, value)))
+		{
+			ObjectColumn converted = new ObjectColumn();
+			converted.resize(this.capacity);
+			for (int i = 0; i < this.rowCount; i++)
+			{
+				converted.set(i, column.get(i));
+			}
+			converted.set(rowIndex, value);
+			this.columns[columnIndex] = converted;
+		}
+	}
+
+	/**
+	 * Throws an <code>ArrayIndexOutOfBoundsException</code> if a row index is
+	 * invalid.
+	 * @param rowIndex the index of a row
+	 * @throws ArrayIndexOutOfBoundsException if <code>rowIndex</code> is
+	 *         invalid
+	 */
+	private void checkRowIndex(int rowIndex)
+	{
+		if (rowIndex < 0 || rowIndex >= this.rowCount)
+		{
+			throw new ArrayIndexOutOfBoundsException(rowIndex);
+		}
+	}
+
+	//~3A New method
+	/**
+	 * Removes ranges of elements from an array, moving each following
+	 * element down once.
+	 * @param array the array
+	 * @param from the index of the first element of each range in ascending
+	 *        order
+	 * @param to the index after the last element of each range
+	 * @param count the number of elements in use
+	 * @return the number of elements in use after the ranges are removed
+	 */
+	private static int removeElements(Object array, int[] from, int[] to, int count)
+	{
+		int target = from[0];
+		for (int i = 0; i < from.length; i++)
+		{
+			int end = i + 1 < from.length ? from[i + 1] : count;
+			System.arraycopy(array, to[i], array, target, end - to[i]);
+			target += end - to[i];
+		}
+		return target;
+	}
+
+	//~1A New method
+	/**
+	 * Removes ranges of bits from a <code>BitSet</code>, moving the
+	 * following bits down.
+	 * @param bits the <code>BitSet</code>
+	 * @param from the index of the first bit of each range in ascending order
+	 * @param to the index after the last bit of each range
+	 * @param count the number of bits in use
+	 */
+	private static void removeBits(BitSet bits, int[] from, int[] to, int count) //~3C
+	{
+		//~3C Only the set bits after the first range are moved
+		BitSet moved = new BitSet();
+		int removed = 0;
+		for (int i = 0; i < from.length; i++)
+		{
+			removed += to[i] - from[i];
+			int end = i + 1 < from.length ? from[i + 1] : count;
+			for (int bit = bits.nextSetBit(to[i]); bit >= 0 && bit < end; bit = bits.nextSetBit(bit + 1))
+			{
+				moved.set(bit - removed);
+			}
+		}
+		bits.clear(from[0], count);
+		bits.or(moved);
+	}
+
+	/**
+	 * <code>Column</code> stores the values of a column.
+	 * @author The External Fulfillment Client Development Team
+	 */
+	private abstract static class Column
+	{
+		/**
+		 * Changes the number of rows the column can hold.
+		 * @param capacity the new number of rows
+		 */
+		abstract void resize(int capacity);
+
+		/**
+		 * Returns the value of a row.
+		 * @param row the index of the row
+		 * @return the value
+		 */
+		abstract Object get(int row);
+
+		/**
+		 * Sets the value of a row if the column can store it.
+		 * @param row the index of the row
+		 * @param value the value or <code>null</code>
+		 * @return <code>false</code> if the column cannot store the value
+		 */
+		abstract boolean set(int row, Object value);
+
+		/**
+		 * Removes the values of ranges of rows, moving the values of the
+		 * following rows up.
+		 * @param from the index of the first row of each range in ascending
+		 *        order
+		 * @param to the index after the last row of each range
+		 * @param count the number of rows before the rows are removed
+		 */
+		abstract void remove(int[] from, int[] to, int count); //~3C
+
+		//~2A New method
+		/**
+		 * Frees storage no longer used by the values of the rows so that the
+		 * column can store more values. The value of the row about to be
+		 * replaced is set to <code>null</code>.
+		 * @param count the number of rows
+		 * @param replacedRow the index of the row whose value is replaced
+		 * @return <code>true</code> if enough storage was freed to try
+		 *         storing the value again
+		 */
+		boolean compact(int count, int replacedRow)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * <code>PrimitiveColumn</code> is a <code>Column</code> that stores its
+	 * values in a primitive array and keeps track of <code>null</code>
+	 * values separately.
+	 * @author The External Fulfillment Client Development Team
+	 */
+	private abstract static class PrimitiveColumn
+		extends Column
+	{
+		/** The rows whose value is <code>null</code>. */
+		private BitSet nulls;
+
+		/**
+		 * Returns <code>true</code> if the value of a row is
+		 * <code>null</code>.
+		 * @param row the index of the row
+		 * @return <code>true</code> if the value is <code>null</code>
+		 */
+		final boolean isNull(int row)
+		{
+			return this.nulls != null && this.nulls.get(row);
+		}
+
+		/**
+		 * Sets whether the value of a row is <code>null</code>.
+		 * @param row the index of the row
+		 * @param isNull <code>true</code> if the value is <code>null</code>
+		 */
+		final void setNull(int row, boolean isNull)
+		{
+			if (isNull)
+			{
+				if (this.nulls == null)
+				{
+					this.nulls = new BitSet();
+				}
+				this.nulls.set(row);
+			}
+			else if (this.nulls != null)
+			{
+				this.nulls.clear(row);
+			}
+		}
+
+		/**
+		 * Moves the <code>null</code> flags of the rows after removed ranges
+		 * of rows up.
+		 * @param from the index of the first row of each removed range
+		 * @param to the index after the last row of each removed range
+		 * @param count the number of rows before the rows are removed
+		 */
+		final void removeNull(int[] from, int[] to, int count) //~3C
+		{
+			if (this.nulls != null)
+			{
+				removeBits(this.nulls, from, to, count);
+			}
+		}
+	}
+
+	/**
+	 * <code>IntColumn</code> stores <code>Integer</code> values.
+	 * @author The External Fulfillment Client Development Team
+	 */
+	private static class IntColumn
+		extends PrimitiveColumn
+	{
+		/** The values. */
+		private int[] values = new int[0];
+
+		/** {@inheritDoc} */
+		void resize(int capacity)
+		{
+			int[] resized = new int[capacity];
+			System.arraycopy(this.values, 0, resized, 0, Math.min(capacity, this.values.length));
+			this.values = resized;
+		}
+
+		/** {@inheritDoc} */
+		Object get(int row)
+		{
+			return isNull(row) ? null : Integer.valueOf(this.values[row]);
+		}
+
+		/** {@inheritDoc} */
+		boolean set(int row, Object value)
+		{
+			if (value != null && !(value instanceof Integer))
+			{
+				return false;
+			}
+			this.values[row] = value == null ? 0 : ((Integer) value).intValue();
+			setNull(row, value == null);
+			return true;
+		}
+
+		/** {@inheritDoc} */
+		void remove(int[] from, int[] to, int count)
+		{
+			removeElements(this.values, from, to, count); //~3C
+			removeNull(from, to, count);
+		}
+	}
+
+	/**
+	 * <code>LongColumn</code> stores <code>Long</code> values.
+	 * @author The External Fulfillment Client Development Team
+	 */
+	private static class LongColumn
+		extends PrimitiveColumn
+	{
+		/** The values. */
+		private long[] values = new long[0];
+
+		/** {@inheritDoc} */
+		void resize(int capacity)
+		{
+			long[] resized = new long[capacity];
+			System.arraycopy(this.values, 0, resized, 0, Math.min(capacity, this.values.length));
+			this.values = resized;
+		}
+
+		/** {@inheritDoc} */
+		Object get(int row)
+		{
+			return isNull(row) ? null : Long.valueOf(this.values[row]);
+		}
+
+		/** {@inheritDoc} */
+		boolean set(int row, Object value)
+		{
+			if (value != null && !(value instanceof Long))
+			{
+				return false;
+			}
+			this.values[row] = value == null ? 0 : ((Long) value).longValue();
+			setNull(row, value == null);
+			return true;
+		}
+
+		/** {@inheritDoc} */
+		void remove(int[] from, int[] to, int count)
+		{
+			removeElements(this.values, from, to, count); //~3C
+			removeNull(from, to, count);
+		}
+	}
+
+	/**
+	 * <code>DoubleColumn</code> stores <code>Double</code> values.
+	 * @author The External Fulfillment Client Development Team
+	 */
+	private static class DoubleColumn
+		extends PrimitiveColumn
+	{
+		/** The values. */
+		private double[] values = new double[0];
+
+		/** {@inheritDoc} */
+		void resize(int capacity)
+		{
+			double[] resized = new double[capacity];
+			System.arraycopy(this.values, 0, resized, 0, Math.min(capacity, this.values.length));
+			this.values = resized;
+		}
+
+		/** {@inheritDoc} */
+		Object get(int row)
+		{
+			return isNull(row) ? null : Double.valueOf(this.values[row]);
+		}
+
+		/** {@inheritDoc} */
+		boolean set(int row, Object value)
+		{
+			if (value != null && !(value instanceof Double))
+			{
+				return false;
+			}
+			this.values[row] = value == null ? 0 : ((Double) value).doubleValue();
+			setNull(row, value == null);
+			return true;
+		}
+
+		/** {@inheritDoc} */
+		void remove(int[] from, int[] to, int count)
+		{
+			removeElements(this.values, from, to, count); //~3C
+			removeNull(from, to, count);
+		}
+	}
+
+	/**
+	 * <code>BooleanColumn</code> stores <code>Boolean</code> values.
+	 * @author The External Fulfillment Client Development Team
+	 */
+	private static class BooleanColumn
+		extends PrimitiveColumn
+	{
+		/** The rows whose value is <code>true</code>. */
+		private final BitSet values = new BitSet();
+
+		/** {@inheritDoc} */
+		void resize(int capacity)
+		{
+			//A BitSet grows as needed
+		}
+
+		/** {@inheritDoc} */
+		Object get(int row)
+		{
+			return isNull(row) ? null : Boolean.valueOf(this.values.get(row));
+		}
+
+		/** {@inheritDoc} */
+		boolean set(int row, Object value)
+		{
+			if (value != null && !(value instanceof Boolean))
+			{
+				return false;
+			}
+			this.values.set(row, value != null && ((Boolean) value).booleanValue());
+			setNull(row, value == null);
+			return true;
+		}
+
+		/** {@inheritDoc} */
+		void remove(int[] from, int[] to, int count)
+		{
+			removeBits(this.values, from, to, count); //~1C ~3C
+			removeNull(from, to, count);
+		}
+	}
+
+	/**
+	 * <code>StringColumn</code> stores each distinct <code>String</code>
+	 * value once and the number of the value of each row.
+	 * @author The External Fulfillment Client Development Team
+	 */
+	private static class StringColumn
+		extends Column
+	{
+		/** The distinct values. */
+		private final List<String> dictionary = new ArrayList<String>();
+
+		/** The number of each distinct value. */
+		private final Map<String, Integer> codes = new HashMap<String, Integer>();
+
+		/**
+		 * The number of the value of each row plus one; zero for
+		 * <code>null</code>.
+		 */
+		private int[] rows = new int[0];
+
+		/** {@inheritDoc} */
+		void resize(int capacity)
+		{
+			int[] resized = new int[capacity];
+			System.arraycopy(this.rows, 0, resized, 0, Math.min(capacity, this.rows.length));
+			this.rows = resized;
+		}
+
+		/** {@inheritDoc} */
+		Object get(int row)
+		{
+			int code = this.rows[row];
+			return code == 0 ? null : this.dictionary.get(code - 1);
+		}
+
+		/** {@inheritDoc} */
+		boolean set(int row, Object value)
+		{
+			if (value == null)
+			{
+				this.rows[row] = 0;
+				return true;
+			}
+			if (!(value instanceof String))
+			{
+				return false;
+			}
+			Integer code = this.codes.get(value);
+			if (code == null)
+			{
+				if (this.dictionary.size() == MAX_DICTIONARY_SIZE)
+				{
+					return false;
+				}
+				this.dictionary.add((String) value);
+				code = Integer.valueOf(this.dictionary.size());
+				this.codes.put((String) value, code);
+			}
+			this.rows[row] = code.intValue();
+			return true;
+		}
+
+		/** {@inheritDoc} */
+		void remove(int[] from, int[] to, int count)
+		{
+			if (removeElements(this.rows, from, to, count) == 0) //~2A ~3C
+			{
+				this.dictionary.clear();
+				this.codes.clear();
+			}
+		}
+
+		//~2A New method
+		/**
+		 * Removes the values no row uses from the dictionary and renumbers
+		 * the values that are kept.
+		 * @param count the number of rows
+		 * @param replacedRow the index of the row whose value is replaced
+		 * @return <code>true</code> if at least a quarter of the dictionary is
+		 *         free
+		 */
+		boolean compact(int count, int replacedRow)
+		{
+			this.rows[replacedRow] = 0;
+			int[] renumbered = new int[this.dictionary.size() + 1];
+			List<String> kept = new ArrayList<String>();
+			for (int row = 0; row < count; row++)
+			{
+				int code = this.rows[row];
+				if (code != 0)
+				{
+					if (renumbered[code] == 0)
+					{
+						kept.add(this.dictionary.get(code - 1));
+						renumbered[code] = kept.size();
+					}
+					this.rows[row] = renumbered[code];
+				}
+			}
+			this.dictionary.clear();
+			this.dictionary.addAll(kept);
+			this.codes.clear();
+			for (int i = 0; i < kept.size(); i++)
+			{
+				this.codes.put(kept.get(i), Integer.valueOf(i + 1));
+			}
+			return MAX_DICTIONARY_SIZE - kept.size() >= MAX_DICTIONARY_SIZE / 4;
+		}
+	}
+
+	/**
+	 * <code>ObjectColumn</code> stores any values as <code>Object</code>s.
+	 * @author The External Fulfillment Client Development Team
+	 */
+	private static class ObjectColumn
+		extends Column
+	{
+		/** The values. */
+		private Object[] values = new Object[0];
+
+		/** {@inheritDoc} */
+		void resize(int capacity)
+		{
+			Object[] resized = new Object[capacity];
+			System.arraycopy(this.values, 0, resized, 0, Math.min(capacity, this.values.length));
+			this.values = resized;
+		}
+
+		/** {@inheritDoc} */
+		Object get(int row)
+		{
+			return this.values[row];
+		}
+
+		/** {@inheritDoc} */
+		boolean set(int row, Object value)
+		{
+			this.values[row] = value;
+			return true;
+		}
+
+		/** {@inheritDoc} */
+		void remove(int[] from, int[] to, int count)
+		{
+			Arrays.fill(this.values, removeElements(this.values, from, to, count), count, null); //~3C
+		}
+	}
+}
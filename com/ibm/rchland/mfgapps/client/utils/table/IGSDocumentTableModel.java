@@ -8,6 +8,9 @@
  * 2010-02-05       45878MS Santiago SC      -Initial version, Java 5.0
  * 											  Copy from elf_common_gui
  * 2011-11-07   ~1  588440  Santiago SC      -Fixed small bug in addRow()
+ * 2026-10-18   ~2  user-024                 -Optional columnar storage
+ * 2026-10-18   ~3  user-025                 -Bulk row changes with one event per
+ *                                            range; beginUpdate/endUpdate
  ******************************************************************************/
 
 package com.ibm.rchland.mfgapps.client.utils.table;
@@ -15,11 +18,25 @@ package com.ibm.rchland.mfgapps.client.utils.table;
 import java.util.Arrays;
 import java.util.Vector;
 
+import javax.swing.event.TableModelEvent;
 import javax.swing.table.AbstractTableModel;
 
 /**
  * The <code>IGSDocumentTableModel</code> is an <code>AbstractTableModel</code>
  * that accepts adding and removing rows dynamically.
+ * <p>
+ * A model created with columnar storage keeps its data in an
+ * {@link IGSColumnStore} instead of a <code>Vector</code> of rows, which
+ * stores <code>Integer</code>, <code>Long</code>, <code>Double</code> and
+ * <code>Boolean</code> columns in primitive arrays and each distinct value of
+ * a <code>String</code> column once. The values of an added row are copied,
+ * so changing the row array afterwards does not change the model.
+ * <p>
+ * The bulk methods {@link #addRows(Vector)}, {@link #removeRows(int[])} and
+ * {@link #updateRows(Vector, int[])} fire one event per contiguous range of
+ * rows. Between {@link #beginUpdate()} and {@link #endUpdate()} no events are
+ * fired; {@link #endUpdate()} fires a single event describing all changes.
+ * {@link IGSTableRowFeeder} adds rows produced by another thread.
  * @author The External Fulfillment Client Development Team
  */
 public class IGSDocumentTableModel extends AbstractTableModel
@@ -39,6 +56,15 @@ public class IGSDocumentTableModel extends AbstractTableModel
 	/** Table data */
     private Vector<Object[]> data  = new Vector<Object[]>();   
     
+    /** Columnar table data or <code>null</code> if the data is a Vector */
+    private IGSColumnStore columns; //~2A
+    
+    /** The number of beginUpdate calls without an endUpdate call */
+    private int updateDepth; //~3A
+    
+    /** The event describing the changes since beginUpdate or <code>null</code> */
+    private TableModelEvent pendingEvent; //~3A
+    
     /**
      * Creates a <code>IGSDocumentTableModel</code> with the given column names.
      * @param cNames the column names.
@@ -61,39 +87,195 @@ public class IGSDocumentTableModel extends AbstractTableModel
     	this.cTypes = cTypes;
     }
     
+    //~2A New constructor
+    /**
+     * Creates a <code>IGSDocumentTableModel</code> with the given column names
+     * and column types.
+     * @param cNames the column names.
+     * @param cTypes the column types.
+     * @param columnar <code>true</code> to store the data by column in an
+     *        {@link IGSColumnStore}.
+     */
+    public IGSDocumentTableModel(String[] cNames, Class<?>[] cTypes, boolean columnar)
+    {
+    	this(cNames, cTypes);
+    	if (columnar)
+    	{
+    		this.data = null;
+    		this.columns = new IGSColumnStore(cTypes);
+    	}
+    }
+    
     /**
      * Add the row to the table model data
      * @param row to add.
      */
     public void addRow(Object[] row)
     {
-    	data.add(row);       	
-    	int rowIndex = data.size() - 1; //~1A
+    	if (this.columns != null) //~2A
+    	{
+    		this.columns.addRow(row);
+    	}
+    	else
+    	{
+    		data.add(row);
+    	}
+    	int rowIndex = getRowCount() - 1; //~1A ~2C
     	fireTableRowsInserted(rowIndex, rowIndex); //~1C
     }    	
     
     /**
-     * Add the rows to the table model data
+     * Add the rows to the table model data and fire one event for all of
+     * them.
      * @param rows to add
      */
     public void addRows(Vector<Object[]> rows)
     {
-    	for(Object[] row : rows)
+    	if (rows.isEmpty()) //~3A
+    	{
+    		return;
+    	}
+    	int firstRow = getRowCount(); //~3A
+    	if (this.columns != null) //~3C
+    	{
+    		for(Object[] row : rows)
+    		{
+    			this.columns.addRow(row);
+    		}
+    	}
+    	else
     	{
-    		addRow(row);
+    		data.addAll(rows);
     	}
+    	fireTableRowsInserted(firstRow, getRowCount() - 1); //~3A
     }    
     
+    //~3A New method
+    /**
+     * Starts a group of changes. No events are fired until the matching call
+     * to {@link #endUpdate()}. Calls can be nested.
+     */
+    public void beginUpdate()
+    {
+    	this.updateDepth++;
+    }
+    
     /**
      * Clears the table model data.
      */
     public void clearData()
     {
-    	this.data.clear();
+    	if (this.columns != null) //~2A
+    	{
+    		this.columns.clear();
+    	}
+    	else
+    	{
+    		this.data.clear();
+    	}
     	
     	fireTableDataChanged();
     }
     
+    //~3A New method
+    /**
+     * Ends a group of changes started by {@link #beginUpdate()}. When the
+     * outermost group ends, one event describing all changes of the group is
+     * fired: an event for the combined range if the changes were of the same
+     * type on adjacent rows, otherwise an event indicating that all data
+     * changed.
+     * @throws IllegalStateException if there is no matching call to
+     *         <code>beginUpdate</code>
+     */
+    public void endUpdate()
+    {
+    	if (this.updateDepth == 0)
+    	{
+    		throw new IllegalStateException("endUpdate without beginUpdate"); //$NON-NLS-1$
+    	}
+    	this.updateDepth--;
+    	if (this.updateDepth == 0 && this.pendingEvent != null)
+    	{
+    		TableModelEvent e = this.pendingEvent;
+    		this.pendingEvent = null;
+    		super.fireTableChanged(e);
+    	}
+    }
+    
+    //~3A New method
+    @Override
+    /**
+     * Forwards the event to the listeners or, between
+     * {@link #beginUpdate()} and {@link #endUpdate()}, combines it with the
+     * pending event.
+     * @param e the <code>TableModelEvent</code>
+     */
+    public void fireTableChanged(TableModelEvent e)
+    {
+    	if (this.updateDepth > 0)
+    	{
+    		this.pendingEvent = coalesce(this.pendingEvent, e);
+    	}
+    	else
+    	{
+    		super.fireTableChanged(e);
+    	}
+    }
+    
+    //~3A New method
+    /**
+     * Combines two events fired one after the other into one event.
+     * @param first the first event or <code>null</code>
+     * @param second the second event
+     * @return an event for the combined range of rows if both events are of
+     *         the same type and their rows are adjacent; otherwise, an event
+     *         indicating that all data or the table structure changed
+     */
+    private TableModelEvent coalesce(TableModelEvent first, TableModelEvent second)
+    {
+    	if (first == null)
+    	{
+    		return second;
+    	}
+    	if (first.getFirstRow() == TableModelEvent.HEADER_ROW
+    			|| second.getFirstRow() == TableModelEvent.HEADER_ROW)
+    	{
+    		return new TableModelEvent(this, TableModelEvent.HEADER_ROW);
+    	}
+    	int type = first.getType();
+    	int from = first.getFirstRow();
+    	int to = first.getLastRow();
+    	if (type == second.getType() && to != Integer.MAX_VALUE
+    			&& second.getLastRow() != Integer.MAX_VALUE)
+    	{
+    		int count = second.getLastRow() - second.getFirstRow() + 1;
+    		if (type == TableModelEvent.UPDATE
+    				&& second.getFirstRow() <= to + 1 && second.getLastRow() >= from - 1)
+    		{
+    			int column = first.getColumn() == second.getColumn() ? first.getColumn()
+    					: TableModelEvent.ALL_COLUMNS;
+    			return new TableModelEvent(this, Math.min(from, second.getFirstRow()),
+    					Math.max(to, second.getLastRow()), column);
+    		}
+    		if (type == TableModelEvent.INSERT && second.getFirstRow() == to + 1)
+    		{
+    			return new TableModelEvent(this, from, to + count,
+    					TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT);
+    		}
+    		if (type == TableModelEvent.DELETE && second.getFirstRow() == from)
+    		{
+    			return new TableModelEvent(this, from, to + count,
+    					TableModelEvent.ALL_COLUMNS, TableModelEvent.DELETE);
+    		}
+    		if (type == TableModelEvent.DELETE && second.getLastRow() + 1 == from)
+    		{
+    			return new TableModelEvent(this, second.getFirstRow(), to,
+    					TableModelEvent.ALL_COLUMNS, TableModelEvent.DELETE);
+    		}
+    	}
+    	return new TableModelEvent(this);
+    }
+    
     @Override
     /**
      * {@inheritDoc}
@@ -122,13 +304,36 @@ public class IGSDocumentTableModel extends AbstractTableModel
     }
     
 	/**
-     * Get the table model data.
+     * Get the table model data. If the model uses columnar storage, the
+     * <code>Vector</code> is a copy of the data and changing it does not
+     * change the model.
      * @return a <code>Vector</code> of array objects
      */
     public Vector<Object[]> getData()
     {
+    	if (this.columns != null) //~2A
+    	{
+    		int rowCount = this.columns.getRowCount();
+    		Vector<Object[]> copy = new Vector<Object[]>(rowCount);
+    		for (int rowIndex = 0; rowIndex < rowCount; rowIndex++)
+    		{
+    			copy.add(this.columns.getRow(rowIndex));
+    		}
+    		return copy;
+    	}
     	return data;    	
     }	
+    
+    //~2A New method
+    /**
+     * Indicates whether the data is stored by column.
+     * @return <code>true</code> if the data is stored in an
+     *         {@link IGSColumnStore}
+     */
+    public boolean isColumnar()
+    {
+    	return this.columns != null;
+    }
 	
     /**
      * Create a default object array for each column name.
@@ -148,7 +353,7 @@ public class IGSDocumentTableModel extends AbstractTableModel
      */
     public int getRowCount() 
 	{
-		return data.size();
+		return this.columns != null ? this.columns.getRowCount() : data.size(); //~2C
 	}
 
     /**
@@ -157,6 +362,10 @@ public class IGSDocumentTableModel extends AbstractTableModel
      */
     public Object getValueAt(int rowIndex, int columnIndex) 
 	{		
+		if (this.columns != null) //~2A
+		{
+			return this.columns.getValueAt(rowIndex, columnIndex);
+		}
 		return data.get(rowIndex)[columnIndex];
 	}  
     
@@ -197,18 +406,121 @@ public class IGSDocumentTableModel extends AbstractTableModel
      */
     public void removeRow(int rowIndex)
     {
-    	data.remove(rowIndex);
+    	if (this.columns != null) //~2A
+    	{
+    		this.columns.removeRow(rowIndex);
+    	}
+    	else
+    	{
+    		data.remove(rowIndex);
+    	}
     	
     	this.fireTableRowsDeleted(rowIndex, rowIndex);
     }        
     
+    //~3A New method
     /**
-     * Sets the table model data.
+     * Remove the rows in the given row indexes, moving each remaining row
+     * once, and then fire one event per contiguous range of removed rows,
+     * starting with the last range.
+     * @param rowIndexes the row indexes in any order
+     * @throws ArrayIndexOutOfBoundsException if an invalid row index is
+     *         specified; no row is removed
+     */
+    public void removeRows(int[] rowIndexes)
+    {
+    	int[] sorted = getSortedIndexes(rowIndexes);
+    	int count = 0;
+    	for (int i = 0; i < sorted.length; i++)
+    	{
+    		if (i == 0 || sorted[i] != sorted[count - 1])
+    		{
+    			sorted[count++] = sorted[i];
+    		}
+    	}
+    	if (count == 0)
+    	{
+    		return;
+    	}
+    	int[] removed = new int[count];
+    	System.arraycopy(sorted, 0, removed, 0, count);
+    	
+    	if (this.columns != null)
+    	{
+    		this.columns.removeRows(removed);
+    	}
+    	else
+    	{
+    		int target = removed[0];
+    		int next = 1;
+    		for (int row = removed[0] + 1; row < data.size(); row++)
+    		{
+    			if (next < count && removed[next] == row)
+    			{
+    				next++;
+    			}
+    			else
+    			{
+    				data.set(target++, data.get(row));
+    			}
+    		}
+    		data.setSize(target);
+    	}
+    	
+    	int last = count - 1;
+    	while (last >= 0)
+    	{
+    		int first = last;
+    		while (first > 0 && removed[first - 1] == removed[first] - 1)
+    		{
+    			first--;
+    		}
+    		fireTableRowsDeleted(removed[first], removed[last]);
+    		last = first - 1;
+    	}
+    }
+    
+    //~3A New method
+    /**
+     * Returns a sorted copy of row indexes after checking that each is the
+     * index of a row.
+     * @param rowIndexes the row indexes in any order
+     * @return the sorted row indexes
+     * @throws ArrayIndexOutOfBoundsException if an invalid row index is
+     *         specified
+     */
+    private int[] getSortedIndexes(int[] rowIndexes)
+    {
+    	int[] sorted = new int[rowIndexes.length];
+    	System.arraycopy(rowIndexes, 0, sorted, 0, sorted.length);
+    	Arrays.sort(sorted);
+    	if (sorted.length > 0 && (sorted[0] < 0 || sorted[sorted.length - 1] >= getRowCount()))
+    	{
+    		int invalid = sorted[0] < 0 ? sorted[0] : sorted[sorted.length - 1];
+    		throw new ArrayIndexOutOfBoundsException(invalid);
+    	}
+    	return sorted;
+    }
+    
+    /**
+     * Sets the table model data. If the model uses columnar storage, the
+     * rows are copied and the <code>Vector</code> is not kept.
      * @param data the model data
      */
     public void setData(Vector<Object[]> data)
     {
-    	this.data = data;    	
+    	if (this.columns != null) //~2A
+    	{
+    		this.columns.clear();
+    		for (Object[] row : data)
+    		{
+    			this.columns.addRow(row);
+    		}
+    	}
+    	else
+    	{
+    		this.data = data;
+    	}
     	
     	fireTableDataChanged();
     }
@@ -220,10 +532,63 @@ public class IGSDocumentTableModel extends AbstractTableModel
 	 */
 	public void setRow(Object[] row, int rowIndex)
 	{
-		data.set(rowIndex, row);
+		if (this.columns != null) //~2A
+		{
+			this.columns.setRow(row, rowIndex);
+		}
+		else
+		{
+			data.set(rowIndex, row);
+		}
 		
 		fireTableRowsUpdated(rowIndex, rowIndex);
 	}
+	
+	//~3A New method
+	/**
+	 * Replaces entire data rows and fire one event per contiguous range of
+	 * replaced rows.
+	 * @param rows the arrays containing values for the rows
+	 * @param rowIndexes the index of each row
+	 * @throws IllegalArgumentException if the number of rows and row indexes
+	 *         differ; no row is replaced
+	 * @throws ArrayIndexOutOfBoundsException if an invalid row index is
+	 *         specified; no row is replaced
+	 */
+	public void updateRows(Vector<Object[]> rows, int[] rowIndexes)
+	{
+		if (rows.size() != rowIndexes.length)
+		{
+			String msg = "The number of rows (" + rows.size() //$NON-NLS-1$
+					+ ") differs from the number of row indexes (" + rowIndexes.length + ")."; //$NON-NLS-1$ //$NON-NLS-2$
+			throw new IllegalArgumentException(msg);
+		}
+		int[] sorted = getSortedIndexes(rowIndexes);
+		
+		for (int i = 0; i < rowIndexes.length; i++)
+		{
+			if (this.columns != null)
+			{
+				this.columns.setRow(rows.get(i), rowIndexes[i]);
+			}
+			else
+			{
+				data.set(rowIndexes[i], rows.get(i));
+			}
+		}
+		
+		int first = 0;
+		while (first < sorted.length)
+		{
+			int last = first;
+			while (last < sorted.length - 1 && sorted[last + 1] <= sorted[last] + 1)
+			{
+				last++;
+			}
+			fireTableRowsUpdated(sorted[first], sorted[last]);
+			first = last + 1;
+		}
+	}
     
     @Override
     /**
@@ -231,7 +596,14 @@ public class IGSDocumentTableModel extends AbstractTableModel
      */
 	public void setValueAt(Object aValue, int rowIndex, int columnIndex)
 	{
-		data.get(rowIndex)[columnIndex] = aValue;
+		if (this.columns != null) //~2A
+		{
+			this.columns.setValueAt(aValue, rowIndex, columnIndex);
+		}
+		else
+		{
+			data.get(rowIndex)[columnIndex] = aValue;
+		}
 
 		fireTableCellUpdated(rowIndex, columnIndex);
 	}
@@ -15,14 +15,33 @@
  * 2008-01-16   ~2 39619JL  R Prechel        -Support specifying Comparator
  * 2008-04-22   ~3 41258JM  D Pietrasik      -make setSortingDirection public for use
  *                                            setting defaults
+ * 2026-10-18   ~4 user-021                  -Sort a view of row indexes instead
+ *                                            of the data; multi-column sort keys
+ * 2026-10-18   ~5 user-022                  -Cache CollationKeys per column for
+ *                                            MyComparator; compare numbers and
+ *                                            dates natively
+ * 2026-10-18   ~6 user-023                  -Row filters and text search; compute
+ *                                            the view with IGSTableViewEngine
+ * 2026-10-18   ~7 user-023                  -Compute the view from a snapshot of
+ *                                            the data; restart it when a value
+ *                                            changes
+ * 2026-10-18   ~8 user-023                  -Clear the pending update and throw
+ *                                            the engine's failure on the EDT
  ******************************************************************************/
 package com.ibm.rchland.mfgapps.client.utils.table;
 
+import java.text.CollationKey;
 import java.text.Collator;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
 
+import javax.swing.SwingUtilities;
 import javax.swing.event.EventListenerList;
 import javax.swing.event.MouseInputAdapter;
 import javax.swing.event.TableModelEvent;
@@ -33,7 +52,23 @@ import javax.swing.table.TableModel;
 
 /**
  * <code>IGSSortableTableModel</code> is a <code>TableModel</code> with the
- * ability to sort its data based on the values in a single column.
+ * ability to sort its data based on the values in one or more columns.
+ * <p>
+ * Sorting does not reorder the data. The model keeps the indexes of the data
+ * rows in the order they are viewed, so a data row keeps its index for as long
+ * as the data is not replaced. The row indexes of the <code>TableModel</code>
+ * methods are view indexes; use {@link #convertRowIndexToModel(int)} and
+ * {@link #convertRowIndexToView(int)} to convert between the two.
+ * <p>
+ * The view only includes the rows accepted by all of the model's
+ * {@link IGSTableRowFilter}s and, if a search text is set, containing the
+ * search text in one of their values. If an {@link IGSTableViewEngine} is
+ * set, the view is computed by the engine's threads and replaces the current
+ * view on the event dispatch thread with a single
+ * <code>TableModelEvent</code>. The engine works on a copy of the values it
+ * needs, taken when the computation starts; a computation is cancelled when
+ * the sort columns, filters or search text change before it finishes, and is
+ * restarted when the data changes.
  * @author The External Fulfillment Client Development Team
  */
 public class IGSSortableTableModel
@@ -48,6 +83,10 @@ public class IGSSortableTableModel
 	/** Indicates the rows are to be sorted in descending order. */
 	public static final int DESCENDING = 2;
 
+	//~6A
+	/** The minimum number of rows worked on by a task of the view engine. */
+	private static final int MIN_TASK_ROWS = 4096;
+
 	/** The list of <code>EventListener</code>s. */
 	private EventListenerList listenerList = new EventListenerList();
 
@@ -76,6 +115,72 @@ public class IGSSortableTableModel
 	 */
 	private int sortColumnIndex = 0;
 
+	//~4A
+	/** The indexes of the columns used to sort rows with equal sort column values. */
+	private int[] secondaryColumnIndexes = new int[0];
+
+	//~4A
+	/** The directions in which the secondary sort columns are sorted. */
+	private int[] secondaryDirections = new int[0];
+
+	//~4A
+	/**
+	 * The indexes of the data rows in the order they are viewed or
+	 * <code>null</code> if the rows are viewed in the order they were added.
+	 */
+	private int[] viewToModel;
+
+	//~4A
+	/**
+	 * The view index of each data row or <code>null</code> if not computed
+	 * since the last sort.
+	 */
+	private int[] modelToView;
+
+	//~5A
+	/**
+	 * The sort keys of each column created by {@link MyComparator}; an element
+	 * is <code>null</code> until the column is sorted and after its data
+	 * changes.
+	 */
+	@SuppressWarnings("rawtypes")
+	private Comparable[][] sortKeys;
+
+	//~6A
+	/** The filters that select the viewed rows. */
+	private IGSTableRowFilter[] rowFilters = new IGSTableRowFilter[0];
+
+	//~6A
+	/** The text the viewed rows contain or <code>null</code>. */
+	private String searchText;
+
+	//~6A
+	/** The engine used to compute the view or <code>null</code>. */
+	private IGSTableViewEngine viewEngine;
+
+	//~6A
+	/** The view computation executed by the engine or <code>null</code>. */
+	private ViewUpdate pendingUpdate;
+
+	//~6A
+	/** Incremented each time the data changes. */
+	private int dataVersion;
+
+	//~7A
+	/**
+	 * A copy of the data rows read by the engine's threads or
+	 * <code>null</code>; shared by the view computations of a data version.
+	 */
+	private Object[][] snapshot;
+
+	//~7A
+	/** The data version of {@link #snapshot}. */
+	private int snapshotVersion;
+
+	//~7A
+	/** Set <code>true</code> while a cancelled view computation waits to restart. */
+	private boolean restartScheduled;
+
 	/** The <code>JTableHeader</code> set by <code>setSortTableHeader</code>. */
 	private JTableHeader tableHeader;
 
@@ -157,10 +262,24 @@ public class IGSSortableTableModel
 		}
 
 		this.direction = NOT_SORTED;
+		this.secondaryColumnIndexes = new int[0]; //~4A
+		this.secondaryDirections = new int[0]; //~4A
+		this.viewToModel = null; //~4A
+		this.modelToView = null; //~4A
+		this.sortKeys = new Comparable[colCount][]; //~5A
+		this.dataVersion++; //~6A
+		this.snapshot = null; //~7A
+		cancelViewUpdate(); //~6A
 
 		// Notify all listeners that all cell values in the table have changed
 		fireTableModelEvent(new TableModelEvent(this));
 
+		//~6A Apply the filters to the new data
+		if (this.rowFilters.length != 0 || this.searchText != null)
+		{
+			updateView();
+		}
+
 		if (this.tableHeader != null)
 		{
 			this.tableHeader.repaint();
@@ -173,37 +292,47 @@ public class IGSSortableTableModel
 	 * fire a <code>TableModelEvent</code> to indicate a change in the
 	 * <code>TableModel</code>.
 	 * @param value the new value for the cell
-	 * @param rowIndex the index of the cell's row
+	 * @param rowIndex the view index of the cell's row
 	 * @param columnIndex the index of the cell's column
 	 */
 	public void changeValue(Object value, int rowIndex, int columnIndex)
 	{
-		if (this.data[rowIndex][columnIndex].getClass().isInstance(value))
+		int row = convertRowIndexToModel(rowIndex); //~4C
+		if (this.data[row][columnIndex].getClass().isInstance(value))
 		{
-			this.data[rowIndex][columnIndex] = value;
+			this.data[row][columnIndex] = value;
+			this.sortKeys[columnIndex] = null; //~5A
+			this.dataVersion++; //~6A
+			restartViewUpdate(); //~7A
 		}
 	}
 
 	/**
 	 * @param x
 	 * @param value
-	 * @param rowIndex
+	 * @param rowIndex the view index of the cell's row
 	 * @param columnIndex
 	 */
 	public void changeValue(Object x, String value, int rowIndex, int columnIndex)
 	{
-		this.data[rowIndex][columnIndex] = value;
+		this.data[convertRowIndexToModel(rowIndex)][columnIndex] = value; //~4C
+		this.sortKeys[columnIndex] = null; //~5A
+		this.dataVersion++; //~6A
+		restartViewUpdate(); //~7A
 	}
 	
 	/**
 	 * @param oldObj
 	 * @param newObj
-	 * @param rowIndex
+	 * @param rowIndex the view index of the cell's row
 	 * @param columnIndex
 	 */
 	public void changeValue(Object oldObj,  Object newObj, int rowIndex, int columnIndex)
 	{
-		this.data[rowIndex][columnIndex] = newObj;
+		this.data[convertRowIndexToModel(rowIndex)][columnIndex] = newObj; //~4C
+		this.sortKeys[columnIndex] = null; //~5A
+		this.dataVersion++; //~6A
+		restartViewUpdate(); //~7A
 	}
 	
 	//Definition of TableModel methods
@@ -214,7 +343,8 @@ public class IGSSortableTableModel
 	 */
 	public int getRowCount()
 	{
-		return this.data.length;
+		int[] view = this.viewToModel; //~6C
+		return view == null ? this.data.length : view.length;
 	}
 
 	/**
@@ -270,7 +400,7 @@ public class IGSSortableTableModel
 	/**
 	 * Returns the value of the cell at <code>rowIndex</code> and
 	 * <code>columnIndex</code>.
-	 * @param rowIndex the index of the cell's row
+	 * @param rowIndex the view index of the cell's row
 	 * @param columnIndex the index of the cell's column
 	 * @return the value of the cell
 	 * @throws ArrayIndexOutOfBoundsException if an invalid row or column index
@@ -278,7 +408,9 @@ public class IGSSortableTableModel
 	 */
 	public Object getValueAt(int rowIndex, int columnIndex)
 	{
-		return this.data[rowIndex][columnIndex];
+		//~4C Map the view index to the data row
+		int[] view = this.viewToModel;
+		return this.data[view == null ? rowIndex : view[rowIndex]][columnIndex];
 	}
 
 	/**
@@ -371,10 +503,10 @@ public class IGSSortableTableModel
 	 * </ul>
 	 * Otherwise, this method sets the column in the model used to sort the
 	 * table to the column corresponding to <code>columnIndex</code> and sets
-	 * the direction to {@link #ASCENDING}.
+	 * the direction to {@link #ASCENDING}. Any secondary sort columns are
+	 * removed.
 	 * @param columnIndex the index of a column in the model
 	 */
-	@SuppressWarnings("unchecked")
 	public void setSortingDirection(int columnIndex)  // ~3C
 	{
 		if (columnIndex == this.sortColumnIndex)
@@ -386,18 +518,17 @@ public class IGSSortableTableModel
 			this.direction = ASCENDING;
 			this.sortColumnIndex = columnIndex;
 		}
+		this.secondaryColumnIndexes = new int[0]; //~4A
+		this.secondaryDirections = new int[0]; //~4A
 
 		//~1A Start addition to sort model data
-		if (this.direction != NOT_SORTED)
-		{
-			Arrays.sort(this.data, this.comparator);
-		}
-		fireTableModelEvent(new TableModelEvent(this));
+		updateView(); //~6C
 		//~1A End addition to sort model data
 	}
 
 	/**
-	 * Sets the column used for sorting and the sort direction.
+	 * Sets the column used for sorting and the sort direction. Any secondary
+	 * sort columns are removed.
 	 * @param columnIndex the index of a column in the model
 	 * @param direction the sort direction. Must be one of:
 	 *        <ul>
@@ -406,18 +537,416 @@ public class IGSSortableTableModel
 	 *        <li>{@link #DESCENDING}</li>
 	 *        </ul>
 	 */
-	@SuppressWarnings("unchecked")
 	public void setSortingDirection(int columnIndex, int direction)
 	{ //~1A New method     ~3C made public
 		this.sortColumnIndex = columnIndex;
 		this.direction = direction % 3;
-		if (this.direction != NOT_SORTED)
+		this.secondaryColumnIndexes = new int[0]; //~4A
+		this.secondaryDirections = new int[0]; //~4A
+		updateView(); //~6C
+	}
+
+	//~4A New method
+	/**
+	 * Sets the columns used for sorting and their sort directions. The rows
+	 * are sorted by the first column; rows with equal values in the first
+	 * column are sorted by the second column, and so on. Rows with equal
+	 * values in all sort columns are kept in the order they were added.
+	 * {@link #getSortColumnIndex()} and {@link #getSortingDirection()} return
+	 * the first column and its direction.
+	 * @param columnIndexes the indexes of the sort columns in the model
+	 * @param directions the sort direction of each column. Each must be one of:
+	 *        <ul>
+	 *        <li>{@link #NOT_SORTED}</li>
+	 *        <li>{@link #ASCENDING}</li>
+	 *        <li>{@link #DESCENDING}</li>
+	 *        </ul>
+	 * @throws IllegalArgumentException if <code>columnIndexes</code> and
+	 *         <code>directions</code> do not have the same length
+	 */
+	public void setSortKeys(int[] columnIndexes, int[] directions)
+	{
+		if (columnIndexes.length != directions.length)
+		{
+			String msg = "Each sort column requires a direction."; //$NON-NLS-1$
+			throw new IllegalArgumentException(msg);
+		}
+		if (columnIndexes.length == 0)
+		{
+			this.direction = NOT_SORTED;
+		}
+		else
+		{
+			this.sortColumnIndex = columnIndexes[0];
+			this.direction = directions[0] % 3;
+		}
+		int count = Math.max(columnIndexes.length - 1, 0);
+		this.secondaryColumnIndexes = new int[count];
+		this.secondaryDirections = new int[count];
+		for (int i = 0; i < count; i++)
+		{
+			this.secondaryColumnIndexes[i] = columnIndexes[i + 1];
+			this.secondaryDirections[i] = directions[i + 1] % 3;
+		}
+		updateView(); //~6C
+	}
+
+	//~4A New method
+	/**
+	 * Returns the indexes of the columns used to sort the rows of the model,
+	 * starting with the index returned by {@link #getSortColumnIndex()}.
+	 * @return the indexes of the sort columns in the model
+	 */
+	public int[] getSortColumnIndexes()
+	{
+		int count = this.secondaryColumnIndexes.length;
+		int[] result = new int[count + 1];
+		result[0] = this.sortColumnIndex;
+		System.arraycopy(this.secondaryColumnIndexes, 0, result, 1, count);
+		return result;
+	}
+
+	//~4A New method
+	/**
+	 * Returns the directions in which the sort columns returned by
+	 * {@link #getSortColumnIndexes()} are sorted.
+	 * @return the sort direction of each sort column
+	 */
+	public int[] getSortingDirections()
+	{
+		int count = this.secondaryDirections.length;
+		int[] result = new int[count + 1];
+		result[0] = this.direction;
+		System.arraycopy(this.secondaryDirections, 0, result, 1, count);
+		return result;
+	}
+
+	//~4A New method
+	/**
+	 * Returns the index of the data row viewed at <code>viewRowIndex</code>.
+	 * The index of a data row does not change when the model is sorted.
+	 * @param viewRowIndex the view index of a row
+	 * @return the index of the data row
+	 */
+	public int convertRowIndexToModel(int viewRowIndex)
+	{
+		int[] view = this.viewToModel;
+		return view == null ? viewRowIndex : view[viewRowIndex];
+	}
+
+	//~4A New method
+	/**
+	 * Returns the view index of the data row at <code>modelRowIndex</code>.
+	 * @param modelRowIndex the index of a data row
+	 * @return the view index of the row or -1 if the row is not viewed
+	 */
+	public int convertRowIndexToView(int modelRowIndex)
+	{
+		int[] view = this.viewToModel;
+		if (view == null)
+		{
+			return modelRowIndex;
+		}
+		int[] model = this.modelToView;
+		if (model == null)
 		{
-			Arrays.sort(this.data, this.comparator);
+			model = new int[this.data.length];
+			Arrays.fill(model, -1); //~6A
+			for (int i = 0; i < view.length; i++)
+			{
+				model[view[i]] = i;
+			}
+			this.modelToView = model;
+		}
+		return model[modelRowIndex];
+	}
+
+	//~6A New method
+	/**
+	 * Sets the filters that select the viewed rows. A row is viewed if all
+	 * filters include it.
+	 * @param filters the <code>IGSTableRowFilter</code>s or an empty array to
+	 *        view all rows
+	 */
+	public void setRowFilters(IGSTableRowFilter[] filters)
+	{
+		this.rowFilters = new IGSTableRowFilter[filters.length];
+		System.arraycopy(filters, 0, this.rowFilters, 0, filters.length);
+		updateView();
+	}
+
+	//~6A New method
+	/**
+	 * Returns the filters that select the viewed rows.
+	 * @return the <code>IGSTableRowFilter</code>s
+	 */
+	public IGSTableRowFilter[] getRowFilters()
+	{
+		IGSTableRowFilter[] result = new IGSTableRowFilter[this.rowFilters.length];
+		System.arraycopy(this.rowFilters, 0, result, 0, result.length);
+		return result;
+	}
+
+	//~6A New method
+	/**
+	 * Sets the text the viewed rows contain. A row contains the text if the
+	 * <code>String</code> representation of one of its values contains the
+	 * text, ignoring case.
+	 * @param text the search text or <code>null</code> to view all rows
+	 */
+	public void setSearchText(String text)
+	{
+		this.searchText = (text == null || text.length() == 0) ? null : text;
+		updateView();
+	}
+
+	//~6A New method
+	/**
+	 * Returns the text the viewed rows contain.
+	 * @return the search text or <code>null</code>
+	 */
+	public String getSearchText()
+	{
+		return this.searchText;
+	}
+
+	//~6A New method
+	/**
+	 * Sets the engine used to compute the view. If the engine is
+	 * <code>null</code> or the model uses a <code>Comparator</code> other than
+	 * {@link MyComparator}, which may depend on the sort column and direction
+	 * of the model, the view is computed on the calling thread.
+	 * @param engine the <code>IGSTableViewEngine</code> or <code>null</code>
+	 */
+	public void setViewEngine(IGSTableViewEngine engine)
+	{
+		this.viewEngine = engine;
+	}
+
+	//~6A New method
+	/**
+	 * Returns the engine used to compute the view.
+	 * @return the <code>IGSTableViewEngine</code> or <code>null</code>
+	 */
+	public IGSTableViewEngine getViewEngine()
+	{
+		return this.viewEngine;
+	}
+
+	//~6A New method
+	/**
+	 * Returns <code>true</code> if the engine is computing a view that will
+	 * replace the current view.
+	 * @return <code>true</code> if a view update is pending
+	 */
+	public boolean isViewUpdatePending()
+	{
+		return this.pendingUpdate != null || this.restartScheduled; //~7C
+	}
+
+	//~6A New method
+	/**
+	 * Computes the view for the current sort columns, filters and search text
+	 * and notifies the listeners. The view is computed by the engine unless it
+	 * is the order the rows were added, no engine is set or the model uses a
+	 * <code>Comparator</code> other than {@link MyComparator}. Cancels the
+	 * view computation in progress.
+	 */
+	private void updateView()
+	{
+		cancelViewUpdate();
+		ViewUpdate update = new ViewUpdate(this.viewEngine);
+		if (update.engine == null || update.isAllRows())
+		{
+			update.compute();
+			publish(update);
+		}
+		else
+		{
+			this.pendingUpdate = update;
+			this.viewEngine.execute(update);
+		}
+	}
+
+	//~7A New method
+	/**
+	 * Returns a copy of the data rows for the engine's threads, copying the
+	 * rows only once for each data version.
+	 * @return the copy of the data rows
+	 */
+	private Object[][] getSnapshot()
+	{
+		if (this.snapshot == null || this.snapshotVersion != this.dataVersion)
+		{
+			Object[][] copy = new Object[this.data.length][];
+			for (int row = 0; row < copy.length; row++)
+			{
+				copy[row] = this.data[row].clone();
+			}
+			this.snapshot = copy;
+			this.snapshotVersion = this.dataVersion;
+		}
+		return this.snapshot;
+	}
+
+	//~7A New method
+	/**
+	 * Cancels the view computation in progress, which uses values that have
+	 * changed, and computes the view again on the event dispatch thread. The
+	 * values changed before then are included in a single computation.
+	 */
+	private void restartViewUpdate()
+	{
+		if (this.pendingUpdate != null)
+		{
+			cancelViewUpdate();
+			this.restartScheduled = true;
+			SwingUtilities.invokeLater(new Runnable()
+			{
+				public void run()
+				{
+					if (IGSSortableTableModel.this.restartScheduled)
+					{
+						updateView();
+					}
+				}
+			});
+		}
+	}
+
+	//~6A New method
+	/** Cancels the view computation in progress. */
+	private void cancelViewUpdate()
+	{
+		this.restartScheduled = false; //~7A
+		if (this.pendingUpdate != null)
+		{
+			this.pendingUpdate.cancelled = true;
+			this.pendingUpdate = null;
+		}
+	}
+
+	//~6A New method
+	/**
+	 * Replaces the view with the view computed by a <code>ViewUpdate</code>,
+	 * keeps the sort keys it created if the data did not change and notifies
+	 * the listeners.
+	 * @param update the <code>ViewUpdate</code>
+	 */
+	private void publish(ViewUpdate update)
+	{
+		this.viewToModel = update.view;
+		this.modelToView = null;
+		if (update.keys != null && update.version == this.dataVersion)
+		{
+			for (int i = 0; i < this.sortKeys.length; i++)
+			{
+				if (this.sortKeys[i] == null)
+				{
+					this.sortKeys[i] = update.keys[i];
+				}
+			}
 		}
 		fireTableModelEvent(new TableModelEvent(this));
 	}
 
+	//~6A New method
+	/**
+	 * Returns <code>true</code> if the <code>String</code> representation of
+	 * a value contains a text, ignoring case.
+	 * @param value the value or <code>null</code>
+	 * @param text the text
+	 * @return <code>true</code> if the value contains the text
+	 */
+	private static boolean contains(Object value, String text)
+	{
+		if (value == null)
+		{
+			return false;
+		}
+		String string = value.toString();
+		int last = string.length() - text.length();
+		for (int i = 0; i <= last; i++)
+		{
+			if (string.regionMatches(true, i, text, 0, text.length()))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	//~4A New method
+	/**
+	 * Sorts a range of data row indexes. The sort is stable.
+	 * @param rows the data row indexes
+	 * @param buffer an array at least as long as <code>rows</code>
+	 * @param from the index of the first row of the range
+	 * @param to the index after the last row of the range
+	 * @param rowComparator the <code>RowComparator</code> used to compare rows
+	 */
+	private static void mergeSort(int[] rows, int[] buffer, int from, int to,
+									RowComparator rowComparator)
+	{
+		if (to - from < 8)
+		{
+			for (int i = from + 1; i < to; i++)
+			{
+				int row = rows[i];
+				int j = i;
+				while (j > from && rowComparator.compare(rows[j - 1], row) > 0)
+				{
+					rows[j] = rows[j - 1];
+					j--;
+				}
+				rows[j] = row;
+			}
+			return;
+		}
+
+		int middle = (from + to) >>> 1;
+		mergeSort(rows, buffer, from, middle, rowComparator);
+		mergeSort(rows, buffer, middle, to, rowComparator);
+		if (rowComparator.compare(rows[middle - 1], rows[middle]) <= 0)
+		{
+			//Already in order
+			return;
+		}
+
+		merge(rows, buffer, from, middle, to, rowComparator); //~6C
+	}
+
+	//~6A New method
+	/**
+	 * Merges two adjacent sorted ranges of data row indexes. Rows of the first
+	 * range are placed before equal rows of the second range.
+	 * @param rows the data row indexes
+	 * @param buffer an array at least as long as <code>rows</code>
+	 * @param from the index of the first row of the first range
+	 * @param middle the index of the first row of the second range
+	 * @param to the index after the last row of the second range
+	 * @param rowComparator the <code>RowComparator</code> used to compare rows
+	 */
+	private static void merge(int[] rows, int[] buffer, int from, int middle, int to,
+								RowComparator rowComparator)
+	{
+		System.arraycopy(rows, from, buffer, from, to - from);
+		int left = from;
+		int right = middle;
+		for (int i = from; i < to; i++)
+		{
+			if (right == to
+					|| (left < middle && rowComparator.compare(buffer[left], buffer[right]) <= 0))
+			{
+				rows[i] = buffer[left++];
+			}
+			else
+			{
+				rows[i] = buffer[right++];
+			}
+		}
+	}
+
 	/**
 	 * Returns an integer indicating the index of the column in the model used
 	 * to sort the rows of the model.
@@ -470,6 +999,480 @@ public class IGSSortableTableModel
 		}
 	}
 
+	//~6A New class
+	/**
+	 * <code>ViewUpdate</code> computes the view for the sort columns, filters
+	 * and search text of the model when it was created. The sort columns are
+	 * applied from the last secondary column to the primary column with a
+	 * stable sort, so each sort keeps the order of the previous sort for rows
+	 * with equal values. With an engine, the rows are split into ranges that
+	 * are filtered, given sort keys and sorted in parallel, and the sorted
+	 * ranges are merged in pairs.
+	 * @author The External Fulfillment Client Development Team
+	 */
+	private class ViewUpdate
+		implements Runnable
+	{
+		/** The engine or <code>null</code> to compute on the calling thread. */
+		final IGSTableViewEngine engine;
+
+		/**
+		 * The data rows or, if computed by the engine, a copy of the values
+		 * of the data rows used to compute the view.
+		 */
+		final Object[][] rows; //~7C
+
+		/** The data version of the rows. */
+		final int version;
+
+		/** The indexes of the sort columns, starting with the primary column. */
+		final int[] columnIndexes;
+
+		/** The direction of each sort column. */
+		final int[] directions;
+
+		/** The sort keys of each column; created as the columns are sorted. */
+		@SuppressWarnings("rawtypes")
+		final Comparable[][] keys;
+
+		/** The filters that select the viewed rows. */
+		final IGSTableRowFilter[] filters;
+
+		/** The text the viewed rows contain or <code>null</code>. */
+		final String text;
+
+		/** The computed view or <code>null</code> to view all rows in order. */
+		int[] view;
+
+		/** Set <code>true</code> if the view is no longer needed. */
+		volatile boolean cancelled;
+
+		/**
+		 * Constructs a new <code>ViewUpdate</code> for the current state of
+		 * the model.
+		 * @param engine the <code>IGSTableViewEngine</code> or
+		 *        <code>null</code>
+		 */
+		public ViewUpdate(IGSTableViewEngine engine)
+		{
+			super();
+			boolean byKeys = IGSSortableTableModel.this.comparator.getClass() == MyComparator.class;
+			this.engine = byKeys ? engine : null;
+			this.version = IGSSortableTableModel.this.dataVersion;
+			this.columnIndexes = getSortColumnIndexes();
+			this.directions = getSortingDirections();
+			this.keys = byKeys ? IGSSortableTableModel.this.sortKeys.clone() : null;
+			this.filters = IGSSortableTableModel.this.rowFilters;
+			this.text = IGSSortableTableModel.this.searchText;
+			//~7C The engine's threads must not read the data while it changes
+			this.rows = this.engine == null || isAllRows() ? IGSSortableTableModel.this.data
+					: getSnapshot();
+		}
+
+		/**
+		 * Returns <code>true</code> if all rows are viewed in the order they
+		 * were added.
+		 * @return <code>true</code> if the view is not sorted or filtered
+		 */
+		public boolean isAllRows()
+		{
+			return this.directions[0] == NOT_SORTED && this.filters.length == 0
+					&& this.text == null;
+		}
+
+		/**
+		 * Computes the view and replaces the view of the model on the event
+		 * dispatch thread unless cancelled. A <code>RuntimeException</code>
+		 * thrown while computing the view, for example by a row filter, ends
+		 * the update and is thrown on the event dispatch thread, as it is
+		 * thrown to the caller when the view is computed without an engine.
+		 */
+		public void run()
+		{
+			try
+			{
+				compute();
+			}
+			catch (CancellationException e)
+			{
+				return;
+			}
+			catch (final RuntimeException e) //~8A
+			{
+				SwingUtilities.invokeLater(new Runnable()
+				{
+					public void run()
+					{
+						if (IGSSortableTableModel.this.pendingUpdate == ViewUpdate.this)
+						{
+							IGSSortableTableModel.this.pendingUpdate = null;
+							throw e;
+						}
+					}
+				});
+				return;
+			}
+			SwingUtilities.invokeLater(new Runnable()
+			{
+				public void run()
+				{
+					if (IGSSortableTableModel.this.pendingUpdate != ViewUpdate.this)
+					{
+						return;
+					}
+					IGSSortableTableModel.this.pendingUpdate = null;
+					//~7C Never publish a view of data that has since changed
+					if (ViewUpdate.this.version == IGSSortableTableModel.this.dataVersion)
+					{
+						publish(ViewUpdate.this);
+					}
+					else
+					{
+						updateView();
+					}
+				}
+			});
+		}
+
+		/**
+		 * Computes the view.
+		 * @throws CancellationException if the update is cancelled
+		 */
+		public void compute()
+		{
+			int[] result = filter();
+			if (this.directions[0] == NOT_SORTED)
+			{
+				this.view = result;
+				return;
+			}
+
+			if (result == null)
+			{
+				result = new int[this.rows.length];
+				for (int i = 0; i < result.length; i++)
+				{
+					result[i] = i;
+				}
+			}
+			int[] buffer = new int[result.length];
+			try
+			{
+				for (int i = this.columnIndexes.length - 1; i >= 0; i--)
+				{
+					if (this.directions[i] != NOT_SORTED)
+					{
+						sort(result, buffer, this.columnIndexes[i], this.directions[i]);
+					}
+				}
+			}
+			finally
+			{
+				if (this.keys == null)
+				{
+					IGSSortableTableModel.this.sortColumnIndex = this.columnIndexes[0];
+					IGSSortableTableModel.this.direction = this.directions[0];
+				}
+			}
+			this.view = result;
+		}
+
+		/**
+		 * Returns the indexes of the data rows accepted by the filters and
+		 * containing the search text.
+		 * @return the data row indexes or <code>null</code> if there are no
+		 *         filters and no search text
+		 */
+		private int[] filter()
+		{
+			if (this.filters.length == 0 && this.text == null)
+			{
+				return null;
+			}
+
+			final int[] bounds = split(this.rows.length);
+			final int[][] found = new int[bounds.length - 1][];
+			final int[] counts = new int[bounds.length - 1];
+			List<Runnable> tasks = new ArrayList<Runnable>();
+			for (int i = 0; i < bounds.length - 1; i++)
+			{
+				final int range = i;
+				tasks.add(new Runnable()
+				{
+					public void run()
+					{
+						checkCancelled();
+						int from = bounds[range];
+						int to = bounds[range + 1];
+						int[] included = new int[to - from];
+						int count = 0;
+						for (int row = from; row < to; row++)
+						{
+							if (include(ViewUpdate.this.rows[row]))
+							{
+								included[count++] = row;
+							}
+						}
+						found[range] = included;
+						counts[range] = count;
+					}
+				});
+			}
+			runAll(tasks);
+
+			int total = 0;
+			for (int i = 0; i < counts.length; i++)
+			{
+				total += counts[i];
+			}
+			int[] result = new int[total];
+			int offset = 0;
+			for (int i = 0; i < counts.length; i++)
+			{
+				System.arraycopy(found[i], 0, result, offset, counts[i]);
+				offset += counts[i];
+			}
+			return result;
+		}
+
+		/**
+		 * Returns <code>true</code> if a row is accepted by the filters and
+		 * contains the search text.
+		 * @param row the values of the row
+		 * @return <code>true</code> if the row is viewed
+		 */
+		private boolean include(Object[] row)
+		{
+			for (int i = 0; i < this.filters.length; i++)
+			{
+				if (!this.filters[i].include(row))
+				{
+					return false;
+				}
+			}
+			if (this.text == null)
+			{
+				return true;
+			}
+			for (int i = 0; i < row.length; i++)
+			{
+				if (contains(row[i], this.text))
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Sorts the view by a single column. Without sort keys,
+		 * {@link #getSortColumnIndex()} and {@link #getSortingDirection()}
+		 * return the column and direction while the rows are sorted, which is
+		 * what the <code>Comparator</code> uses to compare two rows.
+		 * @param result the data row indexes to sort
+		 * @param buffer an array as long as <code>result</code>
+		 * @param columnIndex the index of the sort column
+		 * @param sortDirection the sort direction
+		 */
+		private void sort(final int[] result, final int[] buffer, int columnIndex, int sortDirection)
+		{
+			final RowComparator rowComparator;
+			if (this.keys == null)
+			{
+				IGSSortableTableModel.this.sortColumnIndex = columnIndex;
+				IGSSortableTableModel.this.direction = sortDirection;
+				rowComparator = new RowComparator(null, false);
+			}
+			else
+			{
+				rowComparator = new RowComparator(getKeys(columnIndex), sortDirection == DESCENDING);
+			}
+
+			final int[] bounds = split(result.length);
+			List<Runnable> tasks = new ArrayList<Runnable>();
+			for (int i = 0; i < bounds.length - 1; i++)
+			{
+				final int range = i;
+				tasks.add(new Runnable()
+				{
+					public void run()
+					{
+						checkCancelled();
+						mergeSort(result, buffer, bounds[range], bounds[range + 1], rowComparator);
+					}
+				});
+			}
+			runAll(tasks);
+
+			int last = bounds.length - 1;
+			for (int width = 1; width < last; width *= 2)
+			{
+				tasks.clear();
+				for (int i = 0; i + width < last; i += 2 * width)
+				{
+					final int from = bounds[i];
+					final int middle = bounds[i + width];
+					final int to = bounds[Math.min(i + 2 * width, last)];
+					tasks.add(new Runnable()
+					{
+						public void run()
+						{
+							checkCancelled();
+							merge(result, buffer, from, middle, to, rowComparator);
+						}
+					});
+				}
+				runAll(tasks);
+			}
+		}
+
+		/**
+		 * Returns the sort keys of a column, creating them if the column was
+		 * not sorted since its data changed.
+		 * @param columnIndex the index of the column
+		 * @return the sort key of each data row
+		 */
+		@SuppressWarnings("rawtypes")
+		private Comparable[] getKeys(final int columnIndex)
+		{
+			if (this.keys[columnIndex] == null)
+			{
+				final MyComparator myComparator = (MyComparator) IGSSortableTableModel.this.comparator;
+				final boolean natively = MyComparator.isNativelyComparable(this.rows, columnIndex);
+				final Comparable[] created = new Comparable[this.rows.length];
+				final int[] bounds = split(this.rows.length);
+				List<Runnable> tasks = new ArrayList<Runnable>();
+				for (int i = 0; i < bounds.length - 1; i++)
+				{
+					final int range = i;
+					tasks.add(new Runnable()
+					{
+						public void run()
+						{
+							checkCancelled();
+							myComparator.createSortKeys(ViewUpdate.this.rows, columnIndex, natively,
+									created, bounds[range], bounds[range + 1]);
+						}
+					});
+				}
+				runAll(tasks);
+				this.keys[columnIndex] = created;
+			}
+			return this.keys[columnIndex];
+		}
+
+		/**
+		 * Splits a number of rows into ranges worked on by separate tasks.
+		 * @param count the number of rows
+		 * @return the index of the first row of each range followed by
+		 *         <code>count</code>
+		 */
+		private int[] split(int count)
+		{
+			int ranges = 1;
+			if (this.engine != null)
+			{
+				ranges = Math.max(1, Math.min(this.engine.getThreadCount(), count / MIN_TASK_ROWS));
+			}
+			int[] bounds = new int[ranges + 1];
+			for (int i = 0; i <= ranges; i++)
+			{
+				bounds[i] = (int) ((long) count * i / ranges);
+			}
+			return bounds;
+		}
+
+		/**
+		 * Runs tasks, in parallel if there is an engine.
+		 * @param tasks the tasks
+		 * @throws CancellationException if the update is cancelled
+		 */
+		private void runAll(List<Runnable> tasks)
+		{
+			if (this.engine == null || tasks.size() == 1)
+			{
+				for (Runnable task : tasks)
+				{
+					task.run();
+				}
+			}
+			else
+			{
+				this.engine.invokeAll(tasks);
+			}
+			checkCancelled();
+		}
+
+		/**
+		 * Throws a <code>CancellationException</code> if the update is
+		 * cancelled.
+		 * @throws CancellationException if the update is cancelled
+		 */
+		void checkCancelled()
+		{
+			if (this.cancelled)
+			{
+				throw new CancellationException();
+			}
+		}
+	}
+
+	//~5A New class
+	/**
+	 * <code>RowComparator</code> compares two data rows by their sort keys or,
+	 * if it has no sort keys, by using the <code>Comparator</code> of the
+	 * model.
+	 * @author The External Fulfillment Client Development Team
+	 */
+	private class RowComparator
+	{
+		/** The sort key of each data row or <code>null</code>. */
+		@SuppressWarnings("rawtypes")
+		private final Comparable[] keys;
+
+		/** <code>true</code> if the sort keys are sorted in descending order. */
+		private final boolean descending;
+
+		/**
+		 * Constructs a new <code>RowComparator</code>.
+		 * @param keys the sort key of each data row or <code>null</code> to
+		 *        use the <code>Comparator</code> of the model
+		 * @param descending <code>true</code> to sort the sort keys in
+		 *        descending order
+		 */
+		@SuppressWarnings("rawtypes")
+		public RowComparator(Comparable[] keys, boolean descending)
+		{
+			super();
+			this.keys = keys;
+			this.descending = descending;
+		}
+
+		/**
+		 * Compares two data rows.
+		 * @param row1 the index of the first data row
+		 * @param row2 the index of the second data row
+		 * @return a negative integer, zero, or a positive integer if the first
+		 *         row sorts before, the same as, or after the second
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public int compare(int row1, int row2)
+		{
+			if (this.keys == null)
+			{
+				return IGSSortableTableModel.this.comparator.compare(
+						IGSSortableTableModel.this.data[row1], IGSSortableTableModel.this.data[row2]);
+			}
+			Comparable key1 = this.keys[this.descending ? row2 : row1];
+			Comparable key2 = this.keys[this.descending ? row1 : row2];
+			if (key1 == null)
+			{
+				return key2 == null ? 0 : -1;
+			}
+			return key2 == null ? 1 : key1.compareTo(key2);
+		}
+	}
+
 	//~1C Made MyComparator a named class instead of an anonymous class
 	/**
 	 * <code>MyComparator</code> is the <code>Comparator</code> used to sort
@@ -522,6 +1525,108 @@ public class IGSSortableTableModel
 			}
 		}
 		
+		//~5A New method
+		/**
+		 * Returns a sort key for the value of each row in a column. Comparing
+		 * two sort keys gives the same result as comparing the rows with this
+		 * <code>Comparator</code> in {@link #ASCENDING} order, except that
+		 * columns whose values are all numbers of the same class or all dates
+		 * of the same class are compared by value. Rows with equal values share
+		 * a <code>CollationKey</code>. A <code>null</code> value has a
+		 * <code>null</code> sort key.
+		 * @param rows the rows of the model
+		 * @param columnIndex the index of the column
+		 * @return the sort key of each row
+		 */
+		@SuppressWarnings("rawtypes")
+		public Comparable[] getSortKeys(Object[][] rows, int columnIndex)
+		{
+			Comparable[] keys = new Comparable[rows.length];
+			boolean natively = isNativelyComparable(rows, columnIndex); //~6C
+			createSortKeys(rows, columnIndex, natively, keys, 0, rows.length); //~6C
+			return keys;
+		}
+
+		//~6A New method
+		/**
+		 * Creates the sort keys of a range of rows in a column. Can be called
+		 * by several threads at the same time for separate ranges.
+		 * @param rows the rows of the model
+		 * @param columnIndex the index of the column
+		 * @param natively <code>true</code> if the values are compared by value
+		 * @param keys the array that receives the sort key of each row
+		 * @param from the index of the first row of the range
+		 * @param to the index after the last row of the range
+		 */
+		@SuppressWarnings("rawtypes")
+		void createSortKeys(Object[][] rows, int columnIndex, boolean natively,
+							Comparable[] keys, int from, int to)
+		{
+			if (natively)
+			{
+				for (int row = from; row < to; row++)
+				{
+					keys[row] = (Comparable) rows[row][columnIndex];
+				}
+				return;
+			}
+
+			//A Collator must not be used by several threads
+			Collator rangeCollator = (Collator) this.collator.clone();
+			Map<String, CollationKey> collationKeys = new HashMap<String, CollationKey>();
+			for (int row = from; row < to; row++)
+			{
+				Object value = rows[row][columnIndex];
+				if (value != null)
+				{
+					String source = value.toString();
+					CollationKey key = collationKeys.get(source);
+					if (key == null)
+					{
+						key = rangeCollator.getCollationKey(source);
+						collationKeys.put(source, key);
+					}
+					keys[row] = key;
+				}
+			}
+		}
+
+		//~5A New method
+		/**
+		 * Returns <code>true</code> if the non-<code>null</code> values of a
+		 * column are numbers or dates of the same <code>Comparable</code>
+		 * class.
+		 * @param rows the rows of the model
+		 * @param columnIndex the index of the column
+		 * @return <code>true</code> if the values can be compared by value
+		 */
+		static boolean isNativelyComparable(Object[][] rows, int columnIndex)
+		{
+			Class<?> valueClass = null;
+			for (int row = 0; row < rows.length; row++)
+			{
+				Object value = rows[row][columnIndex];
+				if (value == null)
+				{
+					continue;
+				}
+				if (valueClass == null)
+				{
+					if (!(value instanceof Comparable)
+							|| !(value instanceof Number || value instanceof Date))
+					{
+						return false;
+					}
+					valueClass = value.getClass();
+				}
+				else if (value.getClass() != valueClass)
+				{
+					return false;
+				}
+			}
+			return valueClass != null;
+		}
+
 		//~2A New method
 		/**
 		 * Sets the <code>IGSSortableTableModel</code> to sort.
@@ -0,0 +1,223 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-025                  -Initial version
+ * 2026-10-18   ~1 user-025                  -Pass the rows of a stalled
+ *                                            producer with a timer
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.table;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.Vector;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * <code>IGSTableRowFeeder</code> adds rows produced by a background thread to
+ * an {@link IGSDocumentTableModel}. Rows are collected into batches that are
+ * added on the event dispatch thread with
+ * {@link IGSDocumentTableModel#addRows(Vector)}, so the listeners of the model
+ * receive one event per batch instead of one event per row. A batch is passed
+ * to the event dispatch thread when it holds {@link #getBatchSize()} rows or
+ * {@link #getBatchInterval()} milliseconds have passed since the last batch.
+ * If the producer stops adding rows, a <code>javax.swing.Timer</code> passes
+ * the batch {@link #getBatchInterval()} milliseconds after its first row was
+ * added, so no row waits longer than the batch interval.
+ * <p>
+ * An <code>IGSTableRowFeeder</code> is used by a single producer thread, which
+ * calls {@link #close()} after adding its last row.
+ * @author The External Fulfillment Client Development Team
+ */
+public class IGSTableRowFeeder
+{
+	/** The default maximum number of rows in a batch. */
+	public static final int DEFAULT_BATCH_SIZE = 5000;
+
+	/** The default maximum number of milliseconds between batches. */
+	public static final long DEFAULT_BATCH_INTERVAL = 100;
+
+	/** The model to which the rows are added. */
+	private final IGSDocumentTableModel model;
+
+	/** The maximum number of rows in a batch. */
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/** The maximum number of milliseconds between batches. */
+	private long batchInterval = DEFAULT_BATCH_INTERVAL;
+
+	/** The action run on the event dispatch thread after the last batch. */
+	private Runnable completionAction;
+
+	/** The rows waiting to be passed to the event dispatch thread. */
+	private Vector<Object[]> batch = new Vector<Object[]>();
+
+	/** The value of <code>System.nanoTime</code> when the last batch was passed. */
+	private long batchTime = System.nanoTime();
+
+	/** Set <code>true</code> by {@link #close()}. */
+	private boolean closed;
+
+	//~1A
+	/** The timer that passes the batch of a stalled producer. */
+	private final Timer timer;
+
+	/**
+	 * Constructs a new <code>IGSTableRowFeeder</code>.
+	 * @param model the <code>IGSDocumentTableModel</code> to which the rows
+	 *        are added
+	 */
+	public IGSTableRowFeeder(IGSDocumentTableModel model)
+	{
+		super();
+		this.model = model;
+		this.timer = new Timer((int) this.batchInterval, new ActionListener() //~1A
+		{
+			public void actionPerformed(ActionEvent e)
+			{
+				flush();
+			}
+		});
+		this.timer.setRepeats(false);
+	}
+
+	/**
+	 * Returns the maximum number of rows added to the model at once.
+	 * @return the batch size
+	 */
+	public int getBatchSize()
+	{
+		return this.batchSize;
+	}
+
+	/**
+	 * Sets the maximum number of rows added to the model at once.
+	 * @param batchSize the batch size
+	 */
+	public void setBatchSize(int batchSize)
+	{
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	/**
+	 * Returns the maximum time between additions to the model.
+	 * @return the batch interval in milliseconds
+	 */
+	public long getBatchInterval()
+	{
+		return this.batchInterval;
+	}
+
+	/**
+	 * Sets the maximum time between additions to the model.
+	 * @param batchInterval the batch interval in milliseconds
+	 */
+	public void setBatchInterval(long batchInterval)
+	{
+		this.batchInterval = batchInterval;
+		this.timer.setInitialDelay((int) Math.min(batchInterval, Integer.MAX_VALUE)); //~1A
+	}
+
+	/**
+	 * Sets the action run on the event dispatch thread after the rows of the
+	 * last batch were added to the model.
+	 * @param completionAction the action or <code>null</code>
+	 */
+	public void setCompletionAction(Runnable completionAction)
+	{
+		this.completionAction = completionAction;
+	}
+
+	/**
+	 * Adds a row to the current batch, passing the batch to the event dispatch
+	 * thread if it is full or the batch interval has passed. The first row of
+	 * a batch starts the timer that passes the batch if no further row is
+	 * added.
+	 * @param row the array containing values for the row
+	 * @throws IllegalStateException if the feeder is closed
+	 */
+	public synchronized void addRow(Object[] row) //~1C
+	{
+		if (this.closed)
+		{
+			throw new IllegalStateException("IGSTableRowFeeder is closed."); //$NON-NLS-1$
+		}
+		this.batch.add(row);
+		if (this.batch.size() >= this.batchSize
+				|| System.nanoTime() - this.batchTime >= this.batchInterval * 1000000L)
+		{
+			publish(null, false);
+		}
+		else if (this.batch.size() == 1) //~1A
+		{
+			this.timer.restart();
+		}
+	}
+
+	//~1A New method
+	/**
+	 * Passes the rows of the current batch to the event dispatch thread when
+	 * the timer expires. Batches passed earlier by the producer are added to
+	 * the model first.
+	 */
+	synchronized void flush()
+	{
+		if (!this.batch.isEmpty())
+		{
+			publish(null, true);
+		}
+	}
+
+	/**
+	 * Passes the rows of the current batch to the event dispatch thread and
+	 * runs the completion action after they were added. Does nothing if the
+	 * feeder is already closed.
+	 */
+	public synchronized void close() //~1C
+	{
+		if (!this.closed)
+		{
+			this.closed = true;
+			publish(this.completionAction, false);
+		}
+	}
+
+	/**
+	 * Passes the current batch to the event dispatch thread.
+	 * @param action the action run after the rows were added or
+	 *        <code>null</code>
+	 * @param queued <code>true</code> to add the rows after the batches already
+	 *        waiting for the event dispatch thread even if called on it
+	 */
+	private void publish(final Runnable action, boolean queued) //~1C
+	{
+		this.timer.stop(); //~1A
+		final Vector<Object[]> rows = this.batch;
+		this.batch = new Vector<Object[]>();
+		this.batchTime = System.nanoTime();
+		Runnable runnable = new Runnable()
+		{
+			public void run()
+			{
+				IGSTableRowFeeder.this.model.addRows(rows);
+				if (action != null)
+				{
+					action.run();
+				}
+			}
+		};
+		if (SwingUtilities.isEventDispatchThread() && !queued) //~1C
+		{
+			runnable.run();
+		}
+		else
+		{
+			SwingUtilities.invokeLater(runnable);
+		}
+	}
+}
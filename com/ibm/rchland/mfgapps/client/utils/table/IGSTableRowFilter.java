@@ -0,0 +1,27 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-023                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.table;
+
+/**
+ * The <code>IGSTableRowFilter</code> interface is implemented by classes
+ * that select the rows of an {@link IGSSortableTableModel} that are viewed.
+ * A filter may be called by several threads at the same time and must not
+ * modify the row.
+ * @author The External Fulfillment Client Development Team
+ */
+public interface IGSTableRowFilter
+{
+	/**
+	 * Returns <code>true</code> if the row is viewed.
+	 * @param row the values of the row
+	 * @return <code>true</code> to include the row in the view
+	 */
+	public boolean include(Object[] row);
+}
@@ -0,0 +1,207 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-023                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <code>IGSTableViewEngine</code> is a pool of daemon threads used by
+ * {@link IGSSortableTableModel} to sort, filter and search its rows without
+ * blocking the event dispatch thread.
+ * <p>
+ * An update of the view is split into tasks that work on separate ranges of
+ * rows. {@link #invokeAll(List)} executes the tasks on the pool and runs any
+ * task that has not been started by a pool thread on the calling thread, so
+ * a task executed by the pool can wait for its own tasks without running out
+ * of threads.
+ * @author The External Fulfillment Client Development Team
+ */
+public class IGSTableViewEngine
+{
+	/** The engine created by {@link #getDefaultEngine()}. */
+	private static IGSTableViewEngine defaultEngine;
+
+	/** Used to create unique <code>Thread</code> names. */
+	private static final AtomicInteger threadNumber = new AtomicInteger();
+
+	/** The <code>ThreadPoolExecutor</code> that executes the tasks. */
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Constructs a new <code>IGSTableViewEngine</code> with one thread per
+	 * available processor.
+	 */
+	public IGSTableViewEngine()
+	{
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructs a new <code>IGSTableViewEngine</code>.
+	 * @param threads the number of threads
+	 */
+	public IGSTableViewEngine(int threads)
+	{
+		super();
+		ThreadFactory threadFactory = new ThreadFactory()
+		{
+			public Thread newThread(Runnable r)
+			{
+				String n = "IGSTableViewEngine-" + threadNumber.getAndIncrement(); //$NON-NLS-1$
+				Thread thread = new Thread(r, n);
+				thread.setDaemon(true);
+				return thread;
+			}
+		};
+		this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), threadFactory);
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Returns the shared <code>IGSTableViewEngine</code>, creating it with
+	 * the default settings if necessary.
+	 * @return the shared <code>IGSTableViewEngine</code>
+	 */
+	public static synchronized IGSTableViewEngine getDefaultEngine()
+	{
+		if (defaultEngine == null)
+		{
+			defaultEngine = new IGSTableViewEngine();
+		}
+		return defaultEngine;
+	}
+
+	/**
+	 * Returns the number of threads of the pool.
+	 * @return the number of threads
+	 */
+	public int getThreadCount()
+	{
+		return this.executor.getMaximumPoolSize();
+	}
+
+	/**
+	 * Executes a task on the pool.
+	 * @param task the task to execute
+	 */
+	public void execute(Runnable task)
+	{
+		this.executor.execute(task);
+	}
+
+	/**
+	 * Executes tasks in parallel and waits until all of them have finished.
+	 * Tasks that have not been started by a pool thread are run on the
+	 * calling thread.
+	 * @param tasks the tasks to execute
+	 * @throws RuntimeException the first <code>RuntimeException</code> thrown
+	 *         by a task
+	 */
+	public void invokeAll(List<? extends Runnable> tasks)
+	{
+		List<FutureTask<Object>> futures = new ArrayList<FutureTask<Object>>(tasks.size());
+		for (Runnable task : tasks)
+		{
+			FutureTask<Object> future = new FutureTask<Object>(task, null);
+			futures.add(future);
+		}
+		//The calling thread runs the first task, so only submit the others
+		for (int i = futures.size() - 1; i > 0; i--)
+		{
+			this.executor.execute(futures.get(i));
+		}
+
+		RuntimeException failure = null;
+		for (FutureTask<Object> future : futures)
+		{
+			//Does nothing if a pool thread already started the task
+			future.run();
+			try
+			{
+				get(future);
+			}
+			catch (RuntimeException e)
+			{
+				if (failure == null)
+				{
+					failure = e;
+				}
+			}
+		}
+		if (failure != null)
+		{
+			throw failure;
+		}
+	}
+
+	/**
+	 * Waits for a task to finish.
+	 * @param future the <code>FutureTask</code> of the task
+	 * @throws RuntimeException the <code>RuntimeException</code> thrown by the
+	 *         task
+	 */
+	private static void get(FutureTask<Object> future)
+	{
+		boolean interrupted = false;
+		try
+		{
+			while (true)
+			{
+				try
+				{
+					future.get();
+					return;
+				}
+				catch (InterruptedException e)
+				{
+					interrupted = true;
+				}
+				catch (ExecutionException e)
+				{
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException)
+					{
+						throw (RuntimeException) cause;
+					}
+					if (cause instanceof Error)
+					{
+						throw (Error) cause;
+					}
+					throw new IllegalStateException(cause);
+				}
+			}
+		}
+		finally
+		{
+			if (interrupted)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Stops the threads of the pool after the tasks already submitted have
+	 * been executed.
+	 */
+	public void shutdown()
+	{
+		this.executor.shutdown();
+	}
+}
@@ -0,0 +1,313 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-024                  -Initial version
+ * 2026-10-18   ~1 user-025                  -Check bulk row changes and the
+ *                                            row feeder
+ * 2026-10-18   ~2 user-024                  -Print memory use instead of checking
+ *                                            it; check replaced String values
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Vector;
+
+import javax.swing.SwingUtilities;
+
+import com.ibm.rchland.mfgapps.client.utils.table.IGSColumnStore;
+import com.ibm.rchland.mfgapps.client.utils.table.IGSDocumentTableModel;
+import com.ibm.rchland.mfgapps.client.utils.table.IGSTableRowFeeder;
+
+/**
+ * <code>IGSTestDocumentTableModel</code> contains a main method to test the
+ * <code>IGSDocumentTableModel</code> class with and without columnar
+ * storage. Each check prints whether it passed; if any check fails, the
+ * application exits with a status of 1.
+ * @author The External Fulfillment Client Development Team
+ */
+public class IGSTestDocumentTableModel
+{
+	/** The names of the columns of the test data. */
+	private static final String[] NAMES = {"ID", "SERIAL", "WEIGHT", "SHIPPED", "STATUS", "PART"}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+
+	/** The classes of the columns of the test data. */
+	private static final Class<?>[] TYPES = {Integer.class, Long.class, Double.class,
+		Boolean.class, String.class, String.class};
+
+	/** The index of the column with many distinct values. */
+	private static final int PART = 5;
+
+	/** The number of checks that failed. */
+	private static int failures;
+
+	/**
+	 * Main method to test functionality.
+	 * @param args the command-line arguments for the application. The first
+	 *        argument is the number of rows of the test data.
+	 * @throws Exception if the row feeder check is interrupted
+	 */
+	public static void main(String[] args)
+		throws Exception //~1A
+	{
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+
+		// Store the same rows in a Vector and by column
+		long before = getUsedMemory();
+		IGSDocumentTableModel rowModel = createModel(count, false);
+		long rowMemory = getUsedMemory() - before;
+		IGSDocumentTableModel columnModel = createModel(count, true);
+		long columnMemory = getUsedMemory() - before - rowMemory;
+		System.out.println("Vector:   " + rowMemory / 1024 + " KB for " + count + " rows"); //$NON-NLS-1$ //$NON-NLS-2$
+		System.out.println("Columnar: " + columnMemory / 1024 + " KB for " + count + " rows"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		//~2C The memory use depends on the collector, so it is only printed
+		verify("Columnar storage holds the same values", isSameData(rowModel, columnModel)); //$NON-NLS-1$
+		rowModel = null;
+
+		// Replace the values of a String column with new values several times;
+		// the values no row uses are removed from the dictionary
+		Random random = new Random(2);
+		int generations = IGSColumnStore.MAX_DICTIONARY_SIZE / 1000 * 2;
+		for (int generation = 1; generation <= generations; generation++)
+		{
+			for (int row = 0; row < count; row++)
+			{
+				columnModel.setValueAt(new String("PN" + generation + "-" + random.nextInt(1000)), //$NON-NLS-1$ //$NON-NLS-2$
+						row, PART);
+			}
+		}
+		long churnedMemory = getUsedMemory() - before;
+		System.out.println("Columnar: " + churnedMemory / 1024 + " KB after " //$NON-NLS-1$ //$NON-NLS-2$
+				+ generations * 1000 + " distinct values"); //$NON-NLS-1$
+		//~2A The same seed repeats the values of the last generation
+		random = new Random(2);
+		boolean replaced = true;
+		for (int generation = 1; generation <= generations; generation++)
+		{
+			for (int row = 0; row < count; row++)
+			{
+				int part = random.nextInt(1000);
+				replaced &= generation < generations
+						|| ("PN" + generation + "-" + part).equals(columnModel.getValueAt(row, PART)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		verify("Replaced String values are kept after " //$NON-NLS-1$ //~2C
+				+ IGSColumnStore.MAX_DICTIONARY_SIZE + " distinct values", replaced); //$NON-NLS-1$
+
+		// A column with more distinct values than the dictionary holds still
+		// stores every value
+		for (int row = 0; row < count; row++)
+		{
+			columnModel.setValueAt("Unique " + row, row, PART); //$NON-NLS-1$
+		}
+		boolean unique = true;
+		for (int row = 0; row < count; row++)
+		{
+			unique &= ("Unique " + row).equals(columnModel.getValueAt(row, PART)); //$NON-NLS-1$
+		}
+		verify("A full dictionary converts the column", unique); //$NON-NLS-1$
+
+		checkBulkChanges(false); //~1A
+		checkBulkChanges(true); //~1A
+		checkRowFeeder(); //~1A
+
+		if (failures > 0)
+		{
+			System.err.println(failures + " checks failed"); //$NON-NLS-1$
+			System.exit(1);
+		}
+		System.out.println("All checks passed"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Prints the result of a check and counts it if it failed.
+	 * @param description the description of the check
+	 * @param passed <code>true</code> if the check passed
+	 */
+	private static void verify(String description, boolean passed)
+	{
+		if (passed)
+		{
+			System.out.println("Passed: " + description); //$NON-NLS-1$
+		}
+		else
+		{
+			failures++;
+			System.err.println("FAILED: " + description); //$NON-NLS-1$
+		}
+	}
+
+	//~1A New method
+	/**
+	 * Checks that removing rows at once leaves the same rows as removing them
+	 * one at a time and that invalid bulk updates change no row.
+	 * @param columnar <code>true</code> to store the rows by column
+	 */
+	private static void checkBulkChanges(boolean columnar)
+	{
+		String storage = columnar ? "columnar storage" : "Vector storage"; //$NON-NLS-1$ //$NON-NLS-2$
+		IGSDocumentTableModel bulkModel = createModel(2000, columnar);
+		IGSDocumentTableModel rowModel = createModel(2000, columnar);
+
+		// Unsorted indexes with duplicates and adjacent rows
+		Random random = new Random(3);
+		int[] removed = new int[700];
+		for (int i = 0; i < removed.length; i++)
+		{
+			removed[i] = random.nextInt(2000);
+		}
+		removed[0] = 0;
+		removed[1] = 1999;
+		bulkModel.removeRows(removed);
+		int[] sorted = removed.clone();
+		Arrays.sort(sorted);
+		for (int i = sorted.length - 1; i >= 0; i--)
+		{
+			if (i == sorted.length - 1 || sorted[i] != sorted[i + 1])
+			{
+				rowModel.removeRow(sorted[i]);
+			}
+		}
+		verify("removeRows removes the same rows as removeRow with " + storage, //$NON-NLS-1$
+				isSameData(bulkModel, rowModel));
+
+		// Every other row of a large model
+		IGSDocumentTableModel largeModel = createModel(200000, columnar);
+		int[] everyOther = new int[100000];
+		for (int i = 0; i < everyOther.length; i++)
+		{
+			everyOther[i] = i * 2;
+		}
+		long start = System.nanoTime();
+		largeModel.removeRows(everyOther);
+		long millis = (System.nanoTime() - start) / 1000000;
+		System.out.println("Removed 100000 ranges in " + millis + " ms with " + storage); //$NON-NLS-1$ //$NON-NLS-2$
+		verify("removeRows moves each row once with " + storage, //$NON-NLS-1$
+				largeModel.getRowCount() == 100000
+				&& Integer.valueOf(100001).equals(largeModel.getValueAt(0, 0))
+				&& Integer.valueOf(299999).equals(largeModel.getValueAt(99999, 0))
+				&& millis < 2000);
+
+		Vector<Object[]> rows = new Vector<Object[]>();
+		rows.add(new Object[] {Integer.valueOf(1), Long.valueOf(1), Double.valueOf(1),
+				Boolean.TRUE, "ST", "PN"}); //$NON-NLS-1$ //$NON-NLS-2$
+		rows.add(rows.get(0).clone());
+		boolean rejected = false;
+		try
+		{
+			bulkModel.updateRows(rows, new int[] {0});
+		}
+		catch (IllegalArgumentException e)
+		{
+			rejected = true;
+		}
+		try
+		{
+			bulkModel.updateRows(rows, new int[] {0, bulkModel.getRowCount()});
+			rejected = false;
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			// expected
+		}
+		verify("updateRows rejects invalid arguments without changes with " + storage, //$NON-NLS-1$
+				rejected && isSameData(bulkModel, rowModel));
+	}
+
+	//~1A New method
+	/**
+	 * Checks that the rows of a producer that stops adding rows are added to
+	 * the model within the batch interval.
+	 * @throws Exception if the check is interrupted
+	 */
+	private static void checkRowFeeder()
+		throws Exception
+	{
+		final IGSDocumentTableModel model = new IGSDocumentTableModel(NAMES, TYPES, true);
+		IGSTableRowFeeder feeder = new IGSTableRowFeeder(model);
+		feeder.setBatchInterval(50);
+		for (int i = 0; i < 3; i++)
+		{
+			feeder.addRow(new Object[] {Integer.valueOf(i), Long.valueOf(i), Double.valueOf(i),
+					Boolean.TRUE, "ST", "PN"}); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		Thread.sleep(500);
+		final int[] rowCount = new int[1];
+		SwingUtilities.invokeAndWait(new Runnable()
+		{
+			public void run()
+			{
+				rowCount[0] = model.getRowCount();
+			}
+		});
+		verify("IGSTableRowFeeder adds the rows of a stalled producer", rowCount[0] == 3); //$NON-NLS-1$
+		feeder.close();
+	}
+
+	/**
+	 * Returns the number of bytes used by reachable objects after garbage
+	 * collection.
+	 * @return the used memory in bytes
+	 */
+	private static long getUsedMemory()
+	{
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 5; i++)
+		{
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Returns a model with rows of pseudorandom values. The
+	 * <code>String</code> values are separate objects, as they are when
+	 * parsed from a transaction's output.
+	 * @param count the number of rows
+	 * @param columnar <code>true</code> to store the rows by column
+	 * @return the <code>IGSDocumentTableModel</code>
+	 */
+	private static IGSDocumentTableModel createModel(int count, boolean columnar)
+	{
+		IGSDocumentTableModel model = new IGSDocumentTableModel(NAMES, TYPES, columnar);
+		Random random = new Random(1);
+		for (int i = 0; i < count; i++)
+		{
+			model.addRow(new Object[] {Integer.valueOf(100000 + i), Long.valueOf(random.nextLong()),
+					Double.valueOf(random.nextDouble()), Boolean.valueOf(random.nextBoolean()),
+					new String("ST" + random.nextInt(20)), new String("PN" + random.nextInt(1000))}); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return model;
+	}
+
+	/**
+	 * Returns <code>true</code> if two models have equal values.
+	 * @param model1 the first <code>IGSDocumentTableModel</code>
+	 * @param model2 the second <code>IGSDocumentTableModel</code>
+	 * @return <code>true</code> if the values are equal
+	 */
+	private static boolean isSameData(IGSDocumentTableModel model1, IGSDocumentTableModel model2)
+	{
+		if (model1.getRowCount() != model2.getRowCount())
+		{
+			return false;
+		}
+		for (int row = 0; row < model1.getRowCount(); row++)
+		{
+			for (int column = 0; column < model1.getColumnCount(); column++)
+			{
+				Object value = model1.getValueAt(row, column);
+				if (value == null ? model2.getValueAt(row, column) != null
+						: !value.equals(model2.getValueAt(row, column)))
+				{
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,459 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-021                  -Initial version
+ * 2026-10-18   ~1 user-022                  -Compare sort keys to the Collator
+ * 2026-10-18   ~2 user-023                  -Compare views computed by an engine
+ * 2026-10-18   ~3 user-023                  -Check a failing filter on an engine
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.test;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+
+import com.ibm.rchland.mfgapps.client.utils.table.IGSSortableTableModel;
+import com.ibm.rchland.mfgapps.client.utils.table.IGSTableRowFilter;
+import com.ibm.rchland.mfgapps.client.utils.table.IGSTableViewEngine;
+
+/**
+ * <code>IGSTestSortableTableModel</code> contains a main method to test the
+ * view of the <code>IGSSortableTableModel</code> class. Each check prints
+ * whether it passed; if any check fails, the application exits with a status
+ * of 1.
+ * @author The External Fulfillment Client Development Team
+ */
+public class IGSTestSortableTableModel
+{
+	/** The names of the columns of the test data. */
+	private static final String[] NAMES = {"GROUP", "VALUE", "ROW"}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	/** The index of the column that contains the index of each data row. */
+	private static final int ROW = 2;
+
+	/** The number of checks that failed. */
+	private static int failures;
+
+	/**
+	 * Main method to test functionality.
+	 * @param args the command-line arguments for the application. The first
+	 *        argument is the number of rows of the test data.
+	 * @throws Exception if the event dispatch thread was interrupted
+	 */
+	public static void main(String[] args)
+		throws Exception //~2A
+	{
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		List<Object[]> rows = createRows(count);
+
+		// Sorting and then not sorting restores the order the rows were added
+		IGSSortableTableModel model = new IGSSortableTableModel(rows, NAMES);
+		model.setSortingDirection(1, IGSSortableTableModel.DESCENDING);
+		verify("Sorted by one column", isOrdered(model, createExpected(rows, //$NON-NLS-1$
+				new int[] {1}, new int[] {IGSSortableTableModel.DESCENDING})));
+		model.setSortingDirection(1, IGSSortableTableModel.NOT_SORTED);
+		verify("NOT_SORTED restores the insertion order", isOrdered(model, rows)); //$NON-NLS-1$
+
+		// Rows with equal values in all sort columns keep the insertion order
+		int[] columnIndexes = {0, 1};
+		int[] directions = {IGSSortableTableModel.ASCENDING, IGSSortableTableModel.DESCENDING};
+		model.setSortKeys(columnIndexes, directions);
+		verify("Multi-column sort is stable", //$NON-NLS-1$
+				isOrdered(model, createExpected(rows, columnIndexes, directions)));
+		model.setSortingDirection(0);
+		verify("Clicking the primary sort column removes secondary columns", //$NON-NLS-1$
+				model.getSortColumnIndexes().length == 1
+				&& model.getSortingDirection() == IGSSortableTableModel.DESCENDING);
+
+		// The view and model row indexes convert to each other
+		model.setSortKeys(columnIndexes, directions);
+		verify("Row indexes round trip", isRoundTrip(model)); //$NON-NLS-1$
+
+		//~1A Sort keys order Strings as the Collator does
+		checkSortKeys(count);
+
+		//~2A Views computed by an engine equal views computed on one thread
+		checkViewEngine(count * 5);
+
+		//~3A A failure on an engine thread ends the update on the EDT
+		checkEngineFailure(count);
+
+		if (failures > 0)
+		{
+			System.err.println(failures + " checks failed"); //$NON-NLS-1$
+			System.exit(1);
+		}
+		System.out.println("All checks passed"); //$NON-NLS-1$
+	}
+
+	//~1A New method
+	/**
+	 * Checks that a model sorted by cached <code>CollationKey</code>s views
+	 * the rows in the order of a model that compares them with
+	 * <code>Collator.compare</code>, and that the keys are created again
+	 * after the data changes.
+	 * @param count the number of rows of the test data
+	 */
+	private static void checkSortKeys(int count)
+	{
+		String[] words = {"cote", "C\u00f4te", "cot\u00e9", "c\u00f4t\u00e9", "Apple", "apple", "\u00c4pfel", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+			"\u00e9clair", "eclair", "Zebra", "zebra", "a b", "ab", ""}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+		List<Object[]> rows = new ArrayList<Object[]>(count);
+		for (int i = 0; i < count; i++)
+		{
+			rows.add(new Object[] {words[i * 31 % words.length] + (i % 3 == 0 ? "" : " " + i % 4), //$NON-NLS-1$ //$NON-NLS-2$
+					Integer.valueOf(i % 7), Integer.valueOf(i)});
+		}
+
+		// A subclass of MyComparator is used to compare rows, not sort keys
+		IGSSortableTableModel.MyComparator collatorComparator =
+				new IGSSortableTableModel.MyComparator()
+				{
+					// Compares rows with Collator.compare
+				};
+		IGSSortableTableModel compared = new IGSSortableTableModel(rows, NAMES, collatorComparator);
+		collatorComparator.setModel(compared);
+		IGSSortableTableModel keyed = new IGSSortableTableModel(rows, NAMES);
+		int[] directions = {IGSSortableTableModel.ASCENDING, IGSSortableTableModel.DESCENDING};
+		for (int i = 0; i < directions.length; i++)
+		{
+			int direction = directions[i];
+			compared.setSortingDirection(0, direction);
+			keyed.setSortingDirection(0, direction);
+			verify("CollationKey order equals Collator order, direction " + direction, //$NON-NLS-1$
+					isSameView(keyed, compared));
+		}
+
+		// The keys of a changed column are created again
+		keyed.setSortingDirection(0, IGSSortableTableModel.ASCENDING);
+		Object changedRow = keyed.getValueAt(0, ROW);
+		keyed.changeValue(null, "zzz", 0, 0); //$NON-NLS-1$
+		keyed.setSortingDirection(0, IGSSortableTableModel.ASCENDING);
+		verify("Sort keys are created again after changeValue", //$NON-NLS-1$
+				changedRow.equals(keyed.getValueAt(keyed.getRowCount() - 1, ROW)));
+
+		// The keys are discarded when the data is replaced
+		List<Object[]> reversed = new ArrayList<Object[]>(rows);
+		Collections.reverse(reversed);
+		keyed.setData(reversed);
+		keyed.setSortingDirection(0, IGSSortableTableModel.ASCENDING);
+		final Collator collator = Collator.getInstance();
+		Collections.sort(reversed, new Comparator<Object[]>()
+		{
+			public int compare(Object[] row1, Object[] row2)
+			{
+				return collator.compare(row1[0].toString(), row2[0].toString());
+			}
+		});
+		verify("Sort keys are created again after setData", isOrdered(keyed, reversed)); //$NON-NLS-1$
+	}
+
+	//~2A New method
+	/**
+	 * Checks that the views an <code>IGSTableViewEngine</code> computes equal
+	 * the views computed on the event dispatch thread, that only the last of
+	 * several view updates requested at once is published, and that a value
+	 * changed while the view is computed is included in the published view.
+	 * @param count the number of rows of the test data
+	 * @throws Exception if the event dispatch thread was interrupted
+	 */
+	private static void checkViewEngine(int count)
+		throws Exception
+	{
+		List<Object[]> rows = createRows(count);
+		final IGSSortableTableModel single = new IGSSortableTableModel(rows, NAMES);
+		final IGSSortableTableModel parallel = new IGSSortableTableModel(rows, NAMES);
+		IGSTableViewEngine engine = new IGSTableViewEngine(4);
+		parallel.setViewEngine(engine);
+		final int[] events = new int[1];
+		parallel.addTableModelListener(new TableModelListener()
+		{
+			public void tableChanged(TableModelEvent e)
+			{
+				events[0]++;
+			}
+		});
+		final IGSTableRowFilter[] filters = {new IGSTableRowFilter()
+		{
+			public boolean include(Object[] row)
+			{
+				return ((Integer) row[0]).intValue() != 3;
+			}
+		}};
+		final int[] columnIndexes = {1, 0};
+		final int[] directions = {IGSSortableTableModel.DESCENDING, IGSSortableTableModel.ASCENDING};
+
+		// Each request supersedes the update requested before it
+		SwingUtilities.invokeAndWait(new Runnable()
+		{
+			public void run()
+			{
+				for (int i = 0; i < 2; i++)
+				{
+					IGSSortableTableModel model = i == 0 ? single : parallel;
+					model.setSortingDirection(ROW, IGSSortableTableModel.DESCENDING);
+					model.setRowFilters(filters);
+					model.setSearchText("1"); //$NON-NLS-1$
+					model.setSortKeys(columnIndexes, directions);
+				}
+			}
+		});
+		waitForView(parallel);
+		verify("Parallel view equals single-threaded view", isSameView(parallel, single)); //$NON-NLS-1$
+		verify("Only the last view update is published", events[0] == 1); //$NON-NLS-1$
+
+		// A value changed while the view is computed is sorted in its new place
+		events[0] = 0;
+		SwingUtilities.invokeAndWait(new Runnable()
+		{
+			public void run()
+			{
+				int changedRow = parallel.convertRowIndexToModel(parallel.getRowCount() - 1);
+				for (int i = 0; i < 2; i++)
+				{
+					IGSSortableTableModel model = i == 0 ? single : parallel;
+					model.setRowFilters(new IGSTableRowFilter[0]);
+					model.setSearchText(null);
+					model.setSortKeys(new int[] {ROW}, new int[] {IGSSortableTableModel.ASCENDING});
+					// The parallel model still views the rows of the previous view
+					int viewRow = model.convertRowIndexToView(changedRow);
+					model.changeValue(null, Integer.valueOf(-1), viewRow, ROW);
+				}
+				single.setSortKeys(new int[] {ROW}, new int[] {IGSSortableTableModel.ASCENDING});
+			}
+		});
+		waitForView(parallel);
+		verify("Changed value is included in the parallel view", //$NON-NLS-1$
+				isSameView(parallel, single)
+				&& Integer.valueOf(-1).equals(parallel.getValueAt(0, ROW)) && events[0] == 1);
+		engine.shutdown();
+	}
+
+	//~3A New method
+	/**
+	 * Checks that a <code>RuntimeException</code> thrown by a row filter on an
+	 * engine thread ends the view update and is thrown on the event dispatch
+	 * thread.
+	 * @param count the number of rows of the test data
+	 * @throws Exception if the event dispatch thread was interrupted
+	 */
+	private static void checkEngineFailure(int count)
+		throws Exception
+	{
+		final IGSSortableTableModel model = new IGSSortableTableModel(createRows(count), NAMES);
+		IGSTableViewEngine engine = new IGSTableViewEngine(4);
+		model.setViewEngine(engine);
+		final RuntimeException failure = new IllegalStateException("Filter failed"); //$NON-NLS-1$
+		final Throwable[] thrown = new Throwable[1];
+		final Thread[] thrower = new Thread[1];
+		Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+		Thread.setDefaultUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler()
+		{
+			public void uncaughtException(Thread t, Throwable e)
+			{
+				thrown[0] = e;
+				thrower[0] = t;
+			}
+		});
+		SwingUtilities.invokeAndWait(new Runnable()
+		{
+			public void run()
+			{
+				model.setRowFilters(new IGSTableRowFilter[] {new IGSTableRowFilter()
+				{
+					public boolean include(Object[] row)
+					{
+						throw failure;
+					}
+				}});
+			}
+		});
+
+		final boolean[] pending = {true};
+		long deadline = System.currentTimeMillis() + 10000;
+		while ((pending[0] || thrown[0] == null) && System.currentTimeMillis() < deadline)
+		{
+			Thread.sleep(10);
+			SwingUtilities.invokeAndWait(new Runnable()
+			{
+				public void run()
+				{
+					pending[0] = model.isViewUpdatePending();
+				}
+			});
+		}
+		Thread.setDefaultUncaughtExceptionHandler(handler);
+		verify("A failing filter ends the view update", !pending[0]); //$NON-NLS-1$
+		verify("The filter's exception is thrown on the event dispatch thread", //$NON-NLS-1$
+				thrown[0] == failure && thrower[0] != null
+				&& thrower[0].getName().startsWith("AWT-EventQueue")); //$NON-NLS-1$
+		engine.shutdown();
+	}
+
+	//~2A New method
+	/**
+	 * Waits until the view computed by the engine of a model is published.
+	 * @param model the <code>IGSSortableTableModel</code>
+	 * @throws Exception if the event dispatch thread was interrupted
+	 */
+	private static void waitForView(final IGSSortableTableModel model)
+		throws Exception
+	{
+		final boolean[] pending = {true};
+		while (pending[0])
+		{
+			Thread.sleep(10);
+			SwingUtilities.invokeAndWait(new Runnable()
+			{
+				public void run()
+				{
+					pending[0] = model.isViewUpdatePending();
+				}
+			});
+		}
+	}
+
+	//~1A New method
+	/**
+	 * Returns <code>true</code> if two models view the same data rows in the
+	 * same order.
+	 * @param model1 the first <code>IGSSortableTableModel</code>
+	 * @param model2 the second <code>IGSSortableTableModel</code>
+	 * @return <code>true</code> if the views are the same
+	 */
+	private static boolean isSameView(IGSSortableTableModel model1, IGSSortableTableModel model2)
+	{
+		if (model1.getRowCount() != model2.getRowCount())
+		{
+			return false;
+		}
+		for (int i = 0; i < model1.getRowCount(); i++)
+		{
+			if (model1.convertRowIndexToModel(i) != model2.convertRowIndexToModel(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Prints the result of a check and counts it if it failed.
+	 * @param description the description of the check
+	 * @param passed <code>true</code> if the check passed
+	 */
+	private static void verify(String description, boolean passed)
+	{
+		if (passed)
+		{
+			System.out.println("Passed: " + description); //$NON-NLS-1$
+		}
+		else
+		{
+			failures++;
+			System.err.println("FAILED: " + description); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Returns rows with few distinct values in the first two columns, so
+	 * many rows have equal values in both, and the index of the row in the
+	 * third column.
+	 * @param count the number of rows
+	 * @return the <code>List</code> of rows
+	 */
+	private static List<Object[]> createRows(int count)
+	{
+		List<Object[]> result = new ArrayList<Object[]>(count);
+		for (int i = 0; i < count; i++)
+		{
+			result.add(new Object[] {Integer.valueOf(i % 7), Integer.valueOf(i * 31 % 5),
+					Integer.valueOf(i)});
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the rows in the order expected for sort columns, sorted with
+	 * the stable <code>Collections.sort</code>.
+	 * @param rows the rows in the order they were added
+	 * @param columnIndexes the indexes of the sort columns
+	 * @param directions the direction of each sort column
+	 * @return the sorted rows
+	 */
+	private static List<Object[]> createExpected(List<Object[]> rows, final int[] columnIndexes,
+													final int[] directions)
+	{
+		List<Object[]> result = new ArrayList<Object[]>(rows);
+		Collections.sort(result, new Comparator<Object[]>()
+		{
+			@SuppressWarnings("unchecked")
+			public int compare(Object[] row1, Object[] row2)
+			{
+				for (int i = 0; i < columnIndexes.length; i++)
+				{
+					int c = ((Comparable<Object>) row1[columnIndexes[i]]).compareTo(row2[columnIndexes[i]]);
+					if (c != 0)
+					{
+						return directions[i] == IGSSortableTableModel.DESCENDING ? -c : c;
+					}
+				}
+				return 0;
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Returns <code>true</code> if the model views the expected rows in order.
+	 * @param model the <code>IGSSortableTableModel</code>
+	 * @param expected the expected rows
+	 * @return <code>true</code> if the rows are in the expected order
+	 */
+	private static boolean isOrdered(IGSSortableTableModel model, List<Object[]> expected)
+	{
+		if (model.getRowCount() != expected.size())
+		{
+			return false;
+		}
+		for (int i = 0; i < expected.size(); i++)
+		{
+			if (!expected.get(i)[ROW].equals(model.getValueAt(i, ROW)))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns <code>true</code> if converting each view row index to a model
+	 * row index and back returns the view row index, and the model row index
+	 * is the row that is viewed.
+	 * @param model the <code>IGSSortableTableModel</code>
+	 * @return <code>true</code> if the row indexes round trip
+	 */
+	private static boolean isRoundTrip(IGSSortableTableModel model)
+	{
+		for (int i = 0; i < model.getRowCount(); i++)
+		{
+			int modelRow = model.convertRowIndexToModel(i);
+			if (model.convertRowIndexToView(modelRow) != i
+					|| !Integer.valueOf(modelRow).equals(model.getValueAt(i, ROW)))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,1228 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-001                  -Initial version
+ * 2026-10-18   ~1 user-002                  -Test IGSXMLTransactionExecutor
+ * 2026-10-18   ~2 user-003                  -Test IGSXMLTransactionBatch
+ * 2026-10-18   ~3 user-005                  -Test IGSXMLElementConsumer
+ * 2026-10-18   ~4 user-006                  -Compare piped streams to IGSRingBuffer
+ * 2026-10-18   ~5 user-007                  -Test IGSXMLTransactionCache
+ * 2026-10-18   ~6 user-008                  -Test IGSXMLTransactionMetrics
+ * 2026-10-18   ~7 user-009                  -Test timeouts, retries, and IGSXMLCircuitBreaker
+ * 2026-10-18   ~8 user-010                  -Compare compressed and uncompressed output
+ * 2026-10-18   ~9 user-011                  -Compare indexed and unindexed parsing
+ * 2026-10-18  ~10 user-012                  -Compare IGSXMLPullDocument parsing
+ * 2026-10-18  ~11 user-013                  -Test IGSXMLBuilder input
+ * 2026-10-18  ~12 user-014                  -Compare typed accessors to Strings
+ * 2026-10-18  ~13 user-015                  -Test IGSXMLCodec
+ * 2026-10-18  ~14 user-016                  -Test incremental IGSXMLTreeHandler
+ * 2026-10-18  ~15 user-018                  -Test IGSXMLLazyTreeModel
+ * 2026-10-18  ~16 user-019                  -Test IGSXMLTreeSnapshot
+ * 2026-10-18  ~17 user-020                  -Test IGSXMLStringInterner
+ * 2026-10-18  ~18 user-001                  -Fail with a nonzero exit status if a
+ *                                            check fails; quiet expected errors
+ * 2026-10-18  ~19 user-007                  -Test the cache with a second server
+ * 2026-10-18  ~20 user-013                  -Retry input built in an IGSXMLBuilder
+ * 2026-10-18  ~21 user-014                  -Time warmed up sums without an index
+ * 2026-10-18  ~22 user-017                  -Compare shared replaced trees to copies
+ * 2026-10-18  ~23 user-019                  -Parse the XML for a damaged snapshot
+ * 2026-10-18  ~24 user-004                  -Use a framer after releasing it twice
+ * 2026-10-18  ~25 user-015                  -Decode fields out of order or missing
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.logging.Level;
+
+import javax.swing.SwingUtilities;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+
+import org.xml.sax.Attributes;
+
+import com.ibm.rchland.mfgapps.client.utils.event.IGSXMLTransactionMetricsEvent;
+import com.ibm.rchland.mfgapps.client.utils.event.IGSXMLTransactionMetricsListener;
+import com.ibm.rchland.mfgapps.client.utils.io.IGSRingBuffer;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLBuilder;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLCircuitBreaker;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLCodec;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLConnectionPool;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLDocument;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLElementConsumer;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLFramer;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLLazyTreeModel;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLPullDocument;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLRetryPolicy;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLStringInterner;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLTransaction;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLTransactionBatch;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLTransactionCache;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLTransactionMetrics;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLTransactionExecutor;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLTreeHandler;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLTreeParseStrategy;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLTreeSnapshot;
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSUserObject;
+
+/**
+ * <code>IGSTestXMLTransaction</code> contains a main method to test the
+ * functionality of the <code>IGSXMLTransaction</code> class against a local
+ * stand-in server that implements the length prefixed transaction protocol.
+ * Each check prints whether it passed; if any check fails, the application
+ * exits with a status of 1.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSTestXMLTransaction
+{
+	/** The number of checks that failed. */
+	private static int failures; //~18A
+
+	/**
+	 * Main method to test functionality.
+	 * @param args the command-line arguments for the application. The first
+	 *        argument is the number of transactions to execute.
+	 * @throws Exception if the stand-in server could not be started
+	 */
+	public static void main(String[] args)
+		throws Exception
+	{
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+		StandInServer server = new StandInServer(new ServerSocket(0));
+		Thread serverThread = new Thread(server, "StandInServer"); //$NON-NLS-1$
+		serverThread.setDaemon(true);
+		serverThread.start();
+
+		IGSXMLTransaction.setDefaultServer("localhost"); //$NON-NLS-1$
+		IGSXMLTransaction.setDefaultPort(server.getPort());
+
+		long elapsed = execute(count, null);
+		System.out.println("Without pool: " + elapsed + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		IGSXMLConnectionPool pool = new IGSXMLConnectionPool();
+		elapsed = execute(count, pool);
+		System.out.println("With pool:    " + elapsed + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		System.out.println(pool);
+
+		//~1A Execute transactions in parallel and test the timeout
+		IGSXMLTransactionExecutor executor = new IGSXMLTransactionExecutor(8, count);
+		List<IGSXMLTransaction> transactions = new ArrayList<IGSXMLTransaction>();
+		for (int i = 0; i < count; i++)
+		{
+			transactions.add(createTransaction(i, pool));
+		}
+		long start = System.currentTimeMillis();
+		executor.executeAll(transactions, 0);
+		elapsed = System.currentTimeMillis() - start;
+		System.out.println("Executor:     " + elapsed + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i = 0; i < count; i++)
+		{
+			check(transactions.get(i), i);
+		}
+
+		//~2A Execute the transactions in batches of 20
+		start = System.currentTimeMillis();
+		for (int i = 0; i < count; i += 20)
+		{
+			IGSXMLTransactionBatch batch = new IGSXMLTransactionBatch();
+			batch.setConnectionPool(pool);
+			for (int j = i; j < i + 20 && j < count; j++)
+			{
+				batch.add(createTransaction(j, pool));
+			}
+			batch.run();
+			for (int j = 0; j < batch.getTransactions().size(); j++)
+			{
+				check(batch.getTransactions().get(j), i + j);
+			}
+		}
+		elapsed = System.currentTimeMillis() - start;
+		System.out.println("Batches:      " + elapsed + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		//~5A Execute transactions with only 10 different inputs using a cache
+		IGSXMLTransactionCache cache = new IGSXMLTransactionCache();
+		cache.setTimeToLive("ECHO", 60000); //$NON-NLS-1$
+		transactions.clear();
+		for (int i = 0; i < count; i++)
+		{
+			IGSXMLTransaction transaction = createTransaction(i % 10, pool);
+			transaction.setResponseCache(cache);
+			transactions.add(transaction);
+		}
+		start = System.currentTimeMillis();
+		executor.executeAll(transactions, 0);
+		elapsed = System.currentTimeMillis() - start;
+		System.out.println("Cached:       " + elapsed + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i = 0; i < count; i++)
+		{
+			check(transactions.get(i), i % 10);
+		}
+		System.out.println(cache);
+
+		//~3A Stream a large report one row at a time
+		IGSXMLTransaction rows = new IGSXMLTransaction("ROWS"); //$NON-NLS-1$
+		rows.setConnectionPool(pool);
+		rows.startDocument();
+		rows.addElement("NUMBER", Integer.toString(count * 100)); //$NON-NLS-1$
+		rows.endDocument();
+		IGSXMLElementConsumer consumer = new IGSXMLElementConsumer("ROW") //$NON-NLS-1$
+		{
+			public void consumeElement(IGSXMLTransaction transaction, String element)
+			{
+				String number = new IGSXMLDocument(element).getFirstElement("NUMBER"); //$NON-NLS-1$
+				if (!Integer.toString(getCount() - 1).equals(number))
+				{
+					verify("Unexpected row: " + element, false); //$NON-NLS-1$ //~18C
+				}
+			}
+		};
+		rows.setResponseConsumer(consumer);
+		start = System.currentTimeMillis();
+		rows.run();
+		elapsed = System.currentTimeMillis() - start;
+		System.out.println("Streamed " + consumer.getCount() + " rows: " + elapsed //$NON-NLS-1$ //$NON-NLS-2$
+				+ " ms, return code " + rows.getReturnCode() //$NON-NLS-1$
+				+ ", retained output " + rows.getOutput().length()); //$NON-NLS-1$
+		verify("Streamed all rows", rows.getReturnCode() == 0 //$NON-NLS-1$ //~18A
+				&& consumer.getCount() == count * 100 && rows.getOutput().length() == 0);
+
+		//~9A Walk a document with repeated elements with and without an index
+		IGSXMLDocument report = new IGSXMLDocument();
+		report.startDocument();
+		report.startElement("ROWS"); //$NON-NLS-1$
+		for (int i = 0; i < count * 5; i++)
+		{
+			report.startElement("ROW"); //$NON-NLS-1$
+			report.addElement("NUMBER", Integer.toString(i)); //$NON-NLS-1$
+			report.addElement("NAME", "Row " + i); //$NON-NLS-1$ //$NON-NLS-2$
+			report.endElement("ROW"); //$NON-NLS-1$
+		}
+		report.endElement("ROWS"); //$NON-NLS-1$
+		String unindexed = walk(report);
+		report.setIndexed(true);
+		String indexed = walk(report);
+		verify("Indexed walk equals unindexed walk", unindexed.equals(indexed)); //$NON-NLS-1$ //~18C
+
+		//~10A Walk the same document with a pull parser and parse escaped data
+		IGSXMLPullDocument pullReport = new IGSXMLPullDocument(report);
+		String pulled = walk(pullReport);
+		verify("Pull walk equals unindexed walk", unindexed.equals(pulled)); //$NON-NLS-1$ //~18C
+		IGSXMLPullDocument escaped = new IGSXMLPullDocument(
+				"<RRET>0</RRET><ROW ID=\"1\"><NAME>A &amp; B</NAME>" //$NON-NLS-1$
+						+ "<!-- <NAME>C</NAME> --><NOTE><![CDATA[<x/>]]></NOTE></ROW >"); //$NON-NLS-1$
+		escaped.stepIntoElement("ROW"); //$NON-NLS-1$
+		String pullParsed = escaped.getNextElement("NAME") //$NON-NLS-1$ //~18C
+				+ ", " + escaped.getNextElement("NAME") //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", " + escaped.getFirstElement("NOTE"); //$NON-NLS-1$ //$NON-NLS-2$
+		verify("Pull parsed escaped data: " + pullParsed, //$NON-NLS-1$
+				pullParsed.equals("A & B, null, <x/>")); //$NON-NLS-1$
+
+		//~12A Sum the numbers of the rows with and without typed accessors
+		//~21C Time the last of several sums, scanning the document for tags
+		report.setIndexed(false);
+		long stringSum = 0;
+		long typedSum = 0;
+		for (int i = 0; i < 5; i++)
+		{
+			stringSum = sum(report, false, i == 4);
+			typedSum = sum(report, true, i == 4);
+		}
+		report.setIndexed(true);
+		verify("Typed sum equals String sum", stringSum == typedSum); //$NON-NLS-1$ //~18C
+
+		//~13A Decode the rows into objects and encode them again
+		IGSXMLCodec<Row> codec = createRowCodec();
+		start = System.currentTimeMillis();
+		report.resetCurrentBoundary();
+		List<Row> decoded = codec.decodeAll(report, "ROWS"); //$NON-NLS-1$
+		elapsed = System.currentTimeMillis() - start;
+		System.out.println("Codec:     " + decoded.size() + " rows in " + elapsed + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		IGSXMLBuilder encoded = new IGSXMLBuilder();
+		encoded.startDocument();
+		codec.encodeAll(encoded, "ROWS", decoded); //$NON-NLS-1$
+		verify("Encoded rows equal the report", //$NON-NLS-1$ //~18C
+				decoded.size() == count * 5 && report.toXMLString().equals(encoded.toString()));
+
+		//~25A Fields out of the declared order or missing are still decoded
+		IGSXMLDocument unordered = new IGSXMLDocument("<ROWS><ROW><NAME>B</NAME><NUMBER>2</NUMBER></ROW>" //$NON-NLS-1$
+				+ "<ROW><NAME>C</NAME></ROW><ROW><NUMBER>4</NUMBER><NAME>D</NAME></ROW></ROWS>"); //$NON-NLS-1$
+		List<Row> unorderedRows = codec.decodeAll(unordered, "ROWS"); //$NON-NLS-1$
+		verify("Codec decodes fields out of order or missing", unorderedRows.size() == 3 //$NON-NLS-1$
+				&& unorderedRows.get(0).number == 2 && "B".equals(unorderedRows.get(0).name) //$NON-NLS-1$
+				&& unorderedRows.get(1).number == 0 && "C".equals(unorderedRows.get(1).name) //$NON-NLS-1$
+				&& unorderedRows.get(2).number == 4 && "D".equals(unorderedRows.get(2).name)); //$NON-NLS-1$
+
+		//~14A Build a tree from the rows at once and incrementally into a model
+		byte[] treeXML = report.toXMLString().getBytes("UTF-8"); //$NON-NLS-1$
+		IGSXMLTreeHandler handler = new IGSXMLTreeHandler(new ByteArrayInputStream(treeXML),
+				new RowStrategy(), null, null, new HashMap<String, DefaultMutableTreeNode>());
+		handler.run();
+		final DefaultTreeModel treeModel = new DefaultTreeModel(null);
+		final IGSXMLTreeHandler incremental = new IGSXMLTreeHandler(new ByteArrayInputStream(treeXML),
+				new RowStrategy(), null, null, new HashMap<String, DefaultMutableTreeNode>());
+		incremental.setTreeModel(treeModel);
+		start = System.currentTimeMillis();
+		incremental.run();
+		final int[] treeSize = new int[1];
+		SwingUtilities.invokeAndWait(new Runnable()
+		{
+			public void run()
+			{
+				treeSize[0] = ((DefaultMutableTreeNode) treeModel.getRoot()).getLeafCount();
+			}
+		});
+		elapsed = System.currentTimeMillis() - start;
+		System.out.println("Tree:      " + treeSize[0] + " rows in " + elapsed + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		verify("Incremental tree equals tree", //$NON-NLS-1$ //~18C
+				handler.getRootNode().getLeafCount() == treeSize[0]
+				&& handler.getSelectedNode().toString().equals(incremental.getSelectedNode().toString()));
+
+		//~22A Replaced elements share the referenced tree instead of copying
+		// it, and the shared tree expands to the same nodes as a copy
+		String rowA = "<NUMBER>1</NUMBER><ROW><NUMBER>2</NUMBER></ROW>"; //$NON-NLS-1$
+		String rowB = "<NUMBER>3</NUMBER><ROW>" + rowA + "</ROW>"; //$NON-NLS-1$ //$NON-NLS-2$
+		String referenced = "<ROWS><ROW ID=\"a\">" + rowA //$NON-NLS-1$
+				+ "</ROW><ROW ID=\"b\"><NUMBER>3</NUMBER><REF>a</REF></ROW>" //$NON-NLS-1$
+				+ "<ROW><NUMBER>4</NUMBER><REF>b</REF></ROW></ROWS>"; //$NON-NLS-1$
+		String copied = "<ROWS><ROW>" + rowA + "</ROW><ROW>" + rowB //$NON-NLS-1$ //$NON-NLS-2$
+				+ "</ROW><ROW><NUMBER>4</NUMBER><ROW>" + rowB + "</ROW></ROW></ROWS>"; //$NON-NLS-1$ //$NON-NLS-2$
+		IGSXMLTreeHandler shared = new IGSXMLTreeHandler(
+				new ByteArrayInputStream(referenced.getBytes("UTF-8")), new RowStrategy(), //$NON-NLS-1$
+				"ID", "REF", new HashMap<String, DefaultMutableTreeNode>()); //$NON-NLS-1$ //$NON-NLS-2$
+		shared.run();
+		IGSXMLTreeHandler copy = new IGSXMLTreeHandler(
+				new ByteArrayInputStream(copied.getBytes("UTF-8")), new RowStrategy(), //$NON-NLS-1$
+				null, null, new HashMap<String, DefaultMutableTreeNode>());
+		copy.run();
+		String sharedTree = describe(shared.getRootNode());
+		System.out.println("Shared tree: " + sharedTree); //$NON-NLS-1$
+		verify("Shared replaced trees equal copies", //$NON-NLS-1$
+				sharedTree.equals(describe(copy.getRootNode())));
+
+		//~15A Create the nodes of the same tree only when they are requested
+		start = System.currentTimeMillis();
+		IGSXMLLazyTreeModel lazyModel = new IGSXMLLazyTreeModel(report.toXMLString(), new RowStrategy());
+		DefaultMutableTreeNode lazyRoot = (DefaultMutableTreeNode) lazyModel.getRoot();
+		elapsed = System.currentTimeMillis() - start;
+		System.out.println("Lazy tree: " + lazyModel.getNodeCount() + " nodes in " + elapsed + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		verify("Lazy tree equals tree", //$NON-NLS-1$ //~18C
+				lazyRoot.getLeafCount() == treeSize[0]
+				&& handler.getSelectedNode().toString().equals(lazyModel.findSelectedNode().toString()));
+
+		//~16A Build the same tree twice from a file, the second time from a snapshot
+		File treeFile = File.createTempFile("rows", ".xml"); //$NON-NLS-1$ //$NON-NLS-2$
+		File snapshotFile = new File(treeFile.getPath() + ".snapshot"); //$NON-NLS-1$
+		OutputStream treeOut = new FileOutputStream(treeFile);
+		treeOut.write(treeXML);
+		treeOut.close();
+		IGSXMLTreeSnapshot snapshot = new IGSXMLTreeSnapshot(treeFile, snapshotFile);
+		String[] snapshotTrees = new String[2];
+		for (int i = 0; i < 2; i++)
+		{
+			InputStream treeIn = new FileInputStream(treeFile);
+			IGSXMLTreeHandler snapshotHandler = new IGSXMLTreeHandler(treeIn, new RowStrategy(),
+					null, null, new HashMap<String, DefaultMutableTreeNode>());
+			start = System.currentTimeMillis();
+			snapshot.run(snapshotHandler);
+			elapsed = System.currentTimeMillis() - start;
+			treeIn.close();
+			snapshotTrees[i] = snapshotHandler.getRootNode().getLeafCount() + " " + snapshotHandler.getSelectedNode(); //$NON-NLS-1$
+			System.out.println((i == 0 ? "Parsed:    " : "Snapshot:  ") + elapsed + " ms, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ snapshotFile.length() + " of " + treeFile.length() + " bytes"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		verify("Snapshot tree equals parsed tree", snapshotTrees[0].equals(snapshotTrees[1])); //$NON-NLS-1$ //~18C
+
+		//~23A A damaged snapshot is replaced by parsing the XML again
+		RandomAccessFile damaged = new RandomAccessFile(snapshotFile, "rw"); //$NON-NLS-1$
+		damaged.seek(damaged.length() / 2);
+		int damagedByte = damaged.read();
+		damaged.seek(damaged.length() / 2);
+		damaged.write(damagedByte ^ 0xFF);
+		damaged.close();
+		InputStream damagedIn = new FileInputStream(treeFile);
+		IGSXMLTreeHandler damagedHandler = new IGSXMLTreeHandler(damagedIn, new RowStrategy(),
+				null, null, new HashMap<String, DefaultMutableTreeNode>());
+		snapshot.run(damagedHandler);
+		damagedIn.close();
+		verify("Damaged snapshot falls back to parsing the XML", //$NON-NLS-1$
+				damagedHandler.getException() == null && snapshotTrees[0].equals(
+						damagedHandler.getRootNode().getLeafCount() + " " + damagedHandler.getSelectedNode()) //$NON-NLS-1$
+				&& snapshot.isValid());
+		snapshot.delete();
+		treeFile.delete();
+
+		//~24A Releasing a framer twice leaves no empty buffer in the pool
+		String frameData = "<DATA>released</DATA>"; //$NON-NLS-1$
+		ByteArrayOutputStream frameBytes = new ByteArrayOutputStream();
+		DataOutputStream frameOut = new DataOutputStream(frameBytes);
+		IGSXMLFramer released = new IGSXMLFramer(null, frameOut);
+		released.release();
+		released.release();
+		released.writeFrame(frameData);
+		new IGSXMLFramer(null, frameOut).writeFrame(frameData);
+		frameOut.flush();
+		IGSXMLFramer reader = new IGSXMLFramer(new DataInputStream(
+				new ByteArrayInputStream(frameBytes.toByteArray())), null);
+		String firstFrame = reader.substring(0, reader.readFrame());
+		verify("A released framer writes frames with new buffers", //$NON-NLS-1$
+				firstFrame.endsWith(frameData) && firstFrame.equals(reader.substring(0, reader.readFrame())));
+		reader.release();
+		released.release();
+
+		//~17A Pool the data of an element with few distinct values
+		IGSXMLDocument statuses = new IGSXMLDocument();
+		statuses.startDocument();
+		statuses.startElement("ROWS"); //$NON-NLS-1$
+		for (int i = 0; i < count * 10; i++)
+		{
+			statuses.addElement("STATUS", i % 3 == 0 ? "OPEN" : "CLOSED"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		statuses.endElement("ROWS"); //$NON-NLS-1$
+		IGSXMLStringInterner interner = new IGSXMLStringInterner();
+		statuses.setStringInterner(interner, new String[] {"STATUS"}); //$NON-NLS-1$
+		List<String> statusList = new ArrayList<String>();
+		statuses.getElements(statusList, "ROWS", "STATUS"); //$NON-NLS-1$ //$NON-NLS-2$
+		System.out.println("Pooled:    " + statusList.size() + " values"); //$NON-NLS-1$ //$NON-NLS-2$
+		verify("Equal element data is pooled", //$NON-NLS-1$ //~18C
+				statusList.size() == count * 10 && statusList.get(0) == statusList.get(3));
+		System.out.println(interner);
+
+		//~11A Build the inputs in one reusable IGSXMLBuilder
+		IGSXMLBuilder builder = new IGSXMLBuilder();
+		start = System.currentTimeMillis();
+		for (int i = 0; i < count; i++)
+		{
+			IGSXMLTransaction transaction = new IGSXMLTransaction("ECHO"); //$NON-NLS-1$
+			transaction.setConnectionPool(pool);
+			transaction.startDocument(builder);
+			builder.addElement("NUMBER", i); //$NON-NLS-1$
+			transaction.endDocument(builder);
+			transaction.run();
+			check(transaction, i);
+		}
+		elapsed = System.currentTimeMillis() - start;
+		System.out.println("With builder: " + elapsed + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		IGSXMLTransaction escapedEcho = new IGSXMLTransaction("ECHO"); //$NON-NLS-1$
+		escapedEcho.setConnectionPool(pool);
+		escapedEcho.startDocument(builder);
+		builder.addElement("NAME", "A & B <C>"); //$NON-NLS-1$ //$NON-NLS-2$
+		escapedEcho.endDocument(builder);
+		escapedEcho.run();
+		verify("Escaped round trip", "A & B <C>".equals( //$NON-NLS-1$ //$NON-NLS-2$ //~18C
+				new IGSXMLPullDocument(escapedEcho).getFirstElement("NAME"))); //$NON-NLS-1$
+
+		//~4A Pipe a multi-megabyte report using both kinds of piped streams
+		for (int i = 0; i < 3; i++)
+		{
+			long piped = pipe(count * 300, 0, pool); //~18C
+			verify("Ring buffer delivers the piped bytes", piped > 0 //$NON-NLS-1$ //~18A
+					&& piped == pipe(count * 300, IGSRingBuffer.DEFAULT_CAPACITY, pool));
+		}
+
+		//~6A Measure the transactions
+		final int[] events = new int[1];
+		IGSXMLTransactionMetrics.addMetricsListener(new IGSXMLTransactionMetricsListener()
+		{
+			public void transactionMeasured(IGSXMLTransactionMetricsEvent e)
+			{
+				events[0]++;
+			}
+		});
+		IGSXMLTransactionMetrics.setEnabled(true);
+		elapsed = execute(count, pool);
+		System.out.println("With metrics: " + elapsed + " ms, " + events[0] + " events"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		verify("One metrics event per transaction", events[0] == count); //$NON-NLS-1$ //~18A
+
+		//~8A Compare compressed output using a server limited to 4 MB/s
+		StandInServer slowServer = new StandInServer(new ServerSocket(0), 4 << 20);
+		Thread slowServerThread = new Thread(slowServer, "SlowStandInServer"); //$NON-NLS-1$
+		slowServerThread.setDaemon(true);
+		slowServerThread.start();
+		compare(count * 20, slowServer.getPort(), false);
+		compare(count * 20, slowServer.getPort(), true);
+
+		//~19A An input cached for one server is not used for another server
+		long misses = cache.getMissCount();
+		IGSXMLTransaction otherServer = createTransaction(3, null);
+		otherServer.setPort(slowServer.getPort());
+		otherServer.setResponseCache(cache);
+		otherServer.run();
+		check(otherServer, 3);
+		verify("Cache keys include the server and port", //$NON-NLS-1$
+				cache.getMissCount() == misses + 1 && cache.size() == 11);
+
+		//~18A The following transactions fail on purpose; only log severe errors
+		Level logLevel = IGSXMLTransaction.LOGGER.getLevel();
+		IGSXMLTransaction.LOGGER.setLevel(Level.SEVERE);
+
+		IGSXMLTransaction sleep = new IGSXMLTransaction("SLEEP"); //$NON-NLS-1$
+		sleep.setConnectionPool(pool);
+		transactions.clear();
+		transactions.add(sleep);
+		executor.executeAll(transactions, 200);
+		System.out.println("Timeout return code: " + sleep.getReturnCode()); //$NON-NLS-1$
+		verify("Timeout cancels the transaction", //$NON-NLS-1$ //~18A
+				sleep.getReturnCode() == IGSXMLTransaction.CANCELLED);
+
+		//~7A Read timeout, then retries limited by the overall timeout
+		sleep.setReadTimeout(200);
+		start = System.currentTimeMillis();
+		sleep.run();
+		System.out.println("Read timeout return code: " + sleep.getReturnCode() + " after " //$NON-NLS-1$ //$NON-NLS-2$
+				+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		verify("Read timeout", sleep.getReturnCode() == IGSXMLTransaction.TIMED_OUT); //$NON-NLS-1$ //~18A
+		sleep.setIdempotent(true);
+		sleep.setRetryPolicy(new IGSXMLRetryPolicy(5, 50, 200));
+		sleep.setTimeout(1000);
+		start = System.currentTimeMillis();
+		sleep.run();
+		elapsed = System.currentTimeMillis() - start; //~18A
+		System.out.println("Deadline return code: " + sleep.getReturnCode() + " after " //$NON-NLS-1$ //$NON-NLS-2$
+				+ elapsed + " ms"); //$NON-NLS-1$ //~18C
+		verify("Retries stop at the deadline", //$NON-NLS-1$ //~18A
+				sleep.getReturnCode() == IGSXMLTransaction.TIMED_OUT && elapsed < 2000);
+
+		//~20A Retry input built in an IGSXMLBuilder after the server drops
+		// the first connection and answers the second
+		final ServerSocket flaky = new ServerSocket(0);
+		final StandInServer flakyServer = new StandInServer(flaky);
+		Thread flakyThread = new Thread(new Runnable()
+		{
+			public void run()
+			{
+				try
+				{
+					flaky.accept().close();
+					flakyServer.serve(flaky.accept());
+					flaky.close();
+				}
+				catch (IOException e)
+				{
+					e.printStackTrace();
+				}
+			}
+		}, "FlakyStandInServer"); //$NON-NLS-1$
+		flakyThread.setDaemon(true);
+		flakyThread.start();
+		IGSXMLTransaction retried = new IGSXMLTransaction("ECHO"); //$NON-NLS-1$
+		retried.setConnectionPool(null);
+		retried.setPort(flaky.getLocalPort());
+		retried.setIdempotent(true);
+		retried.setRetryPolicy(new IGSXMLRetryPolicy(3, 50, 200));
+		retried.startDocument(builder);
+		builder.addElement("NUMBER", "42"); //$NON-NLS-1$ //$NON-NLS-2$
+		retried.endDocument(builder);
+		retried.run();
+		verify("Builder input is sent again on retry", //$NON-NLS-1$
+				retried.getReturnCode() == 0 && "42".equals(retried.getFirstElement("NUMBER"))); //$NON-NLS-1$ //$NON-NLS-2$
+
+		//~7A Fail fast once the circuit breaker of a stopped server opens
+		ServerSocket stopped = new ServerSocket(0);
+		int stoppedPort = stopped.getLocalPort();
+		stopped.close();
+		IGSXMLCircuitBreaker.setEnabled(true);
+		IGSXMLCircuitBreaker.setFailureThreshold(3);
+		StringBuffer returnCodes = new StringBuffer();
+		for (int i = 0; i < 6; i++)
+		{
+			IGSXMLTransaction down = createTransaction(i, pool);
+			down.setPort(stoppedPort);
+			down.setConnectTimeout(500);
+			down.run();
+			returnCodes.append(down.getReturnCode()).append(' ');
+		}
+		System.out.println("Stopped server return codes: " + returnCodes); //$NON-NLS-1$
+		System.out.println(IGSXMLCircuitBreaker.getCircuitBreaker("localhost", stoppedPort)); //$NON-NLS-1$
+		verify("Circuit breaker opens after 3 failures", //$NON-NLS-1$ //~18A
+				returnCodes.toString().equals("-10 -10 -10 -13 -13 -13 ")); //$NON-NLS-1$
+		IGSXMLCircuitBreaker.setEnabled(false);
+		IGSXMLTransaction.LOGGER.setLevel(logLevel); //~18A
+
+		System.out.println(IGSXMLTransactionMetrics.getStatistics("ECHO")); //$NON-NLS-1$
+		System.out.println(IGSXMLTransactionMetrics.getStatistics("SLEEP")); //$NON-NLS-1$
+		executor.shutdown();
+		System.out.println(pool);
+		pool.close();
+
+		//~18A Report the failed checks
+		if (failures > 0)
+		{
+			System.err.println(failures + " checks failed"); //$NON-NLS-1$
+			System.exit(1);
+		}
+		System.out.println("All checks passed"); //$NON-NLS-1$
+	}
+
+	//~18A New method
+	/**
+	 * Prints the result of a check and counts it if it failed.
+	 * @param description the description of the check
+	 * @param passed <code>true</code> if the check passed
+	 */
+	private static void verify(String description, boolean passed)
+	{
+		if (passed)
+		{
+			System.out.println("Passed: " + description); //$NON-NLS-1$
+		}
+		else
+		{
+			failures++;
+			System.err.println("FAILED: " + description); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Creates a transaction whose input contains the specified number.
+	 * @param number the number
+	 * @param pool the <code>IGSXMLConnectionPool</code> or <code>null</code>
+	 * @return the <code>IGSXMLTransaction</code>
+	 */
+	private static IGSXMLTransaction createTransaction(int number, IGSXMLConnectionPool pool)
+	{
+		IGSXMLTransaction transaction = new IGSXMLTransaction("ECHO"); //$NON-NLS-1$
+		transaction.setConnectionPool(pool);
+		transaction.startDocument();
+		transaction.addElement("NUMBER", Integer.toString(number)); //$NON-NLS-1$
+		transaction.endDocument();
+		return transaction;
+	}
+
+	/**
+	 * Checks that the output of a transaction contains the specified number.
+	 * @param transaction the executed <code>IGSXMLTransaction</code>
+	 * @param number the number
+	 */
+	private static void check(IGSXMLTransaction transaction, int number)
+	{
+		String output = transaction.getFirstElement("NUMBER"); //$NON-NLS-1$
+		if (transaction.getReturnCode() != 0 || !Integer.toString(number).equals(output))
+		{
+			verify("Unexpected result: " + transaction, false); //$NON-NLS-1$ //~18C
+		}
+	}
+
+	//~4A New method
+	/**
+	 * Executes a ROWS transaction that pipes its output and prints the elapsed
+	 * time and the number of bytes piped.
+	 * @param rows the number of rows
+	 * @param capacity the capacity of the <code>IGSRingBuffer</code> or zero
+	 *        to use a <code>PipedInputStream</code>
+	 * @param pool the <code>IGSXMLConnectionPool</code> or <code>null</code>
+	 * @return the number of bytes read from the pipe
+	 * @throws IOException if the piped streams could not be connected
+	 */
+	private static long pipe(int rows, int capacity, IGSXMLConnectionPool pool)
+		throws IOException
+	{
+		IGSXMLTransaction transaction = new IGSXMLTransaction("ROWS"); //$NON-NLS-1$
+		transaction.setConnectionPool(pool);
+		transaction.startDocument();
+		transaction.addElement("NUMBER", Integer.toString(rows)); //$NON-NLS-1$
+		transaction.endDocument();
+		final InputStream in = capacity == 0 ? transaction.setupPipedStreams("ROWS") //$NON-NLS-1$
+				: transaction.setupPipedStreams("ROWS", capacity); //$NON-NLS-1$
+		final long[] total = new long[1];
+		transaction.setPipedRunnable(new Runnable()
+		{
+			public void run()
+			{
+				try
+				{
+					byte[] b = new byte[8192];
+					int count;
+					while ((count = in.read(b)) != -1)
+					{
+						total[0] += count;
+					}
+					in.close();
+				}
+				catch (IOException e)
+				{
+					e.printStackTrace();
+				}
+			}
+		});
+
+		long start = System.currentTimeMillis();
+		transaction.run();
+		long elapsed = System.currentTimeMillis() - start;
+		String type = capacity == 0 ? "PipedInputStream: " : "IGSRingBuffer:    "; //$NON-NLS-1$ //$NON-NLS-2$
+		System.out.println(type + total[0] + " bytes in " + elapsed + " ms, return code " //$NON-NLS-1$ //$NON-NLS-2$
+				+ transaction.getReturnCode());
+		verify(type.trim() + " return code", transaction.getReturnCode() == 0); //$NON-NLS-1$ //~18A
+		return total[0]; //~18A
+	}
+
+	//~22A New method
+	/**
+	 * Returns a description of a tree that contains the user object of each
+	 * node followed by its children in parentheses.
+	 * @param node the root of the tree
+	 * @return the description of the tree
+	 */
+	private static String describe(DefaultMutableTreeNode node)
+	{
+		StringBuffer result = new StringBuffer();
+		result.append(node.getUserObject()).append('(');
+		Enumeration<?> children = node.children();
+		while (children.hasMoreElements())
+		{
+			result.append(describe((DefaultMutableTreeNode) children.nextElement()));
+		}
+		return result.append(')').toString();
+	}
+
+	//~9A New method
+	/**
+	 * Walks the rows of a document, reading each row's fields including an
+	 * optional field that no row has, and prints the elapsed time.
+	 * @param report the <code>IGSXMLDocument</code>
+	 * @return a <code>String</code> containing the fields read
+	 */
+	private static String walk(IGSXMLDocument report)
+	{
+		long start = System.currentTimeMillis();
+		StringBuffer result = new StringBuffer();
+		int rows = 0;
+		report.resetCurrentBoundary();
+		report.stepIntoElement("ROWS"); //$NON-NLS-1$
+		while (report.stepIntoElement("ROW") != null) //$NON-NLS-1$
+		{
+			result.append(report.getFirstElement("NUMBER")); //$NON-NLS-1$
+			result.append(report.getNextElement("NAME")); //$NON-NLS-1$
+			result.append(report.getFirstElement("COMMENT")); //$NON-NLS-1$
+			report.stepOutOfElement();
+			rows++;
+		}
+		report.stepOutOfElement();
+		long elapsed = System.currentTimeMillis() - start;
+		String type = report.isIndexed() ? "Indexed:   " : "Unindexed: "; //$NON-NLS-1$ //$NON-NLS-2$
+		if (report instanceof IGSXMLPullDocument) //~10A
+		{
+			type = "Pull:      "; //$NON-NLS-1$
+		}
+		System.out.println(type + rows + " rows in " + elapsed + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		return result.toString();
+	}
+
+	//~13A New method
+	/**
+	 * Creates the codec that maps a <code>ROW</code> element to a
+	 * {@link Row}.
+	 * @return the <code>IGSXMLCodec</code>
+	 */
+	private static IGSXMLCodec<Row> createRowCodec()
+	{
+		IGSXMLCodec<Row> codec = new IGSXMLCodec<Row>("ROW") //$NON-NLS-1$
+		{
+			protected Row createObject()
+			{
+				return new Row();
+			}
+		};
+		codec.addField(new IGSXMLCodec.IntField<Row>("NUMBER") //$NON-NLS-1$
+		{
+			protected int get(Row row)
+			{
+				return row.number;
+			}
+
+			protected void set(Row row, int value)
+			{
+				row.number = value;
+			}
+		});
+		codec.addField(new IGSXMLCodec.StringField<Row>("NAME") //$NON-NLS-1$
+		{
+			protected String get(Row row)
+			{
+				return row.name;
+			}
+
+			protected void set(Row row, String value)
+			{
+				row.name = value;
+			}
+		});
+		return codec;
+	}
+
+	//~12A New method
+	/**
+	 * Sums the numbers of the rows of a document that are named "Row" followed
+	 * by the number and prints the elapsed time.
+	 * @param report the <code>IGSXMLDocument</code>
+	 * @param typed <code>true</code> to use the typed accessors instead of
+	 *        parsing <code>Strings</code>
+	 * @param print <code>true</code> to print the elapsed time
+	 * @return the sum of the numbers
+	 */
+	private static long sum(IGSXMLDocument report, boolean typed, boolean print) //~21C
+	{
+		long start = System.currentTimeMillis();
+		long result = 0;
+		int rows = 0;
+		StringBuffer expected = new StringBuffer();
+		report.resetCurrentBoundary();
+		report.stepIntoElement("ROWS"); //$NON-NLS-1$
+		while (report.stepIntoElement("ROW") != null) //$NON-NLS-1$
+		{
+			int number;
+			boolean named;
+			expected.setLength(0);
+			if (typed)
+			{
+				number = report.getNextInt("NUMBER", -1); //$NON-NLS-1$
+				expected.append("Row ").append(number); //$NON-NLS-1$
+				named = report.nextElementEquals("NAME", expected); //$NON-NLS-1$
+			}
+			else
+			{
+				number = Integer.parseInt(report.getNextElement("NUMBER")); //$NON-NLS-1$
+				expected.append("Row ").append(number); //$NON-NLS-1$
+				named = expected.toString().equals(report.getNextElement("NAME")); //$NON-NLS-1$
+			}
+			if (named)
+			{
+				result += number;
+			}
+			report.stepOutOfElement();
+			rows++;
+		}
+		report.stepOutOfElement();
+		long elapsed = System.currentTimeMillis() - start;
+		if (print) //~21A
+		{
+			String type = typed ? "Typed:     " : "Strings:   "; //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println(type + rows + " rows in " + elapsed + " ms, sum " + result); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return result;
+	}
+
+	//~8A New method
+	/**
+	 * Executes a ROWS transaction without and with compression and prints the
+	 * number of bytes received and the elapsed time of each execution.
+	 * @param rows the number of rows
+	 * @param port the port of the server
+	 * @param stream <code>true</code> to stream the rows to an
+	 *        <code>IGSXMLElementConsumer</code> instead of receiving them as
+	 *        positional output
+	 */
+	private static void compare(int rows, int port, boolean stream)
+	{
+		String uncompressedOutput = null;
+		for (int i = 0; i < 2; i++)
+		{
+			final IGSXMLTransaction transaction = new IGSXMLTransaction("ROWS"); //$NON-NLS-1$
+			transaction.setConnectionPool(null);
+			transaction.setPort(port);
+			transaction.setCompression(i == 1);
+			transaction.startDocument();
+			transaction.addElement("NUMBER", Integer.toString(rows)); //$NON-NLS-1$
+			transaction.endDocument();
+			IGSXMLElementConsumer consumer = null;
+			if (stream)
+			{
+				consumer = new IGSXMLElementConsumer("ROW") //$NON-NLS-1$
+				{
+					public void consumeElement(IGSXMLTransaction trx, String element)
+					{
+						// Only count the rows
+					}
+				};
+				transaction.setResponseConsumer(consumer);
+			}
+
+			final long[] received = new long[1];
+			IGSXMLTransactionMetricsListener listener = new IGSXMLTransactionMetricsListener()
+			{
+				public void transactionMeasured(IGSXMLTransactionMetricsEvent e)
+				{
+					if (e.getTransaction() == transaction)
+					{
+						received[0] = e.getBytesReceived();
+					}
+				}
+			};
+			IGSXMLTransactionMetrics.addMetricsListener(listener);
+			long start = System.currentTimeMillis();
+			transaction.run();
+			long elapsed = System.currentTimeMillis() - start;
+			IGSXMLTransactionMetrics.removeMetricsListener(listener);
+
+			String result;
+			if (stream)
+			{
+				result = consumer.getCount() + " rows streamed"; //$NON-NLS-1$
+			}
+			else if (i == 0)
+			{
+				uncompressedOutput = transaction.getOutput();
+				result = "output " + uncompressedOutput.length(); //$NON-NLS-1$
+			}
+			else
+			{
+				result = "output identical " + transaction.getOutput().equals(uncompressedOutput); //$NON-NLS-1$
+			}
+			String type = (i == 1 ? "Compressed  " : "Uncompressed") //$NON-NLS-1$ //$NON-NLS-2$
+					+ (stream ? " streamed:   " : " positional: "); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println(type + received[0] + " bytes in " + elapsed + " ms, return code " //$NON-NLS-1$ //$NON-NLS-2$
+					+ transaction.getReturnCode() + ", " + result); //$NON-NLS-1$
+			verify(type.trim() + " output", transaction.getReturnCode() == 0 //$NON-NLS-1$ //~18A
+					&& (stream ? consumer.getCount() == rows
+					: transaction.getOutput().equals(uncompressedOutput)));
+		}
+	}
+
+	/**
+	 * Executes the specified number of transactions and checks their output.
+	 * @param count the number of transactions to execute
+	 * @param pool the <code>IGSXMLConnectionPool</code> or <code>null</code>
+	 * @return the elapsed time in milliseconds
+	 */
+	private static long execute(int count, IGSXMLConnectionPool pool)
+	{
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < count; i++)
+		{
+			IGSXMLTransaction transaction = createTransaction(i, pool); //~1C
+			transaction.run();
+			check(transaction, i); //~1C
+		}
+		return System.currentTimeMillis() - start;
+	}
+
+	/**
+	 * <code>StandInServer</code> is a transaction server that echoes the input
+	 * of each transaction. The input is returned in an XML buffer of data with
+	 * a return code of zero followed by a buffer of data with a return code of
+	 * {@link IGSXMLTransaction#END_OF_TRANSMISSION}. Multiple transactions may
+	 * be executed using the same connection.
+	 * <p>
+	 * The ROWS transaction returns the number of rows specified by its input
+	 * in small buffers of data that use the first
+	 * {@link IGSXMLTransaction#METADATA_LENGTH} characters to send the return
+	 * code. Rows are split between buffers.
+	 * <p>
+	 * If a request's buffers of data are flagged as accepting compression,
+	 * large buffers of output are compressed (see <code>IGSXMLFramer</code>).
+	 * The output can be limited to a number of bytes per second to simulate
+	 * a slow network.
+	 * @author The Process Profile Client Development Team
+	 */
+	public static class StandInServer
+		implements Runnable
+	{
+		/** The <code>ServerSocket</code> used to accept connections. */
+		private final ServerSocket serverSocket;
+
+		/** The maximum number of bytes written per second or 0. */
+		private final int bytesPerSecond; //~8A
+
+		/**
+		 * Constructs a new <code>StandInServer</code>.
+		 * @param serverSocket the <code>ServerSocket</code> used to accept
+		 *        connections
+		 */
+		public StandInServer(ServerSocket serverSocket)
+		{
+			this(serverSocket, 0); //~8C
+		}
+
+		//~8A New method
+		/**
+		 * Constructs a new <code>StandInServer</code> that limits the rate at
+		 * which output is written to each connection.
+		 * @param serverSocket the <code>ServerSocket</code> used to accept
+		 *        connections
+		 * @param bytesPerSecond the maximum number of bytes written per
+		 *        second to a connection or 0 if there is no limit
+		 */
+		public StandInServer(ServerSocket serverSocket, int bytesPerSecond)
+		{
+			super();
+			this.serverSocket = serverSocket;
+			this.bytesPerSecond = bytesPerSecond;
+		}
+
+		/**
+		 * Returns the port of the server.
+		 * @return the port of the server
+		 */
+		public int getPort()
+		{
+			return this.serverSocket.getLocalPort();
+		}
+
+		/** Accepts connections until the <code>ServerSocket</code> is closed. */
+		public void run()
+		{
+			try
+			{
+				while (true)
+				{
+					final Socket socket = this.serverSocket.accept();
+					Thread thread = new Thread(new Runnable()
+					{
+						public void run()
+						{
+							serve(socket);
+						}
+					});
+					thread.setDaemon(true);
+					thread.start();
+				}
+			}
+			catch (IOException e)
+			{
+				// The ServerSocket was closed
+			}
+		}
+
+		/**
+		 * Executes transactions until the client closes the connection.
+		 * @param socket the <code>Socket</code> connected to the client
+		 */
+		void serve(Socket socket)
+		{
+			DataInputStream dataIn = null;
+			DataOutputStream dataOut = null;
+			try
+			{
+				socket.setTcpNoDelay(true);
+				dataIn = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+				OutputStream out = socket.getOutputStream(); //~8A
+				if (this.bytesPerSecond > 0)
+				{
+					out = new ThrottledOutputStream(out, this.bytesPerSecond);
+				}
+				dataOut = new DataOutputStream(new BufferedOutputStream(out)); //~8C
+				//~8C Use a framer to read and write compressed buffers of data
+				IGSXMLFramer framer = new IGSXMLFramer(dataIn, dataOut);
+				while (true)
+				{
+					String name = framer.substring(0, framer.readFrame());
+					String input = framer.substring(0, framer.readFrame());
+					// Compress the output only if the client accepts it
+					framer.setCompression(framer.isCompressionAccepted());
+					String xml = input.substring(IGSXMLTransaction.METADATA_LENGTH);
+					int start = xml.indexOf("<DATA>"); //$NON-NLS-1$
+					int end = xml.indexOf("</DATA>"); //$NON-NLS-1$
+					String data = start == -1 || end == -1 ? "" : xml.substring(start + 6, end); //$NON-NLS-1$
+					if (name.equals("SLEEP")) //$NON-NLS-1$ //~1A
+					{
+						Thread.sleep(5000);
+					}
+					else if (name.equals("ROWS")) //$NON-NLS-1$ //~3A
+					{
+						writeRows(framer, Integer.parseInt(data.substring(8, data.length() - 9)));
+						continue;
+					}
+					framer.writeFrame("<RRET>0</RRET>" + data); //$NON-NLS-1$ //~8C
+					framer.writeFrame("<RRET>" //$NON-NLS-1$
+							+ IGSXMLTransaction.END_OF_TRANSMISSION + "</RRET>"); //$NON-NLS-1$
+					framer.flush();
+				}
+			}
+			catch (EOFException e)
+			{
+				// The client closed the connection
+			}
+			catch (IOException e)
+			{
+				e.printStackTrace();
+			}
+			catch (InterruptedException e)
+			{
+				e.printStackTrace();
+			}
+			finally
+			{
+				IGSXMLTransaction.closeConnection(socket, dataIn, dataOut);
+			}
+		}
+
+		//~3A New method
+		/**
+		 * Writes the specified number of rows in buffers of data that use the
+		 * first {@link IGSXMLTransaction#METADATA_LENGTH} characters to send
+		 * the return code.
+		 * @param framer the <code>IGSXMLFramer</code>
+		 * @param count the number of rows
+		 * @throws IOException as thrown by the <code>IGSXMLFramer</code>
+		 */
+		private void writeRows(IGSXMLFramer framer, int count) //~8C
+			throws IOException
+		{
+			final String rc = "0         "; //$NON-NLS-1$
+			final int bufferSize = 1000;
+			StringBuffer rows = new StringBuffer("<ROWS>"); //$NON-NLS-1$
+			for (int i = 0; i < count; i++)
+			{
+				rows.append("<ROW><NUMBER>").append(i).append("</NUMBER></ROW>"); //$NON-NLS-1$ //$NON-NLS-2$
+				if (rows.length() >= bufferSize)
+				{
+					framer.writeFrame(rc, rows.substring(0, bufferSize)); //~8C
+					rows.delete(0, bufferSize);
+				}
+			}
+			rows.append("</ROWS>"); //$NON-NLS-1$
+			framer.writeFrame(rc, rows); //~8C
+			framer.writeFrame(IGSXMLTransaction.END_OF_TRANSMISSION + "      "); //$NON-NLS-1$ //~8C
+			framer.flush();
+		}
+	}
+
+	//~14A New class
+	/**
+	 * <code>RowStrategy</code> is the <code>IGSXMLTreeParseStrategy</code>
+	 * for a tree with a node for each <code>ROW</code> element of the report.
+	 * The last row is the selected node.
+	 * @author The Process Profile Client Development Team
+	 */
+	private static class RowStrategy
+		implements IGSXMLTreeParseStrategy
+	{
+		/** {@inheritDoc} */
+		public boolean isTreeNode(String element)
+		{
+			return element.equals("ROWS") || element.equals("ROW"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		/** {@inheritDoc} */
+		public IGSUserObject createUserObject(String element, Attributes attributes)
+		{
+			return new RowObject();
+		}
+
+		/** {@inheritDoc} */
+		public boolean isSelectedNode(DefaultMutableTreeNode node)
+		{
+			return node.isLeaf() && node.getNextSibling() == null
+					&& node.getUserObject().toString().length() > 0;
+		}
+	}
+
+	//~14A New class
+	/**
+	 * <code>RowObject</code> is the user object of a tree node for a row.
+	 * @author The Process Profile Client Development Team
+	 */
+	private static class RowObject
+		implements IGSUserObject
+	{
+		/** The data of the row. */
+		private final StringBuffer data = new StringBuffer();
+
+		/** {@inheritDoc} */
+		public void add(String elementName, String elementData)
+		{
+			this.data.append(elementData).append(' ');
+		}
+
+		/** {@inheritDoc} */
+		public String toString()
+		{
+			return this.data.toString();
+		}
+	}
+
+	//~13A New class
+	/**
+	 * <code>Row</code> is a row of the report decoded by an
+	 * <code>IGSXMLCodec</code>.
+	 * @author The Process Profile Client Development Team
+	 */
+	private static class Row
+	{
+		/** The number of the row. */
+		int number;
+
+		/** The name of the row. */
+		String name;
+	}
+
+	//~8A New class
+	/**
+	 * <code>ThrottledOutputStream</code> is a <code>FilterOutputStream</code>
+	 * that sleeps after each write so that no more than a number of bytes per
+	 * second is written.
+	 * @author The Process Profile Client Development Team
+	 */
+	private static class ThrottledOutputStream
+		extends FilterOutputStream
+	{
+		/** The maximum number of bytes written per second. */
+		private final int bytesPerSecond;
+
+		/** The time in nanoseconds still to be slept for the bytes written. */
+		private long delay;
+
+		/**
+		 * Constructs a new <code>ThrottledOutputStream</code>.
+		 * @param out the underlying <code>OutputStream</code>
+		 * @param bytesPerSecond the maximum number of bytes written per second
+		 */
+		public ThrottledOutputStream(OutputStream out, int bytesPerSecond)
+		{
+			super(out);
+			this.bytesPerSecond = bytesPerSecond;
+		}
+
+		/** {@inheritDoc} */
+		public void write(int b)
+			throws IOException
+		{
+			write(new byte[] {(byte) b}, 0, 1);
+		}
+
+		/** {@inheritDoc} */
+		public void write(byte[] b, int off, int len)
+			throws IOException
+		{
+			this.out.write(b, off, len);
+			this.delay += len * 1000000000L / this.bytesPerSecond;
+			if (this.delay >= 1000000)
+			{
+				long millis = this.delay / 1000000;
+				this.delay -= millis * 1000000;
+				try
+				{
+					Thread.sleep(millis);
+				}
+				catch (InterruptedException e)
+				{
+					throw new InterruptedIOException();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,596 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-013                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+/**
+ * <code>IGSXMLBuilder</code> builds XML documents with the same methods as
+ * {@link IGSXMLDocument} without creating garbage. The document is built in a
+ * <code>char</code> array that is kept when the builder is cleared, so a
+ * builder that is reused for every request stops allocating once its array is
+ * large enough. The methods are not synchronized; a builder must be used by
+ * one thread at a time.
+ * <p>
+ * Unlike {@link IGSXMLDocument}, the builder escapes element data and
+ * attribute values: <code>'&amp;'</code>, <code>'&lt;'</code>, and
+ * <code>'&gt;'</code> are replaced by entity references, as are quotation
+ * marks in attribute values. Numbers and <code>char</code> arrays are
+ * appended without boxing them or creating a <code>String</code>.
+ * <p>
+ * A builder is a <code>CharSequence</code>. An {@link IGSXMLTransaction}
+ * whose input is built in a builder (see
+ * {@link IGSXMLTransaction#startDocument(IGSXMLBuilder)}) encodes it directly
+ * from the builder's array into the pooled buffer of its
+ * {@link IGSXMLFramer}.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLBuilder
+	implements CharSequence
+{
+	/** The default initial capacity of the builder. */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	/** The digits of a <code>long</code> from least to most significant. */
+	private final char[] digits = new char[20];
+
+	/** The characters of the document. */
+	private char[] chars;
+
+	/** The number of characters in the document. */
+	private int count;
+
+	/** Set <code>true</code> when a start tag is open. */
+	private boolean startTagOpen = false;
+
+	/** Constructs a new <code>IGSXMLBuilder</code>. */
+	public IGSXMLBuilder()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new <code>IGSXMLBuilder</code>.
+	 * @param capacity the initial capacity in characters
+	 */
+	public IGSXMLBuilder(int capacity)
+	{
+		super();
+		this.chars = new char[Math.max(capacity, 16)];
+	}
+
+	/** Clears the XML document, keeping the builder's capacity. */
+	public void clear()
+	{
+		this.count = 0;
+		this.startTagOpen = false;
+	}
+
+	/** Starts the XML document. */
+	public void startDocument()
+	{
+		clear();
+		append("<?xml version=\"1.0\"?>"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Starts the XML document.
+	 * @param encoding the encoding named by the XML declaration
+	 */
+	public void startDocument(String encoding)
+	{
+		clear();
+		append("<?xml version=\"1.0\" encoding=\""); //$NON-NLS-1$
+		append(encoding);
+		append("\"?>"); //$NON-NLS-1$
+	}
+
+	/** Ends the XML document. */
+	public void endDocument()
+	{
+		closeStartTagIfNecessary();
+	}
+
+	/**
+	 * Adds a complete element to the XML document. Its data is escaped.
+	 * @param name the name of the element
+	 * @param data the data for the element. May be <code>null</code>.
+	 */
+	public void addElement(String name, CharSequence data)
+	{
+		if (data == null || data.length() == 0)
+		{
+			addEmptyElement(name);
+		}
+		else
+		{
+			appendStartTag(name);
+			appendEscaped(data, 0, data.length(), false);
+			appendEndTag(name);
+		}
+	}
+
+	/**
+	 * Adds a complete element to the XML document. The <code>String</code>
+	 * representation of its data is escaped.
+	 * @param name the name of the element
+	 * @param data the data for the element. May be <code>null</code>.
+	 */
+	public void addElement(String name, Object data)
+	{
+		addElement(name, data == null ? null : data.toString());
+	}
+
+	/**
+	 * Adds a complete element containing a number to the XML document.
+	 * @param name the name of the element
+	 * @param data the data for the element
+	 */
+	public void addElement(String name, int data)
+	{
+		addElement(name, (long) data);
+	}
+
+	/**
+	 * Adds a complete element containing a number to the XML document.
+	 * @param name the name of the element
+	 * @param data the data for the element
+	 */
+	public void addElement(String name, long data)
+	{
+		appendStartTag(name);
+		append(data);
+		appendEndTag(name);
+	}
+
+	/**
+	 * Adds a complete element containing one character to the XML document.
+	 * The character is escaped.
+	 * @param name the name of the element
+	 * @param data the data for the element
+	 */
+	public void addElement(String name, char data)
+	{
+		appendStartTag(name);
+		appendEscaped(data, false);
+		appendEndTag(name);
+	}
+
+	/**
+	 * Adds a complete element to the XML document. Its data is escaped.
+	 * @param name the name of the element
+	 * @param data the data for the element. May be <code>null</code>.
+	 */
+	public void addElement(String name, char[] data)
+	{
+		if (data == null)
+		{
+			addEmptyElement(name);
+		}
+		else
+		{
+			addElement(name, data, 0, data.length);
+		}
+	}
+
+	/**
+	 * Adds a complete element to the XML document. Its data is escaped.
+	 * @param name the name of the element
+	 * @param data the array containing the data for the element
+	 * @param offset the offset of the data in the array
+	 * @param length the number of characters of data
+	 */
+	public void addElement(String name, char[] data, int offset, int length)
+	{
+		if (length == 0)
+		{
+			addEmptyElement(name);
+		}
+		else
+		{
+			appendStartTag(name);
+			appendEscaped(data, offset, length, false);
+			appendEndTag(name);
+		}
+	}
+
+	/**
+	 * Adds a complete empty element to the XML document.
+	 * @param name the name of the element
+	 */
+	public void addEmptyElement(String name)
+	{
+		closeStartTagIfNecessary();
+		append('<');
+		append(name);
+		append('/');
+		append('>');
+	}
+
+	/**
+	 * Starts a new element in the XML document.
+	 * @param name the name of the element
+	 */
+	public void startElement(String name)
+	{
+		closeStartTagIfNecessary();
+		append('<');
+		append(name);
+		this.startTagOpen = true;
+	}
+
+	/**
+	 * Adds an attribute to the XML document. Its value is escaped.
+	 * @param name the name of the attribute
+	 * @param value the value of the attribute. May be <code>null</code>.
+	 * @throws IllegalStateException if the start tag is closed
+	 */
+	public void addAttribute(String name, CharSequence value)
+	{
+		startAttribute(name);
+		if (value != null)
+		{
+			appendEscaped(value, 0, value.length(), true);
+		}
+		append('"');
+	}
+
+	/**
+	 * Adds an attribute containing a number to the XML document.
+	 * @param name the name of the attribute
+	 * @param value the value of the attribute
+	 * @throws IllegalStateException if the start tag is closed
+	 */
+	public void addAttribute(String name, long value)
+	{
+		startAttribute(name);
+		append(value);
+		append('"');
+	}
+
+	/**
+	 * Adds element data to the XML document. The data is escaped.
+	 * @param data the data. May be <code>null</code>.
+	 */
+	public void addData(CharSequence data)
+	{
+		if (data != null && data.length() != 0)
+		{
+			closeStartTagIfNecessary();
+			appendEscaped(data, 0, data.length(), false);
+		}
+	}
+
+	/**
+	 * Adds element data containing a number to the XML document.
+	 * @param data the data
+	 */
+	public void addData(long data)
+	{
+		closeStartTagIfNecessary();
+		append(data);
+	}
+
+	/**
+	 * Adds one character of element data to the XML document. The character
+	 * is escaped.
+	 * @param data the data
+	 */
+	public void addData(char data)
+	{
+		closeStartTagIfNecessary();
+		appendEscaped(data, false);
+	}
+
+	/**
+	 * Adds element data to the XML document. The data is escaped.
+	 * @param data the array containing the data
+	 * @param offset the offset of the data in the array
+	 * @param length the number of characters of data
+	 */
+	public void addData(char[] data, int offset, int length)
+	{
+		if (length != 0)
+		{
+			closeStartTagIfNecessary();
+			appendEscaped(data, offset, length, false);
+		}
+	}
+
+	/**
+	 * Adds markup to the XML document without escaping it, for example XML
+	 * built elsewhere.
+	 * @param xml the XML. May be <code>null</code>.
+	 */
+	public void addXML(CharSequence xml)
+	{
+		if (xml != null && xml.length() != 0)
+		{
+			closeStartTagIfNecessary();
+			append(xml);
+		}
+	}
+
+	/**
+	 * Ends an element in the XML document.
+	 * @param name the name of the element
+	 */
+	public void endElement(String name)
+	{
+		if (this.startTagOpen)
+		{
+			append('/');
+			append('>');
+			this.startTagOpen = false;
+		}
+		else
+		{
+			appendEndTag(name);
+		}
+	}
+
+	/**
+	 * Returns the length of the XML document.
+	 * @return the number of characters
+	 */
+	public int length()
+	{
+		return this.count;
+	}
+
+	/**
+	 * Returns the character at the specified index.
+	 * @param index the index of the character
+	 * @return the character
+	 */
+	public char charAt(int index)
+	{
+		if (index < 0 || index >= this.count)
+		{
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		return this.chars[index];
+	}
+
+	/**
+	 * Returns a copy of a part of the XML document.
+	 * @param start the index of the first character
+	 * @param end the index following the last character
+	 * @return the characters as a <code>String</code>
+	 */
+	public CharSequence subSequence(int start, int end)
+	{
+		if (start < 0 || end > this.count || start > end)
+		{
+			throw new IndexOutOfBoundsException(start + "," + end); //$NON-NLS-1$
+		}
+		return new String(this.chars, start, end - start);
+	}
+
+	/**
+	 * Returns the array containing the XML document. The first
+	 * {@link #length()} characters are the document.
+	 * @return the <code>char</code> array
+	 */
+	char[] getChars()
+	{
+		return this.chars;
+	}
+
+	/**
+	 * Returns the XML document.
+	 * @return an XML <code>String</code>
+	 */
+	public String toString()
+	{
+		return new String(this.chars, 0, this.count);
+	}
+
+	/** Closes a start tag if one is open. */
+	private void closeStartTagIfNecessary()
+	{
+		if (this.startTagOpen)
+		{
+			append('>');
+			this.startTagOpen = false;
+		}
+	}
+
+	/**
+	 * Appends the beginning of an attribute.
+	 * @param name the name of the attribute
+	 * @throws IllegalStateException if the start tag is closed
+	 */
+	private void startAttribute(String name)
+	{
+		if (this.startTagOpen == false)
+		{
+			throw new IllegalStateException(
+					"Method must be called before start tag is closed."); //$NON-NLS-1$
+		}
+		append(' ');
+		append(name);
+		append('=');
+		append('"');
+	}
+
+	/**
+	 * Appends a start tag, closing an open start tag first.
+	 * @param name the name of the element
+	 */
+	private void appendStartTag(String name)
+	{
+		closeStartTagIfNecessary();
+		append('<');
+		append(name);
+		append('>');
+	}
+
+	/**
+	 * Appends an end tag.
+	 * @param name the name of the element
+	 */
+	private void appendEndTag(String name)
+	{
+		append('<');
+		append('/');
+		append(name);
+		append('>');
+	}
+
+	/**
+	 * Makes room for the specified number of additional characters.
+	 * @param length the number of characters
+	 */
+	private void ensureCapacity(int length)
+	{
+		int required = this.count + length;
+		if (required > this.chars.length)
+		{
+			char[] larger = new char[Math.max(required, this.chars.length << 1)];
+			System.arraycopy(this.chars, 0, larger, 0, this.count);
+			this.chars = larger;
+		}
+	}
+
+	/**
+	 * Appends a character without escaping it.
+	 * @param c the character
+	 */
+	private void append(char c)
+	{
+		if (this.count == this.chars.length)
+		{
+			ensureCapacity(1);
+		}
+		this.chars[this.count++] = c;
+	}
+
+	/**
+	 * Appends characters without escaping them.
+	 * @param string the characters
+	 */
+	private void append(CharSequence string)
+	{
+		int length = string.length();
+		ensureCapacity(length);
+		if (string instanceof String)
+		{
+			((String) string).getChars(0, length, this.chars, this.count);
+		}
+		else
+		{
+			for (int i = 0; i < length; i++)
+			{
+				this.chars[this.count + i] = string.charAt(i);
+			}
+		}
+		this.count += length;
+	}
+
+	/**
+	 * Appends the decimal digits of a number.
+	 * @param value the number
+	 */
+	private void append(long value)
+	{
+		if (value == Long.MIN_VALUE)
+		{
+			append("-9223372036854775808"); //$NON-NLS-1$
+			return;
+		}
+		if (value < 0)
+		{
+			append('-');
+			value = -value;
+		}
+		int n = 0;
+		do
+		{
+			this.digits[n++] = (char) ('0' + (int) (value % 10));
+			value /= 10;
+		}
+		while (value != 0);
+		ensureCapacity(n);
+		while (n > 0)
+		{
+			this.chars[this.count++] = this.digits[--n];
+		}
+	}
+
+	/**
+	 * Appends characters, replacing those that must be escaped by entity
+	 * references.
+	 * @param data the characters
+	 * @param offset the offset of the first character
+	 * @param length the number of characters
+	 * @param attribute <code>true</code> to also escape quotation marks
+	 */
+	private void appendEscaped(CharSequence data, int offset, int length, boolean attribute)
+	{
+		ensureCapacity(length);
+		int end = offset + length;
+		for (int i = offset; i < end; i++)
+		{
+			appendEscaped(data.charAt(i), attribute);
+		}
+	}
+
+	/**
+	 * Appends characters, replacing those that must be escaped by entity
+	 * references.
+	 * @param data the array containing the characters
+	 * @param offset the offset of the first character
+	 * @param length the number of characters
+	 * @param attribute <code>true</code> to also escape quotation marks
+	 */
+	private void appendEscaped(char[] data, int offset, int length, boolean attribute)
+	{
+		ensureCapacity(length);
+		int end = offset + length;
+		for (int i = offset; i < end; i++)
+		{
+			appendEscaped(data[i], attribute);
+		}
+	}
+
+	/**
+	 * Appends a character, replacing it by an entity reference if it must be
+	 * escaped.
+	 * @param c the character
+	 * @param attribute <code>true</code> to also escape quotation marks
+	 */
+	private void appendEscaped(char c, boolean attribute)
+	{
+		switch (c)
+		{
+			case '&':
+				append("&amp;"); //$NON-NLS-1$
+				break;
+			case '<':
+				append("&lt;"); //$NON-NLS-1$
+				break;
+			case '>':
+				append("&gt;"); //$NON-NLS-1$
+				break;
+			case '"':
+				if (attribute)
+				{
+					append("&quot;"); //$NON-NLS-1$
+				}
+				else
+				{
+					append(c);
+				}
+				break;
+			default:
+				append(c);
+				break;
+		}
+	}
+}
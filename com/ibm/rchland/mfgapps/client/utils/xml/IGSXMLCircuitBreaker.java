@@ -0,0 +1,270 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-009                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <code>IGSXMLCircuitBreaker</code> stops {@link IGSXMLTransaction}s from
+ * calling a server that is not responding. There is one circuit breaker per
+ * server and port. After {@link #getFailureThreshold()} consecutive
+ * communication errors or timeouts, the circuit <i>opens</i> and transactions
+ * fail immediately with {@link IGSXMLTransaction#CIRCUIT_OPEN} instead of
+ * waiting for the server. After {@link #getOpenTime()} milliseconds, one
+ * transaction is allowed to call the server; if it receives a response, the
+ * circuit <i>closes</i>, otherwise it opens again.
+ * <p>
+ * Circuit breakers are disabled by default (see {@link #setEnabled(boolean)}).
+ * Any response from the server, including one with a nonzero return code,
+ * counts as a success.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLCircuitBreaker
+{
+	/** The state in which transactions call the server. */
+	public static final int CLOSED = 0;
+
+	/** The state in which transactions fail immediately. */
+	public static final int OPEN = 1;
+
+	/** The state in which one transaction is allowed to call the server. */
+	public static final int HALF_OPEN = 2;
+
+	/** The default number of consecutive failures that open the circuit. */
+	public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+
+	/** The default number of milliseconds the circuit stays open. */
+	public static final long DEFAULT_OPEN_TIME = 30000;
+
+	/** The circuit breakers by server and port. */
+	private static final ConcurrentHashMap<String, IGSXMLCircuitBreaker> breakers = new ConcurrentHashMap<String, IGSXMLCircuitBreaker>();
+
+	/** Set <code>true</code> if transactions use circuit breakers. */
+	private static volatile boolean enabled;
+
+	/** The number of consecutive failures that open the circuit. */
+	private static volatile int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+
+	/** The number of milliseconds the circuit stays open. */
+	private static volatile long openTime = DEFAULT_OPEN_TIME;
+
+	/** The server and port of the circuit breaker. */
+	private final String key;
+
+	/** The state of the circuit. */
+	private int state = CLOSED;
+
+	/** The number of consecutive failures. */
+	private int failureCount;
+
+	/** The time in milliseconds the circuit was opened. */
+	private long openedAt;
+
+	/** Set <code>true</code> while the trial transaction is executing. */
+	private boolean trialExecuting;
+
+	/** The number of transactions rejected while the circuit was open. */
+	private long rejectedCount;
+
+	/**
+	 * Constructs a new <code>IGSXMLCircuitBreaker</code>.
+	 * @param key the server and port
+	 */
+	private IGSXMLCircuitBreaker(String key)
+	{
+		super();
+		this.key = key;
+	}
+
+	/**
+	 * Returns the circuit breaker for the specified server and port.
+	 * @param server the server host name
+	 * @param port the server port
+	 * @return the <code>IGSXMLCircuitBreaker</code> or <code>null</code> if
+	 *         circuit breakers are disabled
+	 */
+	public static IGSXMLCircuitBreaker getCircuitBreaker(String server, int port)
+	{
+		if (!enabled)
+		{
+			return null;
+		}
+		String key = IGSXMLConnection.createKey(server, port);
+		IGSXMLCircuitBreaker result = breakers.get(key);
+		if (result == null)
+		{
+			IGSXMLCircuitBreaker created = new IGSXMLCircuitBreaker(key);
+			result = breakers.putIfAbsent(key, created);
+			if (result == null)
+			{
+				result = created;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns <code>true</code> if transactions use circuit breakers.
+	 * @return <code>true</code> if circuit breakers are enabled
+	 */
+	public static boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	/**
+	 * Sets whether transactions use circuit breakers.
+	 * @param enabled <code>true</code> to enable circuit breakers
+	 */
+	public static void setEnabled(boolean enabled)
+	{
+		IGSXMLCircuitBreaker.enabled = enabled;
+	}
+
+	/**
+	 * Returns the number of consecutive failures that open the circuit.
+	 * @return the failure threshold
+	 */
+	public static int getFailureThreshold()
+	{
+		return failureThreshold;
+	}
+
+	/**
+	 * Sets the number of consecutive failures that open the circuit.
+	 * @param failureThreshold the failure threshold
+	 */
+	public static void setFailureThreshold(int failureThreshold)
+	{
+		IGSXMLCircuitBreaker.failureThreshold = Math.max(1, failureThreshold);
+	}
+
+	/**
+	 * Returns the number of milliseconds the circuit stays open before a
+	 * transaction is allowed to call the server again.
+	 * @return the open time in milliseconds
+	 */
+	public static long getOpenTime()
+	{
+		return openTime;
+	}
+
+	/**
+	 * Sets the number of milliseconds the circuit stays open before a
+	 * transaction is allowed to call the server again.
+	 * @param openTime the open time in milliseconds
+	 */
+	public static void setOpenTime(long openTime)
+	{
+		IGSXMLCircuitBreaker.openTime = openTime;
+	}
+
+	/** Closes all circuits. */
+	public static void resetAll()
+	{
+		breakers.clear();
+	}
+
+	/**
+	 * Returns <code>true</code> if a transaction may call the server. If the
+	 * circuit has been open for {@link #getOpenTime()} milliseconds, the
+	 * first caller becomes the trial transaction.
+	 * @return <code>true</code> if the server may be called
+	 */
+	public synchronized boolean allowRequest()
+	{
+		if (this.state == OPEN
+				&& System.currentTimeMillis() - this.openedAt >= openTime)
+		{
+			this.state = HALF_OPEN;
+		}
+		if (this.state == CLOSED)
+		{
+			return true;
+		}
+		if (this.state == HALF_OPEN && !this.trialExecuting)
+		{
+			this.trialExecuting = true;
+			return true;
+		}
+		this.rejectedCount++;
+		return false;
+	}
+
+	/** Records that a transaction received a response from the server. */
+	public synchronized void recordSuccess()
+	{
+		this.state = CLOSED;
+		this.failureCount = 0;
+		this.trialExecuting = false;
+	}
+
+	/** Records that a transaction failed to communicate with the server. */
+	public synchronized void recordFailure()
+	{
+		this.failureCount++;
+		if (this.state == HALF_OPEN || this.failureCount >= failureThreshold)
+		{
+			this.state = OPEN;
+			this.openedAt = System.currentTimeMillis();
+		}
+		this.trialExecuting = false;
+	}
+
+	/**
+	 * Records that a transaction ended without a result, for example because
+	 * it was cancelled. If it was the trial transaction, another transaction
+	 * may call the server.
+	 */
+	public synchronized void recordIgnored()
+	{
+		this.trialExecuting = false;
+	}
+
+	/**
+	 * Returns the state of the circuit.
+	 * @return {@link #CLOSED}, {@link #OPEN}, or {@link #HALF_OPEN}
+	 */
+	public synchronized int getState()
+	{
+		return this.state;
+	}
+
+	/**
+	 * Returns the number of consecutive failures.
+	 * @return the number of consecutive failures
+	 */
+	public synchronized int getFailureCount()
+	{
+		return this.failureCount;
+	}
+
+	/**
+	 * Returns the number of transactions rejected while the circuit was open.
+	 * @return the number of rejected transactions
+	 */
+	public synchronized long getRejectedCount()
+	{
+		return this.rejectedCount;
+	}
+
+	/**
+	 * Returns a <code>String</code> representation of the circuit breaker.
+	 * @return a <code>String</code> containing the state
+	 */
+	public synchronized String toString()
+	{
+		String[] names = {"CLOSED", "OPEN", "HALF_OPEN"}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return "IGSXMLCircuitBreaker[" + this.key //$NON-NLS-1$
+				+ ", state=" + names[this.state] //$NON-NLS-1$
+				+ ", failures=" + this.failureCount //$NON-NLS-1$
+				+ ", rejected=" + this.rejectedCount + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
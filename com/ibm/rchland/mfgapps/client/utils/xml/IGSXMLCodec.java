@@ -0,0 +1,544 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-015                  -Initial version
+ * 2026-10-18   ~1 user-015                  -Decode the fields in one forward pass
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * <code>IGSXMLCodec</code> converts between the elements of an
+ * {@link IGSXMLDocument} and objects of type <code>T</code>. A codec maps the
+ * child elements of one element, for example each <code>ROW</code> of a
+ * transaction's output, to the fields of an object. The mapping is a list of
+ * {@link Field}s whose accessors are written in the subclass, so no
+ * reflection is used:
+ *
+ * <pre>
+ * IGSXMLCodec&lt;Row&gt; codec = new IGSXMLCodec&lt;Row&gt;(&quot;ROW&quot;)
+ * {
+ * 	protected Row createObject()
+ * 	{
+ * 		return new Row();
+ * 	}
+ * };
+ * codec.addField(new IGSXMLCodec.IntField&lt;Row&gt;(&quot;NUMBER&quot;)
+ * {
+ * 	protected int get(Row row)
+ * 	{
+ * 		return row.number;
+ * 	}
+ *
+ * 	protected void set(Row row, int value)
+ * 	{
+ * 		row.number = value;
+ * 	}
+ * });
+ * List&lt;Row&gt; rows = codec.decodeAll(transaction, &quot;ROWS&quot;);
+ * </pre>
+ *
+ * Decoding steps into each element once and reads its fields with the typed
+ * accessors of {@link IGSXMLDocument}, so numbers are parsed without creating
+ * <code>Strings</code> and the data of the element is never copied. The
+ * fields of an element may be in any order; a field whose element is missing
+ * is not set. Encoding writes the fields in the order they were added, to an
+ * {@link IGSXMLDocument} or to an {@link IGSXMLBuilder}.
+ * <p>
+ * A codec is immutable once its fields are added and may be shared by
+ * threads.
+ * @param <T> the type of the objects
+ * @author The Process Profile Client Development Team
+ */
+public abstract class IGSXMLCodec<T>
+{
+	/** The name of the element that contains the fields of an object. */
+	private final String elementName;
+
+	/** The fields in the order they are encoded. */
+	private final List<Field<T>> fields = new ArrayList<Field<T>>();
+
+	/**
+	 * Constructs a new <code>IGSXMLCodec</code>.
+	 * @param elementName the name of the element that contains the fields of
+	 *        an object
+	 */
+	protected IGSXMLCodec(String elementName)
+	{
+		super();
+		this.elementName = elementName;
+	}
+
+	/**
+	 * Returns a new object to receive the fields of an element.
+	 * @return the new object
+	 */
+	protected abstract T createObject();
+
+	/**
+	 * Returns the name of the element that contains the fields of an object.
+	 * @return the name of the element
+	 */
+	public String getElementName()
+	{
+		return this.elementName;
+	}
+
+	/**
+	 * Adds a field to the codec.
+	 * @param field the <code>Field</code>
+	 * @return this codec
+	 */
+	public IGSXMLCodec<T> addField(Field<T> field)
+	{
+		this.fields.add(field);
+		return this;
+	}
+
+	/**
+	 * Returns the fields of the codec.
+	 * @return the <code>List</code> of <code>Field</code>s
+	 */
+	public List<Field<T>> getFields()
+	{
+		return this.fields;
+	}
+
+	/**
+	 * Decodes the next element inside the current boundary of the document.
+	 * @param document the <code>IGSXMLDocument</code> to parse
+	 * @return the decoded object or <code>null</code> if there is no next
+	 *         element
+	 */
+	public T decode(IGSXMLDocument document)
+	{
+		if (!document.enterElement(this.elementName))
+		{
+			return null;
+		}
+		T result = createObject();
+		decodeFields(document, result);
+		document.stepOutOfElement();
+		return result;
+	}
+
+	/**
+	 * Decodes the elements wrapped by a parent element, as
+	 * {@link IGSXMLDocument#getElements(Collection, String, String)} does.
+	 * @param document the <code>IGSXMLDocument</code> to parse
+	 * @param parent the name of the parent element or <code>null</code> to
+	 *        decode the elements inside the current boundary
+	 * @return the <code>List</code> of decoded objects
+	 */
+	public List<T> decodeAll(IGSXMLDocument document, String parent)
+	{
+		List<T> result = new ArrayList<T>();
+		decodeAll(document, parent, result);
+		return result;
+	}
+
+	/**
+	 * Decodes the elements wrapped by a parent element, as
+	 * {@link IGSXMLDocument#getElements(Collection, String, String)} does.
+	 * @param document the <code>IGSXMLDocument</code> to parse
+	 * @param parent the name of the parent element or <code>null</code> to
+	 *        decode the elements inside the current boundary
+	 * @param collection the <code>Collection</code> to which to add the
+	 *        decoded objects
+	 * @return the number of decoded objects
+	 */
+	public int decodeAll(IGSXMLDocument document, String parent, Collection<? super T> collection)
+	{
+		if (parent != null && !document.enterElement(parent))
+		{
+			return 0;
+		}
+		int count = 0;
+		T object;
+		while ((object = decode(document)) != null)
+		{
+			collection.add(object);
+			count++;
+		}
+		if (parent != null)
+		{
+			document.stepOutOfElement();
+		}
+		return count;
+	}
+
+	/**
+	 * Decodes the fields of the element the document has stepped into. The
+	 * fields are read in one forward pass in the order they were added; a
+	 * field that is not found after the previous field is searched for again
+	 * from the start of the element.
+	 * @param document the <code>IGSXMLDocument</code> to parse
+	 * @param object the object to receive the fields
+	 */
+	private void decodeFields(IGSXMLDocument document, T object)
+	{
+		//~1C A field found moves the end offset of the current boundary
+		IGSXMLDocument.IGSXMLBoundary boundary = (IGSXMLDocument.IGSXMLBoundary) document.boundaries.peek();
+		for (int i = 0; i < this.fields.size(); i++)
+		{
+			Field<T> field = this.fields.get(i);
+			int startOffset = boundary.startOffset;
+			int endOffset = boundary.endOffset;
+			field.decode(document, object);
+			if (boundary.endOffset == endOffset && endOffset != boundary.start)
+			{
+				// The field is missing or precedes the previous field
+				document.resetCurrentBoundary();
+				field.decode(document, object);
+				if (boundary.endOffset == boundary.start)
+				{
+					boundary.startOffset = startOffset;
+					boundary.endOffset = endOffset;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds an element containing the fields of an object to the document.
+	 * @param document the <code>IGSXMLDocument</code> to build
+	 * @param object the object to encode
+	 */
+	public void encode(IGSXMLDocument document, T object)
+	{
+		document.startElement(this.elementName);
+		for (int i = 0; i < this.fields.size(); i++)
+		{
+			this.fields.get(i).encode(document, object);
+		}
+		document.endElement(this.elementName);
+	}
+
+	/**
+	 * Adds an element containing the fields of an object to the builder.
+	 * @param builder the <code>IGSXMLBuilder</code>
+	 * @param object the object to encode
+	 */
+	public void encode(IGSXMLBuilder builder, T object)
+	{
+		builder.startElement(this.elementName);
+		for (int i = 0; i < this.fields.size(); i++)
+		{
+			this.fields.get(i).encode(builder, object);
+		}
+		builder.endElement(this.elementName);
+	}
+
+	/**
+	 * Adds an element for each object wrapped by a parent element to the
+	 * document, as {@link IGSXMLDocument#addElements(Iterator, String, String)}
+	 * does.
+	 * @param document the <code>IGSXMLDocument</code> to build
+	 * @param parent the name of the parent element
+	 * @param objects the objects to encode
+	 */
+	public void encodeAll(IGSXMLDocument document, String parent, Collection<? extends T> objects)
+	{
+		document.startElement(parent);
+		Iterator<? extends T> iterator = objects.iterator();
+		while (iterator.hasNext())
+		{
+			encode(document, iterator.next());
+		}
+		document.endElement(parent);
+	}
+
+	/**
+	 * Adds an element for each object wrapped by a parent element to the
+	 * builder.
+	 * @param builder the <code>IGSXMLBuilder</code>
+	 * @param parent the name of the parent element
+	 * @param objects the objects to encode
+	 */
+	public void encodeAll(IGSXMLBuilder builder, String parent, Collection<? extends T> objects)
+	{
+		builder.startElement(parent);
+		Iterator<? extends T> iterator = objects.iterator();
+		while (iterator.hasNext())
+		{
+			encode(builder, iterator.next());
+		}
+		builder.endElement(parent);
+	}
+
+	/**
+	 * <code>Field</code> maps one child element to a field of an object.
+	 * @param <T> the type of the objects
+	 * @author The Process Profile Client Development Team
+	 */
+	public abstract static class Field<T>
+	{
+		/** The name of the element. */
+		private final String name;
+
+		/**
+		 * Constructs a new <code>Field</code>.
+		 * @param name the name of the element
+		 */
+		protected Field(String name)
+		{
+			super();
+			this.name = name;
+		}
+
+		/**
+		 * Returns the name of the element.
+		 * @return the name of the element
+		 */
+		public String getName()
+		{
+			return this.name;
+		}
+
+		/**
+		 * Reads the first element with the field's name inside the current
+		 * boundary and sets the field of the object.
+		 * @param document the <code>IGSXMLDocument</code> to parse
+		 * @param object the object to receive the field
+		 */
+		protected abstract void decode(IGSXMLDocument document, T object);
+
+		/**
+		 * Adds an element containing the field of the object to the document.
+		 * @param document the <code>IGSXMLDocument</code> to build
+		 * @param object the object to encode
+		 */
+		protected abstract void encode(IGSXMLDocument document, T object);
+
+		/**
+		 * Adds an element containing the field of the object to the builder.
+		 * @param builder the <code>IGSXMLBuilder</code>
+		 * @param object the object to encode
+		 */
+		protected abstract void encode(IGSXMLBuilder builder, T object);
+	}
+
+	/**
+	 * <code>StringField</code> maps an element to a <code>String</code>
+	 * field. A <code>null</code> value is encoded as an empty element.
+	 * @param <T> the type of the objects
+	 * @author The Process Profile Client Development Team
+	 */
+	public abstract static class StringField<T>
+		extends Field<T>
+	{
+		/**
+		 * Constructs a new <code>StringField</code>.
+		 * @param name the name of the element
+		 */
+		protected StringField(String name)
+		{
+			super(name);
+		}
+
+		/**
+		 * Returns the field of the object.
+		 * @param object the object
+		 * @return the value of the field
+		 */
+		protected abstract String get(T object);
+
+		/**
+		 * Sets the field of the object.
+		 * @param object the object
+		 * @param value the value of the field
+		 */
+		protected abstract void set(T object, String value);
+
+		/** {@inheritDoc} */
+		protected void decode(IGSXMLDocument document, T object)
+		{
+			String value = document.getNextElement(getName());
+			if (value != null)
+			{
+				set(object, value);
+			}
+		}
+
+		/** {@inheritDoc} */
+		protected void encode(IGSXMLDocument document, T object)
+		{
+			document.addElement(getName(), get(object));
+		}
+
+		/** {@inheritDoc} */
+		protected void encode(IGSXMLBuilder builder, T object)
+		{
+			builder.addElement(getName(), (CharSequence) get(object));
+		}
+	}
+
+	/**
+	 * <code>IntField</code> maps an element to an <code>int</code> field. The
+	 * field is not set if the element is missing or empty.
+	 * @param <T> the type of the objects
+	 * @author The Process Profile Client Development Team
+	 */
+	public abstract static class IntField<T>
+		extends Field<T>
+	{
+		/**
+		 * Constructs a new <code>IntField</code>.
+		 * @param name the name of the element
+		 */
+		protected IntField(String name)
+		{
+			super(name);
+		}
+
+		/**
+		 * Returns the field of the object.
+		 * @param object the object
+		 * @return the value of the field
+		 */
+		protected abstract int get(T object);
+
+		/**
+		 * Sets the field of the object.
+		 * @param object the object
+		 * @param value the value of the field
+		 */
+		protected abstract void set(T object, int value);
+
+		/** {@inheritDoc} */
+		protected void decode(IGSXMLDocument document, T object)
+		{
+			set(object, document.getNextInt(getName(), get(object)));
+		}
+
+		/** {@inheritDoc} */
+		protected void encode(IGSXMLDocument document, T object)
+		{
+			document.addElement(getName(), Integer.toString(get(object)));
+		}
+
+		/** {@inheritDoc} */
+		protected void encode(IGSXMLBuilder builder, T object)
+		{
+			builder.addElement(getName(), get(object));
+		}
+	}
+
+	/**
+	 * <code>LongField</code> maps an element to a <code>long</code> field.
+	 * The field is not set if the element is missing or empty.
+	 * @param <T> the type of the objects
+	 * @author The Process Profile Client Development Team
+	 */
+	public abstract static class LongField<T>
+		extends Field<T>
+	{
+		/**
+		 * Constructs a new <code>LongField</code>.
+		 * @param name the name of the element
+		 */
+		protected LongField(String name)
+		{
+			super(name);
+		}
+
+		/**
+		 * Returns the field of the object.
+		 * @param object the object
+		 * @return the value of the field
+		 */
+		protected abstract long get(T object);
+
+		/**
+		 * Sets the field of the object.
+		 * @param object the object
+		 * @param value the value of the field
+		 */
+		protected abstract void set(T object, long value);
+
+		/** {@inheritDoc} */
+		protected void decode(IGSXMLDocument document, T object)
+		{
+			set(object, document.getNextLong(getName(), get(object)));
+		}
+
+		/** {@inheritDoc} */
+		protected void encode(IGSXMLDocument document, T object)
+		{
+			document.addElement(getName(), Long.toString(get(object)));
+		}
+
+		/** {@inheritDoc} */
+		protected void encode(IGSXMLBuilder builder, T object)
+		{
+			builder.addElement(getName(), get(object));
+		}
+	}
+
+	/**
+	 * <code>DecimalField</code> maps an element to a <code>BigDecimal</code>
+	 * field. The field is not set if the element is missing or empty; a
+	 * <code>null</code> value is encoded as an empty element.
+	 * @param <T> the type of the objects
+	 * @author The Process Profile Client Development Team
+	 */
+	public abstract static class DecimalField<T>
+		extends Field<T>
+	{
+		/**
+		 * Constructs a new <code>DecimalField</code>.
+		 * @param name the name of the element
+		 */
+		protected DecimalField(String name)
+		{
+			super(name);
+		}
+
+		/**
+		 * Returns the field of the object.
+		 * @param object the object
+		 * @return the value of the field
+		 */
+		protected abstract BigDecimal get(T object);
+
+		/**
+		 * Sets the field of the object.
+		 * @param object the object
+		 * @param value the value of the field
+		 */
+		protected abstract void set(T object, BigDecimal value);
+
+		/** {@inheritDoc} */
+		protected void decode(IGSXMLDocument document, T object)
+		{
+			BigDecimal value = document.getNextDecimal(getName());
+			if (value != null)
+			{
+				set(object, value);
+			}
+		}
+
+		/** {@inheritDoc} */
+		protected void encode(IGSXMLDocument document, T object)
+		{
+			BigDecimal value = get(object);
+			document.addElement(getName(), value == null ? null : value.toPlainString());
+		}
+
+		/** {@inheritDoc} */
+		protected void encode(IGSXMLBuilder builder, T object)
+		{
+			BigDecimal value = get(object);
+			builder.addElement(getName(), value == null ? null : value.toPlainString());
+		}
+	}
+}
@@ -0,0 +1,313 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-001                  -Initial version
+ * 2026-10-18   ~1 user-004                  -Add IGSXMLFramer
+ * 2026-10-18   ~2 user-009                  -Add connect timeout
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+/**
+ * <code>IGSXMLConnection</code> encapsulates a <code>Socket</code> connected
+ * to a transaction server and the streams used by {@link IGSXMLTransaction} to
+ * read and write the length prefixed transaction data. Connections are either
+ * opened for a single transaction or leased from an
+ * {@link IGSXMLConnectionPool}.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLConnection
+{
+	/** The <code>Socket</code> connected to the server. */
+	private final Socket socket;
+
+	/** The <code>DataInputStream</code> used to read from the server. */
+	private final DataInputStream dataIn;
+
+	/** The <code>DataOutputStream</code> used to write to the server. */
+	private final DataOutputStream dataOut;
+
+	/** The <code>IGSXMLFramer</code> used to read and write buffers of data. */
+	private final IGSXMLFramer framer; //~1A
+
+	/** The server host name. */
+	private final String server;
+
+	/** The server port. */
+	private final int port;
+
+	/** The time in milliseconds the connection was opened. */
+	private final long created;
+
+	/** The time in milliseconds the connection was last returned to a pool. */
+	private long lastUsed;
+
+	/** The number of transactions that have used the connection. */
+	private int useCount;
+
+	/**
+	 * Constructs a new <code>IGSXMLConnection</code> and connects it to the
+	 * specified server.
+	 * @param server the server host name
+	 * @param port the server port
+	 * @throws IOException if the <code>Socket</code> could not be created
+	 */
+	public IGSXMLConnection(String server, int port)
+		throws IOException
+	{
+		this(server, port, 0); //~2C
+	}
+
+	//~2A New method
+	/**
+	 * Constructs a new <code>IGSXMLConnection</code> and connects it to the
+	 * specified server, waiting at most <code>connectTimeout</code>
+	 * milliseconds for the connection to be established.
+	 * @param server the server host name
+	 * @param port the server port
+	 * @param connectTimeout the connect timeout in milliseconds or 0 to wait
+	 *        indefinitely
+	 * @throws IOException if the <code>Socket</code> could not be created;
+	 *         <code>SocketTimeoutException</code> if the timeout expired
+	 */
+	public IGSXMLConnection(String server, int port, int connectTimeout)
+		throws IOException
+	{
+		super();
+		this.server = server;
+		this.port = port;
+		this.socket = new Socket();
+		try
+		{
+			this.socket.connect(new InetSocketAddress(server, port), connectTimeout);
+			this.socket.setKeepAlive(true);
+			this.socket.setTcpNoDelay(true);
+			this.dataIn = new DataInputStream(new BufferedInputStream(this.socket
+					.getInputStream()));
+			this.dataOut = new DataOutputStream(new BufferedOutputStream(this.socket
+					.getOutputStream()));
+			this.framer = new IGSXMLFramer(this.socket, this.dataIn, this.dataOut); //~1A ~2C
+		}
+		catch (IOException e)
+		{
+			IGSXMLTransaction.closeConnection(this.socket, null, null);
+			throw e;
+		}
+		this.created = System.currentTimeMillis();
+		this.lastUsed = this.created;
+	}
+
+	/**
+	 * Returns the pool key for the specified server and port.
+	 * @param server the server host name
+	 * @param port the server port
+	 * @return the pool key
+	 */
+	static String createKey(String server, int port)
+	{
+		return server + ':' + port;
+	}
+
+	/** Closes the connection and its streams. */
+	public void close()
+	{
+		IGSXMLTransaction.closeConnection(this.socket, this.dataIn, this.dataOut);
+		this.framer.release(); //~1A
+	}
+
+	//~1A New method
+	/**
+	 * Closes the connection and its streams without releasing the buffers of
+	 * the {@link IGSXMLFramer}, which may still be in use by another thread.
+	 */
+	void abort()
+	{
+		IGSXMLTransaction.closeConnection(this.socket, this.dataIn, this.dataOut);
+	}
+
+	/**
+	 * Returns the <code>DataInputStream</code> used to read from the server.
+	 * @return the <code>DataInputStream</code>
+	 */
+	public DataInputStream getDataInputStream()
+	{
+		return this.dataIn;
+	}
+
+	/**
+	 * Returns the <code>DataOutputStream</code> used to write to the server.
+	 * @return the <code>DataOutputStream</code>
+	 */
+	public DataOutputStream getDataOutputStream()
+	{
+		return this.dataOut;
+	}
+
+	//~1A New method
+	/**
+	 * Returns the <code>IGSXMLFramer</code> used to read and write buffers of
+	 * data. The framer must only be used by the thread that leased the
+	 * connection.
+	 * @return the <code>IGSXMLFramer</code>
+	 */
+	public IGSXMLFramer getFramer()
+	{
+		return this.framer;
+	}
+
+	/**
+	 * Returns the pool key of the connection.
+	 * @return the pool key
+	 */
+	String getKey()
+	{
+		return createKey(this.server, this.port);
+	}
+
+	/**
+	 * Returns the time in milliseconds the connection was last used.
+	 * @return the time the connection was last used
+	 */
+	public long getLastUsed()
+	{
+		return this.lastUsed;
+	}
+
+	/**
+	 * Returns the time in milliseconds the connection was opened.
+	 * @return the time the connection was opened
+	 */
+	public long getCreated()
+	{
+		return this.created;
+	}
+
+	/**
+	 * Returns the server port.
+	 * @return the server port
+	 */
+	public int getPort()
+	{
+		return this.port;
+	}
+
+	/**
+	 * Returns the server host name.
+	 * @return the server host name
+	 */
+	public String getServer()
+	{
+		return this.server;
+	}
+
+	/**
+	 * Returns the <code>Socket</code> connected to the server.
+	 * @return the <code>Socket</code>
+	 */
+	public Socket getSocket()
+	{
+		return this.socket;
+	}
+
+	/**
+	 * Returns the number of transactions that have used the connection.
+	 * @return the use count
+	 */
+	public int getUseCount()
+	{
+		return this.useCount;
+	}
+
+	/**
+	 * Returns <code>true</code> if the connection was used by a previous
+	 * transaction.
+	 * @return <code>true</code> if the connection was reused
+	 */
+	public boolean isReused()
+	{
+		return this.useCount > 1;
+	}
+
+	/**
+	 * Returns <code>true</code> if the <code>Socket</code> is still open.
+	 * This check does not perform any I/O.
+	 * @return <code>true</code> if the <code>Socket</code> is still open
+	 */
+	public boolean isOpen()
+	{
+		return this.socket.isConnected() && !this.socket.isClosed()
+				&& !this.socket.isInputShutdown() && !this.socket.isOutputShutdown();
+	}
+
+	/**
+	 * Checks if the server has closed the connection or sent unexpected data by
+	 * performing a read with a one millisecond timeout.
+	 * @return <code>true</code> if the connection can be used by a transaction
+	 */
+	public boolean validate()
+	{
+		if (!isOpen())
+		{
+			return false;
+		}
+
+		boolean valid = false;
+		try
+		{
+			int timeout = this.socket.getSoTimeout();
+			this.socket.setSoTimeout(1);
+			try
+			{
+				// A read that returns means the server closed the connection
+				// (-1) or sent data no transaction is waiting for
+				this.dataIn.read();
+			}
+			catch (SocketTimeoutException e)
+			{
+				valid = true;
+			}
+			finally
+			{
+				this.socket.setSoTimeout(timeout);
+			}
+		}
+		catch (IOException e)
+		{
+			valid = false;
+		}
+		return valid;
+	}
+
+	/** Marks the connection as leased by a transaction. */
+	void lease()
+	{
+		this.useCount++;
+	}
+
+	/** Marks the connection as idle. */
+	void release()
+	{
+		this.lastUsed = System.currentTimeMillis();
+	}
+
+	/**
+	 * Returns a <code>String</code> representation of the connection.
+	 * @return a <code>String</code> representation of the connection
+	 */
+	public String toString()
+	{
+		return "IGSXMLConnection[" + getKey() + ", uses=" + this.useCount + ']'; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
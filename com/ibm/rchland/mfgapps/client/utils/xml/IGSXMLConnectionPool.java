@@ -0,0 +1,607 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-001                  -Initial version
+ * 2026-10-18   ~1 user-009                  -Add connect timeout
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * <code>IGSXMLConnectionPool</code> keeps {@link IGSXMLConnection}s open
+ * between transactions so an {@link IGSXMLTransaction} does not have to pay
+ * for a TCP connection setup and teardown each time it executes.
+ * <p>
+ * Connections are pooled by server host name and port. At most
+ * {@link #getMaxPerHost()} connections to a server are leased or idle at the
+ * same time; a transaction that needs a connection while the limit is reached
+ * waits up to {@link #getMaxWait()} milliseconds for a connection to be
+ * returned. Idle connections are closed after {@link #getIdleTimeout()}
+ * milliseconds and connections that were idle for more than
+ * {@link #getValidationInterval()} milliseconds are validated before they are
+ * leased.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLConnectionPool
+{
+	/** The default maximum number of connections per server. */
+	public static final int DEFAULT_MAX_PER_HOST = 4;
+
+	/** The default number of milliseconds an idle connection is kept open. */
+	public static final long DEFAULT_IDLE_TIMEOUT = 60000;
+
+	/** The default number of milliseconds to wait for a connection. */
+	public static final long DEFAULT_MAX_WAIT = 30000;
+
+	/**
+	 * The default number of milliseconds a connection can be idle before it is
+	 * validated when it is leased.
+	 */
+	public static final long DEFAULT_VALIDATION_INTERVAL = 2000;
+
+	/** The <code>Map</code> of pool keys to {@link HostPool}s. */
+	private final Map<String, HostPool> hostPools = new HashMap<String, HostPool>();
+
+	/** The maximum number of connections per server. */
+	private int maxPerHost = DEFAULT_MAX_PER_HOST;
+
+	/** The number of milliseconds an idle connection is kept open. */
+	private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+	/** The number of milliseconds to wait for a connection. */
+	private long maxWait = DEFAULT_MAX_WAIT;
+
+	/** The idle time after which a connection is validated before use. */
+	private long validationInterval = DEFAULT_VALIDATION_INTERVAL;
+
+	/** The number of leases satisfied by an idle connection. */
+	private long hitCount;
+
+	/** The number of leases that opened a new connection. */
+	private long missCount;
+
+	/** The number of leases that had to wait for a connection. */
+	private long waitCount;
+
+	/** The total number of milliseconds spent waiting for a connection. */
+	private long waitTime;
+
+	/** The number of idle connections closed by the pool. */
+	private long evictionCount;
+
+	/** Set <code>true</code> when the pool has been closed. */
+	private boolean closed;
+
+	/** Constructs a new <code>IGSXMLConnectionPool</code>. */
+	public IGSXMLConnectionPool()
+	{
+		super();
+	}
+
+	/**
+	 * Constructs a new <code>IGSXMLConnectionPool</code>.
+	 * @param maxPerHost the maximum number of connections per server
+	 * @param idleTimeout the number of milliseconds an idle connection is kept
+	 *        open
+	 */
+	public IGSXMLConnectionPool(int maxPerHost, long idleTimeout)
+	{
+		super();
+		setMaxPerHost(maxPerHost);
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Leases a connection to the specified server. An idle connection is
+	 * returned if one is available; otherwise, a new connection is opened.
+	 * @param server the server host name
+	 * @param port the server port
+	 * @return the <code>IGSXMLConnection</code>
+	 * @throws IOException if a connection could not be opened or if no
+	 *         connection became available within {@link #getMaxWait()}
+	 *         milliseconds
+	 */
+	public IGSXMLConnection borrowConnection(String server, int port)
+		throws IOException
+	{
+		return borrowConnection(server, port, false);
+	}
+
+	/**
+	 * Leases a connection to the specified server.
+	 * @param server the server host name
+	 * @param port the server port
+	 * @param forceNew <code>true</code> if idle connections should be closed
+	 *        and a new connection opened
+	 * @return the <code>IGSXMLConnection</code>
+	 * @throws IOException if a connection could not be opened or if no
+	 *         connection became available within {@link #getMaxWait()}
+	 *         milliseconds
+	 */
+	public IGSXMLConnection borrowConnection(String server, int port, boolean forceNew)
+		throws IOException
+	{
+		return borrowConnection(server, port, forceNew, 0); //~1C
+	}
+
+	//~1A New method
+	/**
+	 * Leases a connection to the specified server, waiting at most
+	 * <code>connectTimeout</code> milliseconds for a connection to become
+	 * available and for a new connection to be established.
+	 * @param server the server host name
+	 * @param port the server port
+	 * @param forceNew <code>true</code> if idle connections should be closed
+	 *        and a new connection opened
+	 * @param connectTimeout the connect timeout in milliseconds or 0 to wait
+	 *        indefinitely for a new connection and up to
+	 *        {@link #getMaxWait()} milliseconds for an available connection
+	 * @return the <code>IGSXMLConnection</code>
+	 * @throws IOException if a connection could not be opened or if no
+	 *         connection became available in time
+	 */
+	public IGSXMLConnection borrowConnection(String server, int port, boolean forceNew,
+			int connectTimeout)
+		throws IOException
+	{
+		String key = IGSXMLConnection.createKey(server, port);
+		IGSXMLConnection connection = null;
+		HostPool hostPool;
+		synchronized (this)
+		{
+			if (this.closed)
+			{
+				throw new IOException("IGSXMLConnectionPool is closed."); //$NON-NLS-1$
+			}
+
+			hostPool = this.hostPools.get(key);
+			if (hostPool == null)
+			{
+				hostPool = new HostPool();
+				this.hostPools.put(key, hostPool);
+			}
+
+			evictIdleConnections(hostPool, System.currentTimeMillis(), forceNew);
+			boolean waited = false;
+			long start = System.currentTimeMillis();
+			long maxWait = connectTimeout > 0 ? Math.min(this.maxWait, connectTimeout) //~1A
+					: this.maxWait;
+			while (hostPool.idle.isEmpty() && hostPool.size() >= this.maxPerHost)
+			{
+				long remaining = maxWait - (System.currentTimeMillis() - start); //~1C
+				if (remaining <= 0)
+				{
+					this.waitTime += System.currentTimeMillis() - start;
+					throw new IOException("Timed out waiting for a connection to " + key); //$NON-NLS-1$
+				}
+				waited = true;
+				try
+				{
+					wait(remaining);
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					throw new IOException("Interrupted waiting for a connection to " + key); //$NON-NLS-1$
+				}
+				evictIdleConnections(hostPool, System.currentTimeMillis(), forceNew);
+			}
+			if (waited)
+			{
+				this.waitCount++;
+				this.waitTime += System.currentTimeMillis() - start;
+			}
+
+			if (!hostPool.idle.isEmpty())
+			{
+				connection = hostPool.idle.removeFirst();
+			}
+			// Reserve the slot for the new connection while the lock is held
+			hostPool.leased++;
+		}
+
+		if (connection != null && !isUsable(connection))
+		{
+			connection.close();
+			connection = null;
+			synchronized (this)
+			{
+				this.evictionCount++;
+			}
+		}
+
+		if (connection == null)
+		{
+			try
+			{
+				connection = new IGSXMLConnection(server, port, connectTimeout); //~1C
+			}
+			catch (IOException e)
+			{
+				synchronized (this)
+				{
+					hostPool.leased--;
+					notifyAll();
+				}
+				throw e;
+			}
+			synchronized (this)
+			{
+				this.missCount++;
+			}
+		}
+		else
+		{
+			synchronized (this)
+			{
+				this.hitCount++;
+			}
+		}
+
+		connection.lease();
+		return connection;
+	}
+
+	/**
+	 * Returns a leased connection to the pool so it can be used by another
+	 * transaction. The connection must have been leased from this pool and the
+	 * transaction must have read its complete output.
+	 * @param connection the <code>IGSXMLConnection</code> to return
+	 */
+	public void returnConnection(IGSXMLConnection connection)
+	{
+		if (connection == null)
+		{
+			return;
+		}
+
+		boolean close = false;
+		synchronized (this)
+		{
+			HostPool hostPool = this.hostPools.get(connection.getKey());
+			if (hostPool == null)
+			{
+				close = true;
+			}
+			else
+			{
+				hostPool.leased--;
+				if (this.closed || !connection.isOpen())
+				{
+					close = true;
+				}
+				else
+				{
+					connection.release();
+					// Most recently used connections are leased first
+					hostPool.idle.addFirst(connection);
+				}
+				notifyAll();
+			}
+		}
+
+		if (close)
+		{
+			connection.close();
+		}
+	}
+
+	/**
+	 * Closes a leased connection that can no longer be used, for example,
+	 * because a communication error occurred, and frees its slot in the pool.
+	 * @param connection the <code>IGSXMLConnection</code> to close
+	 */
+	public void invalidateConnection(IGSXMLConnection connection)
+	{
+		if (connection == null)
+		{
+			return;
+		}
+
+		connection.close();
+		synchronized (this)
+		{
+			HostPool hostPool = this.hostPools.get(connection.getKey());
+			if (hostPool != null)
+			{
+				hostPool.leased--;
+				notifyAll();
+			}
+		}
+	}
+
+	/** Closes the idle connections that exceeded the idle timeout. */
+	public synchronized void evictIdleConnections()
+	{
+		long now = System.currentTimeMillis();
+		Iterator<HostPool> hostPoolIterator = this.hostPools.values().iterator();
+		while (hostPoolIterator.hasNext())
+		{
+			evictIdleConnections(hostPoolIterator.next(), now, false);
+		}
+		notifyAll();
+	}
+
+	/**
+	 * Closes the idle connections of the specified {@link HostPool} that
+	 * exceeded the idle timeout or are no longer open.
+	 * @param hostPool the <code>HostPool</code>
+	 * @param now the current time in milliseconds
+	 * @param all <code>true</code> to close all idle connections
+	 */
+	private void evictIdleConnections(HostPool hostPool, long now, boolean all)
+	{
+		Iterator<IGSXMLConnection> iterator = hostPool.idle.iterator();
+		while (iterator.hasNext())
+		{
+			IGSXMLConnection next = iterator.next();
+			if (all || now - next.getLastUsed() > this.idleTimeout || !next.isOpen())
+			{
+				iterator.remove();
+				next.close();
+				this.evictionCount++;
+			}
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the idle connection can be leased.
+	 * @param connection the idle <code>IGSXMLConnection</code>
+	 * @return <code>true</code> if the connection can be leased
+	 */
+	private boolean isUsable(IGSXMLConnection connection)
+	{
+		long idle = System.currentTimeMillis() - connection.getLastUsed();
+		if (idle > this.validationInterval)
+		{
+			return connection.validate();
+		}
+		return connection.isOpen();
+	}
+
+	/**
+	 * Closes all idle connections and prevents further leases. Leased
+	 * connections are closed when they are returned.
+	 */
+	public void close()
+	{
+		synchronized (this)
+		{
+			this.closed = true;
+			Iterator<HostPool> hostPoolIterator = this.hostPools.values().iterator();
+			while (hostPoolIterator.hasNext())
+			{
+				evictIdleConnections(hostPoolIterator.next(), 0, true);
+			}
+			notifyAll();
+		}
+		IGSXMLTransaction.LOGGER.log(Level.FINE, toString());
+	}
+
+	/**
+	 * Returns the number of idle connections in the pool.
+	 * @return the number of idle connections
+	 */
+	public synchronized int getIdleCount()
+	{
+		int count = 0;
+		Iterator<HostPool> hostPoolIterator = this.hostPools.values().iterator();
+		while (hostPoolIterator.hasNext())
+		{
+			count += hostPoolIterator.next().idle.size();
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of leased connections.
+	 * @return the number of leased connections
+	 */
+	public synchronized int getLeasedCount()
+	{
+		int count = 0;
+		Iterator<HostPool> hostPoolIterator = this.hostPools.values().iterator();
+		while (hostPoolIterator.hasNext())
+		{
+			count += hostPoolIterator.next().leased;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of leases satisfied by an idle connection.
+	 * @return the hit count
+	 */
+	public synchronized long getHitCount()
+	{
+		return this.hitCount;
+	}
+
+	/**
+	 * Returns the number of leases that opened a new connection.
+	 * @return the miss count
+	 */
+	public synchronized long getMissCount()
+	{
+		return this.missCount;
+	}
+
+	/**
+	 * Returns the number of leases that had to wait for a connection.
+	 * @return the wait count
+	 */
+	public synchronized long getWaitCount()
+	{
+		return this.waitCount;
+	}
+
+	/**
+	 * Returns the total number of milliseconds spent waiting for a connection.
+	 * @return the wait time in milliseconds
+	 */
+	public synchronized long getWaitTime()
+	{
+		return this.waitTime;
+	}
+
+	/**
+	 * Returns the number of idle connections closed by the pool.
+	 * @return the eviction count
+	 */
+	public synchronized long getEvictionCount()
+	{
+		return this.evictionCount;
+	}
+
+	/** Resets the hit, miss, wait, and eviction statistics. */
+	public synchronized void resetStatistics()
+	{
+		this.hitCount = 0;
+		this.missCount = 0;
+		this.waitCount = 0;
+		this.waitTime = 0;
+		this.evictionCount = 0;
+	}
+
+	/**
+	 * Returns the number of milliseconds an idle connection is kept open.
+	 * @return the idle timeout in milliseconds
+	 */
+	public synchronized long getIdleTimeout()
+	{
+		return this.idleTimeout;
+	}
+
+	/**
+	 * Sets the number of milliseconds an idle connection is kept open.
+	 * @param idleTimeout the idle timeout in milliseconds
+	 */
+	public synchronized void setIdleTimeout(long idleTimeout)
+	{
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Returns the maximum number of connections per server.
+	 * @return the maximum number of connections per server
+	 */
+	public synchronized int getMaxPerHost()
+	{
+		return this.maxPerHost;
+	}
+
+	/**
+	 * Sets the maximum number of connections per server.
+	 * @param maxPerHost the maximum number of connections per server
+	 * @throws IllegalArgumentException if <code>maxPerHost</code> is less
+	 *         than one
+	 */
+	public synchronized void setMaxPerHost(int maxPerHost)
+	{
+		if (maxPerHost < 1)
+		{
+			String msg = "maxPerHost < 1"; //$NON-NLS-1$
+			throw new IllegalArgumentException(msg);
+		}
+		this.maxPerHost = maxPerHost;
+		notifyAll();
+	}
+
+	/**
+	 * Returns the number of milliseconds to wait for a connection.
+	 * @return the maximum wait in milliseconds
+	 */
+	public synchronized long getMaxWait()
+	{
+		return this.maxWait;
+	}
+
+	/**
+	 * Sets the number of milliseconds to wait for a connection.
+	 * @param maxWait the maximum wait in milliseconds
+	 */
+	public synchronized void setMaxWait(long maxWait)
+	{
+		this.maxWait = maxWait;
+	}
+
+	/**
+	 * Returns the number of milliseconds a connection can be idle before it is
+	 * validated when it is leased.
+	 * @return the validation interval in milliseconds
+	 */
+	public synchronized long getValidationInterval()
+	{
+		return this.validationInterval;
+	}
+
+	/**
+	 * Sets the number of milliseconds a connection can be idle before it is
+	 * validated when it is leased.
+	 * @param validationInterval the validation interval in milliseconds
+	 */
+	public synchronized void setValidationInterval(long validationInterval)
+	{
+		this.validationInterval = validationInterval;
+	}
+
+	/**
+	 * Returns a <code>String</code> representation of the pool statistics.
+	 * @return a <code>String</code> representation of the pool
+	 */
+	public synchronized String toString()
+	{
+		StringBuffer stringBuffer = new StringBuffer();
+		stringBuffer.append("IGSXMLConnectionPool[hits="); //$NON-NLS-1$
+		stringBuffer.append(this.hitCount);
+		stringBuffer.append(", misses="); //$NON-NLS-1$
+		stringBuffer.append(this.missCount);
+		stringBuffer.append(", waits="); //$NON-NLS-1$
+		stringBuffer.append(this.waitCount);
+		stringBuffer.append(", waitTime="); //$NON-NLS-1$
+		stringBuffer.append(this.waitTime);
+		stringBuffer.append(", evictions="); //$NON-NLS-1$
+		stringBuffer.append(this.evictionCount);
+		stringBuffer.append(']');
+		return stringBuffer.toString();
+	}
+
+	/**
+	 * <code>HostPool</code> stores the idle connections and the number of
+	 * leased connections for a server.
+	 * @author The Process Profile Client Development Team
+	 */
+	private static class HostPool
+	{
+		/** The idle connections, most recently used first. */
+		final LinkedList<IGSXMLConnection> idle = new LinkedList<IGSXMLConnection>();
+
+		/** The number of leased connections. */
+		int leased;
+
+		/** Constructs a new <code>HostPool</code>. */
+		HostPool()
+		{
+			super();
+		}
+
+		/**
+		 * Returns the number of idle and leased connections.
+		 * @return the number of connections
+		 */
+		int size()
+		{
+			return this.idle.size() + this.leased;
+		}
+	}
+}
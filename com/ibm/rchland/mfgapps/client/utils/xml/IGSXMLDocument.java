@@ -12,10 +12,19 @@
  * 2009-03-23   ~2 43907MC  	Santiago SC      -Add getNextReqElement and stepIntoReqElement
  * 2009-03-24   ~3 43907MC  	Jaime G.         -Add startDocument with encoding value. 
  * 2014-02-28	~4 RCQ00281756	Cesar M.		 -Add getFieldCount and fieldExists
+ * 2026-10-18   ~5 user-011    	                 -Add optional IGSXMLElementIndex
+ * 2026-10-18   ~6 user-012    	                 -Let subclasses replace the element lookup
+ * 2026-10-18   ~7 user-014    	                 -Add typed accessors that do not create Strings
+ * 2026-10-18   ~8 user-015    	                 -Add enterElement for IGSXMLCodec
+ * 2026-10-18   ~9 user-020    	                 -Add optional IGSXMLStringInterner
+ * 2026-10-18  ~10 user-014    	                 -Find tags without creating Strings
  *********************************************************************************************/
 package com.ibm.rchland.mfgapps.client.utils.xml;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Stack;
 
@@ -38,6 +47,21 @@ public class IGSXMLDocument
 	/** Set <code>true</code> when a start tag is open. */
 	protected boolean startTagOpen = false;
 
+	/** Set <code>true</code> if the parsing methods use an element index. */
+	private boolean indexed = false; //~5A
+
+	/** The element index of the document or <code>null</code> if not built. */
+	private IGSXMLElementIndex index; //~5A
+
+	/** The characters of the data read by the typed accessors. */
+	private char[] dataChars = new char[32]; //~7A
+
+	/** The pool of the element data returned or <code>null</code>. */
+	private IGSXMLStringInterner interner; //~9A
+
+	/** The names of the elements whose data is pooled or <code>null</code> for all. */
+	private HashSet<String> internedElements; //~9A
+
 	/** Constructs a new <code>IGSXMLDocument</code>. */
 	@SuppressWarnings("unchecked")
 	public IGSXMLDocument()
@@ -67,21 +91,67 @@ public class IGSXMLDocument
 	 */
 	public static int findStartTag(String name, StringBuffer xml, int offset)
 	{
-		int indices[] = new int[3];
-		indices[0] = xml.indexOf('<' + name + ' ', offset);
-		indices[1] = xml.indexOf('<' + name + '/', offset);
-		indices[2] = xml.indexOf('<' + name + '>', offset);
+		//~10C Match the name after each '<' instead of searching for tags
+		int length = name.length();
+		for (int i = xml.indexOf("<", offset); i != -1; i = xml.indexOf("<", i + 1)) //$NON-NLS-1$ //$NON-NLS-2$
+		{
+			int nameEnd = i + 1 + length;
+			if (nameEnd < xml.length() && regionMatches(xml, i + 1, name))
+			{
+				char next = xml.charAt(nameEnd);
+				if (next == ' ' || next == '/' || next == '>')
+				{
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
 
-		int result = Integer.MAX_VALUE;
-		for (int i = 0; i < indices.length; i++)
+	//~10A New method
+	/**
+	 * Finds the index of the first end tag of an element with the given name
+	 * starting at the specified offset.
+	 * @param name the name of the element
+	 * @param xml the XML to parse
+	 * @param offset the starting offset into the XML
+	 * @return the index of the first end tag of the element or -1 if the end
+	 *         tag was not found
+	 */
+	public static int findEndTag(String name, StringBuffer xml, int offset)
+	{
+		int length = name.length();
+		for (int i = xml.indexOf("</", offset); i != -1; i = xml.indexOf("</", i + 2)) //$NON-NLS-1$ //$NON-NLS-2$
 		{
-			if (indices[i] != -1 && indices[i] < result)
+			int nameEnd = i + 2 + length;
+			if (nameEnd < xml.length() && xml.charAt(nameEnd) == '>'
+					&& regionMatches(xml, i + 2, name))
 			{
-				result = indices[i];
+				return i;
 			}
 		}
+		return -1;
+	}
 
-		return result == Integer.MAX_VALUE ? -1 : result;
+	//~10A New method
+	/**
+	 * Returns <code>true</code> if the XML contains the given name at the
+	 * specified offset. The XML must contain enough characters.
+	 * @param xml the XML to parse
+	 * @param offset the offset into the XML
+	 * @param name the name to compare
+	 * @return <code>true</code> if the characters equal the name
+	 */
+	private static boolean regionMatches(StringBuffer xml, int offset, String name)
+	{
+		for (int i = 0; i < name.length(); i++)
+		{
+			if (xml.charAt(offset + i) != name.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -95,7 +165,25 @@ public class IGSXMLDocument
 	 */
 	public static String getElement(String name, StringBuffer xml, IGSXMLBoundary boundary)
 	{
-		String result = null;
+		if (findElement(name, xml, boundary)) //~7C
+		{
+			return xml.substring(boundary.dataStart, boundary.dataEnd);
+		}
+		return null;
+	}
+
+	//~7A New method
+	/**
+	 * Finds the first element with the given name inside the specified
+	 * boundary and sets the boundary's offsets of the last element parsed
+	 * and of its data.
+	 * @param name the name of the element
+	 * @param xml the XML to parse
+	 * @param boundary the XML document parsing boundary
+	 * @return <code>true</code> if the element was found
+	 */
+	public static boolean findElement(String name, StringBuffer xml, IGSXMLBoundary boundary)
+	{
 		int soIndex = findStartTag(name, xml, boundary.endOffset);
 		if (soIndex != -1)
 		{
@@ -109,30 +197,184 @@ public class IGSXMLDocument
 					{
 						boundary.startOffset = soIndex;
 						boundary.endOffset = scIndex + 1;
-						result = ""; //$NON-NLS-1$
+						boundary.dataStart = scIndex + 1;
+						boundary.dataEnd = scIndex + 1;
+						return true;
 					}
 				}
 				//If non-empty element
 				else
 				{
-					String endTag = "</" + name + '>'; //$NON-NLS-1$
-					int eIndex = xml.indexOf(endTag, scIndex);
+					int eIndex = findEndTag(name, xml, scIndex); //~10C
 					if (eIndex != -1 && eIndex <= boundary.end)
 					{
 						boundary.startOffset = soIndex;
-						boundary.endOffset = eIndex + endTag.length();
-						return xml.substring(scIndex + 1, eIndex);
+						boundary.endOffset = eIndex + name.length() + 3; //~10C
+						boundary.dataStart = scIndex + 1;
+						boundary.dataEnd = eIndex;
+						return true;
 					}
 				}
 			}
 		}
-		return result;
+		return false;
 	}
 
 	/** Clears the XML document. */
 	public void clear()
 	{
 		this.buffer.setLength(0);
+		invalidateIndex(); //~5A
+	}
+
+	//~5A New method
+	/**
+	 * Returns <code>true</code> if the parsing methods use an
+	 * {@link IGSXMLElementIndex}.
+	 * @return <code>true</code> if the document is indexed
+	 */
+	public boolean isIndexed()
+	{
+		return this.indexed;
+	}
+
+	//~5A New method
+	/**
+	 * Sets whether the parsing methods use an {@link IGSXMLElementIndex}. The
+	 * index is built in one pass the first time an element is looked up and
+	 * again after the document changes. Each lookup is then a binary search
+	 * instead of a scan of the rest of the document, which makes walking
+	 * documents with thousands of repeated elements linear instead of
+	 * quadratic. The parsing methods return the same results either way.
+	 * @param indexed <code>true</code> to use an element index
+	 */
+	public void setIndexed(boolean indexed)
+	{
+		this.indexed = indexed;
+		invalidateIndex();
+	}
+
+	//~5A New method
+	/**
+	 * Discards the element index. Subclasses that change the
+	 * <code>buffer</code> without changing its length must call this method.
+	 */
+	protected void invalidateIndex()
+	{
+		this.index = null;
+	}
+
+	//~5A New method
+	/**
+	 * Returns the element index of the document, building it if necessary.
+	 * @return the <code>IGSXMLElementIndex</code> or <code>null</code> if
+	 *         the document is not indexed
+	 */
+	public IGSXMLElementIndex getIndex()
+	{
+		if (!this.indexed)
+		{
+			return null;
+		}
+		if (this.index == null || this.index.getLength() != this.buffer.length())
+		{
+			this.index = new IGSXMLElementIndex(this.buffer);
+		}
+		return this.index;
+	}
+
+	//~5A New method
+	/**
+	 * Returns the data of the first element with the given name inside the
+	 * specified boundary using the element index if the document is indexed.
+	 * @param name the name of the element
+	 * @param boundary the XML document parsing boundary
+	 * @return the data of the first element with the given name or
+	 *         <code>null</code> if no such element exists
+	 */
+	protected String getElement(String name, IGSXMLBoundary boundary) //~6C
+	{
+		//~7C Find the element, then copy its data
+		if (!findElement(name, boundary))
+		{
+			return null;
+		}
+		//~9A Return the pooled data of low-cardinality elements
+		if (this.interner != null
+				&& (this.internedElements == null || this.internedElements.contains(name)))
+		{
+			return this.interner.intern(this.dataChars, 0, copyData(boundary));
+		}
+		String unescaped = getUnescapedData(boundary);
+		if (unescaped != null)
+		{
+			return unescaped;
+		}
+		return this.buffer.substring(boundary.dataStart, boundary.dataEnd);
+	}
+
+	//~9A New method
+	/**
+	 * Returns the pool of the element data returned by the parsing methods.
+	 * @return the <code>IGSXMLStringInterner</code> or <code>null</code>
+	 */
+	public IGSXMLStringInterner getStringInterner()
+	{
+		return this.interner;
+	}
+
+	//~9A New method
+	/**
+	 * Sets the pool of the element data returned by the parsing methods. The
+	 * data of the specified elements is returned as a pooled
+	 * <code>String</code>, so equal values share one <code>String</code>.
+	 * Pooling is meant for elements with few distinct values, such as status
+	 * codes; the pool can be shared by many documents.
+	 * @param interner the <code>IGSXMLStringInterner</code> or
+	 *        <code>null</code> to stop pooling
+	 * @param elementNames the names of the elements whose data is pooled or
+	 *        <code>null</code> to pool the data of all elements
+	 */
+	public void setStringInterner(IGSXMLStringInterner interner, String[] elementNames)
+	{
+		this.interner = interner;
+		this.internedElements = elementNames == null ? null : new HashSet<String>(Arrays.asList(elementNames));
+	}
+
+	//~7A New method
+	/**
+	 * Finds the first element with the given name inside the specified
+	 * boundary using the element index if the document is indexed, and sets
+	 * the boundary's offsets of the last element parsed and of its data. All
+	 * parsing methods find elements using this method, so subclasses can
+	 * override it to parse the document differently.
+	 * @param name the name of the element
+	 * @param boundary the XML document parsing boundary
+	 * @return <code>true</code> if the element was found
+	 */
+	protected boolean findElement(String name, IGSXMLBoundary boundary)
+	{
+		IGSXMLElementIndex elementIndex = getIndex();
+		if (elementIndex != null)
+		{
+			return elementIndex.findElement(name, this.buffer, boundary);
+		}
+		return findElement(name, this.buffer, boundary);
+	}
+
+	//~7A New method
+	/**
+	 * Returns the data of the element last found by
+	 * {@link #findElement(String, IGSXMLBoundary)} if it differs from the
+	 * characters between the boundary's data offsets, for example because a
+	 * subclass replaces entity references.
+	 * @param boundary the XML document parsing boundary
+	 * @return the data or <code>null</code> if the data is the characters
+	 *         between the boundary's data offsets
+	 */
+	protected String getUnescapedData(IGSXMLBoundary boundary)
+	{
+		return null;
 	}
 
 	/**
@@ -179,6 +421,7 @@ public class IGSXMLDocument
 	public void startDocument()
 	{
 		this.buffer.setLength(0);
+		invalidateIndex(); //~5A
 		this.buffer.append("<?xml version=\"1.0\"?>"); //$NON-NLS-1$
 	}
 	
@@ -187,6 +430,7 @@ public class IGSXMLDocument
 	public void startDocument(String encoding)
 	{
 		this.buffer.setLength(0);
+		invalidateIndex(); //~5A
 		this.buffer.append("<?xml version=\"1.0\" encoding=\""+encoding+"\"?>"); //$NON-NLS-1$
 	}
 	/** Closes a start tag if one is open. */
@@ -323,7 +567,7 @@ public class IGSXMLDocument
 		IGSXMLBoundary boundary = (IGSXMLBoundary) this.boundaries.peek();
 		boundary.startOffset = boundary.start;
 		boundary.endOffset = boundary.start;
-		return getElement(name, this.buffer, boundary);
+		return getElement(name, boundary); //~5C
 	}
 
 	/**
@@ -335,7 +579,7 @@ public class IGSXMLDocument
 	public String getNextElement(String name)
 	{
 		IGSXMLBoundary marker = (IGSXMLBoundary) this.boundaries.peek();
-		return getElement(name, this.buffer, marker);
+		return getElement(name, marker); //~5C
 	}
 
 	//~2A
@@ -348,7 +592,7 @@ public class IGSXMLDocument
 	public String getNextReqElement(String name) throws IGSException
 	{
 		IGSXMLBoundary marker = (IGSXMLBoundary) this.boundaries.peek();
-		String element = getElement(name, this.buffer, marker);
+		String element = getElement(name, marker); //~5C
 		if(element == null)
 		{
 		    throw new IGSException("No <" + name + "> tags were found!");
@@ -360,6 +604,228 @@ public class IGSXMLDocument
 		return element;
 	}	
 	
+	//~7A New method
+	/**
+	 * Returns the data of the next element with the given name as an
+	 * <code>int</code> without creating a <code>String</code>. Leading and
+	 * trailing whitespace is ignored.
+	 * @param name the name of the element
+	 * @param defaultValue the value returned if no such element exists or
+	 *        the element is empty
+	 * @return the data of the next element with the given name
+	 * @throws NumberFormatException if the data is not an <code>int</code>
+	 */
+	public int getNextInt(String name, int defaultValue)
+	{
+		long result = getNextLong(name, defaultValue);
+		if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE)
+		{
+			throw new NumberFormatException("Value out of range for <" + name + ">"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return (int) result;
+	}
+
+	//~7A New method
+	/**
+	 * Returns the data of the next element with the given name as a
+	 * <code>long</code> without creating a <code>String</code>. Leading and
+	 * trailing whitespace is ignored.
+	 * @param name the name of the element
+	 * @param defaultValue the value returned if no such element exists or
+	 *        the element is empty
+	 * @return the data of the next element with the given name
+	 * @throws NumberFormatException if the data is not a <code>long</code>
+	 */
+	public long getNextLong(String name, long defaultValue)
+	{
+		IGSXMLBoundary marker = (IGSXMLBoundary) this.boundaries.peek();
+		if (!findElement(name, marker))
+		{
+			return defaultValue;
+		}
+		char[] chars = this.dataChars;
+		int end = trimEnd(chars, copyData(marker));
+		int start = trimStart(chars, end);
+		if (start == end)
+		{
+			return defaultValue;
+		}
+		boolean negative = chars[start] == '-';
+		int i = negative || chars[start] == '+' ? start + 1 : start;
+		if (i == end)
+		{
+			throw new NumberFormatException(new String(chars, start, end - start));
+		}
+		// Accumulate negatively so that Long.MIN_VALUE can be parsed
+		long result = 0;
+		for (; i < end; i++)
+		{
+			int digit = chars[i] - '0';
+			if (digit < 0 || digit > 9 || result < (Long.MIN_VALUE + digit) / 10)
+			{
+				throw new NumberFormatException(new String(chars, start, end - start));
+			}
+			result = result * 10 - digit;
+		}
+		if (!negative)
+		{
+			if (result == Long.MIN_VALUE)
+			{
+				throw new NumberFormatException(new String(chars, start, end - start));
+			}
+			result = -result;
+		}
+		return result;
+	}
+
+	//~7A New method
+	/**
+	 * Returns the data of the next element with the given name as a
+	 * <code>BigDecimal</code>, parsed from the document's characters without
+	 * creating a <code>String</code>. Leading and trailing whitespace is
+	 * ignored.
+	 * @param name the name of the element
+	 * @return the data of the next element with the given name or
+	 *         <code>null</code> if no such element exists or the element is
+	 *         empty
+	 * @throws NumberFormatException if the data is not a decimal number
+	 */
+	public BigDecimal getNextDecimal(String name)
+	{
+		IGSXMLBoundary marker = (IGSXMLBoundary) this.boundaries.peek();
+		if (!findElement(name, marker))
+		{
+			return null;
+		}
+		char[] chars = this.dataChars;
+		int end = trimEnd(chars, copyData(marker));
+		int start = trimStart(chars, end);
+		if (start == end)
+		{
+			return null;
+		}
+		return new BigDecimal(chars, start, end - start);
+	}
+
+	//~7A New method
+	/**
+	 * Returns the data of the next element with the given name as a
+	 * <code>CharSequence</code> that reads the document's characters instead
+	 * of copying them. The sequence is only valid until the document is
+	 * changed; its <code>toString</code> method copies the data.
+	 * @param name the name of the element
+	 * @return the data of the next element with the given name or
+	 *         <code>null</code> if no such element exists
+	 */
+	public CharSequence getNextCharSequence(String name)
+	{
+		IGSXMLBoundary marker = (IGSXMLBoundary) this.boundaries.peek();
+		if (!findElement(name, marker))
+		{
+			return null;
+		}
+		String unescaped = getUnescapedData(marker);
+		if (unescaped != null)
+		{
+			return unescaped;
+		}
+		return new IGSXMLDataView(this.buffer, marker.dataStart, marker.dataEnd);
+	}
+
+	//~7A New method
+	/**
+	 * Returns <code>true</code> if the next element with the given name
+	 * exists and its data equals the specified value. The current boundary
+	 * moves past the element as it does for {@link #getNextElement(String)}.
+	 * @param name the name of the element
+	 * @param value the value to compare
+	 * @return <code>true</code> if the element's data equals the value
+	 */
+	public boolean nextElementEquals(String name, CharSequence value)
+	{
+		IGSXMLBoundary marker = (IGSXMLBoundary) this.boundaries.peek();
+		if (!findElement(name, marker))
+		{
+			return false;
+		}
+		String unescaped = getUnescapedData(marker);
+		int length = unescaped != null ? unescaped.length() : marker.dataEnd - marker.dataStart;
+		if (value.length() != length)
+		{
+			return false;
+		}
+		char[] chars = this.dataChars;
+		copyData(marker);
+		for (int i = 0; i < length; i++)
+		{
+			if (chars[i] != value.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	//~7A New method
+	/**
+	 * Copies the data of the element last found in the specified boundary to
+	 * {@link #dataChars}, growing the array if necessary.
+	 * @param boundary the XML document parsing boundary
+	 * @return the number of characters copied
+	 */
+	private int copyData(IGSXMLBoundary boundary)
+	{
+		String unescaped = getUnescapedData(boundary);
+		int length = unescaped != null ? unescaped.length() : boundary.dataEnd - boundary.dataStart;
+		if (length > this.dataChars.length)
+		{
+			this.dataChars = new char[Math.max(length, this.dataChars.length << 1)];
+		}
+		if (unescaped != null)
+		{
+			unescaped.getChars(0, length, this.dataChars, 0);
+		}
+		else
+		{
+			this.buffer.getChars(boundary.dataStart, boundary.dataEnd, this.dataChars, 0);
+		}
+		return length;
+	}
+
+	//~7A New method
+	/**
+	 * Returns the offset of the first character that is not whitespace.
+	 * @param chars the characters
+	 * @param end the offset following the last character
+	 * @return the offset of the first character that is not whitespace or
+	 *         <code>end</code>
+	 */
+	private static int trimStart(char[] chars, int end)
+	{
+		int start = 0;
+		while (start < end && Character.isWhitespace(chars[start]))
+		{
+			start++;
+		}
+		return start;
+	}
+
+	//~7A New method
+	/**
+	 * Returns the offset following the last character that is not whitespace.
+	 * @param chars the characters
+	 * @param end the offset following the last character
+	 * @return the offset following the last character that is not whitespace
+	 */
+	private static int trimEnd(char[] chars, int end)
+	{
+		while (end > 0 && Character.isWhitespace(chars[end - 1]))
+		{
+			end--;
+		}
+		return end;
+	}
+
 	/**
 	 * Finds the next element with the given name and pushes a new boundary onto
 	 * the document's stack of boundaries such that the XML parsing methods will
@@ -372,7 +838,7 @@ public class IGSXMLDocument
 	public String stepIntoElement(String name)
 	{
 		IGSXMLBoundary marker = (IGSXMLBoundary) this.boundaries.peek();
-		String element = getElement(name, this.buffer, marker);
+		String element = getElement(name, marker); //~5C
 		if (element != null)
 		{
 			this.boundaries.push(new IGSXMLBoundary(marker.startOffset, marker.endOffset));
@@ -380,6 +846,27 @@ public class IGSXMLDocument
 		return element;
 	}
 	
+	//~8A New method
+	/**
+	 * Finds the next element with the given name and pushes a new boundary
+	 * onto the document's stack of boundaries, as
+	 * {@link #stepIntoElement(String)} does, without copying the element's
+	 * data.
+	 * @param name the name of the element
+	 * @return <code>true</code> if the element was found
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean enterElement(String name)
+	{
+		IGSXMLBoundary marker = (IGSXMLBoundary) this.boundaries.peek();
+		if (findElement(name, marker))
+		{
+			this.boundaries.push(new IGSXMLBoundary(marker.startOffset, marker.endOffset));
+			return true;
+		}
+		return false;
+	}
+
 	//~2A
 	/**
 	 * Finds the next element with the given name and pushes a new 
@@ -394,7 +881,7 @@ public class IGSXMLDocument
 	public String stepIntoReqElement(String name) throws IGSException
 	{
 		IGSXMLBoundary marker = (IGSXMLBoundary) this.boundaries.peek();
-		String element = getElement(name, this.buffer, marker);
+		String element = getElement(name, marker); //~5C
 		if (element != null)
 		{
 			this.boundaries.push(new IGSXMLBoundary(marker.startOffset, marker.endOffset));
@@ -492,6 +979,12 @@ public class IGSXMLDocument
 		/** The end index of the boundary. */
 		public final int end;
 
+		/** The starting offset of the data of the last element parsed. */
+		public int dataStart; //~7A
+
+		/** The ending offset of the data of the last element parsed. */
+		public int dataEnd; //~7A
+
 		/**
 		 * Constructs a new <code>IGSXMLMarker</code>.
 		 * @param start the start index of the boundary
@@ -505,6 +998,71 @@ public class IGSXMLDocument
 			this.end = end;
 		}
 	}
+
+	//~7A New class
+	/**
+	 * <code>IGSXMLDataView</code> is a <code>CharSequence</code> that reads
+	 * the data of an element from the document's <code>StringBuffer</code>.
+	 * @author The Process Profile Client Development Team
+	 */
+	private static class IGSXMLDataView
+		implements CharSequence
+	{
+		/** The document. */
+		private final StringBuffer xml;
+
+		/** The offset of the data. */
+		private final int start;
+
+		/** The offset following the data. */
+		private final int end;
+
+		/**
+		 * Constructs a new <code>IGSXMLDataView</code>.
+		 * @param xml the document
+		 * @param start the offset of the data
+		 * @param end the offset following the data
+		 */
+		IGSXMLDataView(StringBuffer xml, int start, int end)
+		{
+			super();
+			this.xml = xml;
+			this.start = start;
+			this.end = end;
+		}
+
+		/** {@inheritDoc} */
+		public int length()
+		{
+			return this.end - this.start;
+		}
+
+		/** {@inheritDoc} */
+		public char charAt(int index)
+		{
+			if (index < 0 || index >= length())
+			{
+				throw new IndexOutOfBoundsException(Integer.toString(index));
+			}
+			return this.xml.charAt(this.start + index);
+		}
+
+		/** {@inheritDoc} */
+		public CharSequence subSequence(int from, int to)
+		{
+			if (from < 0 || to > length() || from > to)
+			{
+				throw new IndexOutOfBoundsException(from + "," + to); //$NON-NLS-1$
+			}
+			return new IGSXMLDataView(this.xml, this.start + from, this.start + to);
+		}
+
+		/** {@inheritDoc} */
+		public String toString()
+		{
+			return this.xml.substring(this.start, this.end);
+		}
+	}
 	
 	//~4A
 	/**
@@ -560,6 +1118,11 @@ public class IGSXMLDocument
 	{
 		IGSXMLBoundary marker = (IGSXMLBoundary) this.boundaries.peek();
 		
+		IGSXMLElementIndex elementIndex = getIndex(); //~5A
+		if (elementIndex != null)
+		{
+			return elementIndex.findStartTag(name, marker.endOffset);
+		}
 		return findStartTag(name,this.buffer,marker.endOffset);
 	}
 }
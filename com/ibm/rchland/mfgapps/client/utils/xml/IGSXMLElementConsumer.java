@@ -0,0 +1,143 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-005                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.io.IOException;
+
+/**
+ * <code>IGSXMLElementConsumer</code> is an {@link IGSXMLResponseConsumer}
+ * that extracts each complete occurrence of a repeating element (such as a
+ * row of a report) from the output of a transaction and passes it to
+ * {@link #consumeElement(IGSXMLTransaction, String)}. An element may span
+ * several buffers of data; only the data of an incomplete element is kept
+ * between buffers. Data outside of the repeating elements is discarded.
+ * <p>
+ * As for {@link IGSXMLDocument#getElement(String, StringBuffer,
+ * IGSXMLDocument.IGSXMLBoundary)}, an element ends at the first end tag with
+ * the element's name, so the repeating element must not contain an element
+ * with the same name.
+ * @author The Process Profile Client Development Team
+ */
+public abstract class IGSXMLElementConsumer
+	implements IGSXMLResponseConsumer
+{
+	/** The name of the repeating element. */
+	private final String name;
+
+	/** The end tag of the repeating element. */
+	private final String endTag;
+
+	/** The data that has not been consumed. */
+	private final StringBuffer pending = new StringBuffer();
+
+	/** The number of elements consumed. */
+	private int count;
+
+	/**
+	 * Constructs a new <code>IGSXMLElementConsumer</code>.
+	 * @param name the name of the repeating element
+	 */
+	public IGSXMLElementConsumer(String name)
+	{
+		super();
+		this.name = name;
+		this.endTag = "</" + name + '>'; //$NON-NLS-1$
+	}
+
+	/**
+	 * Extracts the complete elements from the buffer of data.
+	 * @param transaction the executing <code>IGSXMLTransaction</code>
+	 * @param data the buffer of data
+	 * @param returnCode the return code of the buffer of data
+	 * @throws IOException as thrown by
+	 *         {@link #consumeElement(IGSXMLTransaction, String)}
+	 */
+	public void consume(IGSXMLTransaction transaction, CharSequence data, int returnCode)
+		throws IOException
+	{
+		this.pending.append(data);
+		int offset = 0;
+		while (true)
+		{
+			int start = IGSXMLDocument.findStartTag(this.name, this.pending, offset);
+			if (start == -1)
+			{
+				// Keep enough data for a start tag split between buffers
+				offset = Math.max(offset, this.pending.length() - this.name.length() - 1);
+				break;
+			}
+
+			int end = -1;
+			int startTagEnd = this.pending.indexOf(">", start); //$NON-NLS-1$
+			if (startTagEnd != -1)
+			{
+				if (this.pending.charAt(startTagEnd - 1) == '/')
+				{
+					end = startTagEnd + 1;
+				}
+				else
+				{
+					end = this.pending.indexOf(this.endTag, startTagEnd);
+					if (end != -1)
+					{
+						end += this.endTag.length();
+					}
+				}
+			}
+
+			if (end == -1)
+			{
+				offset = start;
+				break;
+			}
+			this.count++;
+			consumeElement(transaction, this.pending.substring(start, end));
+			offset = end;
+		}
+		this.pending.delete(0, offset);
+	}
+
+	/**
+	 * Invoked for each complete occurrence of the repeating element.
+	 * @param transaction the executing <code>IGSXMLTransaction</code>
+	 * @param element the XML of the element including its start and end tags
+	 * @throws IOException to stop the transaction
+	 */
+	public abstract void consumeElement(IGSXMLTransaction transaction, String element)
+		throws IOException;
+
+	/**
+	 * Discards the data of an incomplete element. Subclasses that override
+	 * this method must call it.
+	 * @param transaction the <code>IGSXMLTransaction</code>
+	 */
+	public void responseCompleted(IGSXMLTransaction transaction)
+	{
+		this.pending.setLength(0);
+	}
+
+	/**
+	 * Returns the number of elements consumed by this consumer.
+	 * @return the number of elements consumed
+	 */
+	public int getCount()
+	{
+		return this.count;
+	}
+
+	/**
+	 * Returns the name of the repeating element.
+	 * @return the name of the repeating element
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+}
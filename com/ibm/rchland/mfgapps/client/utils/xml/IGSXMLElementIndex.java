@@ -0,0 +1,503 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-011                  -Initial version
+ * 2026-10-18   ~1 user-014                  -Add findElement for typed accessors
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.util.Arrays;
+
+import com.ibm.rchland.mfgapps.client.utils.xml.IGSXMLDocument.IGSXMLBoundary;
+
+/**
+ * <code>IGSXMLElementIndex</code> is a structural index of the tags in an XML
+ * document. The index is built in a single pass over the document and holds,
+ * for each element name, the sorted offsets of its start tags, the offset of
+ * the <code>'&gt;'</code> closing each start tag, the nesting depth of each
+ * start tag, and the sorted offsets of its end tags.
+ * <p>
+ * The index finds tags exactly as {@link IGSXMLDocument#findStartTag(String,
+ * StringBuffer, int)} and {@link IGSXMLDocument#getElement(String,
+ * StringBuffer, IGSXMLBoundary)} do: a start tag is <code>'&lt;'</code>
+ * followed by the name and a space, <code>'/'</code>, or <code>'&gt;'</code>;
+ * a start tag ends at the next <code>'&gt;'</code>; and an element ends at the
+ * first following end tag with the same name. Each lookup is a binary search
+ * instead of a scan of the rest of the document.
+ * <p>
+ * An index describes the document as it was when the index was built and
+ * must be rebuilt after the document changes.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLElementIndex
+{
+	/** The initial number of slots in the table of tag names. */
+	private static final int INITIAL_TABLE_SIZE = 64;
+
+	/** The length of the indexed document. */
+	private final int length;
+
+	/** The tags by name in an open addressing hash table. */
+	private Tags[] table = new Tags[INITIAL_TABLE_SIZE];
+
+	/** The number of names in {@link #table}. */
+	private int size;
+
+	/** The start tags waiting for their closing <code>'&gt;'</code>. */
+	private Tags[] pendingTags = new Tags[4];
+
+	/** The occurrences in {@link #pendingTags} waiting to be closed. */
+	private int[] pendingOccurrences = new int[4];
+
+	/** The number of start tags waiting to be closed. */
+	private int pendingCount;
+
+	/**
+	 * Constructs a new <code>IGSXMLElementIndex</code> of the specified XML.
+	 * @param xml the XML document
+	 */
+	public IGSXMLElementIndex(StringBuffer xml)
+	{
+		super();
+		this.length = xml.length();
+		char[] chars = new char[this.length];
+		xml.getChars(0, this.length, chars, 0);
+		build(chars);
+		this.pendingTags = null;
+		this.pendingOccurrences = null;
+	}
+
+	/**
+	 * Indexes the tags of the document in a single pass.
+	 * @param chars the characters of the document
+	 */
+	private void build(char[] chars)
+	{
+		final int n = chars.length;
+		int depth = 0;
+		for (int p = 0; p < n; p++)
+		{
+			char c = chars[p];
+			if (c == '>' && this.pendingCount != 0)
+			{
+				// Close the pending start tags; a non-empty element nests
+				boolean empty = chars[p - 1] == '/';
+				for (int i = 0; i < this.pendingCount; i++)
+				{
+					this.pendingTags[i].closes[this.pendingOccurrences[i]] = p;
+					if (!empty)
+					{
+						depth++;
+					}
+				}
+				this.pendingCount = 0;
+			}
+			else if (c == '<' && p + 1 < n)
+			{
+				char next = chars[p + 1];
+				if (next == '/')
+				{
+					int q = p + 2;
+					while (q < n && chars[q] != '>' && chars[q] != '<')
+					{
+						q++;
+					}
+					if (q < n && chars[q] == '>')
+					{
+						getTags(chars, p + 2, q - p - 2).addEnd(p);
+						depth = Math.max(0, depth - 1);
+					}
+				}
+				else if (next != '?' && next != '!')
+				{
+					int q = p + 1;
+					char end = 0;
+					while (q < n && (end = chars[q]) != ' ' && end != '/' && end != '>'
+							&& end != '<')
+					{
+						q++;
+					}
+					if (q < n && q > p + 1 && end != '<')
+					{
+						Tags tags = getTags(chars, p + 1, q - p - 1);
+						addPending(tags, tags.addStart(p, depth));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a start tag to the start tags waiting to be closed.
+	 * @param tags the <code>Tags</code> of the start tag's name
+	 * @param occurrence the occurrence of the start tag
+	 */
+	private void addPending(Tags tags, int occurrence)
+	{
+		if (this.pendingCount == this.pendingTags.length)
+		{
+			Tags[] larger = new Tags[this.pendingTags.length << 1];
+			System.arraycopy(this.pendingTags, 0, larger, 0, this.pendingCount);
+			this.pendingTags = larger;
+			this.pendingOccurrences = grow(this.pendingOccurrences);
+		}
+		this.pendingTags[this.pendingCount] = tags;
+		this.pendingOccurrences[this.pendingCount++] = occurrence;
+	}
+
+	/**
+	 * Returns the tags with the name in the specified characters, adding them
+	 * to the table if necessary.
+	 * @param chars the characters
+	 * @param start the index of the first character of the name
+	 * @param count the number of characters in the name
+	 * @return the <code>Tags</code>
+	 */
+	private Tags getTags(char[] chars, int start, int count)
+	{
+		int hash = 0;
+		for (int i = start; i < start + count; i++)
+		{
+			hash = 31 * hash + chars[i];
+		}
+		int mask = this.table.length - 1;
+		int slot = hash & mask;
+		Tags tags;
+		while ((tags = this.table[slot]) != null)
+		{
+			if (tags.hash == hash && tags.matches(chars, start, count))
+			{
+				return tags;
+			}
+			slot = (slot + 1) & mask;
+		}
+		tags = new Tags(new String(chars, start, count), hash);
+		this.table[slot] = tags;
+		if (++this.size * 2 > this.table.length)
+		{
+			rehash();
+		}
+		return tags;
+	}
+
+	/** Doubles the size of the table of tag names. */
+	private void rehash()
+	{
+		Tags[] old = this.table;
+		this.table = new Tags[old.length << 1];
+		int mask = this.table.length - 1;
+		for (int i = 0; i < old.length; i++)
+		{
+			if (old[i] != null)
+			{
+				int slot = old[i].hash & mask;
+				while (this.table[slot] != null)
+				{
+					slot = (slot + 1) & mask;
+				}
+				this.table[slot] = old[i];
+			}
+		}
+	}
+
+	/**
+	 * Returns the tags with the specified name.
+	 * @param name the name of the element
+	 * @return the <code>Tags</code> or <code>null</code> if the document
+	 *         contains no tags with the name
+	 */
+	private Tags getTags(String name)
+	{
+		int hash = name.hashCode();
+		int mask = this.table.length - 1;
+		int slot = hash & mask;
+		Tags tags;
+		while ((tags = this.table[slot]) != null)
+		{
+			if (tags.hash == hash && tags.name.equals(name))
+			{
+				return tags;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the index of the first value not less than the key.
+	 * @param values the sorted values
+	 * @param count the number of values
+	 * @param key the key
+	 * @return the index of the value or <code>count</code> if all values are
+	 *         less than the key
+	 */
+	private static int ceiling(int[] values, int count, int key)
+	{
+		int i = Arrays.binarySearch(values, 0, count, key);
+		return i < 0 ? -i - 1 : i;
+	}
+
+	/**
+	 * Returns a copy of the array with twice the length.
+	 * @param array the array
+	 * @return the larger array
+	 */
+	private static int[] grow(int[] array)
+	{
+		int[] result = new int[array.length << 1];
+		System.arraycopy(array, 0, result, 0, array.length);
+		return result;
+	}
+
+	/**
+	 * Returns the length of the document when it was indexed.
+	 * @return the length of the indexed document
+	 */
+	public int getLength()
+	{
+		return this.length;
+	}
+
+	/**
+	 * Returns the index of the first start tag of an element with the given
+	 * name at or after the specified offset.
+	 * @param name the name of the element
+	 * @param offset the starting offset into the XML
+	 * @return the index of the start tag or -1 if the element was not found
+	 */
+	public int findStartTag(String name, int offset)
+	{
+		Tags tags = getTags(name);
+		if (tags == null)
+		{
+			return -1;
+		}
+		int i = ceiling(tags.starts, tags.startCount, offset);
+		return i < tags.startCount ? tags.starts[i] : -1;
+	}
+
+	/**
+	 * Returns the index of the first end tag of an element with the given
+	 * name at or after the specified offset.
+	 * @param name the name of the element
+	 * @param offset the starting offset into the XML
+	 * @return the index of the end tag or -1 if no end tag was found
+	 */
+	public int findEndTag(String name, int offset)
+	{
+		Tags tags = getTags(name);
+		if (tags == null)
+		{
+			return -1;
+		}
+		int i = ceiling(tags.ends, tags.endCount, offset);
+		return i < tags.endCount ? tags.ends[i] : -1;
+	}
+
+	/**
+	 * Returns the number of start tags with the given name.
+	 * @param name the name of the element
+	 * @return the number of elements with the name
+	 */
+	public int getElementCount(String name)
+	{
+		Tags tags = getTags(name);
+		return tags == null ? 0 : tags.startCount;
+	}
+
+	/**
+	 * Returns the nesting depth of the start tag of an element with the given
+	 * name at the specified offset. The root element has a depth of zero.
+	 * @param name the name of the element
+	 * @param offset the index of the start tag
+	 * @return the depth or -1 if there is no such start tag at the offset
+	 */
+	public int getDepth(String name, int offset)
+	{
+		Tags tags = getTags(name);
+		if (tags == null)
+		{
+			return -1;
+		}
+		int i = Arrays.binarySearch(tags.starts, 0, tags.startCount, offset);
+		return i < 0 ? -1 : tags.depths[i];
+	}
+
+	/**
+	 * Returns the data of the first element with the given name inside the
+	 * specified boundary, as {@link IGSXMLDocument#getElement(String,
+	 * StringBuffer, IGSXMLBoundary)} does, using the index to find the tags.
+	 * @param name the name of the element
+	 * @param xml the indexed XML
+	 * @param boundary the XML document parsing boundary
+	 * @return the data of the first element with the given name or
+	 *         <code>null</code> if no such element exists
+	 */
+	public String getElement(String name, StringBuffer xml, IGSXMLBoundary boundary)
+	{
+		if (findElement(name, xml, boundary)) //~1C
+		{
+			return xml.substring(boundary.dataStart, boundary.dataEnd);
+		}
+		return null;
+	}
+
+	//~1A New method
+	/**
+	 * Finds the first element with the given name inside the specified
+	 * boundary, as {@link IGSXMLDocument#findElement(String, StringBuffer,
+	 * IGSXMLBoundary)} does, using the index to find the tags.
+	 * @param name the name of the element
+	 * @param xml the indexed XML
+	 * @param boundary the XML document parsing boundary
+	 * @return <code>true</code> if the element was found
+	 */
+	public boolean findElement(String name, StringBuffer xml, IGSXMLBoundary boundary)
+	{
+		Tags tags = getTags(name);
+		if (tags == null)
+		{
+			return false;
+		}
+		int i = ceiling(tags.starts, tags.startCount, boundary.endOffset);
+		if (i == tags.startCount || tags.closes[i] == -1)
+		{
+			return false;
+		}
+		int soIndex = tags.starts[i];
+		int scIndex = tags.closes[i];
+
+		//If empty element
+		if (xml.charAt(scIndex - 1) == '/')
+		{
+			if (scIndex <= boundary.end)
+			{
+				boundary.startOffset = soIndex;
+				boundary.endOffset = scIndex + 1;
+				boundary.dataStart = scIndex + 1;
+				boundary.dataEnd = scIndex + 1;
+				return true;
+			}
+			return false;
+		}
+
+		//If non-empty element
+		int j = ceiling(tags.ends, tags.endCount, scIndex);
+		if (j < tags.endCount)
+		{
+			int eIndex = tags.ends[j];
+			if (eIndex <= boundary.end)
+			{
+				boundary.startOffset = soIndex;
+				boundary.endOffset = eIndex + name.length() + 3;
+				boundary.dataStart = scIndex + 1;
+				boundary.dataEnd = eIndex;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * <code>Tags</code> holds the offsets of the tags with one name.
+	 * @author The Process Profile Client Development Team
+	 */
+	private static class Tags
+	{
+		/** The name of the element. */
+		final String name;
+
+		/** The hash code of {@link #name}. */
+		final int hash;
+
+		/** The offsets of the start tags. */
+		int[] starts = new int[4];
+
+		/** The offsets of the <code>'&gt;'</code> closing the start tags. */
+		int[] closes = new int[4];
+
+		/** The nesting depths of the start tags. */
+		int[] depths = new int[4];
+
+		/** The number of start tags. */
+		int startCount;
+
+		/** The offsets of the end tags. */
+		int[] ends = new int[4];
+
+		/** The number of end tags. */
+		int endCount;
+
+		/**
+		 * Constructs a new <code>Tags</code>.
+		 * @param name the name of the element
+		 * @param hash the hash code of the name
+		 */
+		Tags(String name, int hash)
+		{
+			super();
+			this.name = name;
+			this.hash = hash;
+		}
+
+		/**
+		 * Returns <code>true</code> if the name equals the characters.
+		 * @param chars the characters
+		 * @param start the index of the first character
+		 * @param count the number of characters
+		 * @return <code>true</code> if the name matches
+		 */
+		boolean matches(char[] chars, int start, int count)
+		{
+			if (this.name.length() != count)
+			{
+				return false;
+			}
+			for (int i = 0; i < count; i++)
+			{
+				if (this.name.charAt(i) != chars[start + i])
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Adds a start tag.
+		 * @param offset the offset of the start tag
+		 * @param depth the nesting depth of the start tag
+		 * @return the occurrence of the start tag
+		 */
+		int addStart(int offset, int depth)
+		{
+			if (this.startCount == this.starts.length)
+			{
+				this.starts = grow(this.starts);
+				this.closes = grow(this.closes);
+				this.depths = grow(this.depths);
+			}
+			this.starts[this.startCount] = offset;
+			this.closes[this.startCount] = -1;
+			this.depths[this.startCount] = depth;
+			return this.startCount++;
+		}
+
+		/**
+		 * Adds an end tag.
+		 * @param offset the offset of the end tag
+		 */
+		void addEnd(int offset)
+		{
+			if (this.endCount == this.ends.length)
+			{
+				this.ends = grow(this.ends);
+			}
+			this.ends[this.endCount++] = offset;
+		}
+	}
+}
@@ -0,0 +1,1020 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-004                  -Initial version
+ * 2026-10-18   ~1 user-005                  -Add getData for IGSXMLResponseConsumer
+ * 2026-10-18   ~2 user-008                  -Count bytes and frames for IGSXMLTransactionMetrics
+ * 2026-10-18   ~3 user-009                  -Add read timeout and deadline
+ * 2026-10-18   ~4 user-010                  -Add compressed frames
+ * 2026-10-18   ~5 user-013                  -Encode IGSXMLBuilder data from its array
+ * 2026-10-18   ~6 user-004                  -Release the buffers only once
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.LinkedList;
+import java.util.logging.Level;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * <code>IGSXMLFramer</code> reads and writes the length prefixed buffers of
+ * data (frames) exchanged with the transaction server. Each frame starts with
+ * {@link IGSXMLTransaction#METADATA_LENGTH} bytes containing the length of the
+ * frame's data as left justified ASCII digits padded with spaces.
+ * <p>
+ * Unlike {@link IGSXMLTransaction#readData(DataInputStream)} and
+ * {@link IGSXMLTransaction#writeData(DataOutputStream, String)}, a framer
+ * does not create a <code>String</code> for each frame. The data of the last
+ * frame read is kept in a reusable <code>ByteBuffer</code> and is parsed and
+ * copied in place; output is encoded directly from a
+ * <code>CharSequence</code> into a reusable <code>ByteBuffer</code>. The
+ * buffers are borrowed from a small shared pool and returned when the framer
+ * is released, so pooled connections reuse the same buffers for every
+ * transaction.
+ * <p>
+ * Input frames are decoded as US-ASCII. Output frames are encoded using the
+ * platform's default charset and the length in the header is the number of
+ * encoded bytes.
+ * <p>
+ * A framer created for a <code>Socket</code> can limit the time spent
+ * reading (see {@link #setTimeouts(int, long)}). The read timeout of the
+ * <code>Socket</code> is adjusted before each frame is read so that no read
+ * blocks past the deadline.
+ * <p>
+ * If compression is enabled (see {@link #setCompression(boolean)}), the last
+ * byte of each header written is a flag and the length has at most nine
+ * digits. The flag <code>'Z'</code> marks a frame whose data is the four
+ * byte big-endian length of the original data followed by the DEFLATE
+ * compressed data; the flag <code>'A'</code> marks an uncompressed frame and
+ * tells the receiver that the sender accepts compressed frames. Only frames
+ * of at least {@link #MIN_COMPRESSED_LENGTH} bytes that become smaller are
+ * compressed. Flagged frames are always accepted when reading, so a server
+ * compresses its output only after reading a flagged request (see
+ * {@link #isCompressionAccepted()}); neither side sends a flag to a peer
+ * that did not ask for compression.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLFramer
+{
+	/** The initial capacity of a frame buffer. */
+	private static final int INITIAL_CAPACITY = 8192;
+
+	/** The largest buffer kept in the buffer pool. */
+	private static final int MAX_POOLED_CAPACITY = 1 << 20;
+
+	/** The maximum number of buffers kept in the buffer pool. */
+	private static final int MAX_POOLED_BUFFERS = 16;
+
+	/** The pool of unused buffers. */
+	private static final LinkedList<ByteBuffer> bufferPool = new LinkedList<ByteBuffer>();
+
+	/** The smallest frame data in bytes that is compressed. */
+	public static final int MIN_COMPRESSED_LENGTH = 512; //~4A
+
+	/** The header flag of a compressed frame. */
+	private static final byte COMPRESSED = 'Z'; //~4A
+
+	/** The header flag of an uncompressed frame from a sender that accepts compression. */
+	private static final byte ACCEPTS_COMPRESSION = 'A'; //~4A
+
+	/** The character substituted for bytes that are not US-ASCII. */
+	private static final char REPLACEMENT = '\uFFFD';
+
+	/** The <code>DataInputStream</code> used to read frames. */
+	private final DataInputStream dataIn;
+
+	/** The <code>DataOutputStream</code> used to write frames. */
+	private final DataOutputStream dataOut;
+
+	/** The <code>Socket</code> whose read timeout is set or <code>null</code>. */
+	private final Socket socket; //~3A
+
+	/** The <code>CharsetEncoder</code> used to encode output frames. */
+	private final CharsetEncoder encoder;
+
+	/** The header of the last frame read. */
+	private final byte[] header = new byte[IGSXMLTransaction.METADATA_LENGTH];
+
+	/** The data of the last frame read or <code>null</code> if released. */
+	private ByteBuffer inBuffer; //~6C
+
+	/** The buffer used to encode output frames or <code>null</code> if released. */
+	private ByteBuffer outBuffer; //~6C
+
+	/** The buffer used to decode data appended to a <code>StringBuffer</code>. */
+	private char[] chars = new char[INITIAL_CAPACITY];
+
+	/** The length of the data of the last frame read. */
+	private int length;
+
+	/** The total number of bytes read. */
+	private long bytesRead; //~2A
+
+	/** The total number of bytes written. */
+	private long bytesWritten; //~2A
+
+	/** The total number of frames read. */
+	private long framesRead; //~2A
+
+	/** The maximum time in milliseconds to block in a read or 0. */
+	private int readTimeout; //~3A
+
+	/** The time in milliseconds by which all reads must complete or 0. */
+	private long deadline; //~3A
+
+	/** The read timeout last set on {@link #socket}. */
+	private int soTimeout; //~3A
+
+	/** Set <code>true</code> if frames are written compressed. */
+	private boolean compression; //~4A
+
+	/** Set <code>true</code> if the header of the last frame read had a flag. */
+	private boolean compressionAccepted; //~4A
+
+	/** The buffer of compressed data read or written. */
+	private ByteBuffer zBuffer; //~4A
+
+	/** The header of a compressed frame written. */
+	private byte[] zHeader; //~4A
+
+	/** The <code>Deflater</code> used to compress frames or <code>null</code>. */
+	private Deflater deflater; //~4A
+
+	/** The <code>Inflater</code> used to decompress frames or <code>null</code>. */
+	private Inflater inflater; //~4A
+
+	/**
+	 * Constructs a new <code>IGSXMLFramer</code>.
+	 * @param dataIn the <code>DataInputStream</code> used to read frames
+	 * @param dataOut the <code>DataOutputStream</code> used to write frames
+	 */
+	public IGSXMLFramer(DataInputStream dataIn, DataOutputStream dataOut)
+	{
+		this(null, dataIn, dataOut); //~3C
+	}
+
+	//~3A New method
+	/**
+	 * Constructs a new <code>IGSXMLFramer</code> whose reads are limited by
+	 * the timeouts set using {@link #setTimeouts(int, long)}.
+	 * @param socket the <code>Socket</code> from which the
+	 *        <code>DataInputStream</code> reads. May be <code>null</code>.
+	 * @param dataIn the <code>DataInputStream</code> used to read frames
+	 * @param dataOut the <code>DataOutputStream</code> used to write frames
+	 */
+	public IGSXMLFramer(Socket socket, DataInputStream dataIn, DataOutputStream dataOut)
+	{
+		super();
+		this.socket = socket;
+		this.dataIn = dataIn;
+		this.dataOut = dataOut;
+		this.encoder = Charset.defaultCharset().newEncoder();
+		this.encoder.onMalformedInput(CodingErrorAction.REPLACE);
+		this.encoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.inBuffer = acquireBuffer(INITIAL_CAPACITY);
+		this.outBuffer = acquireBuffer(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Returns a buffer with at least the specified capacity from the pool or
+	 * allocates a new buffer.
+	 * @param capacity the minimum capacity
+	 * @return the <code>ByteBuffer</code>
+	 */
+	private static ByteBuffer acquireBuffer(int capacity)
+	{
+		synchronized (bufferPool)
+		{
+			if (!bufferPool.isEmpty() && bufferPool.getFirst().capacity() >= capacity)
+			{
+				ByteBuffer buffer = bufferPool.removeFirst();
+				buffer.clear();
+				return buffer;
+			}
+		}
+		return ByteBuffer.allocate(capacity);
+	}
+
+	/**
+	 * Returns a buffer to the pool.
+	 * @param buffer the <code>ByteBuffer</code>
+	 */
+	private static void releaseBuffer(ByteBuffer buffer)
+	{
+		//~6C An empty buffer at the head of the pool would block its reuse
+		if (buffer == null || buffer.capacity() == 0 || buffer.capacity() > MAX_POOLED_CAPACITY)
+		{
+			return;
+		}
+		synchronized (bufferPool)
+		{
+			if (bufferPool.size() < MAX_POOLED_BUFFERS)
+			{
+				bufferPool.addFirst(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Returns a buffer with at least the specified capacity, replacing the
+	 * specified buffer if it is too small. The contents are not copied.
+	 * @param buffer the current <code>ByteBuffer</code> or <code>null</code>
+	 *        if it was released
+	 * @param capacity the minimum capacity
+	 * @return the <code>ByteBuffer</code>
+	 */
+	private static ByteBuffer ensureCapacity(ByteBuffer buffer, int capacity)
+	{
+		if (buffer != null && buffer.capacity() >= capacity) //~6C
+		{
+			buffer.clear();
+			return buffer;
+		}
+		int newCapacity = Math.max(INITIAL_CAPACITY, buffer == null ? 0 : buffer.capacity()); //~6C
+		while (newCapacity < capacity)
+		{
+			newCapacity = newCapacity > (Integer.MAX_VALUE >> 1) ? Integer.MAX_VALUE
+					: newCapacity << 1;
+		}
+		releaseBuffer(buffer);
+		return ByteBuffer.allocate(newCapacity);
+	}
+
+	/**
+	 * Parses a non-negative decimal number from ASCII bytes, ignoring leading
+	 * and trailing spaces.
+	 * @param bytes the bytes
+	 * @param start the index of the first byte
+	 * @param end the index after the last byte
+	 * @return the number
+	 * @throws IOException if the bytes do not contain a number
+	 */
+	static int parseInt(byte[] bytes, int start, int end)
+		throws IOException
+	{
+		while (start < end && bytes[start] <= ' ')
+		{
+			start++;
+		}
+		while (end > start && bytes[end - 1] <= ' ')
+		{
+			end--;
+		}
+
+		boolean negative = false;
+		if (start < end && bytes[start] == '-')
+		{
+			negative = true;
+			start++;
+		}
+		if (start == end)
+		{
+			throw new IOException("Invalid number in transaction data."); //$NON-NLS-1$
+		}
+
+		int result = 0;
+		for (int i = start; i < end; i++)
+		{
+			int digit = bytes[i] - '0';
+			if (digit < 0 || digit > 9 || result > (Integer.MAX_VALUE - digit) / 10)
+			{
+				throw new IOException("Invalid number in transaction data."); //$NON-NLS-1$
+			}
+			result = result * 10 + digit;
+		}
+		return negative ? -result : result;
+	}
+
+	/**
+	 * Reads the next frame.
+	 * @return the length of the frame's data
+	 * @throws IOException as thrown by the <code>DataInputStream</code> or if
+	 *         the frame header is invalid
+	 */
+	public int readFrame()
+		throws IOException
+	{
+		applyTimeouts(); //~3A
+		this.dataIn.readFully(this.header, 0, this.header.length);
+		//~4C The last byte of the header may be a compression flag
+		byte flag = this.header[this.header.length - 1];
+		this.compressionAccepted = flag == COMPRESSED || flag == ACCEPTS_COMPRESSION;
+		int frameLength = parseInt(this.header, 0, this.compressionAccepted
+				? this.header.length - 1 : this.header.length);
+		if (flag == COMPRESSED)
+		{
+			this.zBuffer = ensureCapacity(getZBuffer(), frameLength);
+			this.dataIn.readFully(this.zBuffer.array(), 0, frameLength);
+			this.length = inflate(frameLength);
+		}
+		else
+		{
+			this.inBuffer = ensureCapacity(this.inBuffer, frameLength);
+			this.dataIn.readFully(this.inBuffer.array(), 0, frameLength);
+			this.length = frameLength;
+		}
+		this.bytesRead += this.header.length + frameLength; //~2A
+		this.framesRead++; //~2A
+		if (IGSXMLTransaction.LOGGER.isLoggable(Level.FINE))
+		{
+			IGSXMLTransaction.LOGGER.fine(toString());
+		}
+		return this.length; //~4C
+	}
+
+	//~4A New method
+	/**
+	 * Decompresses the data in {@link #zBuffer} into {@link #inBuffer}.
+	 * @param compressedLength the length of the frame's data
+	 * @return the length of the decompressed data
+	 * @throws IOException if the compressed data is invalid
+	 */
+	private int inflate(int compressedLength)
+		throws IOException
+	{
+		byte[] z = this.zBuffer.array();
+		if (compressedLength < 4)
+		{
+			throw new IOException("Invalid compressed buffer of data."); //$NON-NLS-1$
+		}
+		int originalLength = ((z[0] & 0xFF) << 24) | ((z[1] & 0xFF) << 16)
+				| ((z[2] & 0xFF) << 8) | (z[3] & 0xFF);
+		if (originalLength < 0)
+		{
+			throw new IOException("Invalid compressed buffer of data."); //$NON-NLS-1$
+		}
+		if (this.inflater == null)
+		{
+			this.inflater = new Inflater();
+		}
+		this.inflater.reset();
+		this.inflater.setInput(z, 4, compressedLength - 4);
+		this.inBuffer = ensureCapacity(this.inBuffer, originalLength);
+		byte[] data = this.inBuffer.array();
+		int inflated = 0;
+		try
+		{
+			while (inflated < originalLength)
+			{
+				int count = this.inflater.inflate(data, inflated, originalLength - inflated);
+				if (count == 0 && (this.inflater.finished() || this.inflater.needsInput()
+						|| this.inflater.needsDictionary()))
+				{
+					break;
+				}
+				inflated += count;
+			}
+		}
+		catch (DataFormatException e)
+		{
+			IOException ioe = new IOException("Invalid compressed buffer of data."); //$NON-NLS-1$
+			ioe.initCause(e);
+			throw ioe;
+		}
+		if (inflated != originalLength)
+		{
+			throw new IOException("Invalid compressed buffer of data."); //$NON-NLS-1$
+		}
+		return originalLength;
+	}
+
+	//~4A New method
+	/**
+	 * Compresses the specified bytes into {@link #zBuffer} preceded by their
+	 * length, unless the result would not be smaller.
+	 * @param data the bytes
+	 * @param offset the index of the first byte
+	 * @param dataLength the number of bytes
+	 * @return the length of the compressed data or -1 if the bytes were not
+	 *         compressed
+	 */
+	private int deflate(byte[] data, int offset, int dataLength)
+	{
+		if (this.deflater == null)
+		{
+			this.deflater = new Deflater(Deflater.BEST_SPEED);
+		}
+		this.deflater.reset();
+		this.deflater.setInput(data, offset, dataLength);
+		this.deflater.finish();
+		this.zBuffer = ensureCapacity(getZBuffer(), dataLength);
+		byte[] z = this.zBuffer.array();
+		z[0] = (byte) (dataLength >>> 24);
+		z[1] = (byte) (dataLength >>> 16);
+		z[2] = (byte) (dataLength >>> 8);
+		z[3] = (byte) dataLength;
+		int compressedLength = 4;
+		while (!this.deflater.finished() && compressedLength < dataLength)
+		{
+			compressedLength += this.deflater.deflate(z, compressedLength, dataLength
+					- compressedLength);
+		}
+		return this.deflater.finished() && compressedLength < dataLength ? compressedLength : -1;
+	}
+
+	//~4A New method
+	/**
+	 * Returns the buffer of compressed data, borrowing it from the pool the
+	 * first time compressed data is read or written.
+	 * @return the <code>ByteBuffer</code>
+	 */
+	private ByteBuffer getZBuffer()
+	{
+		if (this.zBuffer == null)
+		{
+			this.zBuffer = acquireBuffer(INITIAL_CAPACITY);
+		}
+		return this.zBuffer;
+	}
+
+	//~4A New method
+	/**
+	 * Sets whether frames of at least {@link #MIN_COMPRESSED_LENGTH} bytes are
+	 * written compressed. Compression must only be enabled if the receiver
+	 * supports compressed frames.
+	 * @param compression <code>true</code> to compress frames
+	 */
+	public void setCompression(boolean compression)
+	{
+		this.compression = compression;
+	}
+
+	//~4A New method
+	/**
+	 * Returns <code>true</code> if frames are written compressed.
+	 * @return <code>true</code> if compression is enabled
+	 */
+	public boolean isCompression()
+	{
+		return this.compression;
+	}
+
+	//~4A New method
+	/**
+	 * Returns <code>true</code> if the header of the last frame read had a
+	 * compression flag, which means its sender accepts compressed frames.
+	 * @return <code>true</code> if the sender accepts compression
+	 */
+	public boolean isCompressionAccepted()
+	{
+		return this.compressionAccepted;
+	}
+
+	//~3A New method
+	/**
+	 * Sets the limits on the time spent reading frames. The limits remain in
+	 * effect until they are set again.
+	 * @param readTimeout the maximum time in milliseconds to wait for data
+	 *        or 0 to wait indefinitely
+	 * @param deadline the value of <code>System.currentTimeMillis</code> by
+	 *        which all reads must complete or 0 if there is no deadline
+	 */
+	public void setTimeouts(int readTimeout, long deadline)
+	{
+		this.readTimeout = readTimeout;
+		this.deadline = deadline;
+	}
+
+	//~3A New method
+	/**
+	 * Checks the deadline and sets the read timeout of the <code>Socket</code>
+	 * to the smaller of the read timeout and the time remaining.
+	 * @throws IOException if the deadline has passed or the timeout could not
+	 *         be set
+	 */
+	private void applyTimeouts()
+		throws IOException
+	{
+		if (this.socket == null)
+		{
+			return;
+		}
+		int timeout = this.readTimeout;
+		if (this.deadline != 0)
+		{
+			long remaining = this.deadline - System.currentTimeMillis();
+			if (remaining <= 0)
+			{
+				throw new SocketTimeoutException("Transaction deadline exceeded."); //$NON-NLS-1$
+			}
+			if (timeout == 0 || remaining < timeout)
+			{
+				timeout = (int) Math.min(remaining, Integer.MAX_VALUE);
+			}
+		}
+		if (timeout != this.soTimeout)
+		{
+			this.socket.setSoTimeout(timeout);
+			this.soTimeout = timeout;
+		}
+	}
+
+	/**
+	 * Writes a frame containing the specified data without flushing the
+	 * <code>DataOutputStream</code>.
+	 * @param data the data for the frame
+	 * @throws IOException as thrown by the <code>DataOutputStream</code>
+	 */
+	public void writeFrame(CharSequence data)
+		throws IOException
+	{
+		writeFrame(null, data);
+	}
+
+	/**
+	 * Writes a frame containing the concatenation of the specified data
+	 * without flushing the <code>DataOutputStream</code>.
+	 * @param prefix the first part of the data for the frame. May be
+	 *        <code>null</code>.
+	 * @param data the second part of the data for the frame
+	 * @throws IOException as thrown by the <code>DataOutputStream</code>
+	 */
+	public void writeFrame(CharSequence prefix, CharSequence data)
+		throws IOException
+	{
+		final int metadataLength = IGSXMLTransaction.METADATA_LENGTH;
+		int estimate = metadataLength + data.length() + (prefix == null ? 0 : prefix.length());
+		this.outBuffer = ensureCapacity(this.outBuffer, estimate);
+		this.outBuffer.position(metadataLength);
+		this.encoder.reset();
+		if (prefix != null)
+		{
+			encode(wrap(prefix), false); //~5C
+		}
+		encode(wrap(data), true); //~5C
+
+		// Fill in the header now that the encoded length is known
+		byte[] array = this.outBuffer.array();
+		int end = this.outBuffer.position();
+		int dataLength = end - metadataLength;
+		//~4A Compress the data if it becomes smaller
+		int compressedLength = -1;
+		if (this.compression && dataLength >= MIN_COMPRESSED_LENGTH)
+		{
+			compressedLength = deflate(array, metadataLength, dataLength);
+		}
+		if (compressedLength != -1)
+		{
+			if (this.zHeader == null)
+			{
+				this.zHeader = new byte[metadataLength];
+			}
+			writeHeader(this.zHeader, compressedLength, COMPRESSED);
+			this.dataOut.write(this.zHeader, 0, metadataLength);
+			this.dataOut.write(this.zBuffer.array(), 0, compressedLength);
+			this.bytesWritten += metadataLength + compressedLength;
+		}
+		else
+		{
+			writeHeader(array, dataLength, this.compression ? ACCEPTS_COMPRESSION : 0); //~4C
+			this.dataOut.write(array, 0, end);
+			this.bytesWritten += end; //~2A
+		}
+
+		if (IGSXMLTransaction.LOGGER.isLoggable(Level.FINE))
+		{
+			IGSXMLTransaction.LOGGER.fine(prefix == null ? data.toString() : prefix.toString()
+					+ data);
+		}
+	}
+
+	//~5A New method
+	/**
+	 * Returns a <code>CharBuffer</code> for the characters. The characters of
+	 * an {@link IGSXMLBuilder} are wrapped in place so that the encoder reads
+	 * its array instead of calling <code>charAt</code> for each character.
+	 * @param data the characters
+	 * @return the <code>CharBuffer</code>
+	 */
+	private static CharBuffer wrap(CharSequence data)
+	{
+		if (data instanceof IGSXMLBuilder)
+		{
+			return CharBuffer.wrap(((IGSXMLBuilder) data).getChars(), 0, data.length());
+		}
+		return CharBuffer.wrap(data);
+	}
+
+	//~4A New method
+	/**
+	 * Writes a frame header containing the specified length.
+	 * @param header the bytes of the header
+	 * @param dataLength the length of the frame's data
+	 * @param flag the flag stored in the last byte of the header or 0
+	 * @throws IOException if the length does not fit in the header
+	 */
+	private static void writeHeader(byte[] header, int dataLength, byte flag)
+		throws IOException
+	{
+		int metadataLength = IGSXMLTransaction.METADATA_LENGTH;
+		int digits = flag == 0 ? metadataLength : metadataLength - 1;
+		String lengthString = Integer.toString(dataLength);
+		if (lengthString.length() > digits)
+		{
+			throw new IOException("Transaction data is too long."); //$NON-NLS-1$
+		}
+		for (int i = 0; i < digits; i++)
+		{
+			header[i] = i < lengthString.length() ? (byte) lengthString.charAt(i) : (byte) ' ';
+		}
+		if (flag != 0)
+		{
+			header[metadataLength - 1] = flag;
+		}
+	}
+
+	/**
+	 * Encodes the characters into {@link #outBuffer}, growing the buffer as
+	 * necessary.
+	 * @param in the characters to encode
+	 * @param endOfInput <code>true</code> if these are the last characters of
+	 *        the frame
+	 */
+	private void encode(CharBuffer in, boolean endOfInput)
+	{
+		while (true)
+		{
+			CoderResult result = this.encoder.encode(in, this.outBuffer, endOfInput);
+			if (result.isOverflow())
+			{
+				growOutBuffer();
+			}
+			else
+			{
+				break;
+			}
+		}
+		if (endOfInput)
+		{
+			while (this.encoder.flush(this.outBuffer).isOverflow())
+			{
+				growOutBuffer();
+			}
+		}
+	}
+
+	/** Doubles the capacity of {@link #outBuffer}, keeping its contents. */
+	private void growOutBuffer()
+	{
+		ByteBuffer old = this.outBuffer;
+		ByteBuffer larger = ByteBuffer.allocate(Math.max(INITIAL_CAPACITY, old.capacity()) << 1); //~6C
+		old.flip();
+		larger.put(old);
+		releaseBuffer(old);
+		this.outBuffer = larger;
+	}
+
+	/**
+	 * Flushes the <code>DataOutputStream</code>.
+	 * @throws IOException as thrown by the <code>DataOutputStream</code>
+	 */
+	public void flush()
+		throws IOException
+	{
+		this.dataOut.flush();
+	}
+
+	/**
+	 * Returns the framer's buffers to the shared buffer pool. Releasing the
+	 * framer again does nothing; a frame read or written afterwards uses new
+	 * buffers.
+	 */
+	public void release()
+	{
+		releaseBuffer(this.inBuffer);
+		releaseBuffer(this.outBuffer);
+		releaseBuffer(this.zBuffer); //~4A
+		this.inBuffer = null; //~6C
+		this.outBuffer = null; //~6C
+		this.zBuffer = null; //~4A
+		this.length = 0;
+		//~4A Free the native memory of the Deflater and Inflater
+		if (this.deflater != null)
+		{
+			this.deflater.end();
+			this.deflater = null;
+		}
+		if (this.inflater != null)
+		{
+			this.inflater.end();
+			this.inflater = null;
+		}
+	}
+
+	//~2A New method
+	/**
+	 * Returns the total number of bytes read, including frame headers.
+	 * @return the number of bytes read
+	 */
+	public long getBytesRead()
+	{
+		return this.bytesRead;
+	}
+
+	//~2A New method
+	/**
+	 * Returns the total number of bytes written, including frame headers.
+	 * @return the number of bytes written
+	 */
+	public long getBytesWritten()
+	{
+		return this.bytesWritten;
+	}
+
+	//~2A New method
+	/**
+	 * Returns the total number of frames read.
+	 * @return the number of frames read
+	 */
+	public long getFramesRead()
+	{
+		return this.framesRead;
+	}
+
+	/**
+	 * Returns the length of the data of the last frame read.
+	 * @return the length of the frame's data
+	 */
+	public int getLength()
+	{
+		return this.length;
+	}
+
+	/**
+	 * Returns the character at the specified index of the last frame read.
+	 * @param index the index
+	 * @return the character
+	 */
+	public char charAt(int index)
+	{
+		byte b = this.inBuffer.array()[index];
+		return b < 0 ? REPLACEMENT : (char) b;
+	}
+
+	/**
+	 * Parses a decimal number from the data of the last frame read.
+	 * @param start the index of the first character
+	 * @param end the index after the last character
+	 * @return the number
+	 * @throws IOException if the characters do not contain a number or if the
+	 *         frame is too short
+	 */
+	public int parseInt(int start, int end)
+		throws IOException
+	{
+		if (end > this.length)
+		{
+			throw new IOException("Transaction data is too short."); //$NON-NLS-1$
+		}
+		return parseInt(this.inBuffer.array(), start, end);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified ASCII
+	 * <code>String</code> in the data of the last frame read.
+	 * @param str the <code>String</code> to find
+	 * @param fromIndex the index from which to start the search
+	 * @return the index or -1 if the <code>String</code> was not found
+	 */
+	public int indexOf(String str, int fromIndex)
+	{
+		byte[] array = this.inBuffer.array();
+		int strLength = str.length();
+		if (strLength == 0)
+		{
+			return fromIndex <= this.length ? fromIndex : -1;
+		}
+		char first = str.charAt(0);
+		int max = this.length - strLength;
+		for (int i = Math.max(fromIndex, 0); i <= max; i++)
+		{
+			if (array[i] == first)
+			{
+				int j = 1;
+				while (j < strLength && array[i + j] == str.charAt(j))
+				{
+					j++;
+				}
+				if (j == strLength)
+				{
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the first start tag of an element with the given
+	 * name in the data of the last frame read. The same start tags are found
+	 * as by {@link IGSXMLDocument#findStartTag(String, StringBuffer, int)}.
+	 * @param name the name of the element
+	 * @param fromIndex the index from which to start the search
+	 * @return the index or -1 if the element was not found
+	 */
+	public int indexOfStartTag(String name, int fromIndex)
+	{
+		byte[] array = this.inBuffer.array();
+		int index = indexOf('<' + name, fromIndex);
+		while (index != -1)
+		{
+			int next = index + 1 + name.length();
+			if (next < this.length)
+			{
+				byte b = array[next];
+				if (b == ' ' || b == '/' || b == '>')
+				{
+					return index;
+				}
+			}
+			index = indexOf('<' + name, index + 1);
+		}
+		return -1;
+	}
+
+	/**
+	 * Parses the number contained by the first element with the given name in
+	 * the data of the last frame read.
+	 * @param name the name of the element
+	 * @return the number
+	 * @throws IOException if the element was not found or does not contain a
+	 *         number
+	 */
+	public int parseElementInt(String name)
+		throws IOException
+	{
+		int start = indexOfStartTag(name, 0);
+		if (start != -1)
+		{
+			int dataStart = indexOf(">", start); //$NON-NLS-1$
+			if (dataStart != -1 && this.inBuffer.array()[dataStart - 1] != '/')
+			{
+				int dataEnd = indexOf("</" + name + '>', dataStart); //$NON-NLS-1$
+				if (dataEnd != -1)
+				{
+					return parseInt(this.inBuffer.array(), dataStart + 1, dataEnd);
+				}
+			}
+		}
+		throw new IOException("Element " + name + " not found in transaction data."); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Appends data of the last frame read to a <code>StringBuffer</code>.
+	 * @param stringBuffer the <code>StringBuffer</code>
+	 * @param start the index of the first character to append
+	 * @param end the index after the last character to append
+	 */
+	public void appendTo(StringBuffer stringBuffer, int start, int end)
+	{
+		int count = end - start;
+		if (this.chars.length < count)
+		{
+			this.chars = new char[Math.max(count, this.chars.length << 1)];
+		}
+		byte[] array = this.inBuffer.array();
+		for (int i = 0; i < count; i++)
+		{
+			byte b = array[start + i];
+			this.chars[i] = b < 0 ? REPLACEMENT : (char) b;
+		}
+		stringBuffer.append(this.chars, 0, count);
+	}
+
+	/**
+	 * Writes the bytes of data of the last frame read to an
+	 * <code>OutputStream</code>.
+	 * @param out the <code>OutputStream</code>
+	 * @param start the index of the first byte to write
+	 * @param end the index after the last byte to write
+	 * @throws IOException as thrown by the <code>OutputStream</code>
+	 */
+	public void writeTo(OutputStream out, int start, int end)
+		throws IOException
+	{
+		out.write(this.inBuffer.array(), start, end - start);
+	}
+
+	//~1A New method
+	/**
+	 * Returns a view of the data of the last frame read. The view does not
+	 * copy the data and is only valid until the next frame is read.
+	 * @param start the index of the first character
+	 * @param end the index after the last character
+	 * @return the <code>CharSequence</code>
+	 */
+	public CharSequence getData(int start, int end)
+	{
+		return new FrameSequence(start, end);
+	}
+
+	/**
+	 * Returns the data of the last frame read as a <code>String</code>.
+	 * @param start the index of the first character
+	 * @param end the index after the last character
+	 * @return the <code>String</code>
+	 */
+	public String substring(int start, int end)
+	{
+		StringBuffer stringBuffer = new StringBuffer(end - start);
+		appendTo(stringBuffer, start, end);
+		return stringBuffer.toString();
+	}
+
+	/**
+	 * Returns the data of the last frame read.
+	 * @return the data of the last frame read
+	 */
+	public String toString()
+	{
+		return substring(0, this.length);
+	}
+
+	//~1A New class
+	/**
+	 * <code>FrameSequence</code> is a <code>CharSequence</code> view of part
+	 * of the data of the last frame read.
+	 * @author The Process Profile Client Development Team
+	 */
+	private class FrameSequence
+		implements CharSequence
+	{
+		/** The index of the first character in the frame. */
+		private final int start;
+
+		/** The index after the last character in the frame. */
+		private final int end;
+
+		/**
+		 * Constructs a new <code>FrameSequence</code>.
+		 * @param start the index of the first character in the frame
+		 * @param end the index after the last character in the frame
+		 */
+		public FrameSequence(int start, int end)
+		{
+			super();
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * Returns the character at the specified index.
+		 * @param index the index
+		 * @return the character
+		 */
+		public char charAt(int index)
+		{
+			if (index < 0 || index >= length())
+			{
+				throw new IndexOutOfBoundsException(Integer.toString(index));
+			}
+			return IGSXMLFramer.this.charAt(this.start + index);
+		}
+
+		/**
+		 * Returns the number of characters.
+		 * @return the number of characters
+		 */
+		public int length()
+		{
+			return this.end - this.start;
+		}
+
+		/**
+		 * Returns a view of part of the sequence.
+		 * @param subStart the index of the first character
+		 * @param subEnd the index after the last character
+		 * @return the <code>CharSequence</code>
+		 */
+		public CharSequence subSequence(int subStart, int subEnd)
+		{
+			return new FrameSequence(this.start + subStart, this.start + subEnd);
+		}
+
+		/**
+		 * Returns the characters as a <code>String</code>.
+		 * @return the <code>String</code>
+		 */
+		public String toString()
+		{
+			return substring(this.start, this.end);
+		}
+	}
+}
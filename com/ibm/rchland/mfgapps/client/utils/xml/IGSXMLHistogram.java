@@ -0,0 +1,154 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-008                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <code>IGSXMLHistogram</code> counts non-negative values in buckets whose
+ * upper bounds are powers of two. Bucket <code>n</code> counts the values
+ * from <code>2<sup>n-1</sup></code> to <code>2<sup>n</sup> - 1</code>;
+ * bucket zero counts zero. Recording a value does not acquire a lock, so the
+ * histogram can be updated by many threads. Percentiles are estimated using
+ * the upper bound of the bucket, so they are at most twice the actual value.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLHistogram
+{
+	/** The number of buckets. */
+	private static final int BUCKETS = 64;
+
+	/** The number of values in each bucket. */
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+	/** The number of values recorded. */
+	private final AtomicLong count = new AtomicLong();
+
+	/** The sum of the values recorded. */
+	private final AtomicLong sum = new AtomicLong();
+
+	/** The largest value recorded. */
+	private final AtomicLong max = new AtomicLong();
+
+	/** Constructs a new <code>IGSXMLHistogram</code>. */
+	public IGSXMLHistogram()
+	{
+		super();
+	}
+
+	/**
+	 * Records a value. Negative values are ignored.
+	 * @param value the value
+	 */
+	public void record(long value)
+	{
+		if (value < 0)
+		{
+			return;
+		}
+		this.counts.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(value));
+		this.count.incrementAndGet();
+		this.sum.addAndGet(value);
+		long current = this.max.get();
+		while (value > current && !this.max.compareAndSet(current, value))
+		{
+			current = this.max.get();
+		}
+	}
+
+	/**
+	 * Returns the number of values recorded.
+	 * @return the number of values
+	 */
+	public long getCount()
+	{
+		return this.count.get();
+	}
+
+	/**
+	 * Returns the mean of the values recorded.
+	 * @return the mean or zero if no values were recorded
+	 */
+	public long getMean()
+	{
+		long n = this.count.get();
+		return n == 0 ? 0 : this.sum.get() / n;
+	}
+
+	/**
+	 * Returns the largest value recorded.
+	 * @return the largest value
+	 */
+	public long getMax()
+	{
+		return this.max.get();
+	}
+
+	/**
+	 * Returns an estimate of the specified percentile of the values recorded.
+	 * @param percentile the percentile from 0 to 100
+	 * @return the upper bound of the bucket containing the percentile or zero
+	 *         if no values were recorded
+	 */
+	public long getPercentile(double percentile)
+	{
+		long[] snapshot = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			snapshot[i] = this.counts.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0)
+		{
+			return 0;
+		}
+
+		long rank = (long) Math.ceil(total * Math.max(0, Math.min(percentile, 100)) / 100);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			seen += snapshot[i];
+			if (seen >= rank && snapshot[i] != 0)
+			{
+				return Math.min((1L << i) - 1, getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/** Removes all recorded values. */
+	public void reset()
+	{
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			this.counts.set(i, 0);
+		}
+		this.count.set(0);
+		this.sum.set(0);
+		this.max.set(0);
+	}
+
+	/**
+	 * Returns a <code>String</code> representation of the histogram.
+	 * @return a <code>String</code> containing the count, mean, percentiles,
+	 *         and maximum
+	 */
+	public String toString()
+	{
+		return "count=" + getCount() //$NON-NLS-1$
+				+ ", mean=" + getMean() //$NON-NLS-1$
+				+ ", p50=" + getPercentile(50) //$NON-NLS-1$
+				+ ", p95=" + getPercentile(95) //$NON-NLS-1$
+				+ ", p99=" + getPercentile(99) //$NON-NLS-1$
+				+ ", max=" + getMax(); //$NON-NLS-1$
+	}
+}
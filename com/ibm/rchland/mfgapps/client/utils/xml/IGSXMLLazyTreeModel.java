@@ -0,0 +1,857 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-018                  -Initial version
+ * 2026-10-18   ~1 user-018                  -Return typed children of a LazyNode
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.swing.event.EventListenerList;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.MutableTreeNode;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreeNode;
+import javax.swing.tree.TreePath;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * <code>IGSXMLLazyTreeModel</code> is a read-only <code>TreeModel</code> for
+ * the same trees as {@link IGSXMLTreeHandler} that creates its nodes and their
+ * {@link IGSUserObject}s only when they are requested, for example when a
+ * branch of a <code>JTree</code> is expanded.
+ * <p>
+ * The XML is scanned once to find the elements that are tree nodes (as
+ * determined by an {@link IGSXMLTreeParseStrategy}). For each tree node, only
+ * its parent and the offsets of its element in the XML are stored in
+ * <code>int</code> arrays. When a node is requested, its user object is
+ * created by parsing its element without the elements of its child nodes.
+ * The most recently used nodes are cached; the nodes of branches that are no
+ * longer displayed are released when the cache is full and are created again
+ * if they are requested again. Nodes are therefore equal if they represent
+ * the same element, but may not be identical.
+ * <p>
+ * The nodes are {@link DefaultMutableTreeNode}s that cannot be changed.
+ * Unlike <code>IGSXMLTreeHandler</code>, the model does not replace elements
+ * with other trees, does not merge nodes with identical user objects, and
+ * does not determine the selected node until
+ * {@link #findSelectedNode()} is called. The XML is assumed to be well formed
+ * and must not use entities declared in a DTD. Like other Swing models, the
+ * model must only be used by one thread at a time.
+ * @author The MFS Client Development Team
+ */
+public class IGSXMLLazyTreeModel
+	implements TreeModel
+{
+	/** The default maximum number of cached nodes. */
+	public static final int DEFAULT_CACHE_SIZE = 10000;
+
+	/** The factory used to create parsers. */
+	private static final SAXParserFactory factory = SAXParserFactory.newInstance();
+
+	/** The XML. */
+	private final String xml;
+
+	/** The strategy used to create the user objects. */
+	private final IGSXMLTreeParseStrategy strategy;
+
+	/** The number of nodes. */
+	private int nodeCount;
+
+	/** The parent of each node or -1 for the root. */
+	private int[] parents;
+
+	/** The offset of the start tag of each node. */
+	private int[] starts;
+
+	/** The offset following the end tag of each node. */
+	private int[] ends;
+
+	/** The offset in {@link #childList} of the children of each node. */
+	private int[] childStarts;
+
+	/** The children of each node in document order. */
+	private int[] childList;
+
+	/** The most recently used nodes. */
+	private final LinkedHashMap<Integer, LazyNode> cache;
+
+	/** The maximum number of cached nodes. */
+	private int cacheSize = DEFAULT_CACHE_SIZE;
+
+	/** The listeners of the model. */
+	private final EventListenerList listenerList = new EventListenerList();
+
+	/** The parser used to create user objects. */
+	private SAXParser parser;
+
+	/**
+	 * Constructs a new <code>IGSXMLLazyTreeModel</code>.
+	 * @param xml the XML for the tree
+	 * @param strategy the <code>IGSXMLTreeParseStrategy</code> that determines
+	 *        which elements are tree nodes and creates their user objects
+	 * @throws SAXException if the tags of the XML are not closed
+	 */
+	public IGSXMLLazyTreeModel(String xml, IGSXMLTreeParseStrategy strategy)
+		throws SAXException
+	{
+		super();
+		this.xml = xml;
+		this.strategy = strategy;
+		this.cache = new LinkedHashMap<Integer, LazyNode>(64, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			protected boolean removeEldestEntry(Map.Entry<Integer, LazyNode> eldest)
+			{
+				return size() > IGSXMLLazyTreeModel.this.cacheSize;
+			}
+		};
+		index();
+	}
+
+	/**
+	 * Constructs a new <code>IGSXMLLazyTreeModel</code> for the XML read from
+	 * a <code>Reader</code>.
+	 * @param in the <code>Reader</code> from which the XML is read
+	 * @param strategy the <code>IGSXMLTreeParseStrategy</code> that determines
+	 *        which elements are tree nodes and creates their user objects
+	 * @throws IOException if the XML cannot be read
+	 * @throws SAXException if the tags of the XML are not closed
+	 */
+	public IGSXMLLazyTreeModel(Reader in, IGSXMLTreeParseStrategy strategy)
+		throws IOException, SAXException
+	{
+		this(read(in), strategy);
+	}
+
+	/**
+	 * Reads all characters from a <code>Reader</code>.
+	 * @param in the <code>Reader</code>
+	 * @return the characters
+	 * @throws IOException if the characters cannot be read
+	 */
+	private static String read(Reader in)
+		throws IOException
+	{
+		StringBuffer result = new StringBuffer();
+		char[] buffer = new char[8192];
+		int count;
+		while ((count = in.read(buffer)) != -1)
+		{
+			result.append(buffer, 0, count);
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Returns the number of nodes in the tree.
+	 * @return the number of nodes
+	 */
+	public int getNodeCount()
+	{
+		return this.nodeCount;
+	}
+
+	/**
+	 * Returns the maximum number of nodes that are cached.
+	 * @return the cache size
+	 */
+	public int getCacheSize()
+	{
+		return this.cacheSize;
+	}
+
+	/**
+	 * Sets the maximum number of nodes that are cached. The cache should hold
+	 * at least the nodes displayed at once.
+	 * @param cacheSize the cache size
+	 */
+	public void setCacheSize(int cacheSize)
+	{
+		this.cacheSize = Math.max(1, cacheSize);
+	}
+
+	/**
+	 * Returns the node that the strategy selects, as
+	 * {@link IGSXMLTreeHandler#getSelectedNode()} does. The user object of
+	 * every node is created to find the node.
+	 * @return the last selected <code>DefaultMutableTreeNode</code> in the
+	 *         order in which the elements end or <code>null</code>
+	 */
+	public DefaultMutableTreeNode findSelectedNode()
+	{
+		DefaultMutableTreeNode result = null;
+		if (this.nodeCount > 0)
+		{
+			int[] stack = new int[16];
+			int[] next = new int[16];
+			int depth = 0;
+			stack[0] = 0;
+			next[0] = 0;
+			while (depth >= 0)
+			{
+				int id = stack[depth];
+				int child = next[depth]++;
+				if (this.childStarts[id] + child < this.childStarts[id + 1])
+				{
+					if (++depth == stack.length)
+					{
+						stack = Arrays.copyOf(stack, depth * 2);
+						next = Arrays.copyOf(next, depth * 2);
+					}
+					stack[depth] = this.childList[this.childStarts[id] + child];
+					next[depth] = 0;
+				}
+				else
+				{
+					DefaultMutableTreeNode node = getNode(id);
+					if (this.strategy.isSelectedNode(node))
+					{
+						result = node;
+					}
+					depth--;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the <code>TreePath</code> from the root to a node.
+	 * @param node a node of this model
+	 * @return the <code>TreePath</code>
+	 */
+	public TreePath getTreePath(DefaultMutableTreeNode node)
+	{
+		return new TreePath(node.getPath());
+	}
+
+	/**
+	 * Returns the root of the tree.
+	 * @return the root node or <code>null</code> if no element is a tree node
+	 */
+	public Object getRoot()
+	{
+		return this.nodeCount == 0 ? null : getNode(0);
+	}
+
+	/**
+	 * Returns the child of a node.
+	 * @param parent a node of this model
+	 * @param index the index of the child
+	 * @return the child node
+	 */
+	public Object getChild(Object parent, int index)
+	{
+		return ((TreeNode) parent).getChildAt(index);
+	}
+
+	/**
+	 * Returns the number of children of a node.
+	 * @param parent a node of this model
+	 * @return the number of children
+	 */
+	public int getChildCount(Object parent)
+	{
+		return ((TreeNode) parent).getChildCount();
+	}
+
+	/**
+	 * Returns <code>true</code> if a node has no children.
+	 * @param node a node of this model
+	 * @return <code>true</code> if <code>node</code> is a leaf
+	 */
+	public boolean isLeaf(Object node)
+	{
+		return ((TreeNode) node).getChildCount() == 0;
+	}
+
+	/**
+	 * Does nothing, because the model cannot be changed.
+	 * @param path the path to the changed node
+	 * @param newValue the new value of the node
+	 */
+	public void valueForPathChanged(TreePath path, Object newValue)
+	{
+		// The model cannot be changed
+	}
+
+	/**
+	 * Returns the index of a child of a node.
+	 * @param parent a node of this model
+	 * @param child a node of this model
+	 * @return the index of <code>child</code> or -1 if either node is
+	 *         <code>null</code> or <code>child</code> is not a child of
+	 *         <code>parent</code>
+	 */
+	public int getIndexOfChild(Object parent, Object child)
+	{
+		if (parent == null || child == null)
+		{
+			return -1;
+		}
+		return ((TreeNode) parent).getIndex((TreeNode) child);
+	}
+
+	/**
+	 * Adds a listener for changes to the model. Because the model cannot be
+	 * changed, no events are sent.
+	 * @param l the <code>TreeModelListener</code>
+	 */
+	public void addTreeModelListener(TreeModelListener l)
+	{
+		this.listenerList.add(TreeModelListener.class, l);
+	}
+
+	/**
+	 * Removes a listener for changes to the model.
+	 * @param l the <code>TreeModelListener</code>
+	 */
+	public void removeTreeModelListener(TreeModelListener l)
+	{
+		this.listenerList.remove(TreeModelListener.class, l);
+	}
+
+	/**
+	 * Returns the node with the specified number, creating it if it is not
+	 * cached.
+	 * @param id the number of the node in document order
+	 * @return the <code>LazyNode</code>
+	 */
+	private LazyNode getNode(int id)
+	{
+		Integer key = Integer.valueOf(id);
+		LazyNode result = this.cache.get(key);
+		if (result == null)
+		{
+			result = new LazyNode(id);
+			this.cache.put(key, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Scans the XML for the elements that are tree nodes.
+	 * @throws SAXException if the tags of the XML are not closed
+	 */
+	private void index()
+		throws SAXException
+	{
+		int capacity = 256;
+		this.parents = new int[capacity];
+		this.starts = new int[capacity];
+		this.ends = new int[capacity];
+
+		//The node of each open element or -1 if it is not a tree node
+		int[] elements = new int[32];
+		int depth = 0;
+		int current = -1;
+
+		String text = this.xml;
+		int offset = text.indexOf('<');
+		while (offset != -1)
+		{
+			int end;
+			if (text.startsWith("<!--", offset)) //$NON-NLS-1$
+			{
+				end = skip(offset, "-->"); //$NON-NLS-1$
+			}
+			else if (text.startsWith("<![CDATA[", offset)) //$NON-NLS-1$
+			{
+				end = skip(offset, "]]>"); //$NON-NLS-1$
+			}
+			else if (text.startsWith("<?", offset)) //$NON-NLS-1$
+			{
+				end = skip(offset, "?>"); //$NON-NLS-1$
+			}
+			else if (text.startsWith("<!", offset)) //$NON-NLS-1$
+			{
+				end = skipDeclaration(offset);
+			}
+			else if (text.startsWith("</", offset)) //$NON-NLS-1$
+			{
+				end = skip(offset, ">"); //$NON-NLS-1$
+				if (depth == 0)
+				{
+					throw new SAXException("Unexpected end tag at offset " + offset); //$NON-NLS-1$
+				}
+				int id = elements[--depth];
+				if (id != -1)
+				{
+					this.ends[id] = end;
+					current = this.parents[id];
+				}
+			}
+			else
+			{
+				end = findTagEnd(offset);
+				boolean empty = text.charAt(end - 2) == '/';
+				int nameEnd = offset + 1;
+				while (nameEnd < end - 1 && "/> \t\r\n".indexOf(text.charAt(nameEnd)) == -1) //$NON-NLS-1$
+				{
+					nameEnd++;
+				}
+				String qName = text.substring(offset + 1, nameEnd);
+				int id = -1;
+				if ((current != -1 || this.nodeCount == 0)
+						&& this.strategy.isTreeNode(IGSDefaultHandler.getElementName("", qName))) //$NON-NLS-1$
+				{
+					if (this.nodeCount == capacity)
+					{
+						capacity *= 2;
+						this.parents = Arrays.copyOf(this.parents, capacity);
+						this.starts = Arrays.copyOf(this.starts, capacity);
+						this.ends = Arrays.copyOf(this.ends, capacity);
+					}
+					id = this.nodeCount++;
+					this.parents[id] = current;
+					this.starts[id] = offset;
+					this.ends[id] = end;
+				}
+				if (!empty)
+				{
+					if (depth == elements.length)
+					{
+						elements = Arrays.copyOf(elements, depth * 2);
+					}
+					elements[depth++] = id;
+					if (id != -1)
+					{
+						current = id;
+					}
+				}
+			}
+			offset = text.indexOf('<', end);
+		}
+		if (depth != 0)
+		{
+			throw new SAXException("Element not closed"); //$NON-NLS-1$
+		}
+
+		this.parents = Arrays.copyOf(this.parents, this.nodeCount);
+		this.starts = Arrays.copyOf(this.starts, this.nodeCount);
+		this.ends = Arrays.copyOf(this.ends, this.nodeCount);
+
+		//Group the children by parent; a child follows its parent in document order
+		this.childStarts = new int[this.nodeCount + 1];
+		for (int i = 1; i < this.nodeCount; i++)
+		{
+			this.childStarts[this.parents[i] + 1]++;
+		}
+		for (int i = 0; i < this.nodeCount; i++)
+		{
+			this.childStarts[i + 1] += this.childStarts[i];
+		}
+		this.childList = new int[Math.max(0, this.nodeCount - 1)];
+		int[] filled = new int[this.nodeCount];
+		for (int i = 1; i < this.nodeCount; i++)
+		{
+			int parent = this.parents[i];
+			this.childList[this.childStarts[parent] + filled[parent]++] = i;
+		}
+	}
+
+	/**
+	 * Returns the offset following the first occurrence of a
+	 * <code>String</code> after the start of some markup.
+	 * @param offset the offset of the <code>'&lt;'</code> of the markup
+	 * @param close the <code>String</code> that closes the markup
+	 * @return the offset following <code>close</code>
+	 * @throws SAXException if the markup is not closed
+	 */
+	private int skip(int offset, String close)
+		throws SAXException
+	{
+		int result = this.xml.indexOf(close, offset + 1);
+		if (result == -1)
+		{
+			throw new SAXException("Markup not closed at offset " + offset); //$NON-NLS-1$
+		}
+		return result + close.length();
+	}
+
+	/**
+	 * Returns the offset following a declaration such as a document type
+	 * declaration, skipping an internal subset in brackets.
+	 * @param offset the offset of the <code>'&lt;'</code> of the declaration
+	 * @return the offset following the declaration
+	 * @throws SAXException if the declaration is not closed
+	 */
+	private int skipDeclaration(int offset)
+		throws SAXException
+	{
+		int brackets = 0;
+		char quote = 0;
+		int length = this.xml.length();
+		for (int i = offset + 2; i < length; i++)
+		{
+			char c = this.xml.charAt(i);
+			if (quote != 0)
+			{
+				if (c == quote)
+				{
+					quote = 0;
+				}
+			}
+			else if (c == '"' || c == '\'')
+			{
+				quote = c;
+			}
+			else if (c == '[')
+			{
+				brackets++;
+			}
+			else if (c == ']')
+			{
+				brackets--;
+			}
+			else if (c == '>' && brackets == 0)
+			{
+				return i + 1;
+			}
+		}
+		throw new SAXException("Declaration not closed at offset " + offset); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the offset following the <code>'&gt;'</code> that closes the
+	 * tag starting at the specified offset, skipping quoted attribute values.
+	 * @param offset the offset of the <code>'&lt;'</code> of the tag
+	 * @return the offset following the tag
+	 * @throws SAXException if the tag is not closed
+	 */
+	private int findTagEnd(int offset)
+		throws SAXException
+	{
+		char quote = 0;
+		int length = this.xml.length();
+		for (int i = offset + 1; i < length; i++)
+		{
+			char c = this.xml.charAt(i);
+			if (quote != 0)
+			{
+				if (c == quote)
+				{
+					quote = 0;
+				}
+			}
+			else if (c == '"' || c == '\'')
+			{
+				quote = c;
+			}
+			else if (c == '>')
+			{
+				return i + 1;
+			}
+		}
+		throw new SAXException("Tag not closed at offset " + offset); //$NON-NLS-1$
+	}
+
+	/**
+	 * Creates the user object of a node by parsing its element without the
+	 * elements of its child nodes.
+	 * @param id the number of the node
+	 * @return the user object
+	 */
+	private Object createUserObject(int id)
+	{
+		StringBuffer fragment = new StringBuffer();
+		int offset = this.starts[id];
+		for (int i = this.childStarts[id]; i < this.childStarts[id + 1]; i++)
+		{
+			int child = this.childList[i];
+			fragment.append(this.xml, offset, this.starts[child]);
+			offset = this.ends[child];
+		}
+		fragment.append(this.xml, offset, this.ends[id]);
+
+		UserObjectHandler handler = new UserObjectHandler();
+		try
+		{
+			if (this.parser == null)
+			{
+				synchronized (factory)
+				{
+					this.parser = factory.newSAXParser();
+				}
+			}
+			this.parser.parse(new InputSource(new StringReader(fragment.toString())), handler);
+			this.parser.reset();
+		}
+		catch (ParserConfigurationException e)
+		{
+			throw new IllegalStateException(e.getMessage());
+		}
+		catch (SAXException e)
+		{
+			this.parser = null;
+			throw new IllegalStateException(e.getMessage());
+		}
+		catch (IOException e)
+		{
+			this.parser = null;
+			throw new IllegalStateException(e.getMessage());
+		}
+		return handler.userObject;
+	}
+
+	/**
+	 * <code>UserObjectHandler</code> creates the user object of a node from
+	 * its element in the same way as {@link IGSXMLTreeHandler}.
+	 * @author The MFS Client Development Team
+	 */
+	private final class UserObjectHandler
+		extends IGSDefaultHandler
+	{
+		/** The user object. */
+		Object userObject;
+
+		/** The depth of the current element. */
+		private int depth;
+
+		/** Stores the data accumulated for the current element. */
+		private final StringBuffer elementData = new StringBuffer();
+
+		/**
+		 * Receives notification of the start of an element.
+		 * @param uri the namespace URI
+		 * @param localName the local name of the element (without namespace prefix)
+		 * @param qName the qualified name of the element (with namespace prefix)
+		 * @param attributes the attributes for the element
+		 */
+		public void startElement(String uri, String localName, String qName,
+									Attributes attributes)
+		{
+			if (this.depth++ == 0)
+			{
+				this.userObject = IGSXMLLazyTreeModel.this.strategy.createUserObject(
+						getElementName(localName, qName), attributes);
+			}
+			else
+			{
+				this.elementData.setLength(0);
+			}
+		}
+
+		/**
+		 * Receives notification of the end of an element.
+		 * @param uri the namespace URI
+		 * @param localName the local name of the element (without namespace prefix)
+		 * @param qName the qualified name of the element (with namespace prefix)
+		 */
+		public void endElement(String uri, String localName, String qName)
+		{
+			if (--this.depth > 0)
+			{
+				String data = this.elementData.toString();
+				if (this.userObject instanceof IGSUserObject)
+				{
+					((IGSUserObject) this.userObject).add(getElementName(localName, qName), data);
+				}
+				else if (this.userObject != null)
+				{
+					this.userObject = this.userObject + data;
+				}
+				else
+				{
+					this.userObject = data;
+				}
+			}
+		}
+
+		/**
+		 * Receives notification of character data inside an element.
+		 * @param ch the characters
+		 * @param start the start position in the character array
+		 * @param length the number of characters to use from the character array
+		 */
+		public void characters(char[] ch, int start, int length)
+		{
+			this.elementData.append(ch, start, length);
+		}
+
+		/**
+		 * Receives notification of ignorable whitespace inside an element.
+		 * @param ch the characters
+		 * @param start the start position in the character array
+		 * @param length the number of characters to use from the character array
+		 */
+		public void ignorableWhitespace(char[] ch, int start, int length)
+		{
+			characters(ch, start, length);
+		}
+	}
+
+	/**
+	 * <code>LazyNode</code> is a node of an <code>IGSXMLLazyTreeModel</code>.
+	 * Its user object is created the first time it is requested, and its
+	 * parent and children are looked up in the model.
+	 * @author The MFS Client Development Team
+	 */
+	private final class LazyNode
+		extends DefaultMutableTreeNode
+	{
+		/**
+		 * Identifies the original class version for which this class is capable of
+		 * writing streams and from which it can read.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/** The number of the node in document order. */
+		final int id;
+
+		/** Whether the user object was created. */
+		private boolean created;
+
+		/**
+		 * Constructs a new <code>LazyNode</code>.
+		 * @param id the number of the node in document order
+		 */
+		LazyNode(int id)
+		{
+			super(null, true);
+			this.id = id;
+		}
+
+		/**
+		 * Returns the model of this node.
+		 * @return the <code>IGSXMLLazyTreeModel</code>
+		 */
+		IGSXMLLazyTreeModel getModel()
+		{
+			return IGSXMLLazyTreeModel.this;
+		}
+
+		/** {@inheritDoc} */
+		public Object getUserObject()
+		{
+			if (!this.created)
+			{
+				this.userObject = createUserObject(this.id);
+				this.created = true;
+			}
+			return this.userObject;
+		}
+
+		/** {@inheritDoc} */
+		public TreeNode getParent()
+		{
+			int parent = IGSXMLLazyTreeModel.this.parents[this.id];
+			return parent == -1 ? null : getNode(parent);
+		}
+
+		/** {@inheritDoc} */
+		public int getChildCount()
+		{
+			int[] childStarts = IGSXMLLazyTreeModel.this.childStarts;
+			return childStarts[this.id + 1] - childStarts[this.id];
+		}
+
+		/** {@inheritDoc} */
+		public TreeNode getChildAt(int index)
+		{
+			if (index < 0 || index >= getChildCount())
+			{
+				throw new ArrayIndexOutOfBoundsException(index);
+			}
+			return getNode(IGSXMLLazyTreeModel.this.childList[IGSXMLLazyTreeModel.this.childStarts[this.id] + index]);
+		}
+
+		/** {@inheritDoc} */
+		public int getIndex(TreeNode node)
+		{
+			if (node instanceof LazyNode && ((LazyNode) node).getModel() == getModel())
+			{
+				int start = IGSXMLLazyTreeModel.this.childStarts[this.id];
+				int index = Arrays.binarySearch(IGSXMLLazyTreeModel.this.childList, start,
+						IGSXMLLazyTreeModel.this.childStarts[this.id + 1], ((LazyNode) node).id);
+				if (index >= 0)
+				{
+					return index - start;
+				}
+			}
+			return -1;
+		}
+
+		/** {@inheritDoc} */
+		public Enumeration<TreeNode> children() //~1C
+		{
+			return new Enumeration<TreeNode>()
+			{
+				private int index;
+
+				public boolean hasMoreElements()
+				{
+					return this.index < getChildCount();
+				}
+
+				public TreeNode nextElement()
+				{
+					if (!hasMoreElements())
+					{
+						throw new NoSuchElementException();
+					}
+					return getChildAt(this.index++);
+				}
+			};
+		}
+
+		/** {@inheritDoc} */
+		public void insert(MutableTreeNode newChild, int childIndex)
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		/** {@inheritDoc} */
+		public void remove(int childIndex)
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		/** {@inheritDoc} */
+		public String toString()
+		{
+			Object obj = getUserObject();
+			return obj == null ? null : obj.toString();
+		}
+
+		/** {@inheritDoc} */
+		public boolean equals(Object obj)
+		{
+			return obj instanceof LazyNode && ((LazyNode) obj).id == this.id
+					&& ((LazyNode) obj).getModel() == getModel();
+		}
+
+		/** {@inheritDoc} */
+		public int hashCode()
+		{
+			return this.id;
+		}
+
+		/** {@inheritDoc} */
+		public Object clone()
+		{
+			return new DefaultMutableTreeNode(getUserObject());
+		}
+	}
+}
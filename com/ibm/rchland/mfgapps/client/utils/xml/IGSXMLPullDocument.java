@@ -0,0 +1,678 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-012                  -Initial version
+ * 2026-10-18   ~1 user-014                  -Override findElement for typed accessors
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.io.Reader;
+import java.util.HashMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * <code>IGSXMLPullDocument</code> is an {@link IGSXMLDocument} whose parsing
+ * methods use a StAX pull parser instead of searching the document for tags.
+ * The first time an element is looked up, the document is parsed in one pass
+ * into a table of its elements; each lookup is then a binary search of the
+ * elements with the requested name. The table is built again after the
+ * document changes.
+ * <p>
+ * Unlike the scanner used by {@link IGSXMLDocument}, the pull parser
+ * <ul>
+ * <li>finds start tags with attributes and end tags with trailing spaces,</li>
+ * <li>ignores tags inside comments and <code>CDATA</code> sections,</li>
+ * <li>returns the data of an element without child elements with its entity
+ * and character references replaced and its <code>CDATA</code> sections
+ * unwrapped, and</li>
+ * <li>never finds the element that was stepped into inside itself.</li>
+ * </ul>
+ * The data of an element with child elements is returned unchanged, so it
+ * can be parsed by another document. The document may have more than one
+ * root element, as the output of an {@link IGSXMLTransaction} does, and may
+ * start with an XML declaration. A document that is not well-formed causes
+ * the parsing methods to throw an <code>IllegalStateException</code>; such
+ * documents must be parsed with the legacy scanner by invoking
+ * {@link #setLegacyParsing(boolean)} with <code>true</code>.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLPullDocument
+	extends IGSXMLDocument
+{
+	/** The name of the element that wraps the document while it is parsed. */
+	private static final String ROOT = "IGSXMLPullDocument"; //$NON-NLS-1$
+
+	/** The initial number of elements in the table. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** The factory used to create pull parsers. */
+	private static final XMLInputFactory factory = createFactory();
+
+	/** Set <code>true</code> if the parsing methods use the legacy scanner. */
+	private boolean legacyParsing = false;
+
+	/** The length of the document when the table was built or -1. */
+	private int parsedLength = -1;
+
+	/** The number of elements in the table. */
+	private int elementCount;
+
+	/** The offset of the start tag of each element. */
+	private int[] tagStarts;
+
+	/** The offset of the data of each element. */
+	private int[] dataStarts;
+
+	/** The offset of the end tag of each element. */
+	private int[] dataEnds;
+
+	/** The offset following the end tag of each element. */
+	private int[] ends;
+
+	/**
+	 * The parsed data of each element without child elements whose parsed
+	 * data differs from its unparsed data; otherwise <code>null</code>.
+	 */
+	private String[] values;
+
+	/** The element last found or -1. */
+	private int lastFound = -1; //~1A
+
+	/** The elements in document order by element name. */
+	private final HashMap<String, Occurrences> occurrences = new HashMap<String, Occurrences>();
+
+	/** Constructs a new <code>IGSXMLPullDocument</code>. */
+	public IGSXMLPullDocument()
+	{
+		super();
+	}
+
+	/**
+	 * Constructs a new <code>IGSXMLPullDocument</code>.
+	 * @param xml the XML for the document
+	 */
+	public IGSXMLPullDocument(String xml)
+	{
+		super(xml);
+	}
+
+	/**
+	 * Constructs a new <code>IGSXMLPullDocument</code> containing the XML of
+	 * another document, for example the output of an
+	 * {@link IGSXMLTransaction}.
+	 * @param document the <code>IGSXMLDocument</code> to copy
+	 */
+	public IGSXMLPullDocument(IGSXMLDocument document)
+	{
+		super();
+		this.buffer.append(document.buffer);
+	}
+
+	/**
+	 * Creates the factory used to create pull parsers.
+	 * @return the <code>XMLInputFactory</code>
+	 */
+	private static XMLInputFactory createFactory()
+	{
+		XMLInputFactory result = XMLInputFactory.newInstance();
+		result.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+		result.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		result.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		result.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+		return result;
+	}
+
+	/**
+	 * Returns <code>true</code> if the parsing methods use the legacy scanner
+	 * of {@link IGSXMLDocument}.
+	 * @return <code>true</code> if the legacy scanner is used
+	 */
+	public boolean isLegacyParsing()
+	{
+		return this.legacyParsing;
+	}
+
+	/**
+	 * Sets whether the parsing methods use the legacy scanner of
+	 * {@link IGSXMLDocument}, which also parses documents that are not
+	 * well-formed.
+	 * @param legacyParsing <code>true</code> to use the legacy scanner
+	 */
+	public void setLegacyParsing(boolean legacyParsing)
+	{
+		this.legacyParsing = legacyParsing;
+		invalidateIndex();
+	}
+
+	/** {@inheritDoc} */
+	protected void invalidateIndex()
+	{
+		super.invalidateIndex();
+		this.parsedLength = -1;
+	}
+
+	/**
+	 * Returns the number of elements in the document.
+	 * @return the number of elements
+	 * @throws IllegalStateException if the document is not well-formed
+	 */
+	public int getElementCount()
+	{
+		parseIfNecessary();
+		return this.elementCount;
+	}
+
+	/** {@inheritDoc} */
+	protected boolean findElement(String name, IGSXMLBoundary boundary) //~1C
+	{
+		this.lastFound = -1;
+		if (this.legacyParsing)
+		{
+			return super.findElement(name, boundary);
+		}
+		int element = findNamed(name, boundary.endOffset);
+		if (element != -1 && this.tagStarts[element] == boundary.start
+				&& this.ends[element] == boundary.end)
+		{
+			//Skip the element that was stepped into
+			element = findNamed(name, this.dataStarts[element]);
+		}
+		if (element == -1 || this.ends[element] > boundary.end)
+		{
+			return false;
+		}
+		boundary.startOffset = this.tagStarts[element];
+		boundary.endOffset = this.ends[element];
+		boundary.dataStart = this.dataStarts[element];
+		boundary.dataEnd = this.dataEnds[element];
+		this.lastFound = element;
+		return true;
+	}
+
+	//~1A New method
+	/** {@inheritDoc} */
+	protected String getUnescapedData(IGSXMLBoundary boundary)
+	{
+		return this.lastFound == -1 ? null : this.values[this.lastFound];
+	}
+
+	/** {@inheritDoc} */
+	public int findStartTagFromCurr(String name)
+	{
+		if (this.legacyParsing)
+		{
+			return super.findStartTagFromCurr(name);
+		}
+		IGSXMLBoundary marker = (IGSXMLBoundary) this.boundaries.peek();
+		int element = findNamed(name, marker.endOffset);
+		return element == -1 ? -1 : this.tagStarts[element];
+	}
+
+	/**
+	 * Returns the first element with the given name whose start tag is at or
+	 * after the specified offset.
+	 * @param name the name of the element
+	 * @param offset the offset into the document
+	 * @return the number of the element or -1 if there is no such element
+	 */
+	private int findNamed(String name, int offset)
+	{
+		parseIfNecessary();
+		Occurrences named = this.occurrences.get(name);
+		if (named == null)
+		{
+			return -1;
+		}
+		int low = 0;
+		int high = named.count;
+		while (low < high)
+		{
+			int mid = (low + high) >>> 1;
+			if (this.tagStarts[named.elements[mid]] < offset)
+			{
+				low = mid + 1;
+			}
+			else
+			{
+				high = mid;
+			}
+		}
+		return low < named.count ? named.elements[low] : -1;
+	}
+
+	/**
+	 * Builds the table of elements if the document changed since it was
+	 * last built.
+	 * @throws IllegalStateException if the document is not well-formed
+	 */
+	private void parseIfNecessary()
+	{
+		if (this.parsedLength == this.buffer.length())
+		{
+			return;
+		}
+		this.occurrences.clear();
+		this.elementCount = 0;
+		if (this.tagStarts == null)
+		{
+			this.tagStarts = new int[INITIAL_CAPACITY];
+			this.dataStarts = new int[INITIAL_CAPACITY];
+			this.dataEnds = new int[INITIAL_CAPACITY];
+			this.ends = new int[INITIAL_CAPACITY];
+			this.values = new String[INITIAL_CAPACITY];
+		}
+		try
+		{
+			parse();
+		}
+		catch (XMLStreamException e)
+		{
+			this.occurrences.clear();
+			this.elementCount = 0;
+			IllegalStateException ise = new IllegalStateException(
+					"The document is not well-formed: " + e.getMessage()); //$NON-NLS-1$
+			ise.initCause(e);
+			throw ise;
+		}
+		this.parsedLength = this.buffer.length();
+	}
+
+	/**
+	 * Parses the document into the table of elements. The pull parser
+	 * validates the document and decodes the data of each element; the
+	 * offsets of each element's tags are found by moving a cursor from tag to
+	 * tag through the document in step with the parser.
+	 * @throws XMLStreamException if the document is not well-formed
+	 */
+	private void parse()
+		throws XMLStreamException
+	{
+		int bodyStart = skipDeclaration();
+		XMLStreamReader reader = factory.createXMLStreamReader(new BufferReader(
+				this.buffer, bodyStart));
+		int[] open = new int[16];
+		boolean[] hasChildren = new boolean[16];
+		StringBuffer[] texts = new StringBuffer[16];
+		int depth = -1;
+		int cursor = bodyStart;
+		try
+		{
+			while (reader.hasNext())
+			{
+				int event = reader.next();
+				if (event == XMLStreamConstants.START_ELEMENT)
+				{
+					if (depth++ == -1)
+					{
+						continue; //The wrapping element
+					}
+					if (depth == open.length)
+					{
+						open = grow(open);
+						boolean[] newHasChildren = new boolean[depth * 2];
+						System.arraycopy(hasChildren, 0, newHasChildren, 0, depth);
+						hasChildren = newHasChildren;
+						StringBuffer[] newTexts = new StringBuffer[depth * 2];
+						System.arraycopy(texts, 0, newTexts, 0, depth);
+						texts = newTexts;
+					}
+					if (depth > 1)
+					{
+						hasChildren[depth - 1] = true;
+					}
+					int tagStart = findMarkup(cursor);
+					cursor = findTagEnd(tagStart);
+					int element = addElement(reader.getLocalName(), tagStart, cursor);
+					if (this.buffer.charAt(cursor - 2) == '/')
+					{
+						this.dataEnds[element] = cursor;
+						this.ends[element] = cursor;
+					}
+					open[depth] = element;
+					hasChildren[depth] = false;
+					if (texts[depth] == null)
+					{
+						texts[depth] = new StringBuffer();
+					}
+					texts[depth].setLength(0);
+				}
+				else if (event == XMLStreamConstants.END_ELEMENT)
+				{
+					if (depth-- == 0)
+					{
+						continue; //The wrapping element
+					}
+					int element = open[depth + 1];
+					if (this.ends[element] == -1)
+					{
+						this.dataEnds[element] = findMarkup(cursor);
+						cursor = findTagEnd(this.dataEnds[element]);
+						this.ends[element] = cursor;
+					}
+					if (!hasChildren[depth + 1])
+					{
+						setValue(element, texts[depth + 1]);
+					}
+				}
+				else if (depth > 0 && (event == XMLStreamConstants.CHARACTERS
+						|| event == XMLStreamConstants.CDATA
+						|| event == XMLStreamConstants.SPACE))
+				{
+					texts[depth].append(reader.getTextCharacters(), reader.getTextStart(),
+							reader.getTextLength());
+				}
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+	}
+
+	/**
+	 * Returns the offset following the XML declaration at the start of the
+	 * document, if there is one.
+	 * @return the offset of the first character to parse
+	 */
+	private int skipDeclaration()
+	{
+		int offset = 0;
+		int length = this.buffer.length();
+		while (offset < length && Character.isWhitespace(this.buffer.charAt(offset)))
+		{
+			offset++;
+		}
+		if (offset + 5 < length && this.buffer.indexOf("<?xml", offset) == offset //$NON-NLS-1$
+				&& Character.isWhitespace(this.buffer.charAt(offset + 5)))
+		{
+			int end = this.buffer.indexOf("?>", offset); //$NON-NLS-1$
+			if (end != -1)
+			{
+				return end + 2;
+			}
+		}
+		return offset;
+	}
+
+	/**
+	 * Returns the offset of the next start or end tag, skipping comments,
+	 * <code>CDATA</code> sections, and processing instructions.
+	 * @param offset the offset at which to start
+	 * @return the offset of the <code>'&lt;'</code> of the tag
+	 * @throws XMLStreamException if there is no tag
+	 */
+	private int findMarkup(int offset)
+		throws XMLStreamException
+	{
+		int result = this.buffer.indexOf("<", offset); //$NON-NLS-1$
+		while (result != -1)
+		{
+			String close;
+			if (startsWith("<!--", result)) //$NON-NLS-1$
+			{
+				close = "-->"; //$NON-NLS-1$
+			}
+			else if (startsWith("<![CDATA[", result)) //$NON-NLS-1$
+			{
+				close = "]]>"; //$NON-NLS-1$
+			}
+			else if (startsWith("<?", result)) //$NON-NLS-1$
+			{
+				close = "?>"; //$NON-NLS-1$
+			}
+			else
+			{
+				return result;
+			}
+			int end = this.buffer.indexOf(close, result + 2);
+			if (end == -1)
+			{
+				break;
+			}
+			result = this.buffer.indexOf("<", end + close.length()); //$NON-NLS-1$
+		}
+		throw new XMLStreamException("Tag not found after offset " + offset); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the offset following the <code>'&gt;'</code> that closes the
+	 * tag starting at the specified offset, skipping quoted attribute values.
+	 * @param offset the offset of the <code>'&lt;'</code> of the tag
+	 * @return the offset following the tag
+	 * @throws XMLStreamException if the tag is not closed
+	 */
+	private int findTagEnd(int offset)
+		throws XMLStreamException
+	{
+		char quote = 0;
+		int length = this.buffer.length();
+		for (int i = offset + 1; i < length; i++)
+		{
+			char c = this.buffer.charAt(i);
+			if (quote != 0)
+			{
+				if (c == quote)
+				{
+					quote = 0;
+				}
+			}
+			else if (c == '"' || c == '\'')
+			{
+				quote = c;
+			}
+			else if (c == '>')
+			{
+				return i + 1;
+			}
+		}
+		throw new XMLStreamException("Tag not closed at offset " + offset); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns <code>true</code> if the document contains the specified
+	 * <code>String</code> at the specified offset.
+	 * @param string the <code>String</code>
+	 * @param offset the offset into the document
+	 * @return <code>true</code> if the document contains the string
+	 */
+	private boolean startsWith(String string, int offset)
+	{
+		int length = string.length();
+		if (offset + length > this.buffer.length())
+		{
+			return false;
+		}
+		for (int i = 0; i < length; i++)
+		{
+			if (this.buffer.charAt(offset + i) != string.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Adds an element to the table.
+	 * @param name the name of the element
+	 * @param tagStart the offset of the start tag
+	 * @param dataStart the offset following the start tag
+	 * @return the number of the element
+	 */
+	private int addElement(String name, int tagStart, int dataStart)
+	{
+		int element = this.elementCount++;
+		if (element == this.tagStarts.length)
+		{
+			this.tagStarts = grow(this.tagStarts);
+			this.dataStarts = grow(this.dataStarts);
+			this.dataEnds = grow(this.dataEnds);
+			this.ends = grow(this.ends);
+			String[] newValues = new String[element * 2];
+			System.arraycopy(this.values, 0, newValues, 0, element);
+			this.values = newValues;
+		}
+		this.tagStarts[element] = tagStart;
+		this.dataStarts[element] = dataStart;
+		this.dataEnds[element] = -1;
+		this.ends[element] = -1;
+		this.values[element] = null;
+
+		Occurrences named = this.occurrences.get(name);
+		if (named == null)
+		{
+			named = new Occurrences();
+			this.occurrences.put(name, named);
+		}
+		named.add(element);
+		return element;
+	}
+
+	/**
+	 * Stores the parsed data of an element without child elements if it
+	 * differs from the unparsed data.
+	 * @param element the number of the element
+	 * @param text the parsed data
+	 */
+	private void setValue(int element, StringBuffer text)
+	{
+		int start = this.dataStarts[element];
+		int end = this.dataEnds[element];
+		boolean same = text.length() == end - start;
+		for (int i = 0; same && i < text.length(); i++)
+		{
+			same = text.charAt(i) == this.buffer.charAt(start + i);
+		}
+		if (!same)
+		{
+			this.values[element] = text.toString();
+		}
+	}
+
+	/**
+	 * Returns a copy of an array with twice its length.
+	 * @param array the array
+	 * @return the new array
+	 */
+	private static int[] grow(int[] array)
+	{
+		int[] result = new int[array.length * 2];
+		System.arraycopy(array, 0, result, 0, array.length);
+		return result;
+	}
+
+	/**
+	 * <code>Occurrences</code> holds the numbers of the elements with the
+	 * same name in document order.
+	 */
+	private static class Occurrences
+	{
+		/** The numbers of the elements. */
+		int[] elements = new int[4];
+
+		/** The number of elements. */
+		int count;
+
+		/**
+		 * Adds an element.
+		 * @param element the number of the element
+		 */
+		void add(int element)
+		{
+			if (this.count == this.elements.length)
+			{
+				this.elements = grow(this.elements);
+			}
+			this.elements[this.count++] = element;
+		}
+	}
+
+	/**
+	 * <code>BufferReader</code> reads the document from its
+	 * <code>StringBuffer</code> without copying it, wrapped in an element so
+	 * that a document with more than one root element can be parsed.
+	 */
+	private static class BufferReader
+		extends Reader
+	{
+		/** The start tag of the wrapping element. */
+		private static final String PREFIX = '<' + ROOT + '>';
+
+		/** The end tag of the wrapping element. */
+		private static final String SUFFIX = "</" + ROOT + '>'; //$NON-NLS-1$
+
+		/** The document. */
+		private final StringBuffer buffer;
+
+		/** The offset of the first character of the document to read. */
+		private final int start;
+
+		/** The number of characters to read. */
+		private final int length;
+
+		/** The number of characters read. */
+		private int position;
+
+		/**
+		 * Constructs a new <code>BufferReader</code>.
+		 * @param buffer the document
+		 * @param start the offset of the first character to read
+		 */
+		BufferReader(StringBuffer buffer, int start)
+		{
+			super();
+			this.buffer = buffer;
+			this.start = start;
+			this.length = PREFIX.length() + buffer.length() - start + SUFFIX.length();
+		}
+
+		/** {@inheritDoc} */
+		public int read(char[] cbuf, int off, int len)
+		{
+			if (this.position == this.length)
+			{
+				return -1;
+			}
+			int count = 0;
+			int bodyEnd = this.length - SUFFIX.length();
+			while (count < len && this.position < this.length)
+			{
+				int n;
+				if (this.position < PREFIX.length())
+				{
+					n = Math.min(len - count, PREFIX.length() - this.position);
+					PREFIX.getChars(this.position, this.position + n, cbuf, off + count);
+				}
+				else if (this.position < bodyEnd)
+				{
+					n = Math.min(len - count, bodyEnd - this.position);
+					int from = this.start + this.position - PREFIX.length();
+					this.buffer.getChars(from, from + n, cbuf, off + count);
+				}
+				else
+				{
+					n = Math.min(len - count, this.length - this.position);
+					int from = this.position - bodyEnd;
+					SUFFIX.getChars(from, from + n, cbuf, off + count);
+				}
+				this.position += n;
+				count += n;
+			}
+			return count;
+		}
+
+		/** {@inheritDoc} */
+		public void close()
+		{
+			//Nothing to close
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-005                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.io.IOException;
+
+/**
+ * <code>IGSXMLResponseConsumer</code> receives the output of an
+ * {@link IGSXMLTransaction} one buffer of data at a time while the output is
+ * read from the server. A transaction with a response consumer does not
+ * accumulate its output; only the last buffer of data before the end of
+ * transmission is kept in the transaction's XML document, so the return code
+ * and error message are still available.
+ * <p>
+ * The consumer is invoked by the thread executing the transaction. No more
+ * output is read from the server until {@link #consume} returns, so a slow
+ * consumer slows the server down instead of buffering output in memory.
+ * @author The Process Profile Client Development Team
+ */
+public interface IGSXMLResponseConsumer
+{
+	/**
+	 * Invoked for each buffer of data of the transaction's output. For output
+	 * that uses the first {@link IGSXMLTransaction#METADATA_LENGTH} characters
+	 * of each buffer to send the return code, the data does not include the
+	 * return code. The data is only valid until this method returns.
+	 * @param transaction the executing <code>IGSXMLTransaction</code>
+	 * @param data the buffer of data
+	 * @param returnCode the return code of the buffer of data
+	 * @throws IOException to stop the transaction. The transaction's return
+	 *         code is set as for a communication error.
+	 */
+	public void consume(IGSXMLTransaction transaction, CharSequence data, int returnCode)
+		throws IOException;
+
+	/**
+	 * Invoked after the last buffer of data was consumed or after an error
+	 * occurred while the output was read.
+	 * @param transaction the <code>IGSXMLTransaction</code>
+	 */
+	public void responseCompleted(IGSXMLTransaction transaction);
+}
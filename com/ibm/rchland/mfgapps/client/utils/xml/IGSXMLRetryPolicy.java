@@ -0,0 +1,143 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-009                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.util.Random;
+
+/**
+ * <code>IGSXMLRetryPolicy</code> determines how often and after what delay an
+ * idempotent {@link IGSXMLTransaction} is executed again after a
+ * communication error or timeout. The delay before the <i>n</i>th retry is
+ * <code>initialDelay * 2^(n - 1)</code>, limited to <code>maxDelay</code>,
+ * of which a random half is subtracted so that stations that failed at the
+ * same time do not retry at the same time.
+ * <p>
+ * A policy is only applied to transactions for which
+ * {@link IGSXMLTransaction#setIdempotent(boolean)} was invoked with
+ * <code>true</code>. Transactions whose output was already passed to an
+ * {@link IGSXMLResponseConsumer} or piped are not retried.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLRetryPolicy
+{
+	/** The default maximum number of attempts. */
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+	/** The default delay in milliseconds before the first retry. */
+	public static final long DEFAULT_INITIAL_DELAY = 100;
+
+	/** The default maximum delay in milliseconds between attempts. */
+	public static final long DEFAULT_MAX_DELAY = 5000;
+
+	/** The source of the jitter. */
+	private static final Random random = new Random();
+
+	/** The maximum number of attempts, including the first. */
+	private final int maxAttempts;
+
+	/** The delay in milliseconds before the first retry. */
+	private final long initialDelay;
+
+	/** The maximum delay in milliseconds between attempts. */
+	private final long maxDelay;
+
+	/** Constructs a new <code>IGSXMLRetryPolicy</code> using the defaults. */
+	public IGSXMLRetryPolicy()
+	{
+		this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_DELAY, DEFAULT_MAX_DELAY);
+	}
+
+	/**
+	 * Constructs a new <code>IGSXMLRetryPolicy</code>.
+	 * @param maxAttempts the maximum number of attempts, including the first
+	 * @param initialDelay the delay in milliseconds before the first retry
+	 * @param maxDelay the maximum delay in milliseconds between attempts
+	 */
+	public IGSXMLRetryPolicy(int maxAttempts, long initialDelay, long maxDelay)
+	{
+		super();
+		if (maxAttempts < 1 || initialDelay < 0 || maxDelay < initialDelay)
+		{
+			throw new IllegalArgumentException("Invalid retry policy."); //$NON-NLS-1$
+		}
+		this.maxAttempts = maxAttempts;
+		this.initialDelay = initialDelay;
+		this.maxDelay = maxDelay;
+	}
+
+	/**
+	 * Returns the maximum number of attempts, including the first.
+	 * @return the maximum number of attempts
+	 */
+	public int getMaxAttempts()
+	{
+		return this.maxAttempts;
+	}
+
+	/**
+	 * Returns the delay before the first retry.
+	 * @return the delay in milliseconds
+	 */
+	public long getInitialDelay()
+	{
+		return this.initialDelay;
+	}
+
+	/**
+	 * Returns the maximum delay between attempts.
+	 * @return the delay in milliseconds
+	 */
+	public long getMaxDelay()
+	{
+		return this.maxDelay;
+	}
+
+	/**
+	 * Returns <code>true</code> if a transaction that failed with the
+	 * specified return code may be executed again.
+	 * @param returnCode the return code of the failed attempt
+	 * @param attempt the number of attempts made, starting at 1
+	 * @return <code>true</code> if the transaction should be retried
+	 */
+	public boolean isRetryable(int returnCode, int attempt)
+	{
+		return attempt < this.maxAttempts
+				&& (returnCode == IGSXMLTransaction.COMMUNICATION_ERROR
+						|| returnCode == IGSXMLTransaction.TIMED_OUT);
+	}
+
+	/**
+	 * Returns the delay before the next attempt.
+	 * @param attempt the number of attempts made, starting at 1
+	 * @return the delay in milliseconds
+	 */
+	public long getDelay(int attempt)
+	{
+		long delay = this.initialDelay;
+		for (int i = 1; i < attempt && delay < this.maxDelay; i++)
+		{
+			delay <<= 1;
+		}
+		delay = Math.min(delay, this.maxDelay);
+		long half = delay >> 1;
+		return delay - (long) (random.nextDouble() * half);
+	}
+
+	/**
+	 * Returns a <code>String</code> representation of the policy.
+	 * @return a <code>String</code> containing the settings
+	 */
+	public String toString()
+	{
+		return "IGSXMLRetryPolicy[maxAttempts=" + this.maxAttempts //$NON-NLS-1$
+				+ ", initialDelay=" + this.initialDelay //$NON-NLS-1$
+				+ ", maxDelay=" + this.maxDelay + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -0,0 +1,281 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-020                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <code>IGSXMLStringInterner</code> is a bounded pool of <code>String</code>s
+ * used to avoid keeping many equal copies of the same element names and
+ * element data, such as status codes and part numbers, in memory.
+ * {@link #intern(char[], int, int)} returns the pooled <code>String</code>
+ * with the specified characters, so no <code>String</code> is created when
+ * the characters were interned before.
+ * <p>
+ * The pool is a hash table with two entries per bucket. When a
+ * <code>String</code> is added to a full bucket, the least recently used
+ * entry of the bucket is replaced, so the pool never holds more
+ * <code>String</code>s than its capacity and values that are no longer
+ * requested are released. The pool can be shared by threads without
+ * synchronization; a <code>String</code> added by one thread may not be seen
+ * by another thread, which only causes a miss.
+ * <p>
+ * The statistics of the pool report how many requests returned a pooled
+ * <code>String</code> and how many characters those requests did not retain.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLStringInterner
+{
+	/** The default maximum number of pooled <code>String</code>s. */
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	/** The pooled <code>String</code>s; the most recently used of a bucket first. */
+	private final String[] entries;
+
+	/** The number of buckets minus one. */
+	private final int mask;
+
+	/** The number of requests that returned a pooled <code>String</code>. */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/** The number of requests that added a <code>String</code>. */
+	private final AtomicLong missCount = new AtomicLong();
+
+	/** The number of characters of the <code>String</code>s returned by hits. */
+	private final AtomicLong savedCharCount = new AtomicLong();
+
+	/**
+	 * Constructs a new <code>IGSXMLStringInterner</code> with the default
+	 * capacity.
+	 */
+	public IGSXMLStringInterner()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new <code>IGSXMLStringInterner</code>.
+	 * @param capacity the maximum number of pooled <code>String</code>s,
+	 *        rounded up to a power of two
+	 */
+	public IGSXMLStringInterner(int capacity)
+	{
+		super();
+		int buckets = 1;
+		while (buckets * 2 < capacity)
+		{
+			buckets <<= 1;
+		}
+		this.entries = new String[buckets * 2];
+		this.mask = buckets - 1;
+	}
+
+	/**
+	 * Returns the maximum number of pooled <code>String</code>s.
+	 * @return the capacity
+	 */
+	public int getCapacity()
+	{
+		return this.entries.length;
+	}
+
+	/**
+	 * Returns the pooled <code>String</code> equal to the specified
+	 * <code>String</code>, adding <code>string</code> if there is none.
+	 * @param string the <code>String</code> or <code>null</code>
+	 * @return the pooled <code>String</code> or <code>null</code> if
+	 *         <code>string</code> is <code>null</code>
+	 */
+	public String intern(String string)
+	{
+		if (string == null)
+		{
+			return null;
+		}
+		int index = indexOf(string.hashCode());
+		String first = this.entries[index];
+		if (string.equals(first))
+		{
+			return hit(first);
+		}
+		String second = this.entries[index + 1];
+		if (string.equals(second))
+		{
+			this.entries[index + 1] = first;
+			this.entries[index] = second;
+			return hit(second);
+		}
+		return miss(index, string);
+	}
+
+	/**
+	 * Returns the pooled <code>String</code> with the specified characters,
+	 * adding a new <code>String</code> if there is none.
+	 * @param chars the array containing the characters
+	 * @param offset the offset of the first character
+	 * @param length the number of characters
+	 * @return the pooled <code>String</code>
+	 */
+	public String intern(char[] chars, int offset, int length)
+	{
+		int hash = 0;
+		for (int i = offset; i < offset + length; i++)
+		{
+			hash = 31 * hash + chars[i];
+		}
+		int index = indexOf(hash);
+		String first = this.entries[index];
+		if (matches(first, hash, chars, offset, length))
+		{
+			return hit(first);
+		}
+		String second = this.entries[index + 1];
+		if (matches(second, hash, chars, offset, length))
+		{
+			this.entries[index + 1] = first;
+			this.entries[index] = second;
+			return hit(second);
+		}
+		return miss(index, new String(chars, offset, length));
+	}
+
+	/**
+	 * Returns the index of the first entry of the bucket for a hash code.
+	 * @param hash the hash code
+	 * @return the index in {@link #entries}
+	 */
+	private int indexOf(int hash)
+	{
+		return ((hash ^ (hash >>> 16)) & this.mask) << 1;
+	}
+
+	/**
+	 * Returns <code>true</code> if a <code>String</code> has the specified
+	 * characters.
+	 * @param string the <code>String</code> or <code>null</code>
+	 * @param hash the hash code of the characters
+	 * @param chars the array containing the characters
+	 * @param offset the offset of the first character
+	 * @param length the number of characters
+	 * @return <code>true</code> if the characters match
+	 */
+	private static boolean matches(String string, int hash, char[] chars, int offset, int length)
+	{
+		if (string == null || string.length() != length || string.hashCode() != hash)
+		{
+			return false;
+		}
+		for (int i = 0; i < length; i++)
+		{
+			if (string.charAt(i) != chars[offset + i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Counts a hit.
+	 * @param string the pooled <code>String</code>
+	 * @return <code>string</code>
+	 */
+	private String hit(String string)
+	{
+		this.hitCount.incrementAndGet();
+		this.savedCharCount.addAndGet(string.length());
+		return string;
+	}
+
+	/**
+	 * Counts a miss and adds a <code>String</code> as the most recently used
+	 * entry of its bucket.
+	 * @param index the index of the first entry of the bucket
+	 * @param string the <code>String</code>
+	 * @return <code>string</code>
+	 */
+	private String miss(int index, String string)
+	{
+		this.missCount.incrementAndGet();
+		this.entries[index + 1] = this.entries[index];
+		this.entries[index] = string;
+		return string;
+	}
+
+	/**
+	 * Returns the number of requests that returned a pooled
+	 * <code>String</code>.
+	 * @return the number of hits
+	 */
+	public long getHitCount()
+	{
+		return this.hitCount.get();
+	}
+
+	/**
+	 * Returns the number of requests that added a <code>String</code>.
+	 * @return the number of misses
+	 */
+	public long getMissCount()
+	{
+		return this.missCount.get();
+	}
+
+	/**
+	 * Returns the fraction of requests that returned a pooled
+	 * <code>String</code>.
+	 * @return the hit rate between 0 and 1
+	 */
+	public double getHitRate()
+	{
+		long hits = this.hitCount.get();
+		long requests = hits + this.missCount.get();
+		return requests == 0 ? 0 : (double) hits / requests;
+	}
+
+	/**
+	 * Returns the number of characters of the <code>String</code>s returned
+	 * by hits. Each of these characters would otherwise be held by another
+	 * <code>String</code> for as long as the caller keeps it.
+	 * @return the number of characters
+	 */
+	public long getSavedCharCount()
+	{
+		return this.savedCharCount.get();
+	}
+
+	/** Resets the statistics of the pool. */
+	public void resetStatistics()
+	{
+		this.hitCount.set(0);
+		this.missCount.set(0);
+		this.savedCharCount.set(0);
+	}
+
+	/** Removes all <code>String</code>s from the pool. */
+	public void clear()
+	{
+		Arrays.fill(this.entries, null);
+	}
+
+	/**
+	 * Returns a <code>String</code> representation of the pool.
+	 * @return a <code>String</code> containing the pool statistics
+	 */
+	public String toString()
+	{
+		return "IGSXMLStringInterner[capacity=" + this.entries.length //$NON-NLS-1$
+				+ ", hits=" + getHitCount() //$NON-NLS-1$
+				+ ", misses=" + getMissCount() //$NON-NLS-1$
+				+ ", hitRate=" + Math.round(getHitRate() * 100) + '%' //$NON-NLS-1$
+				+ ", savedChars=" + getSavedCharCount() + ']'; //$NON-NLS-1$
+	}
+}
@@ -10,22 +10,43 @@
  *              ~1 40845MZ                   (Checked in using MFSCOMFUNC feature)
  * 2008-02-13   ~2 37616JL  R Prechel        -Support piped output
  * 2008-03-15   ~3 37616JL  R Prechel        -Fix receivePiped and add toString
+ * 2026-10-18   ~4 user-001                  -Use IGSXMLConnectionPool when configured
+ * 2026-10-18   ~5 user-002                  -Add cancel for IGSXMLTransactionExecutor
+ * 2026-10-18   ~6 user-003                  -Split run for IGSXMLTransactionBatch
+ * 2026-10-18   ~7 user-004                  -Use IGSXMLFramer to read and write buffers
+ * 2026-10-18   ~8 user-005                  -Add IGSXMLResponseConsumer
+ * 2026-10-18   ~9 user-006                  -Pipe output using IGSRingBuffer and a shared executor
+ * 2026-10-18  ~10 user-007                  -Add IGSXMLTransactionCache
+ * 2026-10-18  ~11 user-008                  -Measure executions for IGSXMLTransactionMetrics
+ * 2026-10-18  ~12 user-009                  -Add timeouts, retries, and IGSXMLCircuitBreaker
+ * 2026-10-18  ~13 user-010                  -Add compressed buffers of data
+ * 2026-10-18  ~14 user-011                  -Discard the element index when the output changes
+ * 2026-10-18  ~15 user-013                  -Send input built in an IGSXMLBuilder
+ * 2026-10-18  ~16 user-013                  -Keep builder input when an error occurs
  ******************************************************************************/
 package com.ibm.rchland.mfgapps.client.utils.xml;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.ibm.rchland.mfgapps.client.utils.io.IGSRingBuffer;
+
 /**
  * <code>IGSXMLTransaction</code> is used to call a server side program using
  * a socket connection. The class encapsulates the program's input, output, and
@@ -40,6 +61,21 @@ public class IGSXMLTransaction
 	/** The return code indicating the end of a transaction's output. */
 	public static final int END_OF_TRANSMISSION = 9999; //~1A
 
+	/** The return code set when communication with the server fails. */
+	public static final int COMMUNICATION_ERROR = -10; //~12A
+
+	/** The return code set when a transaction is cancelled. */
+	public static final int CANCELLED = -11; //~5A
+
+	/** The return code set when a timeout or the deadline expires. */
+	public static final int TIMED_OUT = -12; //~12A
+
+	/** The return code set when the server's circuit breaker is open. */
+	public static final int CIRCUIT_OPEN = -13; //~12A
+
+	/** The time in milliseconds between checks for cancellation while waiting. */
+	private static final long WAIT_INTERVAL = 50; //~12A
+
 	/** The <code>Logger</code> used by <code>IGSXMLTransaction</code>. */
 	public static final Logger LOGGER = Logger.getLogger(IGSXMLTransaction.class.getName());
 
@@ -71,17 +107,87 @@ public class IGSXMLTransaction
 	}
 
 	/** Used to create unique <code>Thread</code> names. */
-	private static int threadNumber = 0; //~2A
+	private static final AtomicInteger threadNumber = new AtomicInteger(); //~2A ~9C
+
+	//~9A
+	/**
+	 * The <code>ExecutorService</code> that runs the piped
+	 * <code>Runnable</code>s of all transactions. Idle threads are reused and
+	 * a new thread is only created if all threads are busy, so a piped
+	 * <code>Runnable</code> never waits for another transaction to finish.
+	 */
+	private static final ExecutorService pipeExecutor = Executors
+			.newCachedThreadPool(new ThreadFactory()
+			{
+				public Thread newThread(Runnable r)
+				{
+					String n = "IGSXMLTransaction-" + threadNumber.getAndIncrement(); //$NON-NLS-1$
+					Thread thread = new Thread(r, n);
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+
+	/** The default connection pool used by new transactions. */
+	private static IGSXMLConnectionPool defaultConnectionPool; //~4A
+
+	/** The default response cache used by new transactions. */
+	private static IGSXMLTransactionCache defaultResponseCache; //~10A
+
+	/** The default connect timeout in milliseconds of new transactions. */
+	private static int defaultConnectTimeout; //~12A
+
+	/** The default read timeout in milliseconds of new transactions. */
+	private static int defaultReadTimeout; //~12A
+
+	/** The default overall timeout in milliseconds of new transactions. */
+	private static int defaultTimeout; //~12A
+
+	/** The default retry policy of new transactions. */
+	private static IGSXMLRetryPolicy defaultRetryPolicy; //~12A
+
+	/** Set <code>true</code> if new transactions request compression. */
+	private static boolean defaultCompression; //~13A
 
 	/** The message displayed while the transaction executes. */
 	private String fieldActionMessage;
 
+	/**
+	 * Set <code>true</code> if the transaction requests that the server
+	 * compress large buffers of output.
+	 */
+	private boolean fieldCompression = defaultCompression; //~13A
+
+	/**
+	 * The connection pool used to lease connections or <code>null</code> if
+	 * a new connection is opened for each execution.
+	 */
+	private IGSXMLConnectionPool fieldConnectionPool = defaultConnectionPool; //~4A
+
+	/**
+	 * The cache used to share the output of identical transactions or
+	 * <code>null</code> if the transaction always calls the server.
+	 */
+	private IGSXMLTransactionCache fieldResponseCache = defaultResponseCache; //~10A
+
+	/**
+	 * The maximum time in milliseconds to wait for a connection to be
+	 * established or 0 to wait indefinitely.
+	 */
+	private int fieldConnectTimeout = defaultConnectTimeout; //~12A
+
 	/** The transaction's error message if an error occurred. */
 	private String fieldErms; //~1A
 
+	/** Set <code>true</code> if the transaction can safely be sent again. */
+	private boolean fieldIdempotent; //~12A
+
 	/** The transaction's input. */
 	private String fieldInput;
 
+	/** The builder containing the transaction's input or <code>null</code>. */
+	private IGSXMLBuilder inputBuilder; //~15A
+
 	/** The transaction's name. */
 	private final String fieldName;
 
@@ -89,10 +195,10 @@ public class IGSXMLTransaction
 	private String fieldOutput;
 
 	/**
-	 * The <code>PipedOutputStream</code> to which the XML with a root element
-	 * of {@link #fieldPipedRootElement} is output.
+	 * The <code>OutputStream</code> to which the XML with a root element of
+	 * {@link #fieldPipedRootElement} is output.
 	 */
-	private PipedOutputStream fieldPipedOut; //~2A
+	private OutputStream fieldPipedOut; //~2A ~9C
 
 	/**
 	 * The name of the XML root element for the XML that is output to
@@ -101,25 +207,70 @@ public class IGSXMLTransaction
 	private String fieldPipedRootElement; //~2A
 
 	/**
-	 * The <code>Runnable</code> that reads from the {@link PipedInputStream}
+	 * The <code>Runnable</code> that reads from the <code>InputStream</code>
 	 * connected to {@link #fieldPipedOut}. The <code>Runnable</code> will be
-	 * started on a new <code>Thread</code> before output is written to
+	 * started on a shared executor thread before output is written to
 	 * {@link #fieldPipedOut}.
 	 */
 	private Runnable fieldPipedRunnable; //~2A
 
-	/** The <code>Thread</code> used to run {@link #fieldPipedRunnable}. */
-	private Thread fieldPipedThread; //~2A
+	/** The <code>Future</code> of the running {@link #fieldPipedRunnable}. */
+	private Future<?> fieldPipedFuture; //~2A ~9C
 
 	/** The transaction's server port. */
 	private int fieldPort = defaultPort;
 
+	/**
+	 * The consumer that receives the transaction's output as it is read or
+	 * <code>null</code> if the output is accumulated in the XML document.
+	 */
+	private IGSXMLResponseConsumer fieldResponseConsumer; //~8A
+
+	/**
+	 * The maximum time in milliseconds to wait for data from the server or 0
+	 * to wait indefinitely.
+	 */
+	private int fieldReadTimeout = defaultReadTimeout; //~12A
+
+	/**
+	 * The policy used to retry the transaction if it is idempotent or
+	 * <code>null</code> if the transaction is not retried.
+	 */
+	private IGSXMLRetryPolicy fieldRetryPolicy = defaultRetryPolicy; //~12A
+
 	/** The transaction's return code. */
 	private int fieldReturnCode;
 
 	/** The transaction's server host name. */
 	private String fieldServer = defaultServer;
 
+	/**
+	 * The maximum time in milliseconds for an execution, including all
+	 * retries, or 0 if there is no limit.
+	 */
+	private int fieldTimeout = defaultTimeout; //~12A
+
+	/**
+	 * The value of <code>System.currentTimeMillis</code> by which the
+	 * executing transaction must complete or 0 if there is no deadline.
+	 */
+	private long deadline; //~12A
+
+	/** Set <code>true</code> once the first buffer of output is received. */
+	private boolean responseStarted; //~4A
+
+	/** The connection used by the executing transaction. */
+	private volatile IGSXMLConnection activeConnection; //~5A
+
+	/** Set <code>true</code> when {@link #cancel()} is invoked. */
+	private volatile boolean cancelled; //~5A
+
+	/**
+	 * The measurements of the executing transaction or <code>null</code> if
+	 * metrics are disabled.
+	 */
+	private IGSXMLTransactionMetrics.Sample metricsSample; //~11A
+
 	/**
 	 * Constructs a new <code>IGSXMLTransaction</code>.
 	 * @param name the name of the transaction
@@ -148,6 +299,156 @@ public class IGSXMLTransaction
 		IGSXMLTransaction.defaultPort = defaultPort;
 	}
 
+	//~4A New method
+	/**
+	 * Returns the default connection pool used by new transactions.
+	 * @return the default <code>IGSXMLConnectionPool</code> or
+	 *         <code>null</code> if new transactions do not use a pool
+	 */
+	public static IGSXMLConnectionPool getDefaultConnectionPool()
+	{
+		return IGSXMLTransaction.defaultConnectionPool;
+	}
+
+	//~4A New method
+	/**
+	 * Sets the default connection pool used by new transactions.
+	 * @param defaultConnectionPool the default <code>IGSXMLConnectionPool</code>
+	 *        or <code>null</code> to open a new connection for each transaction
+	 */
+	public static void setDefaultConnectionPool(IGSXMLConnectionPool defaultConnectionPool)
+	{
+		IGSXMLTransaction.defaultConnectionPool = defaultConnectionPool;
+	}
+
+	//~10A New method
+	/**
+	 * Returns the default response cache used by new transactions.
+	 * @return the default <code>IGSXMLTransactionCache</code> or
+	 *         <code>null</code>
+	 */
+	public static IGSXMLTransactionCache getDefaultResponseCache()
+	{
+		return defaultResponseCache;
+	}
+
+	//~10A New method
+	/**
+	 * Sets the default response cache used by new transactions.
+	 * @param defaultResponseCache the <code>IGSXMLTransactionCache</code> or
+	 *        <code>null</code> if new transactions always call the server
+	 */
+	public static void setDefaultResponseCache(IGSXMLTransactionCache defaultResponseCache)
+	{
+		IGSXMLTransaction.defaultResponseCache = defaultResponseCache;
+	}
+
+	//~12A New method
+	/**
+	 * Returns the default connect timeout of new transactions.
+	 * @return the connect timeout in milliseconds or 0
+	 */
+	public static int getDefaultConnectTimeout()
+	{
+		return defaultConnectTimeout;
+	}
+
+	//~12A New method
+	/**
+	 * Sets the default connect timeout of new transactions.
+	 * @param defaultConnectTimeout the connect timeout in milliseconds or 0
+	 *        to wait indefinitely
+	 */
+	public static void setDefaultConnectTimeout(int defaultConnectTimeout)
+	{
+		IGSXMLTransaction.defaultConnectTimeout = defaultConnectTimeout;
+	}
+
+	//~12A New method
+	/**
+	 * Returns the default read timeout of new transactions.
+	 * @return the read timeout in milliseconds or 0
+	 */
+	public static int getDefaultReadTimeout()
+	{
+		return defaultReadTimeout;
+	}
+
+	//~12A New method
+	/**
+	 * Sets the default read timeout of new transactions.
+	 * @param defaultReadTimeout the read timeout in milliseconds or 0 to wait
+	 *        indefinitely
+	 */
+	public static void setDefaultReadTimeout(int defaultReadTimeout)
+	{
+		IGSXMLTransaction.defaultReadTimeout = defaultReadTimeout;
+	}
+
+	//~12A New method
+	/**
+	 * Returns the default overall timeout of new transactions.
+	 * @return the overall timeout in milliseconds or 0
+	 */
+	public static int getDefaultTimeout()
+	{
+		return defaultTimeout;
+	}
+
+	//~12A New method
+	/**
+	 * Sets the default overall timeout of new transactions.
+	 * @param defaultTimeout the overall timeout in milliseconds or 0 if there
+	 *        is no limit
+	 */
+	public static void setDefaultTimeout(int defaultTimeout)
+	{
+		IGSXMLTransaction.defaultTimeout = defaultTimeout;
+	}
+
+	//~12A New method
+	/**
+	 * Returns the default retry policy of new transactions.
+	 * @return the default <code>IGSXMLRetryPolicy</code> or <code>null</code>
+	 */
+	public static IGSXMLRetryPolicy getDefaultRetryPolicy()
+	{
+		return defaultRetryPolicy;
+	}
+
+	//~12A New method
+	/**
+	 * Sets the default retry policy of new transactions. The policy is only
+	 * applied to transactions that are idempotent.
+	 * @param defaultRetryPolicy the <code>IGSXMLRetryPolicy</code> or
+	 *        <code>null</code> if new transactions are not retried
+	 */
+	public static void setDefaultRetryPolicy(IGSXMLRetryPolicy defaultRetryPolicy)
+	{
+		IGSXMLTransaction.defaultRetryPolicy = defaultRetryPolicy;
+	}
+
+	//~13A New method
+	/**
+	 * Returns <code>true</code> if new transactions request compression.
+	 * @return <code>true</code> if compression is requested by default
+	 */
+	public static boolean isDefaultCompression()
+	{
+		return defaultCompression;
+	}
+
+	//~13A New method
+	/**
+	 * Sets whether new transactions request compression. Compression must
+	 * only be requested from servers that support compressed buffers of data.
+	 * @param defaultCompression <code>true</code> to request compression
+	 */
+	public static void setDefaultCompression(boolean defaultCompression)
+	{
+		IGSXMLTransaction.defaultCompression = defaultCompression;
+	}
+
 	/**
 	 * Returns the default server host name.
 	 * @return the default server host name
@@ -243,12 +544,27 @@ public class IGSXMLTransaction
 	public static void writeData(DataOutputStream dataOutput, String output)
 		throws IOException
 	{
-		String length = Integer.toString(output.length()) + "          "; //$NON-NLS-1$
-		length = length.substring(0, METADATA_LENGTH);
-		dataOutput.write(length.getBytes());
-		dataOutput.write(output.getBytes());
+		writeFrame(dataOutput, output); //~6C
 		//The OutputStream may be buffered, so it needs to be flushed
 		dataOutput.flush();
+	}
+
+	//~6A New method
+	/**
+	 * Writes data to the <code>DataOutputStream</code> without flushing it.
+	 * @param dataOutput the <code>DataOutputStream</code> to which to write
+	 * @param output the data to write to the <code>DataOutputStream</code>
+	 * @throws IOException as thrown by the <code>DataOutputStream</code>
+	 */
+	static void writeFrame(DataOutputStream dataOutput, String output)
+		throws IOException
+	{
+		//~7C The length is the number of bytes, not the number of characters
+		byte[] bytes = output.getBytes();
+		String length = Integer.toString(bytes.length) + "          "; //$NON-NLS-1$
+		length = length.substring(0, METADATA_LENGTH);
+		dataOutput.write(length.getBytes());
+		dataOutput.write(bytes);
 		LOGGER.fine(output);
 	}
 
@@ -266,6 +582,17 @@ public class IGSXMLTransaction
 
 	/** {@inheritDoc} */
 	public void startDocument()
+	{
+		this.inputBuilder = null; //~15A
+		startTransactionDocument(); //~16C
+	}
+
+	//~16A New method
+	/**
+	 * Starts the XML document without discarding input built in an
+	 * <code>IGSXMLBuilder</code>, which must be kept for retries.
+	 */
+	private void startTransactionDocument()
 	{
 		super.startDocument();
 		this.buffer.append("<PGM><TRX>"); //$NON-NLS-1$
@@ -282,77 +609,570 @@ public class IGSXMLTransaction
 		super.endDocument();
 	}
 
+	//~15A New method
+	/**
+	 * Starts the transaction's input in the specified builder instead of in
+	 * the XML document and makes the builder the transaction's input. The
+	 * input is encoded directly from the builder when the transaction is
+	 * sent, so the builder must not be changed until the transaction has
+	 * been executed. The builder can then be reused for another transaction.
+	 * @param builder the <code>IGSXMLBuilder</code> to clear and start
+	 */
+	public void startDocument(IGSXMLBuilder builder)
+	{
+		builder.startDocument();
+		builder.addXML("<PGM><TRX>"); //$NON-NLS-1$
+		builder.addXML(this.fieldName);
+		builder.addXML("</TRX><DATA>"); //$NON-NLS-1$
+		this.buffer.setLength(0);
+		invalidateIndex();
+		this.inputBuilder = builder;
+	}
+
+	//~15A New method
+	/**
+	 * Ends the transaction's input in the specified builder.
+	 * @param builder the <code>IGSXMLBuilder</code> passed to
+	 *        {@link #startDocument(IGSXMLBuilder)}
+	 */
+	public void endDocument(IGSXMLBuilder builder)
+	{
+		builder.endDocument();
+		builder.addXML("</DATA></PGM>"); //$NON-NLS-1$
+	}
+
 	/** Executes the transaction. */
 	public void run()
 	{
-		Socket socket = null;
-		DataInputStream dataIn = null;
-		DataOutputStream dataOut = null;
-		try
+		prepareInput(); //~6C ~10C
+
+		//~10A Use the response cache unless the output is consumed as it is read
+		IGSXMLTransactionCache cache = this.fieldResponseCache;
+		if (cache != null && this.fieldResponseConsumer == null && this.fieldPipedOut == null)
+		{
+			cache.execute(this);
+		}
+		else
+		{
+			transact();
+		}
+		finish(); //~6C
+	}
+
+	//~10A New method
+	/**
+	 * Calls the server using the prepared input and reads the transaction's
+	 * output. If the transaction is idempotent, it calls the server again as
+	 * allowed by its {@link IGSXMLRetryPolicy} and overall timeout.
+	 */
+	void transact()
+	{
+		//~12A The overall timeout includes all attempts
+		this.deadline = this.fieldTimeout > 0 ? System.currentTimeMillis() + this.fieldTimeout
+				: 0;
+		int attempt = 1;
+		transactOnce();
+		while (isRetryable(attempt))
 		{
-			socket = new Socket(this.fieldServer, this.fieldPort);
-			InputStream in = new BufferedInputStream(socket.getInputStream());
-			dataIn = new DataInputStream(in);
-			OutputStream out = new BufferedOutputStream(socket.getOutputStream());
-			dataOut = new DataOutputStream(out);
-			this.fieldInput = this.buffer.toString();
+			long delay = this.fieldRetryPolicy.getDelay(attempt);
+			if (this.deadline != 0 && System.currentTimeMillis() + delay >= this.deadline)
+			{
+				break;
+			}
+			if (LOGGER.isLoggable(Level.FINE))
+			{
+				LOGGER.fine("Retrying " + this.fieldName + " in " + delay + " ms."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			if (!pause(delay))
+			{
+				setCommunicationError(new InterruptedIOException("Transaction cancelled.")); //$NON-NLS-1$
+				break;
+			}
 			this.buffer.setLength(0);
+			this.responseStarted = false;
+			this.fieldReturnCode = 0;
+			this.fieldErms = null;
+			attempt++;
+			transactOnce();
+		}
+		this.deadline = 0;
+	}
 
-			writeData(dataOut, this.fieldName);
-			writeData(dataOut, "         0" + this.fieldInput); //$NON-NLS-1$
+	//~12A New method
+	/**
+	 * Returns <code>true</code> if the failed execution can be retried.
+	 * @param attempt the number of attempts made
+	 * @return <code>true</code> if the transaction should be sent again
+	 */
+	private boolean isRetryable(int attempt)
+	{
+		if (!this.fieldIdempotent || this.fieldRetryPolicy == null || this.cancelled)
+		{
+			return false;
+		}
+		// Output passed to a consumer or pipe cannot be taken back
+		if (this.responseStarted
+				&& (this.fieldResponseConsumer != null || this.fieldPipedOut != null))
+		{
+			return false;
+		}
+		return this.fieldRetryPolicy.isRetryable(this.fieldReturnCode, attempt);
+	}
 
-			//~1A Change processing of Socket output
-			String data = readData(dataIn);
-			if (data.charAt(0) == '<')
+	//~12A New method
+	/**
+	 * Waits before the next attempt.
+	 * @param delay the time to wait in milliseconds
+	 * @return <code>false</code> if the transaction was cancelled or the
+	 *         thread interrupted while waiting
+	 */
+	private boolean pause(long delay)
+	{
+		long end = System.currentTimeMillis() + delay;
+		long remaining = delay;
+		while (remaining > 0 && !this.cancelled)
+		{
+			try
 			{
-				receiveXML(data, dataIn);
+				Thread.sleep(Math.min(remaining, WAIT_INTERVAL));
 			}
-			//~2C Check if fieldPipedOut is null
-			else if (this.fieldPipedOut == null)
+			catch (InterruptedException e)
 			{
-				receivePositional(data, dataIn);
+				Thread.currentThread().interrupt();
+				return false;
 			}
-			else
+			remaining = end - System.currentTimeMillis();
+		}
+		return !this.cancelled;
+	}
+
+	//~12A New method
+	/**
+	 * Calls the server once, unless its circuit breaker is open, and records
+	 * the result with the circuit breaker.
+	 */
+	private void transactOnce()
+	{
+		//~12A Fail fast while the server is not responding
+		IGSXMLCircuitBreaker breaker = IGSXMLCircuitBreaker.getCircuitBreaker(this.fieldServer,
+				this.fieldPort);
+		if (breaker != null && !breaker.allowRequest())
+		{
+			String erms = "Server unavailable. Please try again later."; //$NON-NLS-1$
+			setError(erms, CIRCUIT_OPEN, null);
+			return;
+		}
+
+		//~4C Lease the connection from the connection pool if one is configured
+		IGSXMLConnection connection = null;
+		boolean reusable = false;
+		try
+		{
+			connection = openConnection(false);
+			try
 			{
-				receivePiped(data, dataIn); //~2A
+				transmit(connection);
 			}
-			this.fieldOutput = this.buffer.toString();
+			catch (IOException e)
+			{
+				// The server may have closed a pooled connection while it was
+				// idle. If so, nothing was received and the transaction can be
+				// sent again using a new connection. A timeout means the
+				// server is slow, not that the connection was closed.
+				if (!connection.isReused() || this.responseStarted || this.cancelled
+						|| e instanceof SocketTimeoutException) //~12C
+				{
+					throw e;
+				}
+				String message = "Retrying transaction using a new connection."; //$NON-NLS-1$
+				LOGGER.log(Level.FINE, message, e);
+				releaseConnection(connection, false);
+				connection = null;
+				this.buffer.setLength(0);
+				connection = openConnection(true);
+				transmit(connection);
+			}
+			reusable = true;
 		}
 		catch (Exception e)
 		{
-			String erms = "Communication Error. Please contact support."; //$NON-NLS-1$
-			setError(erms, -10, e);
+			setCommunicationError(e); //~6C
 		}
 
 		//~1C Call closeConnection to close the Socket
-		closeConnection(socket, dataIn, dataOut);
+		releaseConnection(connection, reusable); //~4C
+
+		if (breaker != null) //~12A
+		{
+			if (this.cancelled)
+			{
+				breaker.recordIgnored();
+			}
+			else if (reusable || (this.responseStarted && this.fieldReturnCode != TIMED_OUT))
+			{
+				breaker.recordSuccess();
+			}
+			else
+			{
+				breaker.recordFailure();
+			}
+		}
+	}
+
+	//~10A New method
+	/**
+	 * Sets the transaction's output, return code, and error message to the
+	 * result of an identical transaction.
+	 * @param output the output
+	 * @param returnCode the return code
+	 * @param erms the error message
+	 */
+	void setResult(String output, int returnCode, String erms)
+	{
+		this.buffer.setLength(0);
+		this.buffer.append(output);
+		invalidateIndex(); //~14A
+		this.fieldOutput = output;
+		this.fieldReturnCode = returnCode;
+		this.fieldErms = erms;
+	}
+
+	//~6A New method
+	/**
+	 * Moves the XML document to the transaction's input and clears the XML
+	 * document so it can receive the transaction's output.
+	 */
+	void prepareInput()
+	{
+		//~15C Input built in an IGSXMLBuilder is not copied to a String
+		this.fieldInput = this.inputBuilder == null ? this.buffer.toString() : null;
+		this.buffer.setLength(0);
+		invalidateIndex(); //~14A
+		this.responseStarted = false;
+		this.metricsSample = IGSXMLTransactionMetrics.isEnabled() //~11A
+				? new IGSXMLTransactionMetrics.Sample() : null;
+	}
+
+	//~11A New method
+	/**
+	 * Adds the time taken to open or lease a connection to the measurements
+	 * of the executing transaction.
+	 * @param start the value of <code>System.nanoTime</code> before the
+	 *        connection was requested
+	 */
+	void recordConnectTime(long start)
+	{
+		IGSXMLTransactionMetrics.Sample sample = this.metricsSample;
+		if (sample != null)
+		{
+			sample.connect = Math.max(sample.connect, 0) + System.nanoTime() - start;
+		}
+	}
+
+	//~6A New method
+	/**
+	 * Writes the transaction's name and input using the
+	 * <code>IGSXMLFramer</code> without flushing it.
+	 * @param framer the <code>IGSXMLFramer</code> used to send the
+	 *        transaction's input
+	 * @return the number of characters written
+	 * @throws IOException as thrown by the <code>IGSXMLFramer</code>
+	 */
+	int writeRequest(IGSXMLFramer framer) //~7C
+		throws IOException
+	{
+		//~7C Encode the input without concatenating it to the return code
+		long bytesWritten = framer.getBytesWritten(); //~11A
+		CharSequence input = this.inputBuilder == null ? this.fieldInput : this.inputBuilder; //~15A
+		framer.writeFrame(this.fieldName);
+		framer.writeFrame("         0", input); //$NON-NLS-1$ //~15C
+		if (this.metricsSample != null) //~11A
+		{
+			this.metricsSample.bytesSent += framer.getBytesWritten() - bytesWritten;
+		}
+		return this.fieldName.length() + input.length() + 3 * METADATA_LENGTH; //~15C
+	}
+
+	//~6A New method
+	/**
+	 * Reads the transaction's output using the <code>IGSXMLFramer</code> into
+	 * the XML document.
+	 * @param framer the <code>IGSXMLFramer</code> used to read the
+	 *        transaction's output
+	 * @throws IOException if a communication error occurs
+	 */
+	void readResponse(IGSXMLFramer framer) //~7C
+		throws IOException
+	{
+		//~11A Count the bytes and buffers of data received
+		IGSXMLTransactionMetrics.Sample sample = this.metricsSample;
+		if (sample == null)
+		{
+			receiveResponse(framer);
+			return;
+		}
+		long bytesRead = framer.getBytesRead();
+		long framesRead = framer.getFramesRead();
+		try
+		{
+			receiveResponse(framer);
+		}
+		finally
+		{
+			sample.bytesReceived += framer.getBytesRead() - bytesRead;
+			sample.framesReceived += (int) (framer.getFramesRead() - framesRead);
+		}
+	}
+
+	//~11A New method
+	/**
+	 * Reads the transaction's output using the <code>IGSXMLFramer</code> into
+	 * the XML document.
+	 * @param framer the <code>IGSXMLFramer</code> used to read the
+	 *        transaction's output
+	 * @throws IOException if a communication error occurs
+	 */
+	private void receiveResponse(IGSXMLFramer framer)
+		throws IOException
+	{
+		//~1A Change processing of Socket output
+		int length = framer.readFrame(); //~7C
+		this.responseStarted = true;
+		if (this.metricsSample != null) //~11A
+		{
+			this.metricsSample.firstFrame = System.nanoTime();
+		}
+		if (length == 0)
+		{
+			throw new IOException("Empty buffer of data received."); //$NON-NLS-1$
+		}
+		else if (this.fieldResponseConsumer != null)
+		{
+			receiveStreaming(framer); //~8A
+		}
+		else if (framer.charAt(0) == '<')
+		{
+			receiveXML(framer); //~7C
+		}
+		//~2C Check if fieldPipedOut is null
+		else if (this.fieldPipedOut == null)
+		{
+			receivePositional(framer); //~7C
+		}
+		else
+		{
+			receivePiped(framer); //~2A ~7C
+		}
+		invalidateIndex(); //~14A
+		this.fieldOutput = this.buffer.toString();
+	}
+
+	//~6A New method
+	/**
+	 * Returns <code>true</code> once the first buffer of the transaction's
+	 * output was read.
+	 * @return <code>true</code> if output was received
+	 */
+	boolean isResponseStarted()
+	{
+		return this.responseStarted;
+	}
+
+	//~6A New method
+	/**
+	 * Sets the transaction's error message and return code for an
+	 * <code>Exception</code> that occurred while communicating with the
+	 * server.
+	 * @param e the <code>Exception</code>
+	 */
+	void setCommunicationError(Exception e)
+	{
+		//~5C Report cancellation instead of a communication error
+		if (this.cancelled)
+		{
+			String erms = "Transaction cancelled."; //$NON-NLS-1$
+			setError(erms, CANCELLED, e);
+		}
+		else if (e instanceof SocketTimeoutException) //~12A
+		{
+			String erms = "Transaction timed out. Please try again."; //$NON-NLS-1$
+			setError(erms, TIMED_OUT, e);
+		}
+		else
+		{
+			String erms = "Communication Error. Please contact support."; //$NON-NLS-1$
+			setError(erms, COMMUNICATION_ERROR, e); //~12C
+		}
+	}
+
+	//~6A New method
+	/** Closes the pipe and resets the execution state of the transaction. */
+	void finish()
+	{
 		closePipe(); //~2A
+		if (this.fieldResponseConsumer != null && this.responseStarted) //~8A
+		{
+			this.fieldResponseConsumer.responseCompleted(this);
+		}
+		if (this.metricsSample != null) //~11A
+		{
+			IGSXMLTransactionMetrics.record(this, this.metricsSample);
+			this.metricsSample = null;
+		}
+		this.activeConnection = null; //~5A
+		this.cancelled = false; //~5A
+	}
+
+	//~5A New method
+	/**
+	 * Cancels the executing transaction by closing its connection, which
+	 * causes the blocked socket read or write to fail. The transaction's
+	 * return code is set to {@link #CANCELLED}. If the transaction is not
+	 * executing, its next execution is cancelled.
+	 */
+	public void cancel()
+	{
+		this.cancelled = true;
+		IGSXMLConnection connection = this.activeConnection;
+		if (connection != null)
+		{
+			connection.abort(); //~7C
+		}
+	}
+
+	//~5A New method
+	/**
+	 * Returns <code>true</code> if {@link #cancel()} was invoked for the
+	 * executing transaction.
+	 * @return <code>true</code> if the transaction was cancelled
+	 */
+	public boolean isCancelled()
+	{
+		return this.cancelled;
+	}
+
+	//~4A New method
+	/**
+	 * Opens a connection to the transaction's server or leases one from the
+	 * transaction's {@link IGSXMLConnectionPool}.
+	 * @param forceNew <code>true</code> if a pooled connection must not be
+	 *        reused
+	 * @return the <code>IGSXMLConnection</code>
+	 * @throws IOException if a connection could not be obtained
+	 */
+	private IGSXMLConnection openConnection(boolean forceNew)
+		throws IOException
+	{
+		long start = System.nanoTime(); //~11A
+		try
+		{
+			//~12A Do not wait past the deadline
+			int connectTimeout = this.fieldConnectTimeout;
+			if (this.deadline != 0)
+			{
+				long remaining = this.deadline - System.currentTimeMillis();
+				if (remaining <= 0)
+				{
+					throw new SocketTimeoutException("Transaction deadline exceeded."); //$NON-NLS-1$
+				}
+				if (connectTimeout == 0 || remaining < connectTimeout)
+				{
+					connectTimeout = (int) Math.min(remaining, Integer.MAX_VALUE);
+				}
+			}
+
+			if (this.fieldConnectionPool == null)
+			{
+				IGSXMLConnection connection = new IGSXMLConnection(this.fieldServer,
+						this.fieldPort, connectTimeout); //~12C
+				connection.lease();
+				return connection;
+			}
+			return this.fieldConnectionPool.borrowConnection(this.fieldServer, this.fieldPort,
+					forceNew, connectTimeout); //~12C
+		}
+		finally
+		{
+			recordConnectTime(start); //~11A
+		}
+	}
+
+	//~4A New method
+	/**
+	 * Closes the connection or returns it to the transaction's
+	 * {@link IGSXMLConnectionPool}.
+	 * @param connection the <code>IGSXMLConnection</code>. May be
+	 *        <code>null</code>.
+	 * @param reusable <code>true</code> if the transaction's complete output
+	 *        was read and the connection can be used by another transaction
+	 */
+	private void releaseConnection(IGSXMLConnection connection, boolean reusable)
+	{
+		if (connection == null)
+		{
+			return;
+		}
+		else if (this.fieldConnectionPool == null)
+		{
+			connection.close();
+		}
+		else if (reusable)
+		{
+			connection.getFramer().setTimeouts(0, 0); //~12A
+			connection.getFramer().setCompression(false); //~13A
+			this.fieldConnectionPool.returnConnection(connection);
+		}
+		else
+		{
+			this.fieldConnectionPool.invalidateConnection(connection);
+		}
+	}
+
+	//~4A New method
+	/**
+	 * Sends the transaction's input using the specified connection and reads
+	 * the transaction's output into the XML document.
+	 * @param connection the <code>IGSXMLConnection</code>
+	 * @throws IOException if a communication error occurs
+	 */
+	private void transmit(IGSXMLConnection connection)
+		throws IOException
+	{
+		//~5A Allow cancel to close the connection
+		this.activeConnection = connection;
+		if (this.cancelled)
+		{
+			throw new InterruptedIOException("Transaction cancelled."); //$NON-NLS-1$
+		}
+
+		//~6C Write both buffers before flushing
+		IGSXMLFramer framer = connection.getFramer(); //~7C
+		framer.setTimeouts(this.fieldReadTimeout, this.deadline); //~12A
+		framer.setCompression(this.fieldCompression); //~13A
+		writeRequest(framer);
+		framer.flush();
+		readResponse(framer);
 	}
 
 	//~1A New method
 	/**
 	 * Processes the output of a transaction which uses an RRET XML element in
 	 * each buffer of data to send the return code for the buffer of data.
-	 * @param data the first buffer of data
-	 * @param dataIn the <code>DataInputStream</code> used to read the
-	 *        transaction's output
-	 * @throws IOException as thrown by {@link #readData(DataInputStream)}
+	 * @param framer the <code>IGSXMLFramer</code> containing the first buffer
+	 *        of data and used to read the transaction's output
+	 * @throws IOException as thrown by {@link IGSXMLFramer#readFrame()}
 	 */
-	private void receiveXML(String data, DataInputStream dataIn)
+	private void receiveXML(IGSXMLFramer framer) //~7C
 		throws IOException
 	{
-		StringBuffer rretBuffer = new StringBuffer(data);
-		IGSXMLBoundary boundary = new IGSXMLBoundary(0, data.length());
-		int rc = Integer.parseInt(getElement("RRET", rretBuffer, boundary).trim()); //$NON-NLS-1$
+		//~7C Parse the return code in place
+		int rc = framer.parseElementInt("RRET"); //$NON-NLS-1$
 		while (rc != END_OF_TRANSMISSION)
 		{
 			this.fieldReturnCode = rc;
-			this.buffer.append(data);
-			data = readData(dataIn);
-			rretBuffer.setLength(0);
-			rretBuffer.append(data);
-			boundary = new IGSXMLBoundary(0, data.length());
-			rc = Integer.parseInt(getElement("RRET", rretBuffer, boundary).trim()); //$NON-NLS-1$
+			framer.appendTo(this.buffer, 0, framer.getLength());
+			framer.readFrame();
+			rc = framer.parseElementInt("RRET"); //$NON-NLS-1$
 		}
 
 		if (this.fieldReturnCode != 0)
@@ -366,31 +1186,75 @@ public class IGSXMLTransaction
 	 * Processes the output of a transaction which uses the first
 	 * {@link #METADATA_LENGTH} characters of a buffer of data to send the
 	 * return code for the buffer of data.
-	 * @param data the first buffer of data
-	 * @param dataIn the <code>DataInputStream</code> used to read the
-	 *        transaction's output
-	 * @throws IOException as thrown by {@link #readData(DataInputStream)}
+	 * @param framer the <code>IGSXMLFramer</code> containing the first buffer
+	 *        of data and used to read the transaction's output
+	 * @throws IOException as thrown by {@link IGSXMLFramer#readFrame()}
+	 */
+	private void receivePositional(IGSXMLFramer framer) //~7C
+		throws IOException
+	{
+		//~7C Remember where the last buffer starts instead of copying it
+		int lastDataBufferStart = -1;
+		int rc = framer.parseInt(0, METADATA_LENGTH);
+		while (rc != END_OF_TRANSMISSION)
+		{
+			this.fieldReturnCode = rc;
+			lastDataBufferStart = this.buffer.length();
+			framer.appendTo(this.buffer, METADATA_LENGTH, framer.getLength());
+			framer.readFrame();
+			rc = framer.parseInt(0, METADATA_LENGTH);
+		}
+
+		if (this.fieldReturnCode != 0)
+		{
+			this.fieldErms = getFirstElement("ERMS"); //$NON-NLS-1$
+			if (this.fieldErms == null && lastDataBufferStart != -1)
+			{
+				this.fieldErms = this.buffer.substring(lastDataBufferStart);
+			}
+		}
+	}
+
+	//~8A New method
+	/**
+	 * Passes each buffer of data of the transaction's output to
+	 * {@link #fieldResponseConsumer} instead of appending it to the XML
+	 * document. If the last buffer of data has a nonzero return code, the XML
+	 * document contains the last buffer of data so the error message can be
+	 * retrieved; otherwise, the XML document is empty.
+	 * @param framer the <code>IGSXMLFramer</code> containing the first buffer
+	 *        of data and used to read the transaction's output
+	 * @throws IOException as thrown by {@link IGSXMLFramer#readFrame()} or by
+	 *         the consumer
 	 */
-	private void receivePositional(String data, DataInputStream dataIn)
+	private void receiveStreaming(IGSXMLFramer framer)
 		throws IOException
 	{
-		String lastDataBuffer = null;
-		int rc = Integer.parseInt(data.substring(0, METADATA_LENGTH).trim());
+		// The output uses either an RRET element or the first METADATA_LENGTH
+		// characters of each buffer of data to send the return code
+		final boolean xml = framer.charAt(0) == '<';
+		final int dataStart = xml ? 0 : METADATA_LENGTH;
+		int rc = xml ? framer.parseElementInt("RRET") : framer.parseInt(0, METADATA_LENGTH); //$NON-NLS-1$
 		while (rc != END_OF_TRANSMISSION)
 		{
 			this.fieldReturnCode = rc;
-			lastDataBuffer = data.substring(METADATA_LENGTH);
-			this.buffer.append(lastDataBuffer);
-			data = readData(dataIn);
-			rc = Integer.parseInt(data.substring(0, METADATA_LENGTH).trim());
+			int length = framer.getLength();
+			this.fieldResponseConsumer.consume(this, framer.getData(dataStart, length), rc);
+			this.buffer.setLength(0);
+			if (rc != 0)
+			{
+				framer.appendTo(this.buffer, dataStart, length);
+			}
+			framer.readFrame();
+			rc = xml ? framer.parseElementInt("RRET") : framer.parseInt(0, METADATA_LENGTH); //$NON-NLS-1$
 		}
 
 		if (this.fieldReturnCode != 0)
 		{
 			this.fieldErms = getFirstElement("ERMS"); //$NON-NLS-1$
-			if (this.fieldErms == null)
+			if (this.fieldErms == null && !xml)
 			{
-				this.fieldErms = lastDataBuffer;
+				this.fieldErms = this.buffer.toString();
 			}
 		}
 	}
@@ -398,15 +1262,14 @@ public class IGSXMLTransaction
 	//~2A New method
 	/**
 	 * Processes the output of a transaction for which part of the output is
-	 * piped to a <code>PipedOutputStream</code> for processing. The first
+	 * piped to an <code>OutputStream</code> for processing. The first
 	 * {@link #METADATA_LENGTH} characters of a buffer of data are used to send
 	 * the return code for the buffer of data.
-	 * @param data the first buffer of data
-	 * @param dataIn the <code>DataInputStream</code> used to read the
-	 *        transaction's output
-	 * @throws IOException as thrown by {@link #readData(DataInputStream)}
+	 * @param framer the <code>IGSXMLFramer</code> containing the first buffer
+	 *        of data and used to read the transaction's output
+	 * @throws IOException as thrown by {@link IGSXMLFramer#readFrame()}
 	 */
-	private void receivePiped(String data, DataInputStream dataIn)
+	private void receivePiped(IGSXMLFramer framer) //~7C
 		throws IOException
 	{
 		// If this method is called by run, fieldPipedOut is not null,
@@ -421,30 +1284,31 @@ public class IGSXMLTransaction
 		final int DURING_PIPED_OUTPUT = 1;
 		final int AFTER_PIPED_OUTPUT = 2;
 		int streamPosition = BEFORE_PIPED_OUTPUT;
-		int rc = Integer.parseInt(data.substring(0, METADATA_LENGTH).trim());
+		int rc = framer.parseInt(0, METADATA_LENGTH); //~7C
 		while (rc != END_OF_TRANSMISSION)
 		{
 			this.fieldReturnCode = rc;
-			data = data.substring(METADATA_LENGTH);
+			//~7C Copy the data after the return code directly from the framer
+			int length = framer.getLength();
 			switch (streamPosition)
 			{
 				case AFTER_PIPED_OUTPUT:
 				{
-					this.buffer.append(data);
+					framer.appendTo(this.buffer, METADATA_LENGTH, length);
 					break;
 				}
 				case DURING_PIPED_OUTPUT:
 				{
-					int end = data.indexOf(endTag);
+					int end = framer.indexOf(endTag, METADATA_LENGTH);
 					if (end == -1)
 					{
-						this.fieldPipedOut.write(data.getBytes());
+						framer.writeTo(this.fieldPipedOut, METADATA_LENGTH, length);
 					}
 					else
 					{
 						end += endTag.length();
-						this.fieldPipedOut.write(data.substring(0, end).getBytes());
-						this.buffer.append(data.substring(end));
+						framer.writeTo(this.fieldPipedOut, METADATA_LENGTH, end);
+						framer.appendTo(this.buffer, end, length);
 						streamPosition = AFTER_PIPED_OUTPUT;
 					}
 					break;
@@ -452,12 +1316,12 @@ public class IGSXMLTransaction
 				default:
 				{
 					//~3C Use findStartTag to search for start tag
-					int start = findStartTag(this.fieldPipedRootElement,
-							new StringBuffer(data), 0);
-					int end = data.indexOf(endTag);
+					int start = framer.indexOfStartTag(this.fieldPipedRootElement,
+							METADATA_LENGTH);
+					int end = framer.indexOf(endTag, METADATA_LENGTH);
 					if (start == -1)
 					{
-						this.buffer.append(data);
+						framer.appendTo(this.buffer, METADATA_LENGTH, length);
 					}
 					else
 					{
@@ -465,34 +1329,33 @@ public class IGSXMLTransaction
 						// must be piped. Thus, the Runnable used to handle the
 						// piped input must be started. The piped input must be
 						// read from a different Thread than the Thread used to
-						// write the piped output, so a new Thread is created.
+						// write the piped output, so the shared pipe executor
+						// runs the Runnable.
 						if (this.fieldPipedRunnable != null)
 						{
-							String n = "IGSXMLTransaction-" + threadNumber++; //$NON-NLS-1$
-							this.fieldPipedThread = new Thread(this.fieldPipedRunnable, n);
-							this.fieldPipedThread.start();
+							//~9C Reuse an idle thread instead of creating a Thread
+							this.fieldPipedFuture = pipeExecutor.submit(this.fieldPipedRunnable);
 						}
 
+						framer.appendTo(this.buffer, METADATA_LENGTH, start);
 						if (end == -1)
 						{
-							this.buffer.append(data.substring(0, start));
-							this.fieldPipedOut.write(data.substring(start).getBytes());
+							framer.writeTo(this.fieldPipedOut, start, length);
 							streamPosition = DURING_PIPED_OUTPUT;
 						}
 						else
 						{
 							end += endTag.length();
-							this.buffer.append(data.substring(0, start));
-							this.fieldPipedOut.write(data.substring(start, end).getBytes());
-							this.buffer.append(data.substring(end));
+							framer.writeTo(this.fieldPipedOut, start, end);
+							framer.appendTo(this.buffer, end, length);
 							streamPosition = AFTER_PIPED_OUTPUT;
 						}
 					}
 					break;
 				}
 			}
-			data = readData(dataIn);
-			rc = Integer.parseInt(data.substring(0, METADATA_LENGTH).trim());
+			framer.readFrame(); //~7C
+			rc = framer.parseInt(0, METADATA_LENGTH);
 		}
 
 		if (this.fieldReturnCode != 0)
@@ -502,7 +1365,10 @@ public class IGSXMLTransaction
 	}
 
 	//~2A New method
-	/** Closes {@link #fieldPipedOut} and joins {@link #fieldPipedThread}. */
+	/**
+	 * Closes {@link #fieldPipedOut} and waits for {@link #fieldPipedRunnable}
+	 * to finish.
+	 */
 	private void closePipe()
 	{
 		if (this.fieldPipedOut != null)
@@ -513,23 +1379,34 @@ public class IGSXMLTransaction
 			}
 			catch (Exception e)
 			{
-				String message = "Error closing PipedOutputStream."; //$NON-NLS-1$
+				String message = "Error closing piped OutputStream."; //$NON-NLS-1$
 				LOGGER.log(Level.WARNING, message, e);
 			}
 
-			if (this.fieldPipedThread != null)
+			//~9C Wait for the Future instead of joining a Thread
+			if (this.fieldPipedFuture != null)
 			{
-				while (this.fieldPipedThread.isAlive())
+				boolean interrupted = false;
+				while (!this.fieldPipedFuture.isDone())
 				{
 					try
 					{
-						this.fieldPipedThread.join();
+						this.fieldPipedFuture.get();
 					}
-					catch (Exception e)
+					catch (InterruptedException e)
 					{
-						String message = "Error joining Thread."; //$NON-NLS-1$
-						LOGGER.log(Level.WARNING, message, e);
+						interrupted = true;
 					}
+					catch (ExecutionException e)
+					{
+						String message = "Error running piped Runnable."; //$NON-NLS-1$
+						LOGGER.log(Level.WARNING, message, e.getCause());
+					}
+				}
+				this.fieldPipedFuture = null;
+				if (interrupted)
+				{
+					Thread.currentThread().interrupt();
 				}
 			}
 		}
@@ -544,6 +1421,100 @@ public class IGSXMLTransaction
 		return this.fieldActionMessage;
 	}
 
+	//~10A New method
+	/**
+	 * Returns the response cache used by the transaction.
+	 * @return the <code>IGSXMLTransactionCache</code> or <code>null</code>
+	 */
+	public IGSXMLTransactionCache getResponseCache()
+	{
+		return this.fieldResponseCache;
+	}
+
+	//~8A New method
+	/**
+	 * Returns the consumer that receives the transaction's output as it is
+	 * read from the server.
+	 * @return the <code>IGSXMLResponseConsumer</code> or <code>null</code>
+	 */
+	public IGSXMLResponseConsumer getResponseConsumer()
+	{
+		return this.fieldResponseConsumer;
+	}
+
+	//~4A New method
+	/**
+	 * Returns the connection pool used by the transaction.
+	 * @return the <code>IGSXMLConnectionPool</code> or <code>null</code> if
+	 *         a new connection is opened for each execution
+	 */
+	public IGSXMLConnectionPool getConnectionPool()
+	{
+		return this.fieldConnectionPool;
+	}
+
+	//~12A New method
+	/**
+	 * Returns the maximum time to wait for a connection to be established.
+	 * @return the connect timeout in milliseconds or 0
+	 */
+	public int getConnectTimeout()
+	{
+		return this.fieldConnectTimeout;
+	}
+
+	//~12A New method
+	/**
+	 * Returns the maximum time to wait for data from the server.
+	 * @return the read timeout in milliseconds or 0
+	 */
+	public int getReadTimeout()
+	{
+		return this.fieldReadTimeout;
+	}
+
+	//~12A New method
+	/**
+	 * Returns the maximum time for an execution, including all retries.
+	 * @return the overall timeout in milliseconds or 0
+	 */
+	public int getTimeout()
+	{
+		return this.fieldTimeout;
+	}
+
+	//~12A New method
+	/**
+	 * Returns the policy used to retry the transaction if it is idempotent.
+	 * @return the <code>IGSXMLRetryPolicy</code> or <code>null</code>
+	 */
+	public IGSXMLRetryPolicy getRetryPolicy()
+	{
+		return this.fieldRetryPolicy;
+	}
+
+	//~13A New method
+	/**
+	 * Returns <code>true</code> if the transaction requests that the server
+	 * compress large buffers of output.
+	 * @return <code>true</code> if compression is requested
+	 */
+	public boolean isCompression()
+	{
+		return this.fieldCompression;
+	}
+
+	//~12A New method
+	/**
+	 * Returns <code>true</code> if the transaction can safely be sent to the
+	 * server again after a communication error.
+	 * @return <code>true</code> if the transaction is idempotent
+	 */
+	public boolean isIdempotent()
+	{
+		return this.fieldIdempotent;
+	}
+
 	/**
 	 * Returns the transaction's error message if an error occurred.
 	 * @return the transaction's error message if an error occurred
@@ -560,6 +1531,10 @@ public class IGSXMLTransaction
 	 */
 	public String getInput()
 	{
+		if (this.fieldInput == null && this.inputBuilder != null) //~15A
+		{
+			return this.inputBuilder.toString();
+		}
 		return this.fieldInput;
 	}
 
@@ -634,7 +1609,7 @@ public class IGSXMLTransaction
 
 		LOGGER.log(Level.WARNING, this.fieldErms, exception);
 		this.buffer.setLength(0);
-		startDocument();
+		startTransactionDocument(); //~16C
 		addElement("ERMS", this.fieldErms); //$NON-NLS-1$
 		endDocument();
 		this.fieldOutput = this.buffer.toString();
@@ -643,9 +1618,9 @@ public class IGSXMLTransaction
 	//~2A New method
 	/**
 	 * Sets the <code>Runnable</code> that reads from the
-	 * {@link PipedInputStream} connected to {@link #fieldPipedOut}. The
-	 * <code>Runnable</code> will be started on a new <code>Thread</code>
-	 * before output is written to {@link #fieldPipedOut}.
+	 * <code>InputStream</code> connected to {@link #fieldPipedOut}. The
+	 * <code>Runnable</code> will be started on a shared executor thread before
+	 * output is written to {@link #fieldPipedOut}.
 	 * @param runnable the <code>Runnable</code>
 	 * @throws IllegalStateException if {@link #setupPipedStreams(String)} has
 	 *         not been invoked to setup {@link #fieldPipedOut}
@@ -660,6 +1635,121 @@ public class IGSXMLTransaction
 		this.fieldPipedRunnable = runnable;
 	}
 
+	//~10A New method
+	/**
+	 * Sets the response cache used by the transaction. The cache is only used
+	 * for transactions whose name has a time to live in the cache and that do
+	 * not have a response consumer or piped output.
+	 * @param responseCache the <code>IGSXMLTransactionCache</code> or
+	 *        <code>null</code> if the transaction always calls the server
+	 */
+	public void setResponseCache(IGSXMLTransactionCache responseCache)
+	{
+		this.fieldResponseCache = responseCache;
+	}
+
+	//~8A New method
+	/**
+	 * Sets the consumer that receives the transaction's output as it is read
+	 * from the server. A transaction with a response consumer does not
+	 * accumulate its output in the XML document and does not pipe its output
+	 * to the <code>OutputStream</code> setup by
+	 * {@link #setupPipedStreams(String)}.
+	 * @param responseConsumer the <code>IGSXMLResponseConsumer</code> or
+	 *        <code>null</code> to accumulate the output in the XML document
+	 */
+	public void setResponseConsumer(IGSXMLResponseConsumer responseConsumer)
+	{
+		this.fieldResponseConsumer = responseConsumer;
+	}
+
+	//~4A New method
+	/**
+	 * Sets the connection pool used by the transaction.
+	 * @param connectionPool the <code>IGSXMLConnectionPool</code> or
+	 *        <code>null</code> to open a new connection for each execution
+	 */
+	public void setConnectionPool(IGSXMLConnectionPool connectionPool)
+	{
+		this.fieldConnectionPool = connectionPool;
+	}
+
+	//~12A New method
+	/**
+	 * Sets the maximum time to wait for a connection to be established. If
+	 * the timeout expires, the return code is set to {@link #TIMED_OUT}.
+	 * @param connectTimeout the connect timeout in milliseconds or 0 to wait
+	 *        indefinitely
+	 */
+	public void setConnectTimeout(int connectTimeout)
+	{
+		this.fieldConnectTimeout = connectTimeout;
+	}
+
+	//~12A New method
+	/**
+	 * Sets the maximum time to wait for data from the server. If the timeout
+	 * expires, the return code is set to {@link #TIMED_OUT}.
+	 * @param readTimeout the read timeout in milliseconds or 0 to wait
+	 *        indefinitely
+	 */
+	public void setReadTimeout(int readTimeout)
+	{
+		this.fieldReadTimeout = readTimeout;
+	}
+
+	//~12A New method
+	/**
+	 * Sets the maximum time for an execution, including connecting, all
+	 * retries, and the delays between them. If the timeout expires, the
+	 * return code is set to {@link #TIMED_OUT}. The timeout is checked before
+	 * each buffer of data is read, so a blocked read never outlasts it.
+	 * @param timeout the overall timeout in milliseconds or 0 if there is no
+	 *        limit
+	 */
+	public void setTimeout(int timeout)
+	{
+		this.fieldTimeout = timeout;
+	}
+
+	//~12A New method
+	/**
+	 * Sets the policy used to retry the transaction if it is idempotent.
+	 * @param retryPolicy the <code>IGSXMLRetryPolicy</code> or
+	 *        <code>null</code> if the transaction is not retried
+	 */
+	public void setRetryPolicy(IGSXMLRetryPolicy retryPolicy)
+	{
+		this.fieldRetryPolicy = retryPolicy;
+	}
+
+	//~13A New method
+	/**
+	 * Sets whether the transaction requests that the server compress large
+	 * buffers of output. The request is made by flagging the headers of the
+	 * transaction's input, which is itself compressed if it is large (see
+	 * {@link IGSXMLFramer}). The output is decompressed as it is read, so it
+	 * is the same whether or not the server compresses it. Compression must
+	 * only be requested from servers that support compressed buffers of data.
+	 * @param compression <code>true</code> to request compression
+	 */
+	public void setCompression(boolean compression)
+	{
+		this.fieldCompression = compression;
+	}
+
+	//~12A New method
+	/**
+	 * Sets whether the transaction can safely be sent to the server again
+	 * after a communication error or timeout. Only idempotent transactions,
+	 * such as lookups, are retried using the {@link IGSXMLRetryPolicy}.
+	 * @param idempotent <code>true</code> if the transaction is idempotent
+	 */
+	public void setIdempotent(boolean idempotent)
+	{
+		this.fieldIdempotent = idempotent;
+	}
+
 	/**
 	 * Sets the transaction's server port.
 	 * @param port the new server port
@@ -682,7 +1772,9 @@ public class IGSXMLTransaction
 	/**
 	 * Sets up the transaction so that the XML with a root element of
 	 * <code>pipedRootElement</code> is output to a
-	 * <code>PipedOutputStream</code>.
+	 * <code>PipedOutputStream</code>. The <code>PipedInputStream</code>
+	 * only buffers 1024 bytes, so
+	 * {@link #setupPipedStreams(String, int)} should be used instead.
 	 * @param pipedRootElement the name of the XML root element for the XML that
 	 *        is output to the <code>PipedOutputStream</code>
 	 * @return the <code>PipedInputStream</code> from which the transaction's
@@ -705,6 +1797,32 @@ public class IGSXMLTransaction
 		return pipedIn;
 	}
 
+	//~9A New method
+	/**
+	 * Sets up the transaction so that the XML with a root element of
+	 * <code>pipedRootElement</code> is output to an {@link IGSRingBuffer}
+	 * with the specified capacity.
+	 * @param pipedRootElement the name of the XML root element for the XML that
+	 *        is output to the <code>IGSRingBuffer</code>
+	 * @param capacity the capacity of the <code>IGSRingBuffer</code>
+	 * @return the <code>InputStream</code> from which the transaction's piped
+	 *         output can be read
+	 * @throws IllegalArgumentException if <code>pipedRootElement</code> is
+	 *         <code>null</code>
+	 */
+	public InputStream setupPipedStreams(String pipedRootElement, int capacity)
+	{
+		if (pipedRootElement == null)
+		{
+			String msg = "pipedRootElement == null"; //$NON-NLS-1$
+			throw new IllegalArgumentException(msg);
+		}
+		this.fieldPipedRootElement = pipedRootElement;
+		IGSRingBuffer ringBuffer = new IGSRingBuffer(capacity);
+		this.fieldPipedOut = ringBuffer.getOutputStream();
+		return ringBuffer.getInputStream();
+	}
+
 	//~3A New method
 	/**
 	 * Returns a <code>String</code> representation of the transaction.
@@ -720,7 +1838,7 @@ public class IGSXMLTransaction
 		stringBuffer.append("\nErms: "); //$NON-NLS-1$
 		stringBuffer.append(this.fieldErms);
 		stringBuffer.append("\nInput: "); //$NON-NLS-1$
-		stringBuffer.append(this.fieldInput);
+		stringBuffer.append(getInput()); //~15C
 		stringBuffer.append("\nName: "); //$NON-NLS-1$
 		stringBuffer.append(this.fieldName);
 		stringBuffer.append("\nOutput: "); //$NON-NLS-1$
@@ -0,0 +1,350 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-003                  -Initial version
+ * 2026-10-18   ~1 user-004                  -Use IGSXMLFramer
+ * 2026-10-18   ~2 user-008                  -Record connect time for IGSXMLTransactionMetrics
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * <code>IGSXMLTransactionBatch</code> executes several
+ * {@link IGSXMLTransaction}s using a single connection. The requests are
+ * pipelined: the batch writes the name and input of the transactions before it
+ * reads their output, so a batch of N transactions needs about one network
+ * round trip instead of N. The server returns the output of the transactions
+ * in the order the requests were written and the output of each transaction
+ * ends with a buffer of data with a return code of
+ * {@link IGSXMLTransaction#END_OF_TRANSMISSION}.
+ * <p>
+ * Each transaction of the batch receives its own output, return code, and
+ * error message. If a communication error occurs while the output of a
+ * transaction is read, the output of the remaining transactions can no longer
+ * be separated, so the error is set for that transaction and all of the
+ * transactions that follow it.
+ * <p>
+ * To avoid a deadlock with a server that writes output while the batch is
+ * still writing requests, the batch stops writing requests once
+ * {@link #getWindowSize()} characters of requests are awaiting output and
+ * reads output until the amount drops below the window size.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLTransactionBatch
+	implements Runnable
+{
+	/** The default number of request characters that can await output. */
+	public static final int DEFAULT_WINDOW_SIZE = 16384;
+
+	/** The <code>List</code> of transactions in the batch. */
+	private final List<IGSXMLTransaction> transactions = new ArrayList<IGSXMLTransaction>();
+
+	/** The connection pool used to lease the connection or <code>null</code>. */
+	private IGSXMLConnectionPool connectionPool = IGSXMLTransaction.getDefaultConnectionPool();
+
+	/** The server host name. */
+	private String server = IGSXMLTransaction.getDefaultServer();
+
+	/** The server port. */
+	private int port = IGSXMLTransaction.getDefaultPort();
+
+	/** The number of request characters that can await output. */
+	private int windowSize = DEFAULT_WINDOW_SIZE;
+
+	/** Constructs a new <code>IGSXMLTransactionBatch</code>. */
+	public IGSXMLTransactionBatch()
+	{
+		super();
+	}
+
+	/**
+	 * Adds a transaction to the batch. The transaction's input must be
+	 * complete. The server and port of the transaction are ignored; the batch
+	 * executes all of its transactions using the server and port of the batch.
+	 * @param transaction the <code>IGSXMLTransaction</code> to add
+	 */
+	public void add(IGSXMLTransaction transaction)
+	{
+		this.transactions.add(transaction);
+	}
+
+	/**
+	 * Returns the transactions in the batch.
+	 * @return an unmodifiable <code>List</code> of
+	 *         <code>IGSXMLTransaction</code>s
+	 */
+	public List<IGSXMLTransaction> getTransactions()
+	{
+		return Collections.unmodifiableList(this.transactions);
+	}
+
+	/**
+	 * Returns <code>true</code> if each transaction in the batch has a return
+	 * code of zero.
+	 * @return <code>true</code> if all transactions succeeded
+	 */
+	public boolean isSuccessful()
+	{
+		for (int i = 0; i < this.transactions.size(); i++)
+		{
+			if (this.transactions.get(i).getReturnCode() != 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** Executes the transactions in the batch. */
+	public void run()
+	{
+		if (this.transactions.isEmpty())
+		{
+			return;
+		}
+
+		for (int i = 0; i < this.transactions.size(); i++)
+		{
+			this.transactions.get(i).prepareInput();
+		}
+
+		IGSXMLConnection connection = null;
+		boolean reusable = false;
+		try
+		{
+			connection = openConnection(false);
+			int failed;
+			try
+			{
+				failed = transmit(connection);
+			}
+			catch (IOException e)
+			{
+				// See IGSXMLTransaction.run
+				if (!connection.isReused() || this.transactions.get(0).isResponseStarted())
+				{
+					throw e;
+				}
+				String message = "Retrying batch using a new connection."; //$NON-NLS-1$
+				IGSXMLTransaction.LOGGER.log(Level.FINE, message, e);
+				releaseConnection(connection, false);
+				connection = null;
+				connection = openConnection(true);
+				failed = transmit(connection);
+			}
+			reusable = failed == -1;
+		}
+		catch (Exception e)
+		{
+			// The connection could not be opened or the requests could not be
+			// written, so none of the transactions received output
+			for (int i = 0; i < this.transactions.size(); i++)
+			{
+				this.transactions.get(i).setCommunicationError(e);
+			}
+		}
+
+		releaseConnection(connection, reusable);
+		for (int i = 0; i < this.transactions.size(); i++)
+		{
+			this.transactions.get(i).finish();
+		}
+	}
+
+	/**
+	 * Writes the requests and reads the output of the transactions.
+	 * @param connection the <code>IGSXMLConnection</code>
+	 * @return the index of the transaction for which reading the output failed
+	 *         or -1 if the output of all transactions was read
+	 * @throws IOException if a communication error occurred before any output
+	 *         was read
+	 */
+	private int transmit(IGSXMLConnection connection)
+		throws IOException
+	{
+		IGSXMLFramer framer = connection.getFramer(); //~1C
+		int count = this.transactions.size();
+		int[] requestSizes = new int[count];
+		int pending = 0;
+		int written = 0;
+		int read = 0;
+		try
+		{
+			while (read < count)
+			{
+				// Write requests until the window is full
+				boolean wrote = false;
+				while (written < count && (pending < this.windowSize || written == read))
+				{
+					IGSXMLTransaction next = this.transactions.get(written);
+					requestSizes[written] = next.writeRequest(framer); //~1C
+					pending += requestSizes[written];
+					written++;
+					wrote = true;
+				}
+				if (wrote)
+				{
+					framer.flush(); //~1C
+				}
+
+				this.transactions.get(read).readResponse(framer); //~1C
+				pending -= requestSizes[read];
+				read++;
+			}
+		}
+		catch (IOException e)
+		{
+			if (read == 0 && !this.transactions.get(0).isResponseStarted())
+			{
+				throw e;
+			}
+			for (int i = read; i < count; i++)
+			{
+				this.transactions.get(i).setCommunicationError(e);
+			}
+			return read;
+		}
+		return -1;
+	}
+
+	/**
+	 * Opens a connection to the server or leases one from the connection pool.
+	 * @param forceNew <code>true</code> if a pooled connection must not be
+	 *        reused
+	 * @return the <code>IGSXMLConnection</code>
+	 * @throws IOException if a connection could not be obtained
+	 */
+	private IGSXMLConnection openConnection(boolean forceNew)
+		throws IOException
+	{
+		long start = System.nanoTime(); //~2A
+		try
+		{
+			if (this.connectionPool == null)
+			{
+				IGSXMLConnection connection = new IGSXMLConnection(this.server, this.port);
+				connection.lease();
+				return connection;
+			}
+			return this.connectionPool.borrowConnection(this.server, this.port, forceNew);
+		}
+		finally
+		{
+			//~2A Each transaction of the batch waited for the connection
+			for (int i = 0; i < this.transactions.size(); i++)
+			{
+				this.transactions.get(i).recordConnectTime(start);
+			}
+		}
+	}
+
+	/**
+	 * Closes the connection or returns it to the connection pool.
+	 * @param connection the <code>IGSXMLConnection</code>. May be
+	 *        <code>null</code>.
+	 * @param reusable <code>true</code> if the output of all transactions was
+	 *        read
+	 */
+	private void releaseConnection(IGSXMLConnection connection, boolean reusable)
+	{
+		if (connection == null)
+		{
+			return;
+		}
+		else if (this.connectionPool == null)
+		{
+			connection.close();
+		}
+		else if (reusable)
+		{
+			this.connectionPool.returnConnection(connection);
+		}
+		else
+		{
+			this.connectionPool.invalidateConnection(connection);
+		}
+	}
+
+	/**
+	 * Returns the connection pool used by the batch.
+	 * @return the <code>IGSXMLConnectionPool</code> or <code>null</code>
+	 */
+	public IGSXMLConnectionPool getConnectionPool()
+	{
+		return this.connectionPool;
+	}
+
+	/**
+	 * Sets the connection pool used by the batch.
+	 * @param connectionPool the <code>IGSXMLConnectionPool</code> or
+	 *        <code>null</code> to open a new connection for each execution
+	 */
+	public void setConnectionPool(IGSXMLConnectionPool connectionPool)
+	{
+		this.connectionPool = connectionPool;
+	}
+
+	/**
+	 * Returns the server port.
+	 * @return the server port
+	 */
+	public int getPort()
+	{
+		return this.port;
+	}
+
+	/**
+	 * Sets the server port.
+	 * @param port the new server port
+	 */
+	public void setPort(int port)
+	{
+		this.port = port;
+	}
+
+	/**
+	 * Returns the server host name.
+	 * @return the server host name
+	 */
+	public String getServer()
+	{
+		return this.server;
+	}
+
+	/**
+	 * Sets the server host name.
+	 * @param server the new server host name
+	 */
+	public void setServer(String server)
+	{
+		this.server = server;
+	}
+
+	/**
+	 * Returns the number of request characters that can await output.
+	 * @return the window size
+	 */
+	public int getWindowSize()
+	{
+		return this.windowSize;
+	}
+
+	/**
+	 * Sets the number of request characters that can await output. The window
+	 * size should not exceed the size of the socket send buffer.
+	 * @param windowSize the window size
+	 */
+	public void setWindowSize(int windowSize)
+	{
+		this.windowSize = windowSize;
+	}
+}
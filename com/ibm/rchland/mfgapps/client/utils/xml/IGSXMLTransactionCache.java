@@ -0,0 +1,527 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-007                  -Initial version
+ * 2026-10-18   ~1 user-007                  -Key outputs by server and port
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <code>IGSXMLTransactionCache</code> caches the output of read-only
+ * {@link IGSXMLTransaction}s. The output is cached by transaction name,
+ * server, port, and input. Only transactions whose name has a time to live greater than zero
+ * are cached (see {@link #setTimeToLive(String, long)}), so a cache can be
+ * shared by all transactions and enabled for lookups only.
+ * <p>
+ * The cache holds at most {@link #getMaxEntries()} outputs; the least
+ * recently used output is removed when the cache is full. Only outputs with
+ * a return code of zero are cached. If a transaction is executed while an
+ * identical transaction is executing, it waits for and receives the output
+ * of the executing transaction instead of calling the server again.
+ * <p>
+ * A transaction executed using the cache has the same output, return code,
+ * and error message as if it had called the server.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLTransactionCache
+{
+	/** The default maximum number of cached outputs. */
+	public static final int DEFAULT_MAX_ENTRIES = 500;
+
+	/** The time in milliseconds between checks for cancellation while waiting. */
+	private static final long WAIT_INTERVAL = 50;
+
+	/** The cached outputs in least recently used order. */
+	private final LinkedHashMap<String, CacheEntry> entries;
+
+	/** The executing transactions that other transactions can wait for. */
+	private final Map<String, InFlightCall> inFlight = new HashMap<String, InFlightCall>();
+
+	/** The time to live in milliseconds by transaction name. */
+	private final Map<String, Long> timesToLive = new HashMap<String, Long>();
+
+	/** The maximum number of cached outputs. */
+	private final int maxEntries;
+
+	/** The time to live of a transaction without its own time to live. */
+	private long defaultTimeToLive;
+
+	/**
+	 * Incremented by each invalidation so the output of a transaction that
+	 * was executing during an invalidation is not cached.
+	 */
+	private long generation;
+
+	/** The number of transactions that used a cached output. */
+	private long hitCount;
+
+	/** The number of transactions that called the server. */
+	private long missCount;
+
+	/** The number of transactions that waited for an identical transaction. */
+	private long sharedCount;
+
+	/** The number of outputs removed because the cache was full. */
+	private long evictionCount;
+
+	/**
+	 * Constructs a new <code>IGSXMLTransactionCache</code> that holds up to
+	 * {@link #DEFAULT_MAX_ENTRIES} outputs and only caches transactions whose
+	 * name has a time to live.
+	 */
+	public IGSXMLTransactionCache()
+	{
+		this(DEFAULT_MAX_ENTRIES, 0);
+	}
+
+	/**
+	 * Constructs a new <code>IGSXMLTransactionCache</code>.
+	 * @param maxEntries the maximum number of cached outputs
+	 * @param defaultTimeToLive the time to live in milliseconds of the output
+	 *        of a transaction whose name does not have its own time to live or
+	 *        zero to only cache transactions whose name has a time to live
+	 */
+	public IGSXMLTransactionCache(int maxEntries, long defaultTimeToLive)
+	{
+		super();
+		this.maxEntries = maxEntries;
+		this.defaultTimeToLive = defaultTimeToLive;
+		this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest)
+			{
+				if (size() > IGSXMLTransactionCache.this.maxEntries)
+				{
+					IGSXMLTransactionCache.this.evictionCount++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cache key for a transaction.
+	 * @param name the name of the transaction
+	 * @param server the server of the transaction
+	 * @param port the port of the transaction
+	 * @param input the input of the transaction
+	 * @return the cache key
+	 */
+	private static String createKey(String name, String server, int port, String input) //~1C
+	{
+		return name + '\u0000' + IGSXMLConnection.createKey(server, port) + '\u0000' + input;
+	}
+
+	/**
+	 * Executes the transaction using the cache. The transaction's input must
+	 * have been prepared.
+	 * @param transaction the <code>IGSXMLTransaction</code> to execute
+	 */
+	void execute(IGSXMLTransaction transaction)
+	{
+		String name = transaction.getTransactionName();
+		long timeToLive = getTimeToLive(name);
+		if (timeToLive <= 0)
+		{
+			transaction.transact();
+			return;
+		}
+
+		String key = createKey(name, transaction.getServer(), transaction.getPort(), //~1C
+				transaction.getInput());
+		CacheEntry entry = null;
+		InFlightCall call = null;
+		boolean executing = false;
+		synchronized (this)
+		{
+			entry = this.entries.get(key);
+			if (entry != null && entry.expires <= System.currentTimeMillis())
+			{
+				this.entries.remove(key);
+				entry = null;
+			}
+
+			if (entry != null)
+			{
+				this.hitCount++;
+			}
+			else
+			{
+				call = this.inFlight.get(key);
+				if (call == null)
+				{
+					call = new InFlightCall(this.generation);
+					this.inFlight.put(key, call);
+					this.missCount++;
+					executing = true;
+				}
+				else
+				{
+					this.sharedCount++;
+				}
+			}
+		}
+
+		if (entry != null)
+		{
+			entry.restore(transaction);
+		}
+		else if (executing)
+		{
+			executeAndCache(transaction, key, timeToLive, call);
+		}
+		else
+		{
+			waitFor(transaction, call);
+		}
+	}
+
+	/**
+	 * Executes the transaction, caches its output if the return code is zero,
+	 * and passes the output to the transactions waiting for it.
+	 * @param transaction the <code>IGSXMLTransaction</code> to execute
+	 * @param key the cache key
+	 * @param timeToLive the time to live of the output in milliseconds
+	 * @param call the <code>InFlightCall</code> for the transaction
+	 */
+	private void executeAndCache(IGSXMLTransaction transaction, String key, long timeToLive,
+			InFlightCall call)
+	{
+		try
+		{
+			transaction.transact();
+			CacheEntry result = new CacheEntry(transaction, System.currentTimeMillis()
+					+ timeToLive);
+			call.result = result;
+			synchronized (this)
+			{
+				if (result.returnCode == 0 && call.generation == this.generation)
+				{
+					this.entries.put(key, result);
+				}
+			}
+		}
+		finally
+		{
+			synchronized (this)
+			{
+				this.inFlight.remove(key);
+			}
+			call.latch.countDown();
+		}
+	}
+
+	/**
+	 * Waits for an identical transaction to finish and copies its output. If
+	 * the transaction is cancelled while waiting, its return code is set to
+	 * {@link IGSXMLTransaction#CANCELLED}.
+	 * @param transaction the waiting <code>IGSXMLTransaction</code>
+	 * @param call the <code>InFlightCall</code> of the executing transaction
+	 */
+	private void waitFor(IGSXMLTransaction transaction, InFlightCall call)
+	{
+		try
+		{
+			while (!call.latch.await(WAIT_INTERVAL, TimeUnit.MILLISECONDS))
+			{
+				if (transaction.isCancelled())
+				{
+					String message = "Transaction cancelled."; //$NON-NLS-1$
+					transaction.setCommunicationError(new InterruptedIOException(message));
+					return;
+				}
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			transaction.cancel();
+			transaction.setCommunicationError(e);
+			return;
+		}
+
+		if (call.result == null || call.result.returnCode == IGSXMLTransaction.CANCELLED)
+		{
+			// The executing transaction failed unexpectedly or was cancelled
+			transaction.transact();
+		}
+		else
+		{
+			call.result.restore(transaction);
+		}
+	}
+
+	/**
+	 * Returns the time to live of the output of transactions with the
+	 * specified name.
+	 * @param name the name of the transaction
+	 * @return the time to live in milliseconds
+	 */
+	public synchronized long getTimeToLive(String name)
+	{
+		Long timeToLive = this.timesToLive.get(name);
+		return timeToLive == null ? this.defaultTimeToLive : timeToLive.longValue();
+	}
+
+	/**
+	 * Sets the time to live of the output of transactions with the specified
+	 * name.
+	 * @param name the name of the transaction
+	 * @param timeToLive the time to live in milliseconds or zero to not cache
+	 *        the output of transactions with the specified name
+	 */
+	public synchronized void setTimeToLive(String name, long timeToLive)
+	{
+		this.timesToLive.put(name, Long.valueOf(timeToLive));
+		if (timeToLive <= 0)
+		{
+			invalidate(name);
+		}
+	}
+
+	/**
+	 * Returns the time to live of the output of transactions whose name does
+	 * not have its own time to live.
+	 * @return the default time to live in milliseconds
+	 */
+	public synchronized long getDefaultTimeToLive()
+	{
+		return this.defaultTimeToLive;
+	}
+
+	/**
+	 * Sets the time to live of the output of transactions whose name does not
+	 * have its own time to live.
+	 * @param defaultTimeToLive the default time to live in milliseconds or
+	 *        zero to only cache transactions whose name has a time to live
+	 */
+	public synchronized void setDefaultTimeToLive(long defaultTimeToLive)
+	{
+		this.defaultTimeToLive = defaultTimeToLive;
+	}
+
+	/**
+	 * Returns the maximum number of cached outputs.
+	 * @return the maximum number of cached outputs
+	 */
+	public int getMaxEntries()
+	{
+		return this.maxEntries;
+	}
+
+	/**
+	 * Returns the number of cached outputs, including expired outputs that
+	 * have not been removed.
+	 * @return the number of cached outputs
+	 */
+	public synchronized int size()
+	{
+		return this.entries.size();
+	}
+
+	/**
+	 * Removes the cached outputs of the transaction with the specified name and
+	 * input from all servers.
+	 * @param name the name of the transaction
+	 * @param input the input of the transaction
+	 */
+	public synchronized void invalidate(String name, String input)
+	{
+		this.generation++;
+		String prefix = name + '\u0000'; //~1C
+		String suffix = '\u0000' + input;
+		Iterator<String> keys = this.entries.keySet().iterator();
+		while (keys.hasNext())
+		{
+			String key = keys.next();
+			if (key.startsWith(prefix) && key.endsWith(suffix))
+			{
+				keys.remove();
+			}
+		}
+	}
+
+	//~1A New method
+	/**
+	 * Removes the cached output of the transaction with the specified name,
+	 * server, port, and input.
+	 * @param name the name of the transaction
+	 * @param server the server of the transaction
+	 * @param port the port of the transaction
+	 * @param input the input of the transaction
+	 */
+	public synchronized void invalidate(String name, String server, int port, String input)
+	{
+		this.generation++;
+		this.entries.remove(createKey(name, server, port, input));
+	}
+
+	/**
+	 * Removes the cached outputs of all transactions with the specified name.
+	 * @param name the name of the transaction
+	 */
+	public synchronized void invalidate(String name)
+	{
+		this.generation++;
+		String prefix = name + '\u0000'; //~1C
+		Iterator<String> keys = this.entries.keySet().iterator();
+		while (keys.hasNext())
+		{
+			if (keys.next().startsWith(prefix))
+			{
+				keys.remove();
+			}
+		}
+	}
+
+	/** Removes all cached outputs. */
+	public synchronized void invalidateAll()
+	{
+		this.generation++;
+		this.entries.clear();
+	}
+
+	/**
+	 * Returns the number of transactions that used a cached output.
+	 * @return the number of cache hits
+	 */
+	public synchronized long getHitCount()
+	{
+		return this.hitCount;
+	}
+
+	/**
+	 * Returns the number of transactions that called the server.
+	 * @return the number of cache misses
+	 */
+	public synchronized long getMissCount()
+	{
+		return this.missCount;
+	}
+
+	/**
+	 * Returns the number of transactions that waited for and received the
+	 * output of an identical transaction.
+	 * @return the number of shared calls
+	 */
+	public synchronized long getSharedCount()
+	{
+		return this.sharedCount;
+	}
+
+	/**
+	 * Returns the number of outputs removed because the cache was full.
+	 * @return the number of evictions
+	 */
+	public synchronized long getEvictionCount()
+	{
+		return this.evictionCount;
+	}
+
+	/** Resets the statistics of the cache. */
+	public synchronized void resetStatistics()
+	{
+		this.hitCount = 0;
+		this.missCount = 0;
+		this.sharedCount = 0;
+		this.evictionCount = 0;
+	}
+
+	/**
+	 * Returns a <code>String</code> representation of the cache.
+	 * @return a <code>String</code> containing the cache statistics
+	 */
+	public synchronized String toString()
+	{
+		return "IGSXMLTransactionCache[size=" + this.entries.size() //$NON-NLS-1$
+				+ ", hits=" + this.hitCount //$NON-NLS-1$
+				+ ", misses=" + this.missCount //$NON-NLS-1$
+				+ ", shared=" + this.sharedCount //$NON-NLS-1$
+				+ ", evictions=" + this.evictionCount + ']'; //$NON-NLS-1$
+	}
+
+	/**
+	 * <code>CacheEntry</code> is the output, return code, and error message
+	 * of an executed transaction.
+	 * @author The Process Profile Client Development Team
+	 */
+	private static class CacheEntry
+	{
+		/** The transaction's output. */
+		final String output;
+
+		/** The transaction's return code. */
+		final int returnCode;
+
+		/** The transaction's error message. */
+		final String erms;
+
+		/** The time at which the entry expires. */
+		final long expires;
+
+		/**
+		 * Constructs a new <code>CacheEntry</code>.
+		 * @param transaction the executed <code>IGSXMLTransaction</code>
+		 * @param expires the time at which the entry expires
+		 */
+		public CacheEntry(IGSXMLTransaction transaction, long expires)
+		{
+			super();
+			this.output = transaction.getOutput();
+			this.returnCode = transaction.getReturnCode();
+			this.erms = transaction.getErms();
+			this.expires = expires;
+		}
+
+		/**
+		 * Copies the output, return code, and error message to a transaction.
+		 * @param transaction the <code>IGSXMLTransaction</code>
+		 */
+		public void restore(IGSXMLTransaction transaction)
+		{
+			transaction.setResult(this.output, this.returnCode, this.erms);
+		}
+	}
+
+	/**
+	 * <code>InFlightCall</code> is an executing transaction for which
+	 * identical transactions can wait.
+	 * @author The Process Profile Client Development Team
+	 */
+	private static class InFlightCall
+	{
+		/** Counted down when the transaction finishes. */
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		/** The cache generation when the transaction started. */
+		final long generation;
+
+		/** The result of the transaction once it finishes. */
+		volatile CacheEntry result;
+
+		/**
+		 * Constructs a new <code>InFlightCall</code>.
+		 * @param generation the cache generation
+		 */
+		public InFlightCall(long generation)
+		{
+			super();
+			this.generation = generation;
+		}
+	}
+}
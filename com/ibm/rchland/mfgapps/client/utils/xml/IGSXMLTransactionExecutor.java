@@ -0,0 +1,481 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-002                  -Initial version
+ * 2026-10-18   ~1 user-002                  -Cancel only claimed transactions;
+ *                                            purge cancelled timeouts in bulk
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import javax.swing.SwingUtilities;
+
+import com.ibm.rchland.mfgapps.client.utils.event.IGSXMLTransactionListener;
+
+/**
+ * <code>IGSXMLTransactionExecutor</code> executes {@link IGSXMLTransaction}s
+ * on a bounded pool of daemon threads so a client can execute independent
+ * transactions in parallel without blocking the event dispatch thread or
+ * creating its own threads.
+ * <p>
+ * Each submitted transaction returns a <code>Future</code> whose result is
+ * the transaction itself once it has finished executing. An optional
+ * {@link IGSXMLTransactionListener} is notified when the transaction
+ * finishes, by default on the event dispatch thread. Cancelling the
+ * <code>Future</code> or exceeding the transaction's timeout closes the
+ * transaction's connection and sets its return code to
+ * {@link IGSXMLTransaction#CANCELLED}.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLTransactionExecutor
+{
+	/** The default number of threads. */
+	public static final int DEFAULT_THREADS = 4;
+
+	/** The default number of transactions that can wait for a thread. */
+	public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+	//~1A
+	/** The minimum number of cancelled timeouts that are purged at once. */
+	private static final int PURGE_THRESHOLD = 64;
+
+	/** The executor created by {@link #getDefaultExecutor()}. */
+	private static IGSXMLTransactionExecutor defaultExecutor;
+
+	/** Used to create unique <code>Thread</code> names. */
+	private static final AtomicInteger threadNumber = new AtomicInteger();
+
+	/** The <code>ThreadPoolExecutor</code> that executes the transactions. */
+	private final ThreadPoolExecutor executor;
+
+	/** The <code>ScheduledThreadPoolExecutor</code> used for timeouts. */
+	private final ScheduledThreadPoolExecutor timer;
+
+	//~1A
+	/** The number of timeouts cancelled since the timer was last purged. */
+	private final AtomicInteger cancelledTimeouts = new AtomicInteger();
+
+	/**
+	 * Set <code>true</code> if listeners are notified on the event dispatch
+	 * thread.
+	 */
+	private volatile boolean notifyOnEventDispatchThread = true;
+
+	/**
+	 * Constructs a new <code>IGSXMLTransactionExecutor</code> with
+	 * {@link #DEFAULT_THREADS} threads.
+	 */
+	public IGSXMLTransactionExecutor()
+	{
+		this(DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new <code>IGSXMLTransactionExecutor</code>.
+	 * @param threads the maximum number of transactions executed at the same
+	 *        time
+	 * @param queueCapacity the maximum number of transactions that can wait
+	 *        for a thread. Submitting a transaction when the queue is full
+	 *        throws a <code>RejectedExecutionException</code>.
+	 */
+	public IGSXMLTransactionExecutor(int threads, int queueCapacity)
+	{
+		super();
+		ThreadFactory threadFactory = new ThreadFactory()
+		{
+			public Thread newThread(Runnable r)
+			{
+				String n = "IGSXMLTransactionExecutor-" + threadNumber.getAndIncrement(); //$NON-NLS-1$
+				Thread thread = new Thread(r, n);
+				thread.setDaemon(true);
+				return thread;
+			}
+		};
+		this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(queueCapacity), threadFactory);
+		this.executor.allowCoreThreadTimeOut(true);
+		this.timer = new ScheduledThreadPoolExecutor(1, threadFactory);
+	}
+
+	/**
+	 * Returns the shared <code>IGSXMLTransactionExecutor</code>, creating it
+	 * with the default settings if necessary.
+	 * @return the shared <code>IGSXMLTransactionExecutor</code>
+	 */
+	public static synchronized IGSXMLTransactionExecutor getDefaultExecutor()
+	{
+		if (defaultExecutor == null)
+		{
+			defaultExecutor = new IGSXMLTransactionExecutor();
+		}
+		return defaultExecutor;
+	}
+
+	/**
+	 * Submits a transaction for execution.
+	 * @param transaction the <code>IGSXMLTransaction</code> to execute
+	 * @return a <code>Future</code> whose result is the transaction
+	 */
+	public Future<IGSXMLTransaction> submit(IGSXMLTransaction transaction)
+	{
+		return submit(transaction, 0, null);
+	}
+
+	/**
+	 * Submits a transaction for execution.
+	 * @param transaction the <code>IGSXMLTransaction</code> to execute
+	 * @param listener the <code>IGSXMLTransactionListener</code> notified when
+	 *        the transaction finishes or <code>null</code>
+	 * @return a <code>Future</code> whose result is the transaction
+	 */
+	public Future<IGSXMLTransaction> submit(IGSXMLTransaction transaction,
+											IGSXMLTransactionListener listener)
+	{
+		return submit(transaction, 0, listener);
+	}
+
+	/**
+	 * Submits a transaction for execution.
+	 * @param transaction the <code>IGSXMLTransaction</code> to execute
+	 * @param timeout the number of milliseconds after which the transaction is
+	 *        cancelled if it has not finished or zero for no timeout. The
+	 *        timeout includes the time the transaction waits for a thread.
+	 * @param listener the <code>IGSXMLTransactionListener</code> notified when
+	 *        the transaction finishes or <code>null</code>
+	 * @return a <code>Future</code> whose result is the transaction
+	 */
+	public Future<IGSXMLTransaction> submit(IGSXMLTransaction transaction, long timeout,
+											IGSXMLTransactionListener listener)
+	{
+		final TransactionFuture future = new TransactionFuture(transaction, listener);
+		if (timeout > 0)
+		{
+			future.timeout = this.timer.schedule(new Runnable()
+			{
+				public void run()
+				{
+					future.cancel(true);
+				}
+			}, timeout, TimeUnit.MILLISECONDS);
+		}
+		this.executor.execute(future);
+		return future;
+	}
+
+	/**
+	 * Executes the transactions in parallel and waits until all of them have
+	 * finished executing.
+	 * @param transactions the <code>Collection</code> of
+	 *        <code>IGSXMLTransaction</code>s to execute
+	 * @param timeout the number of milliseconds after which a transaction is
+	 *        cancelled if it has not finished or zero for no timeout
+	 * @throws InterruptedException if the current thread was interrupted while
+	 *         waiting. The transactions that have not finished are cancelled.
+	 */
+	public void executeAll(Collection<IGSXMLTransaction> transactions, long timeout)
+		throws InterruptedException
+	{
+		List<Future<IGSXMLTransaction>> futures = new ArrayList<Future<IGSXMLTransaction>>();
+		Iterator<IGSXMLTransaction> iterator = transactions.iterator();
+		while (iterator.hasNext())
+		{
+			futures.add(submit(iterator.next(), timeout, null));
+		}
+
+		Iterator<Future<IGSXMLTransaction>> futureIterator = futures.iterator();
+		try
+		{
+			while (futureIterator.hasNext())
+			{
+				((TransactionFuture) futureIterator.next()).awaitCompletion();
+			}
+		}
+		catch (InterruptedException e)
+		{
+			futureIterator = futures.iterator();
+			while (futureIterator.hasNext())
+			{
+				futureIterator.next().cancel(true);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Executes a <code>Runnable</code> on one of the executor's threads.
+	 * @param runnable the <code>Runnable</code> to execute
+	 */
+	public void execute(Runnable runnable)
+	{
+		this.executor.execute(runnable);
+	}
+
+	/**
+	 * Returns <code>true</code> if listeners are notified on the event
+	 * dispatch thread.
+	 * @return <code>true</code> if listeners are notified on the event
+	 *         dispatch thread; <code>false</code> if listeners are notified on
+	 *         the thread that executed the transaction
+	 */
+	public boolean isNotifyOnEventDispatchThread()
+	{
+		return this.notifyOnEventDispatchThread;
+	}
+
+	/**
+	 * Sets whether listeners are notified on the event dispatch thread.
+	 * @param notifyOnEventDispatchThread <code>true</code> if listeners are
+	 *        notified on the event dispatch thread; <code>false</code> if
+	 *        listeners are notified on the thread that executed the
+	 *        transaction
+	 */
+	public void setNotifyOnEventDispatchThread(boolean notifyOnEventDispatchThread)
+	{
+		this.notifyOnEventDispatchThread = notifyOnEventDispatchThread;
+	}
+
+	/**
+	 * Shuts down the executor. Previously submitted transactions are executed,
+	 * but no new transactions are accepted.
+	 */
+	public void shutdown()
+	{
+		this.executor.shutdown();
+		this.timer.shutdown();
+	}
+
+	/**
+	 * Waits for the executor to finish executing the submitted transactions
+	 * after {@link #shutdown()} was invoked.
+	 * @param timeout the maximum number of milliseconds to wait
+	 * @return <code>true</code> if the executor terminated
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public boolean awaitTermination(long timeout)
+		throws InterruptedException
+	{
+		return this.executor.awaitTermination(timeout, TimeUnit.MILLISECONDS);
+	}
+
+	//~1A New method
+	/**
+	 * Counts a cancelled timeout and removes the cancelled timeouts from the
+	 * timer's queue once they are at least half of it, so completed
+	 * transactions are not retained until their timeouts expire and the queue
+	 * is not searched for every completed transaction.
+	 */
+	void purgeCancelledTimeouts()
+	{
+		int cancelled = this.cancelledTimeouts.incrementAndGet();
+		if (cancelled >= Math.max(PURGE_THRESHOLD, this.timer.getQueue().size() / 2)
+				&& this.cancelledTimeouts.compareAndSet(cancelled, 0))
+		{
+			this.timer.purge();
+		}
+	}
+
+	/**
+	 * Notifies the listener that the transaction has finished executing.
+	 * @param transaction the <code>IGSXMLTransaction</code>
+	 * @param listener the <code>IGSXMLTransactionListener</code> or
+	 *        <code>null</code>
+	 */
+	void notifyListener(final IGSXMLTransaction transaction,
+						final IGSXMLTransactionListener listener)
+	{
+		if (listener == null)
+		{
+			return;
+		}
+
+		Runnable notifier = new Runnable()
+		{
+			public void run()
+			{
+				try
+				{
+					listener.transactionCompleted(transaction);
+				}
+				catch (RuntimeException e)
+				{
+					String message = "Error notifying IGSXMLTransactionListener."; //$NON-NLS-1$
+					IGSXMLTransaction.LOGGER.log(Level.WARNING, message, e);
+				}
+			}
+		};
+
+		if (this.notifyOnEventDispatchThread && !SwingUtilities.isEventDispatchThread())
+		{
+			SwingUtilities.invokeLater(notifier);
+		}
+		else
+		{
+			notifier.run();
+		}
+	}
+
+	/**
+	 * <code>TransactionFuture</code> is the <code>Future</code> returned for
+	 * a submitted transaction.
+	 * @author The Process Profile Client Development Team
+	 */
+	private class TransactionFuture
+		extends FutureTask<IGSXMLTransaction>
+	{
+		/** Indicates the transaction was executed. */
+		static final int EXECUTED = 1;
+
+		/** Indicates the transaction was cancelled before it was executed. */
+		static final int SKIPPED = 2;
+
+		/** The <code>IGSXMLTransaction</code> to execute. */
+		final IGSXMLTransaction transaction;
+
+		/** The <code>IGSXMLTransactionListener</code> or <code>null</code>. */
+		final IGSXMLTransactionListener listener;
+
+		/**
+		 * Set to {@link #EXECUTED} by the thread that executes the transaction
+		 * or to {@link #SKIPPED} by the thread that cancels the transaction
+		 * before it starts.
+		 */
+		final AtomicInteger claimed;
+
+		/** The scheduled timeout or <code>null</code>. */
+		volatile ScheduledFuture<?> timeout;
+
+		/** Released once the transaction's output and return code are set. */
+		final CountDownLatch finished = new CountDownLatch(1);
+
+		/**
+		 * Constructs a new <code>TransactionFuture</code>.
+		 * @param transaction the <code>IGSXMLTransaction</code> to execute
+		 * @param listener the <code>IGSXMLTransactionListener</code> or
+		 *        <code>null</code>
+		 */
+		TransactionFuture(IGSXMLTransaction transaction, IGSXMLTransactionListener listener)
+		{
+			this(transaction, listener, new AtomicInteger());
+		}
+
+		/**
+		 * Constructs a new <code>TransactionFuture</code>.
+		 * @param transaction the <code>IGSXMLTransaction</code> to execute
+		 * @param listener the <code>IGSXMLTransactionListener</code> or
+		 *        <code>null</code>
+		 * @param claimed the <code>AtomicInteger</code> used to determine
+		 *        which thread completes the transaction
+		 */
+		private TransactionFuture(final IGSXMLTransaction transaction,
+									IGSXMLTransactionListener listener,
+									final AtomicInteger claimed)
+		{
+			super(new Runnable()
+			{
+				public void run()
+				{
+					if (claimed.compareAndSet(0, EXECUTED))
+					{
+						transaction.run();
+					}
+				}
+			}, transaction);
+			this.transaction = transaction;
+			this.listener = listener;
+			this.claimed = claimed;
+		}
+
+		/** {@inheritDoc} */
+		public void run()
+		{
+			super.run(); //~1C
+
+			// done() does not notify the listener for a transaction that was
+			// cancelled while executing, since the transaction's output and
+			// return code are only set once its run method returns
+			if (isCancelled() && this.claimed.get() == EXECUTED)
+			{
+				complete();
+			}
+		}
+
+		/** {@inheritDoc} */
+		public boolean cancel(boolean mayInterruptIfRunning)
+		{
+			// done() has claimed a transaction that has not started, so only
+			// a transaction claimed by the executing thread is cancelled
+			boolean result = super.cancel(mayInterruptIfRunning);
+			if (result && this.claimed.get() == EXECUTED) //~1C
+			{
+				this.transaction.cancel();
+			}
+			return result;
+		}
+
+		/** {@inheritDoc} */
+		protected void done()
+		{
+			ScheduledFuture<?> scheduled = this.timeout;
+			if (scheduled != null)
+			{
+				if (scheduled.cancel(false)) //~1C
+				{
+					purgeCancelledTimeouts();
+				}
+			}
+
+			if (!isCancelled())
+			{
+				complete();
+			}
+			else if (this.claimed.compareAndSet(0, SKIPPED))
+			{
+				// The transaction was cancelled before it started
+				String erms = "Transaction cancelled."; //$NON-NLS-1$
+				this.transaction.setError(erms, IGSXMLTransaction.CANCELLED, null);
+				complete();
+			}
+		}
+
+		/**
+		 * Releases threads waiting in {@link #awaitCompletion()} and notifies
+		 * the listener.
+		 */
+		private void complete()
+		{
+			this.finished.countDown();
+			notifyListener(this.transaction, this.listener);
+		}
+
+		/**
+		 * Waits until the transaction's output and return code are set. Unlike
+		 * <code>get</code>, this method does not return before a cancelled
+		 * transaction has returned from its <code>run</code> method.
+		 * @throws InterruptedException if interrupted while waiting
+		 */
+		void awaitCompletion()
+			throws InterruptedException
+		{
+			this.finished.await();
+		}
+	}
+}
@@ -0,0 +1,282 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-008                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.ibm.rchland.mfgapps.client.utils.event.IGSXMLTransactionMetricsEvent;
+import com.ibm.rchland.mfgapps.client.utils.event.IGSXMLTransactionMetricsListener;
+
+/**
+ * <code>IGSXMLTransactionMetrics</code> measures the executions of
+ * {@link IGSXMLTransaction}s. When enabled, each execution records the time
+ * taken to obtain a connection, the time until the first buffer of data was
+ * received, the total time, the number of bytes sent and received, the number
+ * of buffers of data received, and the return code. The measurements are
+ * aggregated by transaction name in {@link IGSXMLTransactionStatistics},
+ * which are registered with the platform <code>MBeanServer</code>, and are
+ * passed to the registered {@link IGSXMLTransactionMetricsListener}s.
+ * <p>
+ * Metrics are disabled by default. While disabled, a transaction only checks
+ * a <code>volatile</code> flag before it executes.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLTransactionMetrics
+{
+	/** The domain of the <code>ObjectName</code>s of the MBeans. */
+	public static final String DOMAIN = "com.ibm.rchland.mfgapps.client.utils.xml"; //$NON-NLS-1$
+
+	/** Set <code>true</code> if executions are measured. */
+	private static volatile boolean enabled;
+
+	/** Set <code>true</code> if statistics are registered as MBeans. */
+	private static volatile boolean registerMBeans = true;
+
+	/** The statistics by transaction name. */
+	private static final ConcurrentHashMap<String, IGSXMLTransactionStatistics> statistics = new ConcurrentHashMap<String, IGSXMLTransactionStatistics>();
+
+	/** The registered listeners. */
+	private static final List<IGSXMLTransactionMetricsListener> listeners = new CopyOnWriteArrayList<IGSXMLTransactionMetricsListener>();
+
+	/** Constructs a new <code>IGSXMLTransactionMetrics</code>. */
+	private IGSXMLTransactionMetrics()
+	{
+		super();
+	}
+
+	/**
+	 * Returns <code>true</code> if executions are measured.
+	 * @return <code>true</code> if metrics are enabled
+	 */
+	public static boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	/**
+	 * Sets whether executions are measured.
+	 * @param enabled <code>true</code> to measure executions
+	 */
+	public static void setEnabled(boolean enabled)
+	{
+		IGSXMLTransactionMetrics.enabled = enabled;
+	}
+
+	/**
+	 * Returns <code>true</code> if statistics are registered as MBeans.
+	 * @return <code>true</code> if statistics are registered as MBeans
+	 */
+	public static boolean isRegisterMBeans()
+	{
+		return registerMBeans;
+	}
+
+	/**
+	 * Sets whether statistics created from now on are registered with the
+	 * platform <code>MBeanServer</code>.
+	 * @param registerMBeans <code>true</code> to register the statistics
+	 */
+	public static void setRegisterMBeans(boolean registerMBeans)
+	{
+		IGSXMLTransactionMetrics.registerMBeans = registerMBeans;
+	}
+
+	/**
+	 * Adds a listener that is notified after each measured execution.
+	 * @param listener the <code>IGSXMLTransactionMetricsListener</code>
+	 */
+	public static void addMetricsListener(IGSXMLTransactionMetricsListener listener)
+	{
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener.
+	 * @param listener the <code>IGSXMLTransactionMetricsListener</code>
+	 */
+	public static void removeMetricsListener(IGSXMLTransactionMetricsListener listener)
+	{
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Returns the statistics of the transactions with the specified name.
+	 * @param name the name of the transaction
+	 * @return the <code>IGSXMLTransactionStatistics</code> or
+	 *         <code>null</code> if no transaction with the name was measured
+	 */
+	public static IGSXMLTransactionStatistics getStatistics(String name)
+	{
+		return statistics.get(name);
+	}
+
+	/**
+	 * Returns the names of the measured transactions.
+	 * @return a sorted <code>List</code> of transaction names
+	 */
+	public static List<String> getTransactionNames()
+	{
+		List<String> names = new ArrayList<String>(statistics.keySet());
+		Collections.sort(names);
+		return names;
+	}
+
+	/** Removes all statistics and unregisters their MBeans. */
+	public static void reset()
+	{
+		Iterator<String> names = statistics.keySet().iterator();
+		while (names.hasNext())
+		{
+			String name = names.next();
+			names.remove();
+			try
+			{
+				MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+				ObjectName objectName = createObjectName(name);
+				if (server.isRegistered(objectName))
+				{
+					server.unregisterMBean(objectName);
+				}
+			}
+			catch (Exception e)
+			{
+				String message = "Error unregistering MBean for " + name; //$NON-NLS-1$
+				IGSXMLTransaction.LOGGER.log(Level.INFO, message, e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the <code>ObjectName</code> of the MBean for the statistics of
+	 * the transactions with the specified name.
+	 * @param name the name of the transaction
+	 * @return the <code>ObjectName</code>
+	 * @throws Exception if the <code>ObjectName</code> is invalid
+	 */
+	public static ObjectName createObjectName(String name)
+		throws Exception
+	{
+		return new ObjectName(DOMAIN + ":type=IGSXMLTransaction,name=" //$NON-NLS-1$
+				+ ObjectName.quote(name));
+	}
+
+	/**
+	 * Returns the statistics of the transactions with the specified name,
+	 * creating and registering them if necessary.
+	 * @param name the name of the transaction
+	 * @return the <code>IGSXMLTransactionStatistics</code>
+	 */
+	private static IGSXMLTransactionStatistics getOrCreateStatistics(String name)
+	{
+		IGSXMLTransactionStatistics result = statistics.get(name);
+		if (result == null)
+		{
+			IGSXMLTransactionStatistics created = new IGSXMLTransactionStatistics(name);
+			result = statistics.putIfAbsent(name, created);
+			if (result == null)
+			{
+				result = created;
+				if (registerMBeans)
+				{
+					try
+					{
+						MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+						server.registerMBean(created, createObjectName(name));
+					}
+					catch (Exception e)
+					{
+						String message = "Error registering MBean for " + name; //$NON-NLS-1$
+						IGSXMLTransaction.LOGGER.log(Level.INFO, message, e);
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Records the measurements of an execution and notifies the listeners.
+	 * @param transaction the executed <code>IGSXMLTransaction</code>
+	 * @param sample the <code>Sample</code> of the execution
+	 */
+	static void record(IGSXMLTransaction transaction, Sample sample)
+	{
+		long totalTime = System.nanoTime() - sample.start;
+		long connectTime = sample.connect < 0 ? -1 : sample.connect;
+		long firstFrameTime = sample.firstFrame < 0 ? -1 : sample.firstFrame - sample.start;
+		int returnCode = transaction.getReturnCode();
+		getOrCreateStatistics(transaction.getTransactionName()).record(returnCode, connectTime,
+				firstFrameTime, totalTime, sample.bytesSent, sample.bytesReceived,
+				sample.framesReceived);
+
+		if (!listeners.isEmpty())
+		{
+			IGSXMLTransactionMetricsEvent event = new IGSXMLTransactionMetricsEvent(transaction,
+					returnCode, connectTime, firstFrameTime, totalTime, sample.bytesSent,
+					sample.bytesReceived, sample.framesReceived);
+			Iterator<IGSXMLTransactionMetricsListener> i = listeners.iterator();
+			while (i.hasNext())
+			{
+				try
+				{
+					i.next().transactionMeasured(event);
+				}
+				catch (RuntimeException e)
+				{
+					String message = "Error notifying IGSXMLTransactionMetricsListener."; //$NON-NLS-1$
+					IGSXMLTransaction.LOGGER.log(Level.WARNING, message, e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <code>Sample</code> holds the measurements of an executing transaction.
+	 * A <code>Sample</code> is only created if metrics are enabled when the
+	 * transaction starts executing.
+	 * @author The Process Profile Client Development Team
+	 */
+	static class Sample
+	{
+		/** The value of <code>System.nanoTime</code> at the start. */
+		final long start = System.nanoTime();
+
+		/** The time taken to obtain the connection or -1. */
+		long connect = -1;
+
+		/** The value of <code>System.nanoTime</code> at the first buffer or -1. */
+		long firstFrame = -1;
+
+		/** The number of bytes sent. */
+		long bytesSent;
+
+		/** The number of bytes received. */
+		long bytesReceived;
+
+		/** The number of buffers of data received. */
+		int framesReceived;
+
+		/** Constructs a new <code>Sample</code>. */
+		Sample()
+		{
+			super();
+		}
+	}
+}
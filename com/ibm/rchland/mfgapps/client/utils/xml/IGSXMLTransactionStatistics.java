@@ -0,0 +1,267 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-008                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <code>IGSXMLTransactionStatistics</code> aggregates the measurements of
+ * the executions of transactions with the same name. Instances are created
+ * by {@link IGSXMLTransactionMetrics} and registered as MBeans.
+ * @author The Process Profile Client Development Team
+ */
+public class IGSXMLTransactionStatistics
+	implements IGSXMLTransactionStatisticsMBean
+{
+	/** The name of the transaction. */
+	private final String transactionName;
+
+	/** The connect times in microseconds. */
+	private final IGSXMLHistogram connectTimes = new IGSXMLHistogram();
+
+	/** The times to the first buffer of data in microseconds. */
+	private final IGSXMLHistogram firstFrameTimes = new IGSXMLHistogram();
+
+	/** The total times in microseconds. */
+	private final IGSXMLHistogram totalTimes = new IGSXMLHistogram();
+
+	/** The number of buffers of data per response. */
+	private final IGSXMLHistogram framesReceived = new IGSXMLHistogram();
+
+	/** The total number of bytes sent. */
+	private final AtomicLong bytesSent = new AtomicLong();
+
+	/** The total number of bytes received. */
+	private final AtomicLong bytesReceived = new AtomicLong();
+
+	/** The number of executions by nonzero return code. */
+	private final ConcurrentHashMap<Integer, AtomicLong> errorCounts = new ConcurrentHashMap<Integer, AtomicLong>();
+
+	/**
+	 * Constructs a new <code>IGSXMLTransactionStatistics</code>.
+	 * @param transactionName the name of the transaction
+	 */
+	public IGSXMLTransactionStatistics(String transactionName)
+	{
+		super();
+		this.transactionName = transactionName;
+	}
+
+	/**
+	 * Records the measurements of an execution.
+	 * @param returnCode the return code of the transaction
+	 * @param connectTime the connect time in nanoseconds or -1
+	 * @param firstFrameTime the time to the first buffer in nanoseconds or -1
+	 * @param totalTime the total time in nanoseconds
+	 * @param sent the number of bytes sent
+	 * @param received the number of bytes received
+	 * @param frames the number of buffers of data received
+	 */
+	void record(int returnCode, long connectTime, long firstFrameTime, long totalTime,
+			long sent, long received, int frames)
+	{
+		this.connectTimes.record(connectTime < 0 ? -1 : connectTime / 1000);
+		this.firstFrameTimes.record(firstFrameTime < 0 ? -1 : firstFrameTime / 1000);
+		this.totalTimes.record(totalTime / 1000);
+		this.framesReceived.record(frames);
+		this.bytesSent.addAndGet(sent);
+		this.bytesReceived.addAndGet(received);
+		if (returnCode != 0)
+		{
+			Integer key = Integer.valueOf(returnCode);
+			AtomicLong count = this.errorCounts.get(key);
+			if (count == null)
+			{
+				AtomicLong newCount = new AtomicLong();
+				count = this.errorCounts.putIfAbsent(key, newCount);
+				if (count == null)
+				{
+					count = newCount;
+				}
+			}
+			count.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the histogram of the connect times.
+	 * @return the <code>IGSXMLHistogram</code> of times in microseconds
+	 */
+	public IGSXMLHistogram getConnectTimes()
+	{
+		return this.connectTimes;
+	}
+
+	/**
+	 * Returns the histogram of the times to the first buffer of data.
+	 * @return the <code>IGSXMLHistogram</code> of times in microseconds
+	 */
+	public IGSXMLHistogram getFirstFrameTimes()
+	{
+		return this.firstFrameTimes;
+	}
+
+	/**
+	 * Returns the histogram of the total times.
+	 * @return the <code>IGSXMLHistogram</code> of times in microseconds
+	 */
+	public IGSXMLHistogram getTotalTimes()
+	{
+		return this.totalTimes;
+	}
+
+	/**
+	 * Returns the histogram of the number of buffers of data per response.
+	 * @return the <code>IGSXMLHistogram</code>
+	 */
+	public IGSXMLHistogram getFramesReceived()
+	{
+		return this.framesReceived;
+	}
+
+	/**
+	 * Returns the number of executions with the specified return code.
+	 * @param returnCode the nonzero return code
+	 * @return the number of executions
+	 */
+	public long getErrorCount(int returnCode)
+	{
+		AtomicLong count = this.errorCounts.get(Integer.valueOf(returnCode));
+		return count == null ? 0 : count.get();
+	}
+
+	/** {@inheritDoc} */
+	public String getTransactionName()
+	{
+		return this.transactionName;
+	}
+
+	/** {@inheritDoc} */
+	public long getCount()
+	{
+		return this.totalTimes.getCount();
+	}
+
+	/** {@inheritDoc} */
+	public long getErrorCount()
+	{
+		long total = 0;
+		Iterator<AtomicLong> counts = this.errorCounts.values().iterator();
+		while (counts.hasNext())
+		{
+			total += counts.next().get();
+		}
+		return total;
+	}
+
+	/** {@inheritDoc} */
+	public String getErrorCounts()
+	{
+		StringBuffer result = new StringBuffer();
+		Iterator<Map.Entry<Integer, AtomicLong>> entries = new TreeMap<Integer, AtomicLong>(
+				this.errorCounts).entrySet().iterator();
+		while (entries.hasNext())
+		{
+			Map.Entry<Integer, AtomicLong> entry = entries.next();
+			if (result.length() != 0)
+			{
+				result.append(", "); //$NON-NLS-1$
+			}
+			result.append(entry.getKey()).append('=').append(entry.getValue().get());
+		}
+		return result.toString();
+	}
+
+	/** {@inheritDoc} */
+	public long getMeanConnectTime()
+	{
+		return this.connectTimes.getMean();
+	}
+
+	/** {@inheritDoc} */
+	public long getMeanFirstFrameTime()
+	{
+		return this.firstFrameTimes.getMean();
+	}
+
+	/** {@inheritDoc} */
+	public long getMeanTotalTime()
+	{
+		return this.totalTimes.getMean();
+	}
+
+	/** {@inheritDoc} */
+	public long getMedianTotalTime()
+	{
+		return this.totalTimes.getPercentile(50);
+	}
+
+	/** {@inheritDoc} */
+	public long getP99TotalTime()
+	{
+		return this.totalTimes.getPercentile(99);
+	}
+
+	/** {@inheritDoc} */
+	public long getMaxTotalTime()
+	{
+		return this.totalTimes.getMax();
+	}
+
+	/** {@inheritDoc} */
+	public long getBytesSent()
+	{
+		return this.bytesSent.get();
+	}
+
+	/** {@inheritDoc} */
+	public long getBytesReceived()
+	{
+		return this.bytesReceived.get();
+	}
+
+	/** {@inheritDoc} */
+	public long getMeanFramesReceived()
+	{
+		return this.framesReceived.getMean();
+	}
+
+	/** {@inheritDoc} */
+	public void reset()
+	{
+		this.connectTimes.reset();
+		this.firstFrameTimes.reset();
+		this.totalTimes.reset();
+		this.framesReceived.reset();
+		this.bytesSent.set(0);
+		this.bytesReceived.set(0);
+		this.errorCounts.clear();
+	}
+
+	/**
+	 * Returns a <code>String</code> representation of the statistics.
+	 * @return a <code>String</code> containing the statistics
+	 */
+	public String toString()
+	{
+		return "IGSXMLTransactionStatistics[" + this.transactionName //$NON-NLS-1$
+				+ ", total(us): " + this.totalTimes //$NON-NLS-1$
+				+ ", connect(us): " + this.connectTimes //$NON-NLS-1$
+				+ ", firstFrame(us): " + this.firstFrameTimes //$NON-NLS-1$
+				+ ", bytesSent=" + getBytesSent() //$NON-NLS-1$
+				+ ", bytesReceived=" + getBytesReceived() //$NON-NLS-1$
+				+ ", meanFrames=" + getMeanFramesReceived() //$NON-NLS-1$
+				+ ", errors={" + getErrorCounts() + "}]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -0,0 +1,99 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-008                  -Initial version
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+/**
+ * <code>IGSXMLTransactionStatisticsMBean</code> is the management interface
+ * of {@link IGSXMLTransactionStatistics}. Times are in microseconds.
+ * @author The Process Profile Client Development Team
+ */
+public interface IGSXMLTransactionStatisticsMBean
+{
+	/**
+	 * Returns the name of the transaction.
+	 * @return the name of the transaction
+	 */
+	public String getTransactionName();
+
+	/**
+	 * Returns the number of executions.
+	 * @return the number of executions
+	 */
+	public long getCount();
+
+	/**
+	 * Returns the number of executions with a nonzero return code.
+	 * @return the number of errors
+	 */
+	public long getErrorCount();
+
+	/**
+	 * Returns the number of executions by nonzero return code.
+	 * @return a <code>String</code> of the form <code>rc=count, ...</code>
+	 */
+	public String getErrorCounts();
+
+	/**
+	 * Returns the mean time taken to open or lease a connection.
+	 * @return the mean connect time in microseconds
+	 */
+	public long getMeanConnectTime();
+
+	/**
+	 * Returns the mean time until the first buffer of data was received.
+	 * @return the mean time to first buffer in microseconds
+	 */
+	public long getMeanFirstFrameTime();
+
+	/**
+	 * Returns the mean time taken by an execution.
+	 * @return the mean total time in microseconds
+	 */
+	public long getMeanTotalTime();
+
+	/**
+	 * Returns the estimated median time taken by an execution.
+	 * @return the median total time in microseconds
+	 */
+	public long getMedianTotalTime();
+
+	/**
+	 * Returns the estimated 99th percentile of the time taken by an execution.
+	 * @return the 99th percentile total time in microseconds
+	 */
+	public long getP99TotalTime();
+
+	/**
+	 * Returns the longest time taken by an execution.
+	 * @return the maximum total time in microseconds
+	 */
+	public long getMaxTotalTime();
+
+	/**
+	 * Returns the total number of bytes sent to the server.
+	 * @return the number of bytes sent
+	 */
+	public long getBytesSent();
+
+	/**
+	 * Returns the total number of bytes received from the server.
+	 * @return the number of bytes received
+	 */
+	public long getBytesReceived();
+
+	/**
+	 * Returns the mean number of buffers of data per response.
+	 * @return the mean number of buffers of data received
+	 */
+	public long getMeanFramesReceived();
+
+	/** Removes all recorded measurements. */
+	public void reset();
+}
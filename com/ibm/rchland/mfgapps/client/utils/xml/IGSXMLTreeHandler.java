@@ -8,28 +8,70 @@
  * 2008-02-12     37616JL  R Prechel        -Initial version
  * 2008-03-15  ~1 37616JL  R Prechel        -Implement element replacement
  * 2011-10-20  ~02 00177780Giovanni Toledo  -Added code to avoid duplicates on the tree 
+ * 2026-10-18  ~03 user-016                  -Add incremental mode and cache the parser
+ * 2026-10-18  ~04 user-017                  -Index children and share replaced trees
+ * 2026-10-18  ~05 user-019                  -Build the tree from an IGSXMLTreeSnapshot
+ * 2026-10-18  ~06 user-020                  -Add optional IGSXMLStringInterner
+ * 2026-10-18  ~07 user-017                  -Return typed children of a ReferenceNode
  ******************************************************************************/
 package com.ibm.rchland.mfgapps.client.utils.xml;
 
 import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
+import javax.swing.SwingUtilities;
 import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.MutableTreeNode;
+import javax.swing.tree.TreeNode;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
 import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 
 /**
  * <code>IGSXMLTreeHandler</code> parses the XML for an XML based tree using a
  * {@link javax.xml.parsers.SAXParser} and an {@link IGSXMLTreeParseStrategy}.
+ * <p>
+ * If a <code>DefaultTreeModel</code> is set (see
+ * {@link #setTreeModel(DefaultTreeModel)}), the tree is built incrementally:
+ * while the XML is parsed, the nodes are inserted into the model on the event
+ * dispatch thread in batches of {@link #getBatchSize()} nodes or every
+ * {@link #getBatchInterval()} milliseconds, whichever comes first, so a large
+ * tree can be displayed and navigated while the rest of it is loading. Once a
+ * node has been passed to the event dispatch thread, the handler changes it,
+ * including adding data to its user object and checking whether it is the
+ * initially selected node, only on the event dispatch thread. The
+ * {@link IGSXMLTreeParseStrategy} is therefore called on both threads.
  * @author The MFS Client Development Team
  */
 public class IGSXMLTreeHandler
 	extends IGSDefaultHandler
 	implements Runnable
 {
+	/** The default maximum number of nodes in a batch. */
+	public static final int DEFAULT_BATCH_SIZE = 200; //~03A
+
+	/** The default maximum number of milliseconds between batches. */
+	public static final long DEFAULT_BATCH_INTERVAL = 50; //~03A
+
+	/** The factory used to create parsers. */
+	private static final SAXParserFactory factory = createFactory(); //~03A
+
+	/** The parser of each thread, reused after it is reset. */
+	private static final ThreadLocal<SAXParser> parsers = new ThreadLocal<SAXParser>(); //~03A
+
 	/** The <code>InputStream</code> used to read the XML. */
 	private final InputStream in;
 
@@ -50,7 +92,16 @@ public class IGSXMLTreeHandler
 	private DefaultMutableTreeNode currentNode;
 
 	/** Stores the data accumulated for the current element. */
-	private StringBuffer elementData;
+	private final StringBuffer elementData = new StringBuffer(); //~03C
+
+	/** The characters of {@link #elementData} when it is pooled. */
+	private char[] dataChars = new char[32]; //~06A
+
+	/** The pool of the element data or <code>null</code>. */
+	private IGSXMLStringInterner interner; //~06A
+
+	/** The names of the elements whose data is pooled or <code>null</code> for all. */
+	private HashSet<String> internedElements; //~06A
 
 	/** Stores any <code>Exception</code> that occurred during parsing. */
 	private Exception exception;
@@ -59,7 +110,37 @@ public class IGSXMLTreeHandler
 	private DefaultMutableTreeNode rootNode;
 
 	/** The initially selected node of the tree. */
-	private DefaultMutableTreeNode selectedNode;
+	private volatile DefaultMutableTreeNode selectedNode; //~03C
+
+	/** The model into which the tree is inserted incrementally or <code>null</code>. */
+	private DefaultTreeModel treeModel; //~03A
+
+	/** The maximum number of nodes in a batch. */
+	private int batchSize = DEFAULT_BATCH_SIZE; //~03A
+
+	/** The maximum number of milliseconds between batches. */
+	private long batchInterval = DEFAULT_BATCH_INTERVAL; //~03A
+
+	/** The action run on the event dispatch thread after the last batch. */
+	private Runnable completionAction; //~03A
+
+	/** The nodes that were passed to the event dispatch thread. */
+	private IdentityHashMap<DefaultMutableTreeNode, Boolean> published; //~03A
+
+	/** The child nodes of each node by user object, used to avoid duplicates. */
+	private IdentityHashMap<DefaultMutableTreeNode, IdentityHashMap<Object, DefaultMutableTreeNode>> children; //~03A ~04C
+
+	/** The operations waiting to be passed to the event dispatch thread. */
+	private List<Operation> batch; //~03A
+
+	/** The number of nodes in {@link #batch}. */
+	private int batchNodes; //~03A
+
+	/** The value of <code>System.nanoTime</code> when the last batch was passed. */
+	private long batchTime; //~03A
+
+	/** The path from the root node to the current node. */
+	private List<DefaultMutableTreeNode> path; //~03A ~04C
 
 	/**
 	 * Constructs a new <code>IGSXMLTreeHandler</code>.
@@ -134,20 +215,431 @@ public class IGSXMLTreeHandler
 		return (DefaultMutableTreeNode) this.nodeMap.get(id);
 	}
 
+	//~03A New method
+	/**
+	 * Returns the model into which the tree is inserted incrementally.
+	 * @return the <code>DefaultTreeModel</code> or <code>null</code> if the
+	 *         tree is built before it is displayed
+	 */
+	public DefaultTreeModel getTreeModel()
+	{
+		return this.treeModel;
+	}
+
+	//~03A New method
+	/**
+	 * Sets the model into which the tree is inserted incrementally. The root
+	 * of the model is replaced by the root of the parsed tree as soon as it is
+	 * parsed.
+	 * @param treeModel the <code>DefaultTreeModel</code> or <code>null</code>
+	 *        to build the tree before it is displayed
+	 */
+	public void setTreeModel(DefaultTreeModel treeModel)
+	{
+		this.treeModel = treeModel;
+	}
+
+	//~03A New method
+	/**
+	 * Returns the maximum number of nodes inserted into the model at once.
+	 * @return the batch size
+	 */
+	public int getBatchSize()
+	{
+		return this.batchSize;
+	}
+
+	//~03A New method
+	/**
+	 * Sets the maximum number of nodes inserted into the model at once.
+	 * @param batchSize the batch size
+	 */
+	public void setBatchSize(int batchSize)
+	{
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	//~03A New method
+	/**
+	 * Returns the maximum time between insertions into the model.
+	 * @return the batch interval in milliseconds
+	 */
+	public long getBatchInterval()
+	{
+		return this.batchInterval;
+	}
+
+	//~03A New method
+	/**
+	 * Sets the maximum time between insertions into the model.
+	 * @param batchInterval the batch interval in milliseconds
+	 */
+	public void setBatchInterval(long batchInterval)
+	{
+		this.batchInterval = batchInterval;
+	}
+
+	//~03A New method
+	/**
+	 * Sets the action run on the event dispatch thread after the last nodes
+	 * were inserted into the model. When it runs, {@link #getSelectedNode()}
+	 * and {@link #getException()} return their final values.
+	 * @param completionAction the <code>Runnable</code> or <code>null</code>
+	 */
+	public void setCompletionAction(Runnable completionAction)
+	{
+		this.completionAction = completionAction;
+	}
+
+	//~06A New method
+	/**
+	 * Returns the pool of the element data added to the user objects.
+	 * @return the <code>IGSXMLStringInterner</code> or <code>null</code>
+	 */
+	public IGSXMLStringInterner getStringInterner()
+	{
+		return this.interner;
+	}
+
+	//~06A New method
+	/**
+	 * Sets the pool of the element data added to the user objects. The data
+	 * of the specified elements is passed to
+	 * {@link IGSUserObject#add(String, String)} as a pooled
+	 * <code>String</code>, so user objects that keep equal values share one
+	 * <code>String</code>.
+	 * @param interner the <code>IGSXMLStringInterner</code> or
+	 *        <code>null</code> to stop pooling
+	 * @param elementNames the names of the elements whose data is pooled or
+	 *        <code>null</code> to pool the data of all elements
+	 */
+	public void setStringInterner(IGSXMLStringInterner interner, String[] elementNames)
+	{
+		this.interner = interner;
+		this.internedElements = elementNames == null ? null : new HashSet<String>(Arrays.asList(elementNames));
+	}
+
+	//~05A New method
+	/**
+	 * Returns the strategy used to build the tree.
+	 * @return the <code>IGSXMLTreeParseStrategy</code>
+	 */
+	IGSXMLTreeParseStrategy getStrategy()
+	{
+		return this.strategy;
+	}
+
 	/** Parses the XML. */
 	public void run()
 	{
+		run(null); //~05C
+	}
+
+	//~05A New method
+	/**
+	 * Builds the tree. If <code>snapshot</code> is valid, the tree is built
+	 * from the events recorded in the snapshot and the XML is not parsed;
+	 * otherwise, the events of the parse are recorded in the snapshot.
+	 * @param snapshot the <code>IGSXMLTreeSnapshot</code> or <code>null</code>
+	 */
+	void run(IGSXMLTreeSnapshot snapshot)
+	{
+		this.children = new IdentityHashMap<DefaultMutableTreeNode, IdentityHashMap<Object, DefaultMutableTreeNode>>(); //~04C
+		this.path = new ArrayList<DefaultMutableTreeNode>(); //~04C
+
+		//~03A Reset the state of the incremental mode
+		if (this.treeModel != null)
+		{
+			this.published = new IdentityHashMap<DefaultMutableTreeNode, Boolean>();
+			this.batch = new ArrayList<Operation>();
+			this.batchNodes = 0;
+			this.batchTime = System.nanoTime();
+		}
 		try
 		{
-			SAXParserFactory factory = SAXParserFactory.newInstance();
-			factory.setNamespaceAware(true);
-			factory.newSAXParser().parse(this.in, this);
+			if (snapshot == null || !snapshot.replay(this)) //~05A
+			{
+				//~03C Reuse the thread's parser instead of creating a factory
+				SAXParser parser = parsers.get();
+				if (parser == null)
+				{
+					parser = newParser();
+				}
+				parsers.set(null);
+				DefaultHandler handler = snapshot == null ? this : snapshot.createRecorder(this); //~05A
+				parser.parse(this.in, handler);
+				parser.reset();
+				parsers.set(parser);
+			}
 		}
 		catch (Exception e)
 		{
 			this.exception = e;
-			this.rootNode = null;
-			this.selectedNode = null;
+			if (this.treeModel == null) //~03C The model keeps the nodes parsed
+			{
+				this.rootNode = null;
+				this.selectedNode = null;
+			}
+		}
+		finally
+		{
+			if (this.treeModel != null) //~03A
+			{
+				this.batch.add(new Operation(Operation.COMPLETE, null, null, null, null));
+				publish();
+			}
+		}
+	}
+
+	//~03A New method
+	/**
+	 * Creates the factory used to create parsers.
+	 * @return the <code>SAXParserFactory</code>
+	 */
+	private static SAXParserFactory createFactory()
+	{
+		SAXParserFactory result = SAXParserFactory.newInstance();
+		result.setNamespaceAware(true);
+		return result;
+	}
+
+	//~03A New method
+	/**
+	 * Creates a parser using the shared factory.
+	 * @return the <code>SAXParser</code>
+	 * @throws ParserConfigurationException as thrown by the factory
+	 * @throws SAXException as thrown by the factory
+	 */
+	private static SAXParser newParser()
+		throws ParserConfigurationException, SAXException
+	{
+		synchronized (factory)
+		{
+			return factory.newSAXParser();
+		}
+	}
+
+	//~03A New method
+	/**
+	 * Returns <code>true</code> if the node was passed to the event dispatch
+	 * thread and may only be changed there.
+	 * @param node the <code>DefaultMutableTreeNode</code>
+	 * @return <code>true</code> if the node was published
+	 */
+	private boolean isPublished(DefaultMutableTreeNode node)
+	{
+		return this.published != null && this.published.containsKey(node);
+	}
+
+	//~03A New method
+	/**
+	 * Adds a node to its parent, or adds an operation to insert it into the
+	 * model if the parent was published.
+	 * @param parent the parent <code>DefaultMutableTreeNode</code>
+	 * @param node the new <code>DefaultMutableTreeNode</code>
+	 */
+	private void attach(DefaultMutableTreeNode parent, DefaultMutableTreeNode node)
+	{
+		//~04A Index the child by its user object
+		IdentityHashMap<Object, DefaultMutableTreeNode> nodes = this.children.get(parent);
+		if (nodes == null)
+		{
+			nodes = new IdentityHashMap<Object, DefaultMutableTreeNode>();
+			this.children.put(parent, nodes);
+		}
+		if (!nodes.containsKey(node.getUserObject()))
+		{
+			nodes.put(node.getUserObject(), node);
+		}
+
+		if (isPublished(parent))
+		{
+			this.batch.add(new Operation(Operation.INSERT, parent, node, null, null));
+		}
+		else
+		{
+			parent.add(node);
+		}
+		if (this.batch != null)
+		{
+			this.batchNodes++;
+			publishIfNecessary();
+		}
+	}
+
+	//~03A New method
+	/**
+	 * Passes the waiting operations to the event dispatch thread if the batch
+	 * is full or the batch interval has passed.
+	 */
+	private void publishIfNecessary()
+	{
+		if (this.batchNodes >= this.batchSize
+				|| System.nanoTime() - this.batchTime >= this.batchInterval * 1000000L)
+		{
+			publish();
+		}
+	}
+
+	//~03A New method
+	/**
+	 * Passes the waiting operations to the event dispatch thread and marks the
+	 * nodes they insert, including their descendants, as published.
+	 */
+	private void publish()
+	{
+		if (this.batch.isEmpty())
+		{
+			return;
+		}
+		for (int i = 0; i < this.batch.size(); i++)
+		{
+			Operation operation = this.batch.get(i);
+			if (operation.type == Operation.INSERT || operation.type == Operation.SET_ROOT)
+			{
+				markPublished(operation.node);
+			}
+		}
+		Runnable runnable = new Batch(this.batch);
+		this.batch = new ArrayList<Operation>();
+		this.batchNodes = 0;
+		this.batchTime = System.nanoTime();
+		if (SwingUtilities.isEventDispatchThread())
+		{
+			runnable.run();
+		}
+		else
+		{
+			SwingUtilities.invokeLater(runnable);
+		}
+	}
+
+	//~03A New method
+	/**
+	 * Marks a node and its descendants as published.
+	 * @param node the <code>DefaultMutableTreeNode</code>
+	 */
+	@SuppressWarnings("rawtypes")
+	private void markPublished(DefaultMutableTreeNode node)
+	{
+		this.published.put(node, Boolean.TRUE);
+		if (node instanceof ReferenceNode && !((ReferenceNode) node).isExpanded()) //~04A
+		{
+			return;
+		}
+		Enumeration nodes = node.children();
+		while (nodes.hasMoreElements())
+		{
+			markPublished((DefaultMutableTreeNode) nodes.nextElement());
+		}
+	}
+
+	//~03A New method
+	/**
+	 * Returns a copy of a tree made as {@link #addTree(DefaultMutableTreeNode,
+	 * Object)} does. A published tree is copied on the event dispatch thread
+	 * after the waiting operations.
+	 * @param tree the <code>DefaultMutableTreeNode</code> for the root of the
+	 *        tree to copy
+	 * @return the root of the copy
+	 */
+	private DefaultMutableTreeNode copyTree(final DefaultMutableTreeNode tree)
+	{
+		final DefaultMutableTreeNode result = new DefaultMutableTreeNode();
+		if (!isPublished(tree) || SwingUtilities.isEventDispatchThread())
+		{
+			addTree(result, tree);
+		}
+		else
+		{
+			publish();
+			try
+			{
+				SwingUtilities.invokeAndWait(new Runnable()
+				{
+					public void run()
+					{
+						addTree(result, tree);
+					}
+				});
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			catch (InvocationTargetException e)
+			{
+				throw new IllegalStateException(e.getMessage());
+			}
+		}
+		DefaultMutableTreeNode copy = (DefaultMutableTreeNode) result.getFirstChild();
+		result.remove(copy);
+		return copy;
+	}
+
+	//~06A New method
+	/**
+	 * Returns the data accumulated for an element, pooled if the interner
+	 * pools the data of the element.
+	 * @param elementName the name of the element
+	 * @return the data
+	 */
+	private String getElementData(String elementName)
+	{
+		if (this.interner == null
+				|| (this.internedElements != null && !this.internedElements.contains(elementName)))
+		{
+			return this.elementData.toString();
+		}
+		int length = this.elementData.length();
+		if (length > this.dataChars.length)
+		{
+			this.dataChars = new char[Math.max(length, this.dataChars.length << 1)];
+		}
+		this.elementData.getChars(0, length, this.dataChars, 0);
+		return this.interner.intern(this.dataChars, 0, length);
+	}
+
+	//~04A New method
+	/**
+	 * Returns <code>true</code> if the element of a node has not ended yet.
+	 * @param node the <code>DefaultMutableTreeNode</code>
+	 * @return <code>true</code> if <code>node</code> is the current node or
+	 *         one of its ancestors
+	 */
+	private boolean isOpen(DefaultMutableTreeNode node)
+	{
+		for (int i = this.path.size() - 1; i >= 0; i--)
+		{
+			if (this.path.get(i) == node)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	//~03A New method
+	/**
+	 * Adds the data of an element to the user object of a node.
+	 * @param node the <code>DefaultMutableTreeNode</code>
+	 * @param elementName the name of the element
+	 * @param data the data of the element
+	 */
+	private static void addData(DefaultMutableTreeNode node, String elementName, String data)
+	{
+		Object obj = node.getUserObject();
+		if (obj instanceof IGSUserObject)
+		{
+			((IGSUserObject) obj).add(elementName, data);
+		}
+		else if (obj != null)
+		{
+			node.setUserObject(obj + data);
+		}
+		else
+		{
+			node.setUserObject(data);
 		}
 	}
 
@@ -195,36 +687,26 @@ public class IGSXMLTreeHandler
 			if (this.rootNode == null)
 			{
 				this.rootNode = node;
+				if (this.batch != null) //~03A
+				{
+					this.batch.add(new Operation(Operation.SET_ROOT, null, node, null, null));
+				}
 			}
 			else
 			{
-				/** ~02A Start*/
-				boolean findNode = false; 
-
-				if(this.currentNode.getChildCount() > 0)
+				//~04C Look up duplicates by identity instead of enumerating the children
+				IdentityHashMap<Object, DefaultMutableTreeNode> nodes = this.children.get(this.currentNode);
+				DefaultMutableTreeNode tempNode = nodes == null ? null : nodes.get(obj);
+				if (tempNode != null)
 				{
-					Enumeration children = this.currentNode.children();
-					DefaultMutableTreeNode tempNode = null;
-
-					while(children.hasMoreElements())
-					{
-						tempNode = (DefaultMutableTreeNode)children.nextElement();
-						IGSUserObject tempObj = (IGSUserObject)tempNode.getUserObject();
-						if(tempObj == obj)
-						{
-							node = tempNode;
-							findNode = true;
-							break;
-						}
-					}
+					node = tempNode;
 				}
-
-				if(!findNode)
+				else
 				{
-					this.currentNode.add(node);
+					attach(this.currentNode, node);
 				}
-				/** ~02A End */
 			}
+			this.path.add(node); //~03A ~04C
 			this.currentNode = node;
 
 			//~1A Map the node to its ID
@@ -239,7 +721,7 @@ public class IGSXMLTreeHandler
 		}
 		else
 		{
-			this.elementData = new StringBuffer();
+			this.elementData.setLength(0); //~03C
 		}
 	}
 
@@ -254,23 +736,48 @@ public class IGSXMLTreeHandler
 		String elementName = getElementName(localName, qName);
 		if (this.strategy.isTreeNode(elementName))
 		{
-			if (this.strategy.isSelectedNode(this.currentNode))
+			//~03A A published node is checked on the event dispatch thread
+			if (isPublished(this.currentNode))
+			{
+				this.batch.add(new Operation(Operation.SELECT, null, this.currentNode, null, null));
+			}
+			else if (this.strategy.isSelectedNode(this.currentNode))
 			{
 				this.selectedNode = this.currentNode;
 			}
-			this.currentNode = (DefaultMutableTreeNode) this.currentNode.getParent();
+
+			//~04C Pop the path; a node waiting to be inserted has no parent yet
+			this.path.remove(this.path.size() - 1);
+			this.currentNode = this.path.isEmpty() ? null : this.path.get(this.path.size() - 1);
+			if (this.batch != null) //~03A
+			{
+				publishIfNecessary();
+			}
 		}
 		else if (this.currentNode != null)
 		{
 			//~1A Do element replacement if elementName equals replaceElement
-			String data = this.elementData.toString();
+			String data = getElementData(elementName); //~06C
 			if (elementName.equals(this.replaceElement))
 			{
 				if (this.nodeMap.containsKey(data))
 				{
-					addTree(this.currentNode, this.nodeMap.get(data));
+					//~04C Share a complete tree until it is expanded; copy one still being parsed
+					DefaultMutableTreeNode tree = (DefaultMutableTreeNode) this.nodeMap.get(data);
+					if (isOpen(tree))
+					{
+						attach(this.currentNode, copyTree(tree));
+					}
+					else
+					{
+						attach(this.currentNode, new ReferenceNode(tree));
+					}
 				}
 			}
+			else if (isPublished(this.currentNode)) //~03A
+			{
+				this.batch.add(new Operation(Operation.ADD_DATA, null, this.currentNode, elementName, data));
+			}
 			else
 			{
 				Object obj = this.currentNode.getUserObject();
@@ -298,8 +805,7 @@ public class IGSXMLTreeHandler
 	 */
 	public void characters(char[] ch, int start, int length)
 	{
-		String data = new String(ch, start, length);
-		this.elementData.append(data);
+		this.elementData.append(ch, start, length); //~03C
 	}
 
 	/**
@@ -312,4 +818,276 @@ public class IGSXMLTreeHandler
 	{
 		characters(ch, start, length);
 	}
+
+	//~03A New class
+	/**
+	 * <code>Operation</code> is a change to a published node that is made on
+	 * the event dispatch thread.
+	 * @author The MFS Client Development Team
+	 */
+	private static final class Operation
+	{
+		/** The type of an operation that sets the root of the model. */
+		static final int SET_ROOT = 0;
+
+		/** The type of an operation that inserts a node into the model. */
+		static final int INSERT = 1;
+
+		/** The type of an operation that adds data to the user object of a node. */
+		static final int ADD_DATA = 2;
+
+		/** The type of an operation that checks whether a node is the selected node. */
+		static final int SELECT = 3;
+
+		/** The type of the operation that ends the parse. */
+		static final int COMPLETE = 4;
+
+		/** The type of the operation. */
+		final int type;
+
+		/** The parent of {@link #node} for an insertion. */
+		final DefaultMutableTreeNode parent;
+
+		/** The node changed by the operation. */
+		final DefaultMutableTreeNode node;
+
+		/** The name of the element whose data is added. */
+		final String elementName;
+
+		/** The data that is added. */
+		final String data;
+
+		/**
+		 * Constructs a new <code>Operation</code>.
+		 * @param type the type of the operation
+		 * @param parent the parent of <code>node</code> for an insertion
+		 * @param node the node changed by the operation
+		 * @param elementName the name of the element whose data is added
+		 * @param data the data that is added
+		 */
+		Operation(int type, DefaultMutableTreeNode parent, DefaultMutableTreeNode node,
+					String elementName, String data)
+		{
+			this.type = type;
+			this.parent = parent;
+			this.node = node;
+			this.elementName = elementName;
+			this.data = data;
+		}
+	}
+
+	//~03A New class
+	/**
+	 * <code>Batch</code> applies a list of {@link Operation}s on the event
+	 * dispatch thread and notifies the model once for each changed parent.
+	 * @author The MFS Client Development Team
+	 */
+	private final class Batch
+		implements Runnable
+	{
+		/** The operations to apply. */
+		private final List<Operation> operations;
+
+		/**
+		 * Constructs a new <code>Batch</code>.
+		 * @param operations the operations to apply
+		 */
+		Batch(List<Operation> operations)
+		{
+			this.operations = operations;
+		}
+
+		/** Applies the operations. */
+		public void run()
+		{
+			DefaultTreeModel model = IGSXMLTreeHandler.this.treeModel;
+			IdentityHashMap<DefaultMutableTreeNode, Boolean> inserted = new IdentityHashMap<DefaultMutableTreeNode, Boolean>();
+			IdentityHashMap<DefaultMutableTreeNode, List<Integer>> parents = new IdentityHashMap<DefaultMutableTreeNode, List<Integer>>();
+			List<DefaultMutableTreeNode> parentOrder = new ArrayList<DefaultMutableTreeNode>();
+			IdentityHashMap<DefaultMutableTreeNode, Boolean> changed = new IdentityHashMap<DefaultMutableTreeNode, Boolean>();
+			List<DefaultMutableTreeNode> changedOrder = new ArrayList<DefaultMutableTreeNode>();
+			boolean complete = false;
+
+			for (int i = 0; i < this.operations.size(); i++)
+			{
+				Operation operation = this.operations.get(i);
+				switch (operation.type)
+				{
+					case Operation.SET_ROOT:
+						model.setRoot(operation.node);
+						inserted.put(operation.node, Boolean.TRUE);
+						break;
+					case Operation.INSERT:
+						operation.parent.add(operation.node);
+						if (!inserted.containsKey(operation.parent))
+						{
+							List<Integer> indices = parents.get(operation.parent);
+							if (indices == null)
+							{
+								indices = new ArrayList<Integer>();
+								parents.put(operation.parent, indices);
+								parentOrder.add(operation.parent);
+							}
+							indices.add(Integer.valueOf(operation.parent.getChildCount() - 1));
+						}
+						inserted.put(operation.node, Boolean.TRUE);
+						break;
+					case Operation.ADD_DATA:
+						addData(operation.node, operation.elementName, operation.data);
+						if (!changed.containsKey(operation.node))
+						{
+							changed.put(operation.node, Boolean.TRUE);
+							changedOrder.add(operation.node);
+						}
+						break;
+					case Operation.SELECT:
+						if (IGSXMLTreeHandler.this.strategy.isSelectedNode(operation.node))
+						{
+							IGSXMLTreeHandler.this.selectedNode = operation.node;
+						}
+						break;
+					default:
+						complete = true;
+						break;
+				}
+			}
+
+			for (int i = 0; i < parentOrder.size(); i++)
+			{
+				DefaultMutableTreeNode parent = parentOrder.get(i);
+				List<Integer> indices = parents.get(parent);
+				int[] childIndices = new int[indices.size()];
+				for (int j = 0; j < childIndices.length; j++)
+				{
+					childIndices[j] = indices.get(j).intValue();
+				}
+				model.nodesWereInserted(parent, childIndices);
+			}
+			for (int i = 0; i < changedOrder.size(); i++)
+			{
+				DefaultMutableTreeNode node = changedOrder.get(i);
+				if (!inserted.containsKey(node))
+				{
+					model.nodeChanged(node);
+				}
+			}
+			if (complete && IGSXMLTreeHandler.this.completionAction != null)
+			{
+				IGSXMLTreeHandler.this.completionAction.run();
+			}
+		}
+	}
+
+	//~04A New class
+	/**
+	 * <code>ReferenceNode</code> is the node added for an element replaced by
+	 * a tree that was parsed before. It has the user object of the root of the
+	 * referenced tree and creates its children, which are
+	 * <code>ReferenceNode</code>s for the children of the root, the first time
+	 * they are requested. A tree referenced many times is therefore only
+	 * copied as far as it is displayed.
+	 * @author The MFS Client Development Team
+	 */
+	private static final class ReferenceNode
+		extends DefaultMutableTreeNode
+	{
+		/**
+		 * Identifies the original class version for which this class is capable of
+		 * writing streams and from which it can read.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/** The root of the referenced tree or <code>null</code> once expanded. */
+		private DefaultMutableTreeNode source;
+
+		/**
+		 * Constructs a new <code>ReferenceNode</code>.
+		 * @param source the root of the referenced tree
+		 */
+		ReferenceNode(DefaultMutableTreeNode source)
+		{
+			super(source.getUserObject(), true);
+			this.source = source;
+		}
+
+		/**
+		 * Returns <code>true</code> if the children were created.
+		 * @return <code>true</code> if the children were created
+		 */
+		boolean isExpanded()
+		{
+			return this.source == null;
+		}
+
+		/** Creates the children if they were not created yet. */
+		@SuppressWarnings("rawtypes")
+		private void expand()
+		{
+			if (this.source != null)
+			{
+				DefaultMutableTreeNode tree = this.source;
+				this.source = null;
+				Enumeration nodes = tree.children();
+				while (nodes.hasMoreElements())
+				{
+					DefaultMutableTreeNode child = (DefaultMutableTreeNode) nodes.nextElement();
+					if (child instanceof ReferenceNode && !((ReferenceNode) child).isExpanded())
+					{
+						child = ((ReferenceNode) child).source;
+					}
+					super.insert(new ReferenceNode(child), super.getChildCount());
+				}
+			}
+		}
+
+		/** {@inheritDoc} */
+		public int getChildCount()
+		{
+			expand();
+			return super.getChildCount();
+		}
+
+		/** {@inheritDoc} */
+		public TreeNode getChildAt(int index)
+		{
+			expand();
+			return super.getChildAt(index);
+		}
+
+		/** {@inheritDoc} */
+		public int getIndex(TreeNode node)
+		{
+			expand();
+			return super.getIndex(node);
+		}
+
+		/** {@inheritDoc} */
+		public Enumeration<TreeNode> children() //~07C
+		{
+			expand();
+			return super.children();
+		}
+
+		/** {@inheritDoc} */
+		public void insert(MutableTreeNode child, int index)
+		{
+			expand();
+			super.insert(child, index);
+		}
+
+		/** {@inheritDoc} */
+		public void remove(int index)
+		{
+			expand();
+			super.remove(index);
+		}
+
+		/** {@inheritDoc} */
+		public Object clone()
+		{
+			ReferenceNode result = (ReferenceNode) super.clone();
+			result.source = null;
+			return result;
+		}
+	}
 }
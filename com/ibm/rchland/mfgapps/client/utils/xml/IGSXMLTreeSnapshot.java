@@ -0,0 +1,751 @@
+/*  Copyright IBM Corporation 2026. All rights reserved.
+ * Dates should follow the ISO 8601 standard YYYY-MM-DD
+ * The @ symbol has a predefined meaning in Java.
+ * Thus, Flags should not start with the @ symbol.  Please use ~ instead.
+ *
+ * Date       Flag IPSR/PTR Name             Details
+ * ---------- ---- -------- ---------------- ----------------------------------
+ * 2026-10-18      user-019                  -Initial version
+ * 2026-10-18   ~1 user-019                  -Check the snapshot's checksum
+ *                                            before its events are replayed
+ ******************************************************************************/
+package com.ibm.rchland.mfgapps.client.utils.xml;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.ibm.rchland.mfgapps.client.utils.io.IGSFileUtils;
+
+/**
+ * <code>IGSXMLTreeSnapshot</code> stores the parse of an XML file by an
+ * {@link IGSXMLTreeHandler} in a compact binary file so that the next time
+ * the tree is built from the same XML file, the XML does not have to be
+ * parsed.
+ * <p>
+ * The snapshot contains the events of the parse that the handler uses: the
+ * start and end of each element with its attributes and the character data
+ * inside elements that are not tree nodes. Element and attribute names are
+ * stored once in a table of names. When the tree is built from a snapshot,
+ * the file is memory-mapped and its events are passed to the handler, so the
+ * handler creates the same tree, node ID map, and selected node as if it had
+ * parsed the XML.
+ * <p>
+ * A snapshot is valid if the XML file has the length and time stamp it had
+ * when the snapshot was written, or the same length and checksum. The
+ * snapshot also stores the checksum of its names and events; a damaged
+ * snapshot is deleted before any event is passed to the handler, and the XML
+ * is parsed instead. By
+ * default, the snapshot is written to the temp directory returned by
+ * {@link IGSFileUtils#getTempDirectory()}. Typical usage:
+ * <pre>
+ * IGSXMLTreeHandler handler = new IGSXMLTreeHandler(in, strategy);
+ * new IGSXMLTreeSnapshot(xmlFile).run(handler);
+ * </pre>
+ * @author The MFS Client Development Team
+ */
+public class IGSXMLTreeSnapshot
+{
+	/** The first four bytes of a snapshot. */
+	private static final int MAGIC = 0x49475354;
+
+	/** The version of the snapshot format. */
+	private static final int VERSION = 2; //~1C
+
+	//~1A
+	/** The length of the header before the names and events. */
+	private static final int HEADER_LENGTH = 40;
+
+	/** The event for the start of an element. */
+	private static final byte START = 1;
+
+	/** The event for the end of an element. */
+	private static final byte END = 2;
+
+	/** The event for character data. */
+	private static final byte TEXT = 3;
+
+	/** The event for the end of the document. */
+	private static final byte EOF = 0;
+
+	/** The largest character stored in one byte. */
+	private static final char MAX_BYTE_CHAR = 0xFF;
+
+	/** The XML file. */
+	private final File source;
+
+	/** The snapshot file. */
+	private final File file;
+
+	/**
+	 * Constructs a new <code>IGSXMLTreeSnapshot</code> for an XML file that is
+	 * stored in the temp directory.
+	 * @param source the XML file
+	 */
+	public IGSXMLTreeSnapshot(File source)
+	{
+		this(source, new File(IGSFileUtils.getTempDirectory(), source.getName() + '.'
+				+ Integer.toHexString(source.getAbsolutePath().hashCode()) + ".snapshot")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Constructs a new <code>IGSXMLTreeSnapshot</code>.
+	 * @param source the XML file
+	 * @param file the snapshot file
+	 */
+	public IGSXMLTreeSnapshot(File source, File file)
+	{
+		super();
+		this.source = source;
+		this.file = file;
+	}
+
+	/**
+	 * Returns the XML file.
+	 * @return the XML file
+	 */
+	public File getSource()
+	{
+		return this.source;
+	}
+
+	/**
+	 * Returns the snapshot file.
+	 * @return the snapshot file
+	 */
+	public File getFile()
+	{
+		return this.file;
+	}
+
+	/**
+	 * Returns <code>true</code> if the snapshot file exists and was written
+	 * for the current contents of the XML file.
+	 * @return <code>true</code> if the snapshot is valid
+	 */
+	public boolean isValid()
+	{
+		if (!this.file.isFile())
+		{
+			return false;
+		}
+		DataInputStream in = null;
+		try
+		{
+			in = new DataInputStream(new FileInputStream(this.file));
+			return in.readInt() == MAGIC && in.readInt() == VERSION
+					&& matches(in.readLong(), in.readLong(), in.readLong());
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+		finally
+		{
+			close(in);
+		}
+	}
+
+	/**
+	 * Deletes the snapshot file.
+	 * @return <code>true</code> if the file was deleted
+	 */
+	public boolean delete()
+	{
+		return this.file.delete();
+	}
+
+	/**
+	 * Builds the tree of <code>handler</code> from this snapshot if it is
+	 * valid; otherwise, runs <code>handler</code> to parse the XML and writes
+	 * this snapshot. <code>handler</code> must read the XML file of this
+	 * snapshot.
+	 * @param handler the <code>IGSXMLTreeHandler</code>
+	 */
+	public void run(IGSXMLTreeHandler handler)
+	{
+		handler.run(this);
+	}
+
+	/**
+	 * Returns <code>true</code> if the XML file has the specified length and
+	 * time stamp or checksum.
+	 * @param lastModified the time stamp
+	 * @param length the length
+	 * @param checksum the checksum
+	 * @return <code>true</code> if the XML file matches
+	 * @throws IOException if the XML file cannot be read
+	 */
+	private boolean matches(long lastModified, long length, long checksum)
+		throws IOException
+	{
+		if (this.source.length() != length)
+		{
+			return false;
+		}
+		return this.source.lastModified() == lastModified || checksum(this.source) == checksum;
+	}
+
+	/**
+	 * Returns the CRC-32 checksum of a file.
+	 * @param file the <code>File</code>
+	 * @return the checksum
+	 * @throws IOException if the file cannot be read
+	 */
+	private static long checksum(File file)
+		throws IOException
+	{
+		CRC32 crc = new CRC32();
+		InputStream in = new FileInputStream(file);
+		try
+		{
+			byte[] buffer = new byte[65536];
+			int count;
+			while ((count = in.read(buffer)) != -1)
+			{
+				crc.update(buffer, 0, count);
+			}
+		}
+		finally
+		{
+			in.close();
+		}
+		return crc.getValue();
+	}
+
+	/**
+	 * Closes an <code>InputStream</code>, ignoring any exception.
+	 * @param in the <code>InputStream</code> or <code>null</code>
+	 */
+	private static void close(InputStream in)
+	{
+		if (in != null)
+		{
+			try
+			{
+				in.close();
+			}
+			catch (IOException e)
+			{
+				// Nothing to do
+			}
+		}
+	}
+
+	/**
+	 * Passes the events of this snapshot to a handler if the snapshot is
+	 * valid.
+	 * @param handler the <code>IGSXMLTreeHandler</code>
+	 * @return <code>false</code> if the snapshot is not valid or damaged and
+	 *         no events were passed; a damaged snapshot file is deleted
+	 * @throws SAXException if the handler throws it or the snapshot file is
+	 *         damaged although its checksum matches; the snapshot file is
+	 *         deleted
+	 */
+	boolean replay(IGSXMLTreeHandler handler)
+		throws SAXException
+	{
+		if (!isValid())
+		{
+			return false;
+		}
+		MappedByteBuffer buffer;
+		try
+		{
+			RandomAccessFile in = new RandomAccessFile(this.file, "r"); //$NON-NLS-1$
+			try
+			{
+				FileChannel channel = in.getChannel();
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+			finally
+			{
+				in.close();
+			}
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+		if (!isIntact(buffer)) //~1A
+		{
+			delete();
+			return false;
+		}
+
+		try
+		{
+			buffer.position(HEADER_LENGTH); //~1C
+			String[] names = new String[readInt(buffer)];
+			char[] chars = new char[256];
+			for (int i = 0; i < names.length; i++)
+			{
+				int header = readInt(buffer);
+				chars = readChars(buffer, chars, header);
+				names[i] = new String(chars, 0, header >>> 1);
+			}
+
+			AttributesImpl attributes = new AttributesImpl();
+			byte event;
+			while ((event = buffer.get()) != EOF)
+			{
+				if (event == START)
+				{
+					String name = names[readInt(buffer)];
+					attributes.clear();
+					int count = readInt(buffer);
+					for (int i = 0; i < count; i++)
+					{
+						String qName = names[readInt(buffer)];
+						String localName = names[readInt(buffer)];
+						int header = readInt(buffer);
+						chars = readChars(buffer, chars, header);
+						attributes.addAttribute("", localName, qName, "CDATA", //$NON-NLS-1$ //$NON-NLS-2$
+								new String(chars, 0, header >>> 1));
+					}
+					handler.startElement("", name, name, attributes); //$NON-NLS-1$
+				}
+				else if (event == END)
+				{
+					String name = names[readInt(buffer)];
+					handler.endElement("", name, name); //$NON-NLS-1$
+				}
+				else if (event == TEXT)
+				{
+					int header = readInt(buffer);
+					chars = readChars(buffer, chars, header);
+					handler.characters(chars, 0, header >>> 1);
+				}
+				else
+				{
+					throw new IndexOutOfBoundsException();
+				}
+			}
+		}
+		catch (BufferUnderflowException e)
+		{
+			delete();
+			throw new SAXException("Snapshot " + this.file + " is damaged"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		catch (IndexOutOfBoundsException e)
+		{
+			delete();
+			throw new SAXException("Snapshot " + this.file + " is damaged"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return true;
+	}
+
+	//~1A New method
+	/**
+	 * Returns <code>true</code> if the names and events of a mapped snapshot
+	 * have the checksum stored in its header.
+	 * @param buffer the <code>ByteBuffer</code> of the snapshot file
+	 * @return <code>true</code> if the snapshot is not damaged
+	 */
+	private static boolean isIntact(ByteBuffer buffer)
+	{
+		if (buffer.limit() < HEADER_LENGTH)
+		{
+			return false;
+		}
+		CRC32 crc = new CRC32();
+		byte[] bytes = new byte[65536];
+		buffer.position(HEADER_LENGTH);
+		while (buffer.hasRemaining())
+		{
+			int count = Math.min(bytes.length, buffer.remaining());
+			buffer.get(bytes, 0, count);
+			crc.update(bytes, 0, count);
+		}
+		return buffer.getLong(HEADER_LENGTH - 8) == crc.getValue();
+	}
+
+	/**
+	 * Writes a non-negative <code>int</code> in as few bytes as possible,
+	 * seven bits per byte with the high bit set in all but the last byte.
+	 * @param out the <code>DataOutputStream</code>
+	 * @param value the <code>int</code>
+	 * @throws IOException if <code>out</code> throws it
+	 */
+	private static void writeInt(DataOutputStream out, int value)
+		throws IOException
+	{
+		int rest = value;
+		while ((rest & ~0x7F) != 0)
+		{
+			out.write((rest & 0x7F) | 0x80);
+			rest >>>= 7;
+		}
+		out.write(rest);
+	}
+
+	/**
+	 * Reads an <code>int</code> written by
+	 * {@link #writeInt(DataOutputStream, int)}.
+	 * @param buffer the <code>ByteBuffer</code>
+	 * @return the <code>int</code>
+	 */
+	private static int readInt(ByteBuffer buffer)
+	{
+		int result = 0;
+		int shift = 0;
+		byte b;
+		do
+		{
+			b = buffer.get();
+			result |= (b & 0x7F) << shift;
+			shift += 7;
+		}
+		while (b < 0);
+		return result;
+	}
+
+	/**
+	 * Writes the length and characters of a <code>String</code>. If every
+	 * character fits in one byte, the characters are written as bytes. The
+	 * lowest bit of the written length is set if they do not.
+	 * @param out the <code>DataOutputStream</code>
+	 * @param string the <code>String</code>
+	 * @throws IOException if <code>out</code> throws it
+	 */
+	private static void writeString(DataOutputStream out, String string)
+		throws IOException
+	{
+		int length = string.length();
+		boolean wide = false;
+		for (int i = 0; i < length && !wide; i++)
+		{
+			wide = string.charAt(i) > MAX_BYTE_CHAR;
+		}
+		writeInt(out, length << 1 | (wide ? 1 : 0));
+		if (wide)
+		{
+			out.writeChars(string);
+		}
+		else
+		{
+			for (int i = 0; i < length; i++)
+			{
+				out.write(string.charAt(i));
+			}
+		}
+	}
+
+	/**
+	 * Reads the characters written by
+	 * {@link #writeString(DataOutputStream, String)} after their length.
+	 * @param buffer the <code>ByteBuffer</code>
+	 * @param chars an array for the characters
+	 * @param header the written length: the number of characters shifted
+	 *        left by one, with the lowest bit set if the characters were
+	 *        written as <code>char</code>s
+	 * @return <code>chars</code> or a larger array if <code>chars</code> is
+	 *         too small
+	 */
+	private static char[] readChars(ByteBuffer buffer, char[] chars, int header)
+	{
+		int length = header >>> 1;
+		char[] result = chars;
+		if (length > result.length)
+		{
+			result = new char[Math.max(length, result.length * 2)];
+		}
+		if ((header & 1) != 0)
+		{
+			buffer.asCharBuffer().get(result, 0, length);
+			buffer.position(buffer.position() + 2 * length);
+		}
+		else
+		{
+			for (int i = 0; i < length; i++)
+			{
+				result[i] = (char) (buffer.get() & 0xFF);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a handler that passes the events of a parse to an
+	 * <code>IGSXMLTreeHandler</code> and writes this snapshot at the end of
+	 * the document.
+	 * @param handler the <code>IGSXMLTreeHandler</code>
+	 * @return the <code>DefaultHandler</code>
+	 */
+	DefaultHandler createRecorder(IGSXMLTreeHandler handler)
+	{
+		return new Recorder(handler, this.source.lastModified(), this.source.length());
+	}
+
+	/**
+	 * Writes a snapshot file. The file is written under a temporary name and
+	 * then renamed, so an incomplete snapshot is never read. A snapshot that
+	 * cannot be written is not an error; the XML is parsed the next time.
+	 * @param names the names used by the events
+	 * @param events the events
+	 * @param lastModified the time stamp of the XML file before it was parsed
+	 * @param length the length of the XML file before it was parsed
+	 */
+	void write(List<String> names, ByteArrayOutputStream events, long lastModified, long length)
+	{
+		if (this.source.lastModified() != lastModified || this.source.length() != length)
+		{
+			return;
+		}
+		File parent = this.file.getAbsoluteFile().getParentFile();
+		File temp = new File(parent, this.file.getName() + ".tmp"); //$NON-NLS-1$
+		try
+		{
+			//~1A The checksum of the names and events precedes them
+			ByteArrayOutputStream nameBytes = new ByteArrayOutputStream();
+			DataOutputStream nameOut = new DataOutputStream(nameBytes);
+			writeInt(nameOut, names.size());
+			for (int i = 0; i < names.size(); i++)
+			{
+				writeString(nameOut, names.get(i));
+			}
+			CRC32 crc = new CRC32();
+			CheckedOutputStream checked = new CheckedOutputStream(new OutputStream()
+			{
+				public void write(int b)
+				{
+					// Only the checksum is needed
+				}
+
+				public void write(byte[] b, int off, int len)
+				{
+					// Only the checksum is needed
+				}
+			}, crc);
+			nameBytes.writeTo(checked);
+			events.writeTo(checked);
+
+			parent.mkdirs();
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+			try
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(lastModified);
+				out.writeLong(length);
+				out.writeLong(checksum(this.source));
+				out.writeLong(crc.getValue()); //~1A
+				nameBytes.writeTo(out); //~1C
+				events.writeTo(out);
+			}
+			finally
+			{
+				out.close();
+			}
+			this.file.delete();
+			if (!temp.renameTo(this.file))
+			{
+				temp.delete();
+			}
+		}
+		catch (IOException e)
+		{
+			temp.delete();
+		}
+	}
+
+	/**
+	 * <code>Recorder</code> passes the events of a parse to an
+	 * {@link IGSXMLTreeHandler} and records the events that the handler uses.
+	 * Character data is only recorded inside elements that are not tree
+	 * nodes, because the handler only uses the data of those elements.
+	 * @author The MFS Client Development Team
+	 */
+	private final class Recorder
+		extends DefaultHandler
+	{
+		/** The handler that builds the tree. */
+		private final IGSXMLTreeHandler handler;
+
+		/** The strategy of {@link #handler}. */
+		private final IGSXMLTreeParseStrategy strategy;
+
+		/** The time stamp of the XML file before it was parsed. */
+		private final long lastModified;
+
+		/** The length of the XML file before it was parsed. */
+		private final long length;
+
+		/** The index of each name in {@link #names}. */
+		private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+
+		/** The names used by the events. */
+		private final List<String> names = new ArrayList<String>();
+
+		/** The recorded events. */
+		private final ByteArrayOutputStream events = new ByteArrayOutputStream(65536);
+
+		/** Writes the events. */
+		private final DataOutputStream out = new DataOutputStream(this.events);
+
+		/** The character data that was not recorded yet. */
+		private final StringBuffer text = new StringBuffer();
+
+		/** The number of open elements that are not tree nodes. */
+		private int dataDepth;
+
+		/**
+		 * Constructs a new <code>Recorder</code>.
+		 * @param handler the handler that builds the tree
+		 * @param lastModified the time stamp of the XML file
+		 * @param length the length of the XML file
+		 */
+		Recorder(IGSXMLTreeHandler handler, long lastModified, long length)
+		{
+			this.handler = handler;
+			this.strategy = handler.getStrategy();
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+
+		/**
+		 * Returns the index of a name, adding the name if necessary.
+		 * @param name the name
+		 * @return the index of <code>name</code> in {@link #names}
+		 */
+		private int indexOf(String name)
+		{
+			Integer result = this.indexes.get(name);
+			if (result == null)
+			{
+				result = Integer.valueOf(this.names.size());
+				this.indexes.put(name, result);
+				this.names.add(name);
+			}
+			return result.intValue();
+		}
+
+		/**
+		 * Records the character data that was not recorded yet.
+		 * @throws IOException never
+		 */
+		private void writeText()
+			throws IOException
+		{
+			if (this.text.length() != 0)
+			{
+				this.out.writeByte(TEXT);
+				writeString(this.out, this.text.toString());
+				this.text.setLength(0);
+			}
+		}
+
+		/** {@inheritDoc} */
+		public void startElement(String uri, String localName, String qName,
+									Attributes attributes)
+			throws SAXException
+		{
+			String name = IGSDefaultHandler.getElementName(localName, qName);
+			try
+			{
+				writeText();
+				this.out.writeByte(START);
+				writeInt(this.out, indexOf(name));
+				int count = attributes.getLength();
+				writeInt(this.out, count);
+				for (int i = 0; i < count; i++)
+				{
+					writeInt(this.out, indexOf(attributes.getQName(i)));
+					writeInt(this.out, indexOf(attributes.getLocalName(i)));
+					writeString(this.out, attributes.getValue(i));
+				}
+			}
+			catch (IOException e)
+			{
+				throw new SAXException(e);
+			}
+			if (!this.strategy.isTreeNode(name))
+			{
+				this.dataDepth++;
+			}
+			this.handler.startElement(uri, localName, qName, attributes);
+		}
+
+		/** {@inheritDoc} */
+		public void endElement(String uri, String localName, String qName)
+			throws SAXException
+		{
+			String name = IGSDefaultHandler.getElementName(localName, qName);
+			try
+			{
+				writeText();
+				this.out.writeByte(END);
+				writeInt(this.out, indexOf(name));
+			}
+			catch (IOException e)
+			{
+				throw new SAXException(e);
+			}
+			if (!this.strategy.isTreeNode(name))
+			{
+				this.dataDepth--;
+			}
+			this.handler.endElement(uri, localName, qName);
+		}
+
+		/** {@inheritDoc} */
+		public void characters(char[] ch, int start, int length)
+		{
+			if (this.dataDepth > 0)
+			{
+				this.text.append(ch, start, length);
+			}
+			this.handler.characters(ch, start, length);
+		}
+
+		/** {@inheritDoc} */
+		public void ignorableWhitespace(char[] ch, int start, int length)
+		{
+			if (this.dataDepth > 0)
+			{
+				this.text.append(ch, start, length);
+			}
+			this.handler.ignorableWhitespace(ch, start, length);
+		}
+
+		/** {@inheritDoc} */
+		public void endDocument()
+			throws SAXException
+		{
+			try
+			{
+				writeText();
+				this.out.writeByte(EOF);
+			}
+			catch (IOException e)
+			{
+				throw new SAXException(e);
+			}
+			write(this.names, this.events, this.lastModified, this.length);
+			this.handler.endDocument();
+		}
+	}
+}